@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.driver.ser;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.tinkerpop.gremlin.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
+import org.apache.tinkerpop.gremlin.driver.ser.GryoMessageSerializerV1d0;
+import org.apache.tinkerpop.gremlin.driver.ser.SerializationException;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures Gryo serialization of Gremlin Server response messages that carry a batch of 64 detached vertices or
+ * paths, which is the default {@code resultIterationBatchSize}. Messages are written to and read from pooled direct
+ * buffers as they are on the server. The interesting number is usually the allocation per message, so these are
+ * best run with the GC profiler (e.g. {@code -prof gc}) and compared on {@code gc.alloc.rate.norm}.
+ *
+ * @author agent (agent@local)
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GryoMessageSerializerBenchmark extends AbstractGraphBenchmark {
+
+    private static final int BATCH_SIZE = 64;
+
+    private final GryoMessageSerializerV1d0 serializer = new GryoMessageSerializerV1d0();
+    private final ByteBufAllocator allocator = PooledByteBufAllocator.DEFAULT;
+
+    private ResponseMessage vertexResponse;
+    private ResponseMessage pathResponse;
+    private ByteBuf serializedVertexResponse;
+    private ByteBuf serializedPathResponse;
+
+    @Override
+    protected void setup() throws SerializationException {
+        final List<Vertex> vertices = this.g.V().limit(BATCH_SIZE).toList().stream()
+                .<Vertex>map(v -> DetachedFactory.detach(v, true)).collect(Collectors.toList());
+        final List<Path> paths = this.g.V().out().out().path().limit(BATCH_SIZE).toList().stream()
+                .<Path>map(p -> DetachedFactory.detach(p, true)).collect(Collectors.toList());
+        this.vertexResponse = ResponseMessage.build(UUID.randomUUID()).result(vertices).create();
+        this.pathResponse = ResponseMessage.build(UUID.randomUUID()).result(paths).create();
+        this.serializedVertexResponse = this.serializer.serializeResponseAsBinary(this.vertexResponse, this.allocator);
+        this.serializedPathResponse = this.serializer.serializeResponseAsBinary(this.pathResponse, this.allocator);
+    }
+
+    @Override
+    @TearDown(Level.Trial)
+    public void tearDownGraph() throws Exception {
+        if (null != this.serializedVertexResponse) this.serializedVertexResponse.release();
+        if (null != this.serializedPathResponse) this.serializedPathResponse.release();
+        super.tearDownGraph();
+    }
+
+    @Benchmark
+    public int serializeVertexBatch() throws SerializationException {
+        return serialize(this.vertexResponse);
+    }
+
+    @Benchmark
+    public int serializePathBatch() throws SerializationException {
+        return serialize(this.pathResponse);
+    }
+
+    @Benchmark
+    public ResponseMessage deserializeVertexBatch() throws SerializationException {
+        return this.serializer.deserializeResponse(this.serializedVertexResponse.readerIndex(0));
+    }
+
+    @Benchmark
+    public ResponseMessage deserializePathBatch() throws SerializationException {
+        return this.serializer.deserializeResponse(this.serializedPathResponse.readerIndex(0));
+    }
+
+    private int serialize(final ResponseMessage responseMessage) throws SerializationException {
+        final ByteBuf byteBuf = this.serializer.serializeResponseAsBinary(responseMessage, this.allocator);
+        try {
+            return byteBuf.readableBytes();
+        } finally {
+            byteBuf.release();
+        }
+    }
+}
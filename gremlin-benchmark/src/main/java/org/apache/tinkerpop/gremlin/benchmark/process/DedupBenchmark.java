@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.process;
+
+import org.apache.tinkerpop.gremlin.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.DuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration.DuplicateFilterStrategy;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compares the {@link DuplicateFilter} implementations of {@code dedup()}, chosen with the {@code duplicateFilter}
+ * parameter, against a plain {@link HashSet} of the objects seen, which is how {@code dedup()} held its state
+ * before. Run with {@code -prof gc} to compare their heap use: {@code gc.alloc.rate.norm} is the number of bytes
+ * allocated per traversal. The spilling filter holds at most 100 ids in memory so that it writes runs to disk.
+ *
+ * @author agent (agent@local)
+ */
+public class DedupBenchmark extends AbstractGraphBenchmark {
+
+    @Param({"hashset", "compact", "spilling", "bloom"})
+    public String duplicateFilter;
+
+    private GraphTraversalSource dedupG;
+    private File spillDirectory;
+
+    @Override
+    protected void setup() throws Exception {
+        final DuplicateFilterStrategy.Builder builder = DuplicateFilterStrategy.build();
+        switch (this.duplicateFilter) {
+            case "hashset":
+                builder.duplicateFilter(HashSetDuplicateFilter::new);
+                break;
+            case "compact":
+                break;
+            case "spilling":
+                this.spillDirectory = Files.createTempDirectory("gremlin-benchmark-dedup").toFile();
+                builder.spill(100, this.spillDirectory);
+                break;
+            case "bloom":
+                builder.approximate(this.graph.traversal().V().count().next(), 0.01d);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown duplicate filter to benchmark: " + this.duplicateFilter);
+        }
+        this.dedupG = this.graph.traversal(GraphTraversalSource.build().with(builder.create()));
+    }
+
+    @Override
+    @TearDown(Level.Trial)
+    public void tearDownGraph() throws Exception {
+        super.tearDownGraph();
+        if (null != this.spillDirectory) {
+            final File[] files = this.spillDirectory.listFiles();
+            if (null != files) {
+                for (final File file : files) {
+                    file.delete();
+                }
+            }
+            this.spillDirectory.delete();
+        }
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_out_out_dedup() {
+        return this.dedupG.V().out().out().dedup().toList();
+    }
+
+    /**
+     * Holds every object in a {@link HashSet} as {@code dedup()} did before the compact filters.
+     */
+    private static final class HashSetDuplicateFilter implements DuplicateFilter {
+
+        private final Set<Object> objects = new HashSet<>();
+
+        @Override
+        public boolean add(final Object object) {
+            return this.objects.add(object);
+        }
+
+        @Override
+        public long size() {
+            return this.objects.size();
+        }
+
+        @Override
+        public void clear() {
+            this.objects.clear();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.process;
+
+import org.apache.tinkerpop.gremlin.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+
+/**
+ * Measures the cost of building, reading and detaching {@link Path} objects over the Grateful Dead graph. Path
+ * tracking is dominated by allocation, so these are best run with the GC profiler (e.g. {@code -prof gc}) to compare
+ * allocation rates.
+ *
+ * @author agent (agent@local)
+ */
+public class PathBenchmark extends AbstractGraphBenchmark {
+
+    private static final int LIMIT = 100000;
+
+    @Benchmark
+    public Long g_V_repeatXoutX_timesX5X_path_limitX100000X_count() {
+        return this.g.V().repeat(out()).times(5).path().limit(LIMIT).count().next();
+    }
+
+    @Benchmark
+    public Long g_V_asXaX_repeatXoutX_timesX5X_asXbX_path_limitX100000X_count() {
+        return this.g.V().as("a").repeat(out()).times(5).as("b").path().limit(LIMIT).count().next();
+    }
+
+    @Benchmark
+    public List<Path> g_V_repeatXoutX_timesX5X_path_limitX10000X_detach() {
+        return this.g.V().repeat(out()).times(5).path().limit(LIMIT / 10).<Path>map(t -> ReferenceFactory.detach(t.get())).toList();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.process;
+
+import org.apache.tinkerpop.gremlin.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.as;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+
+/**
+ * Measures the iteration cost of the core steps ({@code VertexStep}, {@code HasStep}, {@code RepeatStep} and
+ * {@code MatchStep}) over the Grateful Dead graph.
+ *
+ * @author agent (agent@local)
+ */
+public class TraversalBenchmark extends AbstractGraphBenchmark {
+
+    @Benchmark
+    public Long g_V_out_out_out_count() {
+        return this.g.V().out().out().out().count().next();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_out_out_out() {
+        return this.g.V().out().out().out().toList();
+    }
+
+    @Benchmark
+    public Long g_V_outE_inV_outE_inV_count() {
+        return this.g.V().outE().inV().outE().inV().count().next();
+    }
+
+    @Benchmark
+    public List<Vertex> g_V_hasLabelXsongX_hasXperformances_gt_100X() {
+        return this.g.V().hasLabel("song").has("performances", P.gt(100)).toList();
+    }
+
+    @Benchmark
+    public Long g_V_repeatXoutX_timesX3X_count() {
+        return this.g.V().repeat(out()).times(3).count().next();
+    }
+
+    @Benchmark
+    public List<Object> g_V_repeatXoutXfollowedByXX_timesX2X_path() {
+        return this.g.V().repeat(out("followedBy")).times(2).path().<Object>map(t -> t.get().size()).toList();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> g_V_matchXa_sungBy_b__a_writtenBy_bX() {
+        return this.g.V().match(
+                as("a").out("sungBy").as("b"),
+                as("a").out("writtenBy").as("b")).toList();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> g_V_matchXa_followedBy_b__b_sungBy_c__a_sungBy_cX_limitX100X() {
+        return this.g.V().match(
+                as("a").out("followedBy").as("b"),
+                as("b").out("sungBy").as("c"),
+                as("a").out("sungBy").as("c")).limit(100).toList();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.process;
+
+import org.apache.tinkerpop.gremlin.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.as;
+import static org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__.out;
+
+/**
+ * Measures the cost of compiling a traversal with {@code DefaultTraversalStrategies.applyStrategies()}. Each
+ * {@code construct} benchmark is the baseline of building the same traversal without applying its strategies.
+ *
+ * @author agent (agent@local)
+ */
+public class TraversalStrategiesBenchmark extends AbstractGraphBenchmark {
+
+    @Benchmark
+    public Traversal.Admin<Vertex, Long> construct_g_V_out_out_count() {
+        return this.g.V().out().out().count().asAdmin();
+    }
+
+    @Benchmark
+    public Traversal.Admin<Vertex, Long> applyStrategies_g_V_out_out_count() {
+        final Traversal.Admin<Vertex, Long> traversal = this.g.V().out().out().count().asAdmin();
+        traversal.applyStrategies();
+        return traversal;
+    }
+
+    @Benchmark
+    public Traversal.Admin<Vertex, ?> construct_complex() {
+        return complex().asAdmin();
+    }
+
+    @Benchmark
+    public Traversal.Admin<Vertex, ?> applyStrategies_complex() {
+        final Traversal.Admin<Vertex, ?> traversal = complex().asAdmin();
+        traversal.applyStrategies();
+        return traversal;
+    }
+
+    private GraphTraversal<Vertex, ?> complex() {
+        return this.g.V().hasLabel("song").has("performances", P.gt(10)).as("a")
+                .repeat(out("followedBy")).times(2).emit()
+                .match(as("a").out("sungBy").as("b"), as("a").out("writtenBy").as("b"))
+                .select("a").dedup().order().by("name", Order.incr).limit(10);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.process;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_P_S_SE_SL_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_S_SE_SL_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.O_TraverserGenerator;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of generating a {@link Traverser} and splitting it across the steps of a traversal for each
+ * of the {@link TraverserGenerator} implementations, from the cheapest ({@code O}) to the path-carrying
+ * {@code B_O_P_S_SE_SL}.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class TraverserGeneratorBenchmark {
+
+    @Param({"O", "B_O", "B_O_S_SE_SL", "B_O_P_S_SE_SL"})
+    public String generatorName;
+
+    private TraverserGenerator generator;
+    private List<Step> steps;
+    private Vertex vertex;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (this.generatorName) {
+            case "O":
+                this.generator = O_TraverserGenerator.instance();
+                break;
+            case "B_O":
+                this.generator = B_O_TraverserGenerator.instance();
+                break;
+            case "B_O_S_SE_SL":
+                this.generator = B_O_S_SE_SL_TraverserGenerator.instance();
+                break;
+            case "B_O_P_S_SE_SL":
+                this.generator = B_O_P_S_SE_SL_TraverserGenerator.instance();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown traverser generator: " + this.generatorName);
+        }
+        final TinkerGraph graph = TinkerFactory.createModern();
+        this.vertex = graph.vertices(1).next();
+        final Traversal.Admin<?, ?> traversal = __.identity().as("a").out().as("b").out().in().as("c").asAdmin();
+        this.steps = traversal.getSteps();
+    }
+
+    @Benchmark
+    public Traverser.Admin<Vertex> generate() {
+        return this.generator.generate(this.vertex, this.steps.get(0), 1l);
+    }
+
+    @Benchmark
+    public Traverser.Admin<Vertex> generate_split() {
+        Traverser.Admin<Vertex> traverser = this.generator.generate(this.vertex, this.steps.get(0), 1l);
+        for (int i = 1; i < this.steps.size(); i++) {
+            traverser = traverser.split(this.vertex, this.steps.get(i));
+        }
+        return traverser;
+    }
+}
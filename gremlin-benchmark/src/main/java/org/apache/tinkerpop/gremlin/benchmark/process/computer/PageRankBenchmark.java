@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.process.computer;
+
+import org.apache.tinkerpop.gremlin.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Measures {@link PageRankVertexProgram} over the Grateful Dead graph. Only graphs that support a
+ * {@code GraphComputer} (e.g. {@code tinkergraph}) apply.
+ *
+ * @author agent (agent@local)
+ */
+public class PageRankBenchmark extends AbstractGraphBenchmark {
+
+    @Override
+    protected void setup() {
+        if (!this.graph.features().graph().supportsComputer())
+            throw new IllegalStateException("The graph does not support a GraphComputer: " + this.graphName);
+    }
+
+    @Benchmark
+    public ComputerResult pageRank() throws Exception {
+        return this.graph.compute().program(PageRankVertexProgram.build().create(this.graph)).submit().get();
+    }
+
+    @Benchmark
+    public ComputerResult pageRank_iterationsX10X() throws Exception {
+        return this.graph.compute().program(PageRankVertexProgram.build().iterations(10).create(this.graph)).submit().get();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.process.computer;
+
+import org.apache.tinkerpop.gremlin.algorithm.generator.DistributionGenerator;
+import org.apache.tinkerpop.gremlin.algorithm.generator.PowerLawDistribution;
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PageRankVertexProgram} over a generated graph with power-law degree distributions with a fixed
+ * number of iterations and until the page ranks change by less than {@code epsilon}. The {@code iterations} counter
+ * reports the iterations run so that the iterations saved by {@code epsilon} and the throughput per iteration can be
+ * compared.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PageRankConvergenceBenchmark {
+
+    @Param({"10000"})
+    public int vertexCount;
+
+    private TinkerGraph graph;
+
+    @Setup(Level.Trial)
+    public void setupGraph() {
+        this.graph = TinkerGraph.open();
+        final Random random = new Random(854939487556l);
+        for (int i = 0; i < this.vertexCount; i++) {
+            this.graph.addVertex("oid", i);
+        }
+        DistributionGenerator.build(this.graph)
+                .label("knows")
+                .seedGenerator(random::nextLong)
+                .outDistribution(new PowerLawDistribution(2.8))
+                .inDistribution(new PowerLawDistribution(2.3))
+                .expectedNumEdges(this.vertexCount * 3).create().generate();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownGraph() throws Exception {
+        this.graph.close();
+    }
+
+    @Benchmark
+    public ComputerResult pageRank_iterationsX30X(final Iterations iterations) throws Exception {
+        return iterations.count(this.graph.compute().program(PageRankVertexProgram.build().iterations(30).vertexCount(this.vertexCount).create(this.graph)).submit().get());
+    }
+
+    @Benchmark
+    public ComputerResult pageRank_epsilonX0_0001X(final Iterations iterations) throws Exception {
+        return iterations.count(this.graph.compute().program(PageRankVertexProgram.build().iterations(30).epsilon(0.0001d).vertexCount(this.vertexCount).create(this.graph)).submit().get());
+    }
+
+    @AuxCounters
+    @State(Scope.Thread)
+    public static class Iterations {
+
+        public long iterations;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.iterations = 0l;
+        }
+
+        private ComputerResult count(final ComputerResult result) {
+            this.iterations = this.iterations + result.memory().getIteration();
+            return result;
+        }
+    }
+}
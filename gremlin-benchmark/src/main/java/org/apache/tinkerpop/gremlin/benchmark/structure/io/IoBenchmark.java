@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.structure.io;
+
+import org.apache.tinkerpop.gremlin.benchmark.util.AbstractGraphBenchmark;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONReader;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONWriter;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Measures Gryo and GraphSON serialization of the whole Grateful Dead graph and of a single star vertex (the
+ * vertex with the most edges). Graphs are always read into a new {@link TinkerGraph} so that the numbers reflect
+ * deserialization rather than the write path of the graph under test.
+ *
+ * @author agent (agent@local)
+ */
+public class IoBenchmark extends AbstractGraphBenchmark {
+
+    private final GryoWriter gryoWriter = GryoWriter.build().create();
+    private final GryoReader gryoReader = GryoReader.build().create();
+    private final GraphSONWriter graphsonWriter = GraphSONWriter.build().create();
+    private final GraphSONReader graphsonReader = GraphSONReader.build().create();
+
+    private Vertex starVertex;
+    private byte[] gryoGraph;
+    private byte[] graphsonGraph;
+    private byte[] gryoVertex;
+    private byte[] graphsonVertex;
+
+    @Override
+    protected void setup() throws IOException {
+        long maxDegree = -1l;
+        for (final Vertex vertex : this.g.V().toList()) {
+            final long degree = IteratorUtils.count(vertex.edges(Direction.BOTH));
+            if (degree > maxDegree) {
+                maxDegree = degree;
+                this.starVertex = vertex;
+            }
+        }
+        this.gryoGraph = gryoWriteGraph().toByteArray();
+        this.graphsonGraph = graphsonWriteGraph().toByteArray();
+        this.gryoVertex = gryoWriteVertex().toByteArray();
+        this.graphsonVertex = graphsonWriteVertex().toByteArray();
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream gryoWriteGraph() throws IOException {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        this.gryoWriter.writeGraph(os, this.graph);
+        return os;
+    }
+
+    @Benchmark
+    public TinkerGraph gryoReadGraph() throws IOException {
+        final TinkerGraph graph = TinkerGraph.open();
+        this.gryoReader.readGraph(new ByteArrayInputStream(this.gryoGraph), graph);
+        return graph;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream graphsonWriteGraph() throws IOException {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        this.graphsonWriter.writeGraph(os, this.graph);
+        return os;
+    }
+
+    @Benchmark
+    public TinkerGraph graphsonReadGraph() throws IOException {
+        final TinkerGraph graph = TinkerGraph.open();
+        this.graphsonReader.readGraph(new ByteArrayInputStream(this.graphsonGraph), graph);
+        return graph;
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream gryoWriteVertex() throws IOException {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        this.gryoWriter.writeVertex(os, this.starVertex, Direction.BOTH);
+        return os;
+    }
+
+    @Benchmark
+    public Vertex gryoReadVertex() throws IOException {
+        return this.gryoReader.readVertex(new ByteArrayInputStream(this.gryoVertex), Attachable::get);
+    }
+
+    @Benchmark
+    public ByteArrayOutputStream graphsonWriteVertex() throws IOException {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        this.graphsonWriter.writeVertex(os, this.starVertex, Direction.BOTH);
+        return os;
+    }
+
+    @Benchmark
+    public Vertex graphsonReadVertex() throws IOException {
+        return this.graphsonReader.readVertex(new ByteArrayInputStream(this.graphsonVertex), Attachable::get);
+    }
+}
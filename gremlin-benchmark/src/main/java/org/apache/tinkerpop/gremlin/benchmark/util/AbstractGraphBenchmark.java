@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.benchmark.util;
+
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
+import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The base state for benchmarks that run against a {@link Graph} loaded with the Grateful Dead data set. The
+ * {@link Graph} under test is chosen with the {@code graphName} parameter (e.g.
+ * {@code -p graphName=tinkergraph,neo4j}). {@code neo4j} is only available if {@code benchmarks.jar} was built with
+ * {@code -DincludeNeo4j}.
+ *
+ * @author agent (agent@local)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public abstract class AbstractGraphBenchmark {
+
+    public static final String GRATEFUL_DEAD = "/org/apache/tinkerpop/gremlin/structure/io/gryo/grateful-dead.kryo";
+
+    private static final String NEO4J_GRAPH = "org.apache.tinkerpop.gremlin.neo4j.structure.Neo4jGraph";
+    private static final String NEO4J_DIRECTORY = "gremlin.neo4j.directory";
+
+    @Param({"tinkergraph"})
+    public String graphName;
+
+    protected Graph graph;
+    protected GraphTraversalSource g;
+    private File directory;
+
+    @Setup(Level.Trial)
+    public void setupGraph() throws Exception {
+        this.graph = GraphFactory.open(this.getConfiguration());
+        try (final InputStream stream = AbstractGremlinTest.class.getResourceAsStream(GRATEFUL_DEAD)) {
+            GryoReader.build().create().readGraph(stream, this.graph);
+        }
+        if (this.graph.features().graph().supportsTransactions())
+            this.graph.tx().commit();
+        this.g = this.graph.traversal();
+        this.setup();
+    }
+
+    /**
+     * Called once the graph is loaded so that subclasses may prepare their own state. JMH does not guarantee the
+     * order of {@link Setup} methods across a class hierarchy, so subclasses should override this instead.
+     */
+    protected void setup() throws Exception {
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownGraph() throws Exception {
+        if (null != this.graph)
+            this.graph.close();
+        if (null != this.directory)
+            deleteDirectory(this.directory);
+    }
+
+    private Configuration getConfiguration() throws IOException {
+        final Configuration configuration = new BaseConfiguration();
+        switch (this.graphName) {
+            case "tinkergraph":
+                configuration.setProperty(Graph.GRAPH, TinkerGraph.class.getName());
+                break;
+            case "neo4j":
+                this.directory = Files.createTempDirectory("gremlin-benchmark").toFile();
+                configuration.setProperty(Graph.GRAPH, NEO4J_GRAPH);
+                configuration.setProperty(NEO4J_DIRECTORY, this.directory.getAbsolutePath());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown graph to benchmark: " + this.graphName);
+        }
+        return configuration;
+    }
+
+    private static void deleteDirectory(final File directory) {
+        final File[] files = directory.listFiles();
+        if (null != files) {
+            for (final File file : files) {
+                if (file.isDirectory())
+                    deleteDirectory(file);
+                else
+                    file.delete();
+            }
+        }
+        directory.delete();
+    }
+}
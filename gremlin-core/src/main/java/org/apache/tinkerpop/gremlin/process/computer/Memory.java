@@ -122,6 +122,17 @@ public interface Memory {
      */
     public void or(final String key, final boolean bool);
 
+    /**
+     * Reduce the provided value with the value currently stored at the key using the reducer that the
+     * {@link VertexProgram} registered for the key with {@link VertexProgram#getMemoryReducers()}.
+     *
+     * @param key   the key of the value
+     * @param value the value to reduce into the key
+     */
+    public default void add(final String key, final Object value) {
+        throw Memory.Exceptions.memoryReducersNotSupported();
+    }
+
     /**
      * A helper method that states whether the current iteration is 0.
      *
@@ -176,6 +187,14 @@ public interface Memory {
             return new IllegalArgumentException("The memory does not have a value for provided key: " + key);
         }
 
+        public static IllegalArgumentException memoryKeyHasNoReducer(final String key) {
+            return new IllegalArgumentException("The memory key does not have a reducer: " + key);
+        }
+
+        public static UnsupportedOperationException memoryReducersNotSupported() {
+            return new UnsupportedOperationException("Graph computer memory does not support reducers");
+        }
+
         public static UnsupportedOperationException dataTypeOfMemoryValueNotSupported(final Object val) {
             return new UnsupportedOperationException(String.format("Graph computer memory value [%s] is of type %s is not supported", val, val.getClass()));
         }
@@ -39,4 +39,17 @@ public interface MessageCombiner<M> extends Serializable {
      * @return the combination of the two messages
      */
     public M combine(final M messageA, final M messageB);
+
+    /**
+     * Combine two double messages without boxing them. This is used by a {@link Messenger} that carries the messages
+     * of {@link Messenger#sendDoubleMessage(MessageScope, double)} as primitives. By default, the messages are boxed and
+     * combined with {@link #combine(Object, Object)}.
+     *
+     * @param messageA the first message
+     * @param messageB the second message
+     * @return the combination of the two messages
+     */
+    public default double combine(final double messageA, final double messageB) {
+        return ((Number) this.combine((M) (Double) messageA, (M) (Double) messageB)).doubleValue();
+    }
 }
@@ -90,12 +90,14 @@ public abstract class MessageScope {
      * @param <M> The {@link VertexProgram} message class
      */
     public final static class Local<M> extends MessageScope {
+        private static final BiFunction IDENTITY_EDGE_FUNCTION = (m, e) -> m;
+
         public final Supplier<? extends Traversal<Vertex, Edge>> incidentTraversal;
         public final BiFunction<M, Edge, M> edgeFunction;
         private final String toStringOfTraversal;
 
         private Local(final Supplier<? extends Traversal<Vertex, Edge>> incidentTraversal) {
-            this(incidentTraversal, (final M m, final Edge e) -> m); // the default is an identity function
+            this(incidentTraversal, IDENTITY_EDGE_FUNCTION); // the default is an identity function
         }
 
         private Local(final Supplier<? extends Traversal<Vertex, Edge>> incidentTraversal, final BiFunction<M, Edge, M> edgeFunction) {
@@ -116,13 +118,21 @@ public abstract class MessageScope {
             return this.edgeFunction;
         }
 
+        /**
+         * Whether messages arrive unchanged because no edge function was provided. A {@link Messenger} can then
+         * carry primitive messages without boxing them for the edge function.
+         */
+        public boolean hasIdentityEdgeFunction() {
+            return IDENTITY_EDGE_FUNCTION == this.edgeFunction;
+        }
+
         public Supplier<? extends Traversal<Vertex, Edge>> getIncidentTraversal() {
             return this.incidentTraversal;
         }
 
         @Override
         public int hashCode() {
-            return this.edgeFunction.hashCode() + this.incidentTraversal.get().toString().hashCode();
+            return this.edgeFunction.hashCode() + this.toStringOfTraversal.hashCode();
         }
 
         @Override
@@ -19,6 +19,7 @@
 package org.apache.tinkerpop.gremlin.process.computer;
 
 import java.util.Iterator;
+import java.util.PrimitiveIterator;
 
 /**
  * The {@link Messenger} serves as the routing system for messages between vertices. For distributed systems,
@@ -46,4 +47,37 @@ public interface Messenger<M> {
      */
     public void sendMessage(final MessageScope messageScope, final M message);
 
+    /**
+     * Receive all incoming messages to the currently executing vertex as doubles. This is for vertex programs whose
+     * messages are numbers and a messenger may provide them without boxing. By default, the messages of
+     * {@link #receiveMessages()} are unboxed.
+     *
+     * @return the messages for the vertex as doubles
+     */
+    public default PrimitiveIterator.OfDouble receiveDoubleMessages() {
+        final Iterator<M> messages = this.receiveMessages();
+        return new PrimitiveIterator.OfDouble() {
+            @Override
+            public boolean hasNext() {
+                return messages.hasNext();
+            }
+
+            @Override
+            public double nextDouble() {
+                return ((Number) messages.next()).doubleValue();
+            }
+        };
+    }
+
+    /**
+     * The currently executing vertex can send a double message with provided {@link MessageScope}. This is for
+     * vertex programs whose messages are doubles and a messenger may carry it without boxing. By default, the message
+     * is boxed and sent with {@link #sendMessage(MessageScope, Object)}.
+     *
+     * @param messageScope the message scope of the message being sent
+     * @param message      the message to send
+     */
+    public default void sendDoubleMessage(final MessageScope messageScope, final double message) {
+        this.sendMessage(messageScope, (M) (Double) message);
+    }
 }
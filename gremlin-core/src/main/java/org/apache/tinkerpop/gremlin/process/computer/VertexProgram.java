@@ -20,13 +20,16 @@
 package org.apache.tinkerpop.gremlin.process.computer;
 
 import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.lang.reflect.Constructor;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BinaryOperator;
 
 /**
  * A {@link VertexProgram} represents one component of a distributed graph computation. Each vertex in the graph
@@ -148,6 +151,18 @@ public interface VertexProgram<M> extends Cloneable {
         return Collections.emptySet();
     }
 
+    /**
+     * The reducers of those {@link #getMemoryComputeKeys()} whose values are combined with {@link Memory#add}.
+     * A reducer must be associative, commutative and {@link java.io.Serializable} (e.g. {@link Operator}) so that
+     * a {@link GraphComputer} can reduce the values of each worker locally before they are merged into the memory.
+     * The default is an empty map.
+     *
+     * @return the reducers of the memory keys
+     */
+    public default Map<String, BinaryOperator<?>> getMemoryReducers() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Combine the messages in route to a particular vertex. Useful to reduce the amount of data transmitted over the wire.
      * For example, instead of sending two objects that will ultimately be merged at the vertex destination, merge/combine into one and send that object.
@@ -38,6 +38,11 @@ public class PageRankMessageCombiner implements MessageCombiner<Double> {
         return messageA + messageB;
     }
 
+    @Override
+    public double combine(final double messageA, final double messageB) {
+        return messageA + messageB;
+    }
+
     public static Optional<PageRankMessageCombiner> instance() {
         return INSTANCE;
     }
@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalScriptFuncti
 import org.apache.tinkerpop.gremlin.process.computer.util.AbstractVertexProgramBuilder;
 import org.apache.tinkerpop.gremlin.process.computer.util.ConfigurationTraversal;
 import org.apache.tinkerpop.gremlin.process.computer.util.StaticVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
@@ -38,12 +39,15 @@ import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
-import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Set;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -61,14 +65,19 @@ public class PageRankVertexProgram extends StaticVertexProgram<Double> {
     private static final String VERTEX_COUNT = "gremlin.pageRankVertexProgram.vertexCount";
     private static final String ALPHA = "gremlin.pageRankVertexProgram.alpha";
     private static final String TOTAL_ITERATIONS = "gremlin.pageRankVertexProgram.totalIterations";
+    private static final String EPSILON = "gremlin.pageRankVertexProgram.epsilon";
+    private static final String DELTA = "gremlin.pageRankVertexProgram.delta";
     private static final String TRAVERSAL_SUPPLIER = "gremlin.pageRankVertexProgram.traversalSupplier";
 
     private ConfigurationTraversal<Vertex, Edge> configurationTraversal;
     private double vertexCountAsDouble = 1.0d;
     private double alpha = 0.85d;
     private int totalIterations = 30;
+    private double epsilon = 0.0d;
 
     private static final Set<String> COMPUTE_KEYS = new HashSet<>(Arrays.asList(PAGE_RANK, EDGE_COUNT));
+    private static final Set<String> MEMORY_COMPUTE_KEYS = Collections.singleton(DELTA);
+    private static final Map<String, BinaryOperator<?>> MEMORY_REDUCERS = Collections.singletonMap(DELTA, Operator.sum);
 
     private PageRankVertexProgram() {
 
@@ -84,6 +93,7 @@ public class PageRankVertexProgram extends StaticVertexProgram<Double> {
         this.vertexCountAsDouble = configuration.getDouble(VERTEX_COUNT, 1.0d);
         this.alpha = configuration.getDouble(ALPHA, 0.85d);
         this.totalIterations = configuration.getInt(TOTAL_ITERATIONS, 30);
+        this.epsilon = configuration.getDouble(EPSILON, 0.0d);
     }
 
     @Override
@@ -92,6 +102,7 @@ public class PageRankVertexProgram extends StaticVertexProgram<Double> {
         configuration.setProperty(VERTEX_COUNT, this.vertexCountAsDouble);
         configuration.setProperty(ALPHA, this.alpha);
         configuration.setProperty(TOTAL_ITERATIONS, this.totalIterations);
+        configuration.setProperty(EPSILON, this.epsilon);
         if (null != this.configurationTraversal) {
             this.configurationTraversal.storeState(configuration);
         }
@@ -112,6 +123,16 @@ public class PageRankVertexProgram extends StaticVertexProgram<Double> {
         return COMPUTE_KEYS;
     }
 
+    @Override
+    public Set<String> getMemoryComputeKeys() {
+        return this.epsilon > 0.0d ? MEMORY_COMPUTE_KEYS : Collections.emptySet();
+    }
+
+    @Override
+    public Map<String, BinaryOperator<?>> getMemoryReducers() {
+        return this.epsilon > 0.0d ? MEMORY_REDUCERS : Collections.emptyMap();
+    }
+
     @Override
     public Optional<MessageCombiner<Double>> getMessageCombiner() {
         return (Optional) PageRankMessageCombiner.instance();
@@ -126,35 +147,53 @@ public class PageRankVertexProgram extends StaticVertexProgram<Double> {
 
     @Override
     public void setup(final Memory memory) {
-
+        if (this.epsilon > 0.0d)
+            memory.set(DELTA, 0.0d);
     }
 
     @Override
     public void execute(final Vertex vertex, Messenger<Double> messenger, final Memory memory) {
         if (memory.isInitialIteration()) {
-            messenger.sendMessage(this.countMessageScope, 1.0d);
+            messenger.sendDoubleMessage(this.countMessageScope, 1.0d);
         } else if (1 == memory.getIteration()) {
             double initialPageRank = 1.0d / this.vertexCountAsDouble;
-            double edgeCount = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+            double edgeCount = PageRankVertexProgram.sum(messenger.receiveDoubleMessages());
             vertex.property(VertexProperty.Cardinality.single, PAGE_RANK, initialPageRank);
             vertex.property(VertexProperty.Cardinality.single, EDGE_COUNT, edgeCount);
-            messenger.sendMessage(this.incidentMessageScope, initialPageRank / edgeCount);
+            messenger.sendDoubleMessage(this.incidentMessageScope, initialPageRank / edgeCount);
         } else {
-            double newPageRank = IteratorUtils.reduce(messenger.receiveMessages(), 0.0d, (a, b) -> a + b);
+            double newPageRank = PageRankVertexProgram.sum(messenger.receiveDoubleMessages());
             newPageRank = (this.alpha * newPageRank) + ((1.0d - this.alpha) / this.vertexCountAsDouble);
+            if (this.epsilon > 0.0d)
+                memory.add(DELTA, Math.abs(newPageRank - vertex.<Double>value(PAGE_RANK)));
             vertex.property(VertexProperty.Cardinality.single, PAGE_RANK, newPageRank);
-            messenger.sendMessage(this.incidentMessageScope, newPageRank / vertex.<Double>value(EDGE_COUNT));
+            messenger.sendDoubleMessage(this.incidentMessageScope, newPageRank / vertex.<Double>value(EDGE_COUNT));
         }
     }
 
     @Override
     public boolean terminate(final Memory memory) {
-        return memory.getIteration() >= this.totalIterations;
+        if (memory.getIteration() >= this.totalIterations)
+            return true;
+        else if (this.epsilon > 0.0d && memory.getIteration() > 1) {
+            if (memory.<Double>get(DELTA) < this.epsilon)
+                return true;
+            memory.set(DELTA, 0.0d);
+        }
+        return false;
     }
 
     @Override
     public String toString() {
-        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ",iterations=" + this.totalIterations);
+        return StringFactory.vertexProgramString(this, "alpha=" + this.alpha + ",iterations=" + this.totalIterations + (this.epsilon > 0.0d ? ",epsilon=" + this.epsilon : ""));
+    }
+
+    private static double sum(final PrimitiveIterator.OfDouble messages) {
+        double sum = 0.0d;
+        while (messages.hasNext()) {
+            sum = sum + messages.nextDouble();
+        }
+        return sum;
     }
 
     //////////////////////////////
@@ -174,6 +213,15 @@ public class PageRankVertexProgram extends StaticVertexProgram<Double> {
             return this;
         }
 
+        /**
+         * Stop once the sum of the absolute changes of the page ranks of an iteration is less than epsilon. The
+         * number of {@link #iterations(int)} remains the maximum.
+         */
+        public Builder epsilon(final double epsilon) {
+            this.configuration.setProperty(EPSILON, epsilon);
+            return this;
+        }
+
         public Builder alpha(final double alpha) {
             this.configuration.setProperty(ALPHA, alpha);
             return this;
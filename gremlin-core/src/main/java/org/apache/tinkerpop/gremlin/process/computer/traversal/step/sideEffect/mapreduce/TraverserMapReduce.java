@@ -30,6 +30,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalSte
 import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.BoundedTraverserQueue;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -49,6 +50,7 @@ public final class TraverserMapReduce extends StaticMapReduce<Comparable, Traver
 
     private Traversal.Admin<?, ?> traversal;
     private Optional<Comparator<Comparable>> comparator = Optional.empty();
+    private Optional<OrderGlobalStep<?>> limitedOrderGlobalStep = Optional.empty();
     private Optional<CollectingBarrierStep<?>> collectingBarrierStep = Optional.empty();
     private Optional<RangeGlobalStep<?>> rangeGlobalStep = Optional.empty();
     private Optional<TailGlobalStep<?>> tailGlobalStep = Optional.empty();
@@ -70,7 +72,11 @@ public final class TraverserMapReduce extends StaticMapReduce<Comparable, Traver
 
     private void genericLoadState() {
         final Step<?, ?> traversalEndStep = traversal.getEndStep().getPreviousStep();  // don't get the ComputerResultStep
-        this.comparator = Optional.ofNullable(traversalEndStep instanceof OrderGlobalStep ? new ChainedComparator<Comparable>(((OrderGlobalStep) traversalEndStep).getComparators()) : null);
+        final Step<?, ?> orderStep = traversalEndStep instanceof RangeGlobalStep ? traversalEndStep.getPreviousStep() : traversalEndStep;
+        if (orderStep instanceof OrderGlobalStep && Long.MAX_VALUE != ((OrderGlobalStep) orderStep).getLimit())
+            this.limitedOrderGlobalStep = Optional.of((OrderGlobalStep<?>) orderStep);
+        else
+            this.comparator = Optional.ofNullable(orderStep instanceof OrderGlobalStep ? new ChainedComparator<Comparable>(((OrderGlobalStep) orderStep).getComparators()) : null);
         if (!this.comparator.isPresent() && traversalEndStep instanceof CollectingBarrierStep)
             this.collectingBarrierStep = Optional.of((CollectingBarrierStep<?>) traversalEndStep);
         if (traversalEndStep instanceof RangeGlobalStep)
@@ -89,7 +95,9 @@ public final class TraverserMapReduce extends StaticMapReduce<Comparable, Traver
 
     @Override
     public void map(final Vertex vertex, final MapEmitter<Comparable, Traverser<?>> emitter) {
-        if (this.comparator.isPresent())
+        if (this.limitedOrderGlobalStep.isPresent())
+            vertex.<TraverserSet<?>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> traverserSet.forEach(traverser -> emitter.emit(NullObject.instance(), traverser)));
+        else if (this.comparator.isPresent())
             vertex.<TraverserSet<?>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> traverserSet.forEach(traverser -> emitter.emit(traverser, traverser)));
         else
             vertex.<TraverserSet<?>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> traverserSet.forEach(emitter::emit));
@@ -108,15 +116,33 @@ public final class TraverserMapReduce extends StaticMapReduce<Comparable, Traver
     @Override
     public void reduce(final Comparable comparable, final Iterator<Traverser<?>> values, final ReduceEmitter<Comparable, Traverser<?>> emitter) {
         final TraverserSet<?> traverserSet = new TraverserSet<>();
-        while (values.hasNext()) {
-            traverserSet.add((Traverser.Admin) values.next().asAdmin());
+        if (this.limitedOrderGlobalStep.isPresent())
+            this.topTraversers(values).drainTo((TraverserSet) traverserSet);
+        else {
+            while (values.hasNext()) {
+                traverserSet.add((Traverser.Admin) values.next().asAdmin());
+            }
         }
         traverserSet.forEach(emitter::emit);
     }
 
+    private BoundedTraverserQueue<?> topTraversers(final Iterator<Traverser<?>> traversers) {
+        final OrderGlobalStep<?> orderGlobalStep = this.limitedOrderGlobalStep.get();
+        final BoundedTraverserQueue<?> topTraversers = new BoundedTraverserQueue<>((Comparator) orderGlobalStep.getTraverserComparator(), orderGlobalStep.getLimit());
+        traversers.forEachRemaining(traverser -> topTraversers.add((Traverser.Admin) traverser.asAdmin()));
+        return topTraversers;
+    }
+
     @Override
     public Iterator<Traverser<?>> generateFinalResult(final Iterator<KeyValue<Comparable, Traverser<?>>> keyValues) {
-        if (this.collectingBarrierStep.isPresent()) {
+        if (this.limitedOrderGlobalStep.isPresent()) {
+            final TraverserSet<?> traverserSet = new TraverserSet<>();
+            this.topTraversers(IteratorUtils.map(keyValues, KeyValue::getValue)).drainTo((TraverserSet) traverserSet);
+            final RangeGlobalStep<?> rangeGlobalStep = this.rangeGlobalStep.get();
+            rangeGlobalStep.setBypass(false);
+            rangeGlobalStep.addStarts((Iterator) traverserSet.iterator());
+            return (Iterator) rangeGlobalStep;
+        } else if (this.collectingBarrierStep.isPresent()) {
             final TraverserSet<?> traverserSet = new TraverserSet<>();
             while (keyValues.hasNext()) {
                 traverserSet.add((Traverser.Admin) keyValues.next().getValue().asAdmin());
@@ -40,6 +40,10 @@ public final class GraphComputerHelper {
             throw Memory.Exceptions.memoryKeyCanNotBeNull();
         if (vertexProgram.getMemoryComputeKeys().contains(""))
             throw Memory.Exceptions.memoryKeyCanNotBeEmpty();
+        for (final Object key : vertexProgram.getMemoryReducers().keySet()) {
+            if (!vertexProgram.getMemoryComputeKeys().contains(key))
+                throw GraphComputer.Exceptions.providedKeyIsNotAMemoryComputeKey((String) key);
+        }
 
         final GraphComputer.Features graphComputerFeatures = computer.features();
         final VertexProgram.Features vertexProgramFeatures = vertexProgram.getFeatures();
@@ -74,6 +74,11 @@ public final class ImmutableMemory implements Memory.Admin {
         throw Memory.Exceptions.memoryIsCurrentlyImmutable();
     }
 
+    @Override
+    public void add(final String key, final Object value) {
+        throw Memory.Exceptions.memoryIsCurrentlyImmutable();
+    }
+
     @Override
     public void incrIteration() {
         throw Memory.Exceptions.memoryIsCurrentlyImmutable();
@@ -29,6 +29,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -39,6 +40,7 @@ public final class MapMemory implements Memory.Admin, Serializable {
     private int iteration = -1;
     private final Map<String, Object> memoryMap = new HashMap<>();
     private final Set<String> memoryComputeKeys = new HashSet<>();
+    private final Map<String, BinaryOperator<?>> memoryReducers = new HashMap<>();
 
     public MapMemory() {
 
@@ -53,6 +55,7 @@ public final class MapMemory implements Memory.Admin, Serializable {
 
     public void addVertexProgramMemoryComputeKeys(final VertexProgram<?> vertexProgram) {
         this.memoryComputeKeys.addAll(vertexProgram.getMemoryComputeKeys());
+        this.memoryReducers.putAll(vertexProgram.getMemoryReducers());
     }
 
     public void addMapReduceMemoryKey(final MapReduce mapReduce) {
@@ -121,6 +124,12 @@ public final class MapMemory implements Memory.Admin, Serializable {
         }
     }
 
+    @Override
+    public void add(final String key, final Object value) {
+        this.checkKeyValue(key, value);
+        this.memoryMap.merge(key, value, MemoryHelper.getReducer(this.memoryReducers, key));
+    }
+
     @Override
     public String toString() {
         return StringFactory.memoryString(this);
@@ -20,6 +20,9 @@ package org.apache.tinkerpop.gremlin.process.computer.util;
 
 import org.apache.tinkerpop.gremlin.process.computer.Memory;
 
+import java.util.Map;
+import java.util.function.BinaryOperator;
+
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -39,4 +42,11 @@ public final class MemoryHelper {
         if (key.isEmpty())
             throw Memory.Exceptions.memoryKeyCanNotBeEmpty();
     }
+
+    public static BinaryOperator<Object> getReducer(final Map<String, BinaryOperator<?>> reducers, final String key) throws IllegalArgumentException {
+        final BinaryOperator<?> reducer = reducers.get(key);
+        if (null == reducer)
+            throw Memory.Exceptions.memoryKeyHasNoReducer(key);
+        return (BinaryOperator<Object>) reducer;
+    }
 }
@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 
 import java.io.Serializable;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -187,6 +188,18 @@ public interface Traverser<T> extends Serializable, Comparable<Traverser<T>>, Cl
          */
         public void set(final T t);
 
+        /**
+         * Add the labels of the step the traverser is leaving to the head of its path.
+         *
+         * @param labels the labels of the step
+         */
+        public default void addLabels(final Set<String> labels) {
+            final Path path = this.path();
+            for (final String label : labels) {
+                path.addLabel(label);
+            }
+        }
+
         /**
          * Increment the number of times the traverser has gone through a looping section of traversal.
          * The step label is important to create a stack of loop counters when within a nested context.
@@ -28,6 +28,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEn
 import org.apache.tinkerpop.gremlin.process.traversal.step.map.AddVertexStartStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.PathIdentityStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalCache;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Transaction;
@@ -66,9 +67,11 @@ public class GraphTraversalSource implements TraversalSource {
     private final TraversalStrategies strategies;
     private final List<TraversalStrategy> withStrategies;
     private final List<Class<? extends TraversalStrategy>> withoutStrategies;
+    private final transient TraversalCache cache;
 
-    private GraphTraversalSource(final Graph graph, final TraversalEngine.Builder engineBuilder, final List<TraversalStrategy> withStrategies, final List<Class<? extends TraversalStrategy>> withoutStrategies) {
+    private GraphTraversalSource(final Graph graph, final TraversalEngine.Builder engineBuilder, final List<TraversalStrategy> withStrategies, final List<Class<? extends TraversalStrategy>> withoutStrategies, final int cacheSize) {
         this.graph = graph;
+        this.cache = cacheSize > 0 ? new TraversalCache(cacheSize) : null;
         this.engineBuilder = engineBuilder;
         this.withStrategies = withStrategies;
         this.withoutStrategies = withoutStrategies;
@@ -83,10 +86,11 @@ public class GraphTraversalSource implements TraversalSource {
     }
 
     private <S> GraphTraversal.Admin<S, S> generateTraversal() {
-        final GraphTraversal.Admin<S, S> traversal = new DefaultGraphTraversal<>(this.graph);
+        final DefaultGraphTraversal<S, S> traversal = new DefaultGraphTraversal<>(this.graph);
         final TraversalEngine engine = this.engineBuilder.create(this.graph);
         traversal.setEngine(engine);
         traversal.setStrategies(this.strategies);
+        traversal.setTraversalCache(this.cache);
         return traversal;
     }
 
@@ -170,9 +174,18 @@ public class GraphTraversalSource implements TraversalSource {
         return Optional.ofNullable(this.graph);
     }
 
+    /**
+     * Get the cache of compiled traversals of this source if it was built with one.
+     */
+    public Optional<TraversalCache> getTraversalCache() {
+        return Optional.ofNullable(this.cache);
+    }
+
     @Override
     public GraphTraversalSource.Builder asBuilder() {
         final GraphTraversalSource.Builder builder = GraphTraversalSource.build().engine(this.engineBuilder);
+        if (null != this.cache)
+            builder.cache(this.cache.getMaxSize());
         this.withStrategies.forEach(builder::with);
         this.withoutStrategies.forEach(builder::without);
         return builder;
@@ -190,10 +203,20 @@ public class GraphTraversalSource implements TraversalSource {
         private TraversalEngine.Builder engineBuilder = StandardTraversalEngine.build();
         private List<TraversalStrategy> withStrategies = new ArrayList<>();
         private List<Class<? extends TraversalStrategy>> withoutStrategies = new ArrayList<>();
+        private int cacheSize = 0;
 
         private Builder() {
         }
 
+        /**
+         * Cache up to the given number of compiled traversals so that repeated traversals which only differ in the
+         * values of their {@code has()} steps do not apply their strategies again.
+         */
+        public Builder cache(final int maxSize) {
+            this.cacheSize = maxSize;
+            return this;
+        }
+
         @Override
         public Builder engine(final TraversalEngine.Builder engineBuilder) {
             this.engineBuilder = engineBuilder;
@@ -214,7 +237,7 @@ public class GraphTraversalSource implements TraversalSource {
 
         @Override
         public GraphTraversalSource create(final Graph graph) {
-            return new GraphTraversalSource(graph, this.engineBuilder, this.withStrategies, this.withoutStrategies);
+            return new GraphTraversalSource(graph, this.engineBuilder, this.withStrategies, this.withoutStrategies, this.cacheSize);
         }
     }
 
@@ -18,23 +18,69 @@
  */
 package org.apache.tinkerpop.gremlin.process.traversal.engine;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Ranging;
+import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.SampleGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.TailGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MaxGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.MinGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.ProfileStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectCapStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.SideEffectStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.NoOpBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.PartitionParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SupplyingBarrierStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.EngineDependentStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.LazyBarrierStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.finalization.ProfileStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 
 /**
+ * The OLTP, iterator-based {@link TraversalEngine}. By default a traversal is processed by the calling thread. With
+ * {@link Builder#workers(int)} greater than one, {@link PartitionParallelStrategy} splits the starts of a traversal's
+ * {@link GraphStep} into partitions which are processed on a {@link ForkJoinPool} up to the first barrier of the
+ * traversal.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class StandardTraversalEngine implements TraversalEngine {
 
-    private static final StandardTraversalEngine INSTANCE = new StandardTraversalEngine();
+    private static final StandardTraversalEngine INSTANCE = new StandardTraversalEngine(1, null);
 
-    private StandardTraversalEngine() {
+    private final int workers;
+    private final transient ForkJoinPool forkJoinPool;
 
+    private StandardTraversalEngine(final int workers, final ForkJoinPool forkJoinPool) {
+        this.workers = workers;
+        this.forkJoinPool = forkJoinPool;
     }
 
     @Override
@@ -47,8 +93,23 @@ public final class StandardTraversalEngine implements TraversalEngine {
         return Optional.empty();
     }
 
+    /**
+     * The number of threads that process the partitions of a traversal.
+     */
+    public int getWorkers() {
+        return this.workers;
+    }
+
+    /**
+     * The pool that processes the partitions of a traversal, which is {@code null} if the engine is serial or was
+     * deserialized.
+     */
+    public ForkJoinPool getForkJoinPool() {
+        return this.forkJoinPool;
+    }
+
     public static Builder build() {
-        return Builder.INSTANCE;
+        return new Builder();
     }
 
     public static StandardTraversalEngine instance() {
@@ -62,11 +123,157 @@ public final class StandardTraversalEngine implements TraversalEngine {
 
     public final static class Builder implements TraversalEngine.Builder {
 
-        private static final Builder INSTANCE = new Builder();
+        private static final List<TraversalStrategy> WITH_STRATEGIES = Collections.singletonList(PartitionParallelStrategy.instance());
+
+        /**
+         * One pool per number of workers which is shared by every engine with that many workers. The threads of a
+         * {@link ForkJoinPool} are daemon threads that terminate once idle, so the pools are never shut down.
+         */
+        private static final Map<Integer, ForkJoinPool> FORK_JOIN_POOLS = new ConcurrentHashMap<>();
+
+        private int workers = 1;
+
+        /**
+         * Process the partitions of a traversal with this many threads. The threads are shared by all the traversals
+         * of all the engines with the same number of workers.
+         */
+        public Builder workers(final int workers) {
+            if (workers < 1)
+                throw new IllegalArgumentException("The number of workers must be positive: " + workers);
+            this.workers = workers;
+            return this;
+        }
+
+        @Override
+        public List<TraversalStrategy> getWithStrategies() {
+            return this.workers > 1 ? WITH_STRATEGIES : Collections.emptyList();
+        }
 
         @Override
         public TraversalEngine create(final Graph graph) {
-            return StandardTraversalEngine.INSTANCE;
+            if (1 == this.workers)
+                return StandardTraversalEngine.INSTANCE;
+            return new StandardTraversalEngine(this.workers, FORK_JOIN_POOLS.computeIfAbsent(this.workers, ForkJoinPool::new));
+        }
+    }
+
+    ////
+
+    /**
+     * Moves the partition-safe steps that follow the {@link GraphStep} of a root traversal into a
+     * {@link PartitionParallelStep} when those steps are followed by a barrier which would consume all of their
+     * results anyway. Steps with shared state (side-effects, lambdas, mutations, ranges, global de-duplication and
+     * global barriers) are not partition-safe and the traversal is processed serially from the first of them.
+     */
+    public static class PartitionParallelStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
+
+        private static final PartitionParallelStrategy INSTANCE = new PartitionParallelStrategy();
+        private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>();
+        private static final Set<Class<? extends FinalizationStrategy>> POSTS = new HashSet<>();
+
+        static {
+            PRIORS.add(LazyBarrierStrategy.class);
+            PRIORS.add(EngineDependentStrategy.class);
+            POSTS.add(ProfileStrategy.class);
+        }
+
+        private PartitionParallelStrategy() {
+
+        }
+
+        @Override
+        public void apply(final Traversal.Admin<?, ?> traversal) {
+            if (!(traversal.getParent() instanceof EmptyStep) ||
+                    !(traversal.getEngine() instanceof StandardTraversalEngine) ||
+                    ((StandardTraversalEngine) traversal.getEngine()).getWorkers() < 2 ||
+                    !(traversal.getStartStep() instanceof GraphStep) ||
+                    TraversalHelper.hasStepOfAssignableClassRecursively(ProfileStep.class, traversal))
+                return;
+
+            final List<Step> steps = traversal.getSteps();
+            int boundary = 1;
+            while (boundary < steps.size() && isPartitionSafe(steps.get(boundary), true)) {
+                boundary++;
+            }
+            if (1 == boundary || steps.size() == boundary)
+                return;
+            final Step<?, ?> boundaryStep = steps.get(boundary);
+            if (!(boundaryStep instanceof ReducingBarrierStep ||
+                    boundaryStep instanceof CollectingBarrierStep ||
+                    boundaryStep instanceof SupplyingBarrierStep ||
+                    (boundaryStep instanceof SideEffectCapable && traversal.getEndStep() instanceof SideEffectCapStep)))
+                return;
+            // the partitions hand the boundary bulked traversers, so it has to honor bulk (e.g. fold() does not)
+            if (!(boundaryStep.getRequirements().contains(TraverserRequirement.BULK) ||
+                    boundaryStep instanceof MinGlobalStep ||
+                    boundaryStep instanceof MaxGlobalStep))
+                return;
+
+            final Traversal.Admin<?, ?> partitionTraversal = new DefaultTraversal<>();
+            for (int i = 1; i < boundary; i++) {
+                final Step<?, ?> step = steps.get(1);
+                traversal.removeStep(step);
+                partitionTraversal.addStep(step);
+            }
+            TraversalHelper.insertAfterStep(new PartitionParallelStep(traversal, partitionTraversal), (Step) traversal.getStartStep(), traversal);
+        }
+
+        /**
+         * Determine if a step can be processed by many clones of itself, each seeing only a partition of the
+         * traversers. Global barriers, ranges and de-duplication need to see every traverser, but are safe in local
+         * children as those are processed for one traverser at a time.
+         */
+        private static boolean isPartitionSafe(final Step<?, ?> step, final boolean global) {
+            if (step instanceof SideEffectStep ||
+                    step instanceof SideEffectCapable ||
+                    step instanceof LambdaHolder ||
+                    step instanceof Mutating ||
+                    step instanceof ProfileStep ||
+                    step instanceof GraphStep ||
+                    step instanceof StartStep)
+                return false;
+            // the reducing functions of group(), groupCount() and tree() reach back to the by()-traversals of the
+            // step that created them, which would then be shared by every partition's clone
+            if (step instanceof ReducingBarrierStep && step instanceof TraversalParent)
+                return false;
+            if (global && !(step instanceof NoOpBarrierStep) &&
+                    (step instanceof ReducingBarrierStep ||
+                            step instanceof CollectingBarrierStep ||
+                            step instanceof SupplyingBarrierStep ||
+                            step instanceof Ranging ||
+                            step instanceof TailGlobalStep ||
+                            step instanceof DedupGlobalStep ||
+                            step instanceof SampleGlobalStep))
+                return false;
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> localChild : ((TraversalParent) step).getLocalChildren()) {
+                    for (final Step<?, ?> childStep : localChild.getSteps()) {
+                        if (!isPartitionSafe(childStep, false))
+                            return false;
+                    }
+                }
+                for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) step).getGlobalChildren()) {
+                    for (final Step<?, ?> childStep : globalChild.getSteps()) {
+                        if (!isPartitionSafe(childStep, global))
+                            return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Set<Class<? extends FinalizationStrategy>> applyPrior() {
+            return PRIORS;
+        }
+
+        @Override
+        public Set<Class<? extends FinalizationStrategy>> applyPost() {
+            return POSTS;
+        }
+
+        public static PartitionParallelStrategy instance() {
+            return INSTANCE;
         }
     }
 }
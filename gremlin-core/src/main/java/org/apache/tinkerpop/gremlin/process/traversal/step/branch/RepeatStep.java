@@ -224,20 +224,29 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
             super(traversal);
         }
 
+        /**
+         * The {@link RepeatStep} is resolved through the parent of the repeat traversal (not the enclosing instance)
+         * so that a cloned repeat step loops its traversers back into the clone.
+         */
+        private RepeatStep<S> getRepeatStep() {
+            return (RepeatStep<S>) this.getTraversal().getParent();
+        }
+
         @Override
         protected Iterator<Traverser<S>> standardAlgorithm() throws NoSuchElementException {
             while (true) {
                 final Traverser.Admin<S> start = this.starts.next();
+                final RepeatStep<S> repeatStep = this.getRepeatStep();
                 start.incrLoops(this.getId());
-                if (doUntil(start, false)) {
+                if (repeatStep.doUntil(start, false)) {
                     start.resetLoops();
                     return IteratorUtils.of(start);
                 } else {
-                    if (!RepeatStep.this.untilFirst && !RepeatStep.this.emitFirst)
-                        RepeatStep.this.repeatTraversal.addStart(start);
+                    if (!repeatStep.untilFirst && !repeatStep.emitFirst)
+                        repeatStep.repeatTraversal.addStart(start);
                     else
-                        RepeatStep.this.addStart(start);
-                    if (doEmit(start, false)) {
+                        repeatStep.addStart(start);
+                    if (repeatStep.doEmit(start, false)) {
                         final Traverser.Admin<S> emitSplit = start.split();
                         emitSplit.resetLoops();
                         return IteratorUtils.of(emitSplit);
@@ -249,17 +258,18 @@ public final class RepeatStep<S> extends ComputerAwareStep<S, S> implements Trav
         @Override
         protected Iterator<Traverser<S>> computerAlgorithm() throws NoSuchElementException {
             final Traverser.Admin<S> start = this.starts.next();
-            start.incrLoops(RepeatStep.this.getId());
-            if (doUntil(start, false)) {
+            final RepeatStep<S> repeatStep = this.getRepeatStep();
+            start.incrLoops(repeatStep.getId());
+            if (repeatStep.doUntil(start, false)) {
                 start.resetLoops();
-                start.setStepId(RepeatStep.this.getNextStep().getId());
+                start.setStepId(repeatStep.getNextStep().getId());
                 return IteratorUtils.of(start);
             } else {
-                start.setStepId(RepeatStep.this.getId());
-                if (doEmit(start, false)) {
+                start.setStepId(repeatStep.getId());
+                if (repeatStep.doEmit(start, false)) {
                     final Traverser.Admin<S> emitSplit = start.split();
                     emitSplit.resetLoops();
-                    emitSplit.setStepId(RepeatStep.this.getNextStep().getId());
+                    emitSplit.setStepId(repeatStep.getNextStep().getId());
                     return IteratorUtils.of(start, emitSplit);
                 }
                 return IteratorUtils.of(start);
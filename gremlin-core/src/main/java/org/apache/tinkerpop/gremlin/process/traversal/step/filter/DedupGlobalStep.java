@@ -24,6 +24,9 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Bypassing;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CompactDuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.DuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.EmptyStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
@@ -33,7 +36,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -41,7 +46,8 @@ import java.util.Set;
 public final class DedupGlobalStep<S> extends FilterStep<S> implements TraversalParent, Scoping, Bypassing {
 
     private Traversal.Admin<S, Object> dedupTraversal = null;
-    private Set<Object> duplicateSet = new HashSet<>();
+    private Supplier<DuplicateFilter> duplicateFilterSupplier = CompactDuplicateFilter.supplier();
+    private DuplicateFilter duplicateFilter = this.duplicateFilterSupplier.get();
     private boolean bypass = false;
     private final Set<String> dedupLabels;
 
@@ -55,14 +61,28 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
         if (this.bypass) return true;
         traverser.setBulk(1);
         if (null == this.dedupLabels) {
-            return this.duplicateSet.add(TraversalUtil.applyNullable(traverser, this.dedupTraversal));
+            return this.duplicateFilter.add(TraversalUtil.applyNullable(traverser, this.dedupTraversal));
         } else {
             final List<Object> objects = new ArrayList<>(this.dedupLabels.size());
             this.dedupLabels.forEach(label -> objects.add(TraversalUtil.applyNullable((S) this.getScopeValue(Pop.last, label, traverser), this.dedupTraversal)));
-            return this.duplicateSet.add(objects);
+            return this.duplicateFilter.add(objects);
         }
     }
 
+    /**
+     * Sets how the objects that have been seen are held, which is by the ids of elements in a
+     * {@link CompactDuplicateFilter} by default.
+     */
+    public void setDuplicateFilterSupplier(final Supplier<DuplicateFilter> duplicateFilterSupplier) {
+        this.duplicateFilterSupplier = duplicateFilterSupplier;
+        this.duplicateFilter.clear();
+        this.duplicateFilter = duplicateFilterSupplier.get();
+    }
+
+    public Supplier<DuplicateFilter> getDuplicateFilterSupplier() {
+        return this.duplicateFilterSupplier;
+    }
+
     @Override
     public List<Traversal<S, Object>> getLocalChildren() {
         return null == this.dedupTraversal ? Collections.emptyList() : Collections.singletonList(this.dedupTraversal);
@@ -76,7 +96,7 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     @Override
     public DedupGlobalStep<S> clone() {
         final DedupGlobalStep<S> clone = (DedupGlobalStep<S>) super.clone();
-        clone.duplicateSet = new HashSet<>();
+        clone.duplicateFilter = this.duplicateFilterSupplier.get();
         if (null != this.dedupTraversal)
             clone.dedupTraversal = clone.integrateChild(this.dedupTraversal.clone());
         return clone;
@@ -95,7 +115,25 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
     @Override
     public void reset() {
         super.reset();
-        this.duplicateSet.clear();
+        this.duplicateFilter.clear();
+    }
+
+    /**
+     * Clears the {@link DuplicateFilter} once the starts of a root traversal are exhausted, as no more will come to
+     * be filtered, which deletes the files of a
+     * {@link org.apache.tinkerpop.gremlin.process.traversal.step.util.SpillingDuplicateFilter}.  The starts of a
+     * child traversal or of a traversal on a graph computer may arrive in rounds, so their filter is kept until
+     * {@link #reset()}.
+     */
+    @Override
+    protected Traverser<S> processNextStart() {
+        try {
+            return super.processNextStart();
+        } catch (final NoSuchElementException e) {
+            if (this.traversal.getParent() instanceof EmptyStep && this.traversal.getEngine().isStandard())
+                this.duplicateFilter.clear();
+            throw e;
+        }
     }
 
     @Override
@@ -105,7 +143,7 @@ public final class DedupGlobalStep<S> extends FilterStep<S> implements Traversal
 
     @Override
     public Set<TraverserRequirement> getRequirements() {
-        return this.dedupLabels == null ? this.getSelfAndChildRequirements(TraverserRequirement.BULK) : this.getSelfAndChildRequirements(TraverserRequirement.PATH, TraverserRequirement.BULK);
+        return this.dedupLabels == null ? this.getSelfAndChildRequirements(TraverserRequirement.BULK) : this.getSelfAndChildRequirements(TraverserRequirement.LABELED_PATH, TraverserRequirement.BULK);
     }
 
     @Override
@@ -29,13 +29,14 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierS
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
+import org.apache.tinkerpop.gremlin.util.function.CountNumberSupplier;
 
 import java.io.Serializable;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -46,8 +47,8 @@ public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> imple
 
     public CountGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
-        this.setSeedSupplier(new ConstantSupplier<>(0L));
-        this.setBiFunction(CountBiFunction.<S>instance());
+        this.setSeedSupplier((Supplier) CountNumberSupplier.instance());
+        this.setBiFunction((BiFunction) CountBiFunction.<S>instance());
     }
 
 
@@ -63,7 +64,7 @@ public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> imple
 
     ///////////
 
-    private static class CountBiFunction<S> implements BiFunction<Long, Traverser<S>, Long>, Serializable {
+    private static class CountBiFunction<S> implements BiFunction<CountNumber, Traverser<S>, CountNumber>, Serializable {
 
         private static final CountBiFunction INSTANCE = new CountBiFunction();
 
@@ -72,8 +73,8 @@ public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> imple
         }
 
         @Override
-        public Long apply(final Long mutatingSeed, final Traverser<S> traverser) {
-            return mutatingSeed + traverser.bulk();
+        public CountNumber apply(final CountNumber mutatingSeed, final Traverser<S> traverser) {
+            return mutatingSeed.add(traverser.bulk());
         }
 
         public final static <S> CountBiFunction<S> instance() {
@@ -98,7 +99,10 @@ public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> imple
 
         @Override
         public void map(final Vertex vertex, final MapEmitter<NullObject, Long> emitter) {
-            vertex.<TraverserSet<?>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> traverserSet.forEach(traverser -> emitter.emit(traverser.bulk())));
+            vertex.<TraverserSet<?>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> {
+                if (!traverserSet.isEmpty())
+                    emitter.emit(traverserSet.bulkSize());
+            });
         }
 
         @Override
@@ -131,4 +135,68 @@ public final class CountGlobalStep<S> extends ReducingBarrierStep<S, Long> imple
 
     }
 
+    ///////////
+
+    public static final class CountNumber extends Number implements Comparable<Number>, FinalGet<Long> {
+
+        private long count;
+
+        public CountNumber() {
+            this(0l);
+        }
+
+        public CountNumber(final long count) {
+            this.count = count;
+        }
+
+        public CountNumber add(final long count) {
+            this.count += count;
+            return this;
+        }
+
+        @Override
+        public int intValue() {
+            return (int) this.count;
+        }
+
+        @Override
+        public long longValue() {
+            return this.count;
+        }
+
+        @Override
+        public float floatValue() {
+            return (float) this.count;
+        }
+
+        @Override
+        public double doubleValue() {
+            return (double) this.count;
+        }
+
+        @Override
+        public String toString() {
+            return Long.toString(this.count);
+        }
+
+        @Override
+        public int compareTo(final Number number) {
+            return Long.compare(this.count, number.longValue());
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof Number && this.count == ((Number) object).longValue();
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(this.count);
+        }
+
+        @Override
+        public Long getFinal() {
+            return this.count;
+        }
+    }
 }
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.MapReducer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CountMap;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MapHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
@@ -33,7 +34,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSe
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
-import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
+import org.apache.tinkerpop.gremlin.util.function.CountMapSupplier;
 
 import java.io.Serializable;
 import java.util.*;
@@ -48,7 +49,7 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
 
     public GroupCountStep(final Traversal.Admin traversal) {
         super(traversal);
-        this.setSeedSupplier(HashMapSupplier.instance());
+        this.setSeedSupplier(CountMapSupplier.instance());
         this.setBiFunction(new GroupCountBiFunction());
     }
 
@@ -115,7 +116,11 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
 
         @Override
         public Map<E, Long> apply(final Map<E, Long> mutatingSeed, final Traverser<S> traverser) {
-            MapHelper.incr(mutatingSeed, TraversalUtil.applyNullable(traverser.asAdmin(), GroupCountStep.this.groupTraversal), traverser.bulk());
+            final E key = TraversalUtil.applyNullable(traverser.asAdmin(), GroupCountStep.this.groupTraversal);
+            if (mutatingSeed instanceof CountMap)
+                ((CountMap<E>) mutatingSeed).incr(key, traverser.bulk());
+            else
+                MapHelper.incr(mutatingSeed, key, traverser.bulk());
             return mutatingSeed;
         }
     }
@@ -156,8 +161,8 @@ public final class GroupCountStep<S, E> extends ReducingBarrierStep<S, Map<E, Lo
 
         @Override
         public Map<E, Long> generateFinalResult(final Iterator<KeyValue<E, Long>> keyValues) {
-            final Map<E, Long> map = new HashMap<>();
-            keyValues.forEachRemaining(keyValue -> map.put(keyValue.getKey(), keyValue.getValue()));
+            final CountMap<E> map = new CountMap<>();
+            keyValues.forEachRemaining(keyValue -> map.incr(keyValue.getKey(), keyValue.getValue()));
             return map;
         }
 
@@ -26,6 +26,7 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.CollectingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.TraversalComparator;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.BoundedTraverserQueue;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.function.ChainedComparator;
@@ -44,14 +45,43 @@ import java.util.stream.Collectors;
 public final class OrderGlobalStep<S> extends CollectingBarrierStep<S> implements ComparatorHolder<S>, TraversalParent {
 
     private List<Comparator<S>> comparators = new ArrayList<>();
+    private long limit = Long.MAX_VALUE;
 
     public OrderGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
     }
 
+    @Override
+    public Traverser<S> processNextStart() {
+        if (Long.MAX_VALUE == this.limit)
+            return super.processNextStart();
+        if (this.traverserSet.isEmpty() && this.starts.hasNext()) {
+            final BoundedTraverserQueue<S> topTraversers = new BoundedTraverserQueue<>(this.getTraverserComparator(), this.limit);
+            this.starts.forEachRemaining(topTraversers::add);
+            topTraversers.drainTo(this.traverserSet);
+        }
+        return this.traverserSet.remove();
+    }
+
     @Override
     public void barrierConsumer(final TraverserSet<S> traverserSet) {
-        traverserSet.sort(this.comparators.isEmpty() ? new ComparatorTraverser(Order.incr) : new ChainedComparator(ComparatorTraverser.convertComparator((List) this.comparators)));
+        traverserSet.sort(this.getTraverserComparator());
+    }
+
+    public Comparator<Traverser<S>> getTraverserComparator() {
+        return this.comparators.isEmpty() ? new ComparatorTraverser(Order.incr) : new ChainedComparator(ComparatorTraverser.convertComparator((List) this.comparators));
+    }
+
+    /**
+     * Only the first {@code limit} traversers (by bulk) of the order are needed, e.g. because the step is followed by
+     * a {@code limit()}, which allows the order to be taken without holding every traverser.
+     */
+    public void setLimit(final long limit) {
+        this.limit = limit;
+    }
+
+    public long getLimit() {
+        return this.limit;
     }
 
     @Override
@@ -68,12 +98,12 @@ public final class OrderGlobalStep<S> extends CollectingBarrierStep<S> implement
 
     @Override
     public String toString() {
-        return StringFactory.stepString(this, this.comparators);
+        return Long.MAX_VALUE == this.limit ? StringFactory.stepString(this, this.comparators) : StringFactory.stepString(this, this.comparators, this.limit);
     }
 
     @Override
     public int hashCode() {
-        int result = super.hashCode();
+        int result = super.hashCode() ^ Long.hashCode(this.limit);
         for (final Comparator<S> comparator : this.comparators) {
             result ^= comparator.hashCode();
         }
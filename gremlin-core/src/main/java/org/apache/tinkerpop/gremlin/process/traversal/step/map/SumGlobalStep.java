@@ -29,13 +29,14 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierS
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.apache.tinkerpop.gremlin.util.function.ConstantSupplier;
+import org.apache.tinkerpop.gremlin.util.function.SumNumberSupplier;
 
 import java.io.Serializable;
 import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -49,8 +50,8 @@ public final class SumGlobalStep extends ReducingBarrierStep<Number, Double> imp
 
     public SumGlobalStep(final Traversal.Admin traversal) {
         super(traversal);
-        this.setSeedSupplier(new ConstantSupplier<>(0.0d));
-        this.setBiFunction(SumGlobalBiFunction.instance());
+        this.setSeedSupplier((Supplier) SumNumberSupplier.instance());
+        this.setBiFunction((BiFunction) SumGlobalBiFunction.instance());
     }
 
 
@@ -66,7 +67,7 @@ public final class SumGlobalStep extends ReducingBarrierStep<Number, Double> imp
 
     /////
 
-    private static class SumGlobalBiFunction<S extends Number> implements BiFunction<Double, Traverser<S>, Double>, Serializable {
+    private static class SumGlobalBiFunction<S extends Number> implements BiFunction<SumNumber, Traverser<S>, SumNumber>, Serializable {
 
         private static final SumGlobalBiFunction INSTANCE = new SumGlobalBiFunction();
 
@@ -75,8 +76,8 @@ public final class SumGlobalStep extends ReducingBarrierStep<Number, Double> imp
         }
 
         @Override
-        public Double apply(final Double mutatingSeed, final Traverser<S> traverser) {
-            return mutatingSeed + (traverser.get().doubleValue() * traverser.bulk());
+        public SumNumber apply(final SumNumber mutatingSeed, final Traverser<S> traverser) {
+            return mutatingSeed.add(traverser.get().doubleValue() * traverser.bulk());
         }
 
         public final static <S extends Number> SumGlobalBiFunction<S> instance() {
@@ -101,7 +102,15 @@ public final class SumGlobalStep extends ReducingBarrierStep<Number, Double> imp
 
         @Override
         public void map(final Vertex vertex, final MapEmitter<NullObject, Number> emitter) {
-            vertex.<TraverserSet<Number>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> traverserSet.forEach(traverser -> emitter.emit(traverser.get().doubleValue() * traverser.bulk())));
+            vertex.<TraverserSet<Number>>property(TraversalVertexProgram.HALTED_TRAVERSERS).ifPresent(traverserSet -> {
+                if (!traverserSet.isEmpty()) {
+                    double sum = 0.0d;
+                    for (final Traverser<Number> traverser : traverserSet) {
+                        sum = sum + (traverser.get().doubleValue() * traverser.bulk());
+                    }
+                    emitter.emit(sum);
+                }
+            });
         }
 
         @Override
@@ -112,9 +121,9 @@ public final class SumGlobalStep extends ReducingBarrierStep<Number, Double> imp
         @Override
         public void reduce(final NullObject key, final Iterator<Number> values, final ReduceEmitter<NullObject, Number> emitter) {
             if (values.hasNext()) {
-                Number sum = values.next();
+                double sum = 0.0d;
                 while (values.hasNext()) {
-                    sum = sum.doubleValue() + values.next().doubleValue();
+                    sum = sum + values.next().doubleValue();
                 }
                 emitter.emit(sum);
             }
@@ -134,4 +143,69 @@ public final class SumGlobalStep extends ReducingBarrierStep<Number, Double> imp
             return INSTANCE;
         }
     }
-}
\ No newline at end of file
+
+    ///////////
+
+    public static final class SumNumber extends Number implements Comparable<Number>, FinalGet<Double> {
+
+        private double sum;
+
+        public SumNumber() {
+            this(0.0d);
+        }
+
+        public SumNumber(final double sum) {
+            this.sum = sum;
+        }
+
+        public SumNumber add(final double amount) {
+            this.sum += amount;
+            return this;
+        }
+
+        @Override
+        public int intValue() {
+            return (int) this.sum;
+        }
+
+        @Override
+        public long longValue() {
+            return (long) this.sum;
+        }
+
+        @Override
+        public float floatValue() {
+            return (float) this.sum;
+        }
+
+        @Override
+        public double doubleValue() {
+            return this.sum;
+        }
+
+        @Override
+        public String toString() {
+            return Double.toString(this.sum);
+        }
+
+        @Override
+        public int compareTo(final Number number) {
+            return Double.compare(this.sum, number.doubleValue());
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof Number && Double.valueOf(this.sum).equals(((Number) object).doubleValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(this.sum);
+        }
+
+        @Override
+        public Double getFinal() {
+            return this.sum;
+        }
+    }
+}
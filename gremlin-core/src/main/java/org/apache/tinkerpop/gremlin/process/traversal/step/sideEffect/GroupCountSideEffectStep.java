@@ -29,13 +29,14 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.process.traversal.step.MapReducer;
 import org.apache.tinkerpop.gremlin.process.traversal.step.SideEffectCapable;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CountMap;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MapHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
-import org.apache.tinkerpop.gremlin.util.function.HashMapSupplier;
+import org.apache.tinkerpop.gremlin.util.function.CountMapSupplier;
 
 import java.util.*;
 import java.util.function.Supplier;
@@ -51,13 +52,17 @@ public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> impl
     public GroupCountSideEffectStep(final Traversal.Admin traversal, final String sideEffectKey) {
         super(traversal);
         this.sideEffectKey = sideEffectKey;
-        this.traversal.asAdmin().getSideEffects().registerSupplierIfAbsent(this.sideEffectKey, HashMapSupplier.instance());
+        this.traversal.asAdmin().getSideEffects().registerSupplierIfAbsent(this.sideEffectKey, CountMapSupplier.instance());
     }
 
     @Override
     protected void sideEffect(final Traverser.Admin<S> traverser) {
         final Map<Object, Long> groupCountMap = traverser.sideEffects(this.sideEffectKey);
-        MapHelper.incr(groupCountMap, TraversalUtil.applyNullable(traverser.asAdmin(), this.groupTraversal), traverser.bulk());
+        final Object key = TraversalUtil.applyNullable(traverser.asAdmin(), this.groupTraversal);
+        if (groupCountMap instanceof CountMap)
+            ((CountMap<Object>) groupCountMap).incr(key, traverser.bulk());
+        else
+            MapHelper.incr(groupCountMap, key, traverser.bulk());
     }
 
     @Override
@@ -120,7 +125,7 @@ public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> impl
 
         public GroupCountSideEffectMapReduce(final GroupCountSideEffectStep step) {
             this.sideEffectKey = step.getSideEffectKey();
-            this.mapSupplier = step.getTraversal().asAdmin().getSideEffects().<Map<E, Long>>getRegisteredSupplier(this.sideEffectKey).orElse(HashMap::new);
+            this.mapSupplier = step.getTraversal().asAdmin().getSideEffects().<Map<E, Long>>getRegisteredSupplier(this.sideEffectKey).orElse(CountMap::new);
         }
 
         @Override
@@ -132,7 +137,7 @@ public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> impl
         @Override
         public void loadState(final Graph graph, final Configuration configuration) {
             this.sideEffectKey = configuration.getString(GROUP_COUNT_SIDE_EFFECT_STEP_SIDE_EFFECT_KEY);
-            this.mapSupplier = TraversalVertexProgram.getTraversal(graph, configuration).getSideEffects().<Map<E, Long>>getRegisteredSupplier(this.sideEffectKey).orElse(HashMap::new);
+            this.mapSupplier = TraversalVertexProgram.getTraversal(graph, configuration).getSideEffects().<Map<E, Long>>getRegisteredSupplier(this.sideEffectKey).orElse(CountMap::new);
         }
 
         @Override
@@ -142,7 +147,12 @@ public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> impl
 
         @Override
         public void map(final Vertex vertex, final MapEmitter<E, Long> emitter) {
-            VertexTraversalSideEffects.of(vertex).<Map<E, Number>>get(this.sideEffectKey).ifPresent(map -> map.forEach((k, v) -> emitter.emit(k, v.longValue())));
+            VertexTraversalSideEffects.of(vertex).<Map<E, Number>>get(this.sideEffectKey).ifPresent(map -> {
+                if (map instanceof CountMap)
+                    ((CountMap<E>) (Map) map).forEachCount(emitter::emit);
+                else
+                    map.forEach((k, v) -> emitter.emit(k, v.longValue()));
+            });
         }
 
         @Override
@@ -162,7 +172,10 @@ public final class GroupCountSideEffectStep<S, E> extends SideEffectStep<S> impl
         @Override
         public Map<E, Long> generateFinalResult(final Iterator<KeyValue<E, Long>> keyValues) {
             final Map<E, Long> map = this.mapSupplier.get();
-            keyValues.forEachRemaining(keyValue -> map.put(keyValue.getKey(), keyValue.getValue()));
+            if (map instanceof CountMap)
+                keyValues.forEachRemaining(keyValue -> ((CountMap<E>) map).incr(keyValue.getKey(), keyValue.getValue()));
+            else
+                keyValues.forEachRemaining(keyValue -> map.put(keyValue.getKey(), keyValue.getValue()));
             return map;
         }
 
@@ -199,7 +199,7 @@ public abstract class AbstractStep<S, E> implements Step<S, E> {
 
     private final Traverser<E> prepareTraversalForNextStep(final Traverser<E> traverser) {
         if (!this.traverserStepIdSetByChild) ((Traverser.Admin<E>) traverser).setStepId(this.nextStep.getId());
-        if (!this.labels.isEmpty()) this.labels.forEach(label -> traverser.path().addLabel(label));
+        if (!this.labels.isEmpty()) ((Traverser.Admin<E>) traverser).addLabels(this.labels);
         return traverser;
     }
 
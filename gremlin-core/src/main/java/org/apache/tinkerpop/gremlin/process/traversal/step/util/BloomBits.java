@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The bits of a Bloom filter over 64-bit hashes, sized for an expected number of insertions and false positive
+ * probability.  The bit indices are derived from the hash by double hashing.
+ *
+ * @author agent (agent@local)
+ */
+final class BloomBits implements Serializable {
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashCount;
+
+    public BloomBits(final long expectedInsertions, final double falsePositiveProbability) {
+        validate(expectedInsertions, falsePositiveProbability);
+        final long bits = Math.max(64l, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2))));
+        this.words = new long[(int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64)];
+        this.bitCount = this.words.length * 64l;
+        this.hashCount = Math.max(1, (int) Math.round((double) this.bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    public static void validate(final long expectedInsertions, final double falsePositiveProbability) {
+        if (expectedInsertions < 1)
+            throw new IllegalArgumentException("The expected insertions of a Bloom filter must be positive: " + expectedInsertions);
+        if (falsePositiveProbability <= 0.0d || falsePositiveProbability >= 1.0d)
+            throw new IllegalArgumentException("The false positive probability of a Bloom filter must be between 0 and 1: " + falsePositiveProbability);
+    }
+
+    /**
+     * Sets the bits of the hash.
+     *
+     * @return {@code true} if any of the bits were not yet set
+     */
+    public boolean put(final long hash) {
+        final long second = mix(hash);
+        boolean changed = false;
+        for (int i = 0; i < this.hashCount; i++) {
+            final long index = ((hash + i * second) & Long.MAX_VALUE) % this.bitCount;
+            final long word = this.words[(int) (index >>> 6)];
+            final long bit = 1l << index;
+            if (0 == (word & bit)) {
+                this.words[(int) (index >>> 6)] = word | bit;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    public boolean mightContain(final long hash) {
+        final long second = mix(hash);
+        for (int i = 0; i < this.hashCount; i++) {
+            final long index = ((hash + i * second) & Long.MAX_VALUE) % this.bitCount;
+            if (0 == (this.words[(int) (index >>> 6)] & (1l << index)))
+                return false;
+        }
+        return true;
+    }
+
+    public void clear() {
+        Arrays.fill(this.words, 0l);
+    }
+
+    /**
+     * The finalizer of MurmurHash3, which spreads the bits of a value over all 64 bits of the hash.
+     */
+    public static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdl;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53l;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.Element;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * An approximate {@link DuplicateFilter} which only sets the bits of a Bloom filter for each object, so its memory is
+ * fixed by the expected number of distinct objects and the false positive probability, no matter how many objects
+ * are added.  An object that was not added before is reported as a duplicate with (about) the false positive
+ * probability, so a {@code dedup()} with this filter may drop some distinct objects and is meant for estimates such
+ * as {@code dedup().count()} over more objects than fit in memory.
+ *
+ * @author agent (agent@local)
+ */
+public final class BloomDuplicateFilter implements DuplicateFilter {
+
+    private static final long NULL_HASH = 0x5bd1e995l;
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private BloomBits bits;
+    private long size = 0l;
+
+    public BloomDuplicateFilter(final long expectedInsertions, final double falsePositiveProbability) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.bits = new BloomBits(expectedInsertions, falsePositiveProbability);
+    }
+
+    @Override
+    public boolean add(final Object object) {
+        if (this.bits.put(hash(object))) {
+            this.size++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    @Override
+    public void clear() {
+        this.bits.clear();
+        this.size = 0l;
+    }
+
+    public long getExpectedInsertions() {
+        return this.expectedInsertions;
+    }
+
+    public double getFalsePositiveProbability() {
+        return this.falsePositiveProbability;
+    }
+
+    /**
+     * A 64-bit hash that agrees with {@link Object#equals(Object)}: elements hash by their kind and id and lists by
+     * their items.
+     */
+    private static long hash(final Object object) {
+        if (null == object)
+            return NULL_HASH;
+        final int kind = CompactDuplicateFilter.kind(object);
+        if (-1 != kind)
+            return BloomBits.mix(hashValue(((Element) object).id()) + kind);
+        if (object instanceof List) {
+            long hash = 1l;
+            for (final Object item : (List<?>) object) {
+                hash = 31l * hash + hash(item);
+            }
+            return BloomBits.mix(hash);
+        }
+        return BloomBits.mix(hashValue(object));
+    }
+
+    private static long hashValue(final Object value) {
+        if (value instanceof Long)
+            return BloomBits.mix((Long) value);
+        if (value instanceof CharSequence) {
+            final CharSequence chars = (CharSequence) value;
+            long hash = 1125899906842597l;
+            for (int i = 0; i < chars.length(); i++) {
+                hash = 31l * hash + chars.charAt(i);
+            }
+            return hash;
+        }
+        return value.hashCode();
+    }
+
+    public static Supplier<DuplicateFilter> supplier(final long expectedInsertions, final double falsePositiveProbability) {
+        BloomBits.validate(expectedInsertions, falsePositiveProbability);
+        return new BloomSupplier(expectedInsertions, falsePositiveProbability);
+    }
+
+    private static final class BloomSupplier implements Supplier<DuplicateFilter>, Serializable {
+
+        private final long expectedInsertions;
+        private final double falsePositiveProbability;
+
+        private BloomSupplier(final long expectedInsertions, final double falsePositiveProbability) {
+            this.expectedInsertions = expectedInsertions;
+            this.falsePositiveProbability = falsePositiveProbability;
+        }
+
+        @Override
+        public DuplicateFilter get() {
+            return new BloomDuplicateFilter(this.expectedInsertions, this.falsePositiveProbability);
+        }
+    }
+}
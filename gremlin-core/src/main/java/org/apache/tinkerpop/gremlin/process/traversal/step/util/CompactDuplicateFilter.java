@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * The default {@link DuplicateFilter} which holds the ids of elements rather than the elements themselves.  As two
+ * elements are equal when they are of the same kind (vertex, edge or vertex property) and have equal ids, the ids of
+ * each kind are kept in their own set, with {@code long} ids in a primitive {@link LongHashSet} that does not box
+ * them or allocate an entry per id.  Any other object is held as is, except that elements in a {@link List} (as
+ * produced by a labeled {@code dedup()}) are replaced by references.
+ *
+ * @author agent (agent@local)
+ */
+public class CompactDuplicateFilter implements DuplicateFilter {
+
+    protected static final int VERTEX = 0;
+    protected static final int EDGE = 1;
+    protected static final int VERTEX_PROPERTY = 2;
+    private static final int KINDS = 3;
+
+    private LongHashSet[] longIds = new LongHashSet[KINDS];
+    private Set<Object>[] objectIds = new Set[KINDS];
+    private Set<Object> objects = null;
+    private long size = 0l;
+
+    @Override
+    public boolean add(final Object object) {
+        final int kind = kind(object);
+        final boolean added;
+        if (-1 == kind)
+            added = this.getObjects().add(compact(object));
+        else {
+            final Object id = ((Element) object).id();
+            added = id instanceof Long ? this.addLongId(kind, (Long) id) : this.getObjectIds(kind).add(id);
+        }
+        if (added)
+            this.size++;
+        return added;
+    }
+
+    protected boolean addLongId(final int kind, final long id) {
+        return this.getLongIds(kind).add(id);
+    }
+
+    @Override
+    public long size() {
+        return this.size;
+    }
+
+    @Override
+    public void clear() {
+        this.longIds = new LongHashSet[KINDS];
+        this.objectIds = new Set[KINDS];
+        this.objects = null;
+        this.size = 0l;
+    }
+
+    LongHashSet getLongIds(final int kind) {
+        if (null == this.longIds[kind])
+            this.longIds[kind] = new LongHashSet();
+        return this.longIds[kind];
+    }
+
+    private Set<Object> getObjectIds(final int kind) {
+        if (null == this.objectIds[kind])
+            this.objectIds[kind] = new HashSet<>();
+        return this.objectIds[kind];
+    }
+
+    private Set<Object> getObjects() {
+        if (null == this.objects)
+            this.objects = new HashSet<>();
+        return this.objects;
+    }
+
+    protected static int kind(final Object object) {
+        if (object instanceof Vertex)
+            return VERTEX;
+        else if (object instanceof Edge)
+            return EDGE;
+        else if (object instanceof VertexProperty)
+            return VERTEX_PROPERTY;
+        else
+            return -1;
+    }
+
+    private static Object compact(final Object object) {
+        if (!(object instanceof List) || !((List<Object>) object).stream().anyMatch(item -> -1 != kind(item)))
+            return object;
+        final List<Object> list = (List<Object>) object;
+        final List<Object> compacted = new ArrayList<>(list.size());
+        for (final Object item : list) {
+            compacted.add(-1 == kind(item) ? item : ReferenceFactory.detach((Element) item));
+        }
+        return compacted;
+    }
+
+    public static Supplier<DuplicateFilter> supplier() {
+        return CompactSupplier.INSTANCE;
+    }
+
+    private static final class CompactSupplier implements Supplier<DuplicateFilter>, Serializable {
+
+        private static final CompactSupplier INSTANCE = new CompactSupplier();
+
+        @Override
+        public DuplicateFilter get() {
+            return new CompactDuplicateFilter();
+        }
+    }
+}
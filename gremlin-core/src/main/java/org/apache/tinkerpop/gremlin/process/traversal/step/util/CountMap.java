@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A {@link Map} of objects to primitive {@code long} counts backed by open-addressing arrays. Incrementing a count
+ * with {@link #incr(Object, long)} neither boxes the count nor allocates an entry, which keeps high-cardinality
+ * counting (e.g. {@code groupCount()}) from churning the garbage collector. All other {@link Map} operations are
+ * supported and box the count on the way out. Gryo writes a {@code CountMap} as a {@link java.util.HashMap} so that
+ * it is the same type on the wire as any other {@code Map} of counts.
+ *
+ * @author agent (agent@local)
+ */
+public final class CountMap<K> extends AbstractMap<K, Long> implements Serializable {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Object NULL_KEY = new Object();
+    private static final Object REMOVED = new Object();
+
+    // a null slot is free and a REMOVED slot is a deleted key which probing must pass over
+    private transient Object[] keys;
+    private transient long[] counts;
+    private transient int size;
+    private transient int used;
+    private transient int modCount;
+    private transient Set<Map.Entry<K, Long>> entrySet;
+
+    public CountMap() {
+        this.init(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Add the amount to the count of the key, where an absent key has a count of zero.
+     *
+     * @return the new count of the key
+     */
+    public long incr(final K key, final long amount) {
+        final int slot = this.insertionSlot(key);
+        return this.counts[slot] = this.counts[slot] + amount;
+    }
+
+    /**
+     * Get the count of the key without boxing, where an absent key has a count of zero.
+     */
+    public long getCount(final Object key) {
+        final int slot = this.slot(key);
+        return -1 == slot ? 0l : this.counts[slot];
+    }
+
+    /**
+     * Iterate the keys and their counts without boxing the counts.
+     */
+    public void forEachCount(final ObjLongConsumer<? super K> consumer) {
+        for (int slot = 0; slot < this.keys.length; slot++) {
+            if (isKey(this.keys[slot]))
+                consumer.accept(unmask(this.keys[slot]), this.counts[slot]);
+        }
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super K, ? super Long> action) {
+        this.forEachCount(action::accept);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return -1 != this.slot(key);
+    }
+
+    @Override
+    public Long get(final Object key) {
+        final int slot = this.slot(key);
+        return -1 == slot ? null : this.counts[slot];
+    }
+
+    @Override
+    public Long put(final K key, final Long count) {
+        final int size = this.size;
+        final int slot = this.insertionSlot(key);
+        final Long previous = size == this.size ? this.counts[slot] : null;
+        this.counts[slot] = Objects.requireNonNull(count, "count");
+        return previous;
+    }
+
+    @Override
+    public Long remove(final Object key) {
+        final int slot = this.slot(key);
+        if (-1 == slot)
+            return null;
+        final long count = this.counts[slot];
+        this.removeSlot(slot);
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        this.init(INITIAL_CAPACITY);
+        this.modCount++;
+    }
+
+    @Override
+    public Set<Map.Entry<K, Long>> entrySet() {
+        if (null == this.entrySet)
+            this.entrySet = new EntrySet();
+        return this.entrySet;
+    }
+
+    ///////////
+
+    private void init(final int capacity) {
+        this.keys = new Object[capacity];
+        this.counts = new long[capacity];
+        this.size = 0;
+        this.used = 0;
+    }
+
+    private int slot(final Object key) {
+        final Object masked = mask(key);
+        final int mask = this.keys.length - 1;
+        int slot = LongHashSet.mix(masked.hashCode()) & mask;
+        Object current;
+        while (null != (current = this.keys[slot])) {
+            if (current != REMOVED && (current == masked || current.equals(masked)))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int insertionSlot(final K key) {
+        final Object masked = mask(key);
+        final int mask = this.keys.length - 1;
+        int slot = LongHashSet.mix(masked.hashCode()) & mask;
+        int removed = -1;
+        Object current;
+        while (null != (current = this.keys[slot])) {
+            if (current == REMOVED) {
+                if (-1 == removed)
+                    removed = slot;
+            } else if (current == masked || current.equals(masked))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        this.modCount++;
+        this.size++;
+        if (-1 != removed) {
+            this.keys[removed] = masked;
+            this.counts[removed] = 0l;
+            return removed;
+        }
+        this.keys[slot] = masked;
+        this.counts[slot] = 0l;
+        if (++this.used * 2 > this.keys.length) {
+            this.rehash();
+            return this.slot(key);
+        }
+        return slot;
+    }
+
+    private void removeSlot(final int slot) {
+        this.keys[slot] = REMOVED;
+        this.counts[slot] = 0l;
+        this.size--;
+        this.modCount++;
+    }
+
+    private void rehash() {
+        final Object[] oldKeys = this.keys;
+        final long[] oldCounts = this.counts;
+        // grow only when the table is mostly keys rather than removed slots
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < this.size * 4) {
+            capacity = capacity * 2;
+        }
+        this.keys = new Object[capacity];
+        this.counts = new long[capacity];
+        this.used = this.size;
+        final int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (isKey(oldKeys[i])) {
+                int slot = LongHashSet.mix(oldKeys[i].hashCode()) & mask;
+                while (null != this.keys[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                this.keys[slot] = oldKeys[i];
+                this.counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    private static boolean isKey(final Object key) {
+        return null != key && REMOVED != key;
+    }
+
+    private static Object mask(final Object key) {
+        return null == key ? NULL_KEY : key;
+    }
+
+    private static <K> K unmask(final Object key) {
+        return NULL_KEY == key ? null : (K) key;
+    }
+
+    private void writeObject(final ObjectOutputStream outputStream) throws IOException {
+        outputStream.defaultWriteObject();
+        outputStream.writeInt(this.size);
+        for (int slot = 0; slot < this.keys.length; slot++) {
+            if (isKey(this.keys[slot])) {
+                outputStream.writeObject(unmask(this.keys[slot]));
+                outputStream.writeLong(this.counts[slot]);
+            }
+        }
+    }
+
+    private void readObject(final ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+        inputStream.defaultReadObject();
+        final int size = inputStream.readInt();
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < size * 4) {
+            capacity = capacity * 2;
+        }
+        this.init(capacity);
+        for (int i = 0; i < size; i++) {
+            this.incr((K) inputStream.readObject(), inputStream.readLong());
+        }
+    }
+
+    ///////////
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, Long>> {
+
+        @Override
+        public Iterator<Map.Entry<K, Long>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return CountMap.this.size;
+        }
+
+        @Override
+        public void clear() {
+            CountMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<K, Long>> {
+
+        // removal leaves a REMOVED slot behind so keys never move while iterating
+        private final Object[] keys = CountMap.this.keys;
+        private int expectedModCount = CountMap.this.modCount;
+        private int next = -1;
+        private int current = -1;
+
+        private EntryIterator() {
+            this.advance();
+        }
+
+        private void advance() {
+            do {
+                this.next++;
+            } while (this.next < this.keys.length && !isKey(this.keys[this.next]));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < this.keys.length;
+        }
+
+        @Override
+        public Map.Entry<K, Long> next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            if (this.expectedModCount != CountMap.this.modCount)
+                throw new ConcurrentModificationException();
+            this.current = this.next;
+            this.advance();
+            return new Entry(this.current);
+        }
+
+        @Override
+        public void remove() {
+            if (-1 == this.current || !isKey(this.keys[this.current]))
+                throw new IllegalStateException();
+            if (this.expectedModCount != CountMap.this.modCount)
+                throw new ConcurrentModificationException();
+            CountMap.this.removeSlot(this.current);
+            this.expectedModCount = CountMap.this.modCount;
+        }
+    }
+
+    private final class Entry implements Map.Entry<K, Long> {
+
+        private final int slot;
+        private final Object[] keys = CountMap.this.keys;
+        private final long[] counts = CountMap.this.counts;
+
+        private Entry(final int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public K getKey() {
+            return unmask(this.keys[this.slot]);
+        }
+
+        @Override
+        public Long getValue() {
+            return this.counts[this.slot];
+        }
+
+        @Override
+        public Long setValue(final Long count) {
+            final long previous = this.counts[this.slot];
+            this.counts[this.slot] = Objects.requireNonNull(count, "count");
+            return previous;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof Map.Entry &&
+                    Objects.equals(this.getKey(), ((Map.Entry) object).getKey()) &&
+                    Objects.equals(this.getValue(), ((Map.Entry) object).getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.getKey()) ^ Long.hashCode(this.counts[this.slot]);
+        }
+
+        @Override
+        public String toString() {
+            return this.getKey() + "=" + this.getValue();
+        }
+    }
+}
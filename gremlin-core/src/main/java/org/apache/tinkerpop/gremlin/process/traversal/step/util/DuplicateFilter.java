@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+
+import java.io.Serializable;
+
+/**
+ * The state of a {@link DedupGlobalStep}: the set of objects that have been seen so far.  Implementations differ in
+ * how they hold that set (see {@link CompactDuplicateFilter}, {@link SpillingDuplicateFilter} and
+ * {@link BloomDuplicateFilter}).
+ *
+ * @author agent (agent@local)
+ */
+public interface DuplicateFilter extends Serializable {
+
+    /**
+     * Adds the object to the filter.
+     *
+     * @return {@code true} if the object had not been added before
+     */
+    public boolean add(final Object object);
+
+    /**
+     * The number of distinct objects added.
+     */
+    public long size();
+
+    /**
+     * Removes all objects from the filter and releases any resources it holds.
+     */
+    public void clear();
+}
@@ -42,28 +42,7 @@ public final class HasContainer implements Serializable, Cloneable, Predicate<El
 
     public HasContainer(final String key, final P<?> predicate) {
         this.key = key;
-        this.predicate = predicate;
-
-        if (!this.key.equals(T.id.getAccessor()))
-            testingIdString = false;
-        else {
-            // the values should be homogenous if a collection is submitted
-            final Object predicateValue = this.predicate.getValue();
-
-            // enforce a homogenous collection of values when testing ids
-            enforceHomogenousCollectionIfPresent(predicateValue);
-
-            // grab an instance of a value which is either the first item in a homogeneous collection or the value itself
-            final Object valueInstance = this.predicate.getValue() instanceof Collection ?
-                    ((Collection) this.predicate.getValue()).toArray()[0] : this.predicate.getValue();
-
-            // if the key being evaluated is id then the has() test can evaluate as a toString() representation of the
-            // identifier.  this could be done in the test() method but it seems cheaper to do the conversion once in
-            // the constructor.  the original value in P is maintained separately
-            this.testingIdString = this.key.equals(T.id.getAccessor()) && valueInstance instanceof String;
-            if (this.testingIdString)
-                this.predicate.setValue(this.predicate.getValue() instanceof Collection ? IteratorUtils.set(IteratorUtils.map(((Collection<Object>) this.predicate.getValue()).iterator(), Object::toString)) : this.predicate.getValue().toString());
-        }
+        this.setPredicate(predicate);
     }
 
     public boolean test(final Element element) {
@@ -124,6 +103,31 @@ public final class HasContainer implements Serializable, Cloneable, Predicate<El
         return this.predicate;
     }
 
+    public void setPredicate(final P<?> predicate) {
+        this.predicate = predicate;
+
+        if (!this.key.equals(T.id.getAccessor()))
+            testingIdString = false;
+        else {
+            // the values should be homogenous if a collection is submitted
+            final Object predicateValue = this.predicate.getValue();
+
+            // enforce a homogenous collection of values when testing ids
+            enforceHomogenousCollectionIfPresent(predicateValue);
+
+            // grab an instance of a value which is either the first item in a homogeneous collection or the value itself
+            final Object valueInstance = this.predicate.getValue() instanceof Collection ?
+                    ((Collection) this.predicate.getValue()).toArray()[0] : this.predicate.getValue();
+
+            // if the key being evaluated is id then the has() test can evaluate as a toString() representation of the
+            // identifier.  this could be done in the test() method but it seems cheaper to do the conversion once in
+            // setting the predicate.  the original value in P is maintained separately
+            this.testingIdString = this.key.equals(T.id.getAccessor()) && valueInstance instanceof String;
+            if (this.testingIdString)
+                this.predicate.setValue(this.predicate.getValue() instanceof Collection ? IteratorUtils.set(IteratorUtils.map(((Collection<Object>) this.predicate.getValue()).iterator(), Object::toString)) : this.predicate.getValue().toString());
+        }
+    }
+
     public BiPredicate<?, ?> getBiPredicate() {
         return this.predicate.getBiPredicate();
     }
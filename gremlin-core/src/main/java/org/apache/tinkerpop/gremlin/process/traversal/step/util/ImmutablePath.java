@@ -25,17 +25,31 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Cloneable {
 
+    /**
+     * Label sets are immutable and shared between path nodes. A traversal has only a handful of distinct step
+     * labelings, so they are interned in a fixed-size cache where a label set lives in the slot of its hash code. A
+     * label set that hashes to an occupied slot evicts the previous one, so the cache never holds more than this many
+     * sets and it keeps interning the label sets that are in use. An evicted label set is still shared by the path
+     * nodes that already reference it.
+     */
+    private static final int INTERNED_LABELS_SIZE = 1024;
+    private static final AtomicReferenceArray<Set<String>> INTERNED_LABELS = new AtomicReferenceArray<>(INTERNED_LABELS_SIZE);
+
     private ImmutablePathImpl previousPath = TailPath.instance();
     private Object currentObject;
-    private Set<String> currentLabels = new LinkedHashSet<>();
+    private Set<String> currentLabels = Collections.emptySet();
 
     protected ImmutablePath() {
 
@@ -58,12 +72,43 @@ public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Clo
     private ImmutablePath(final ImmutablePathImpl previousPath, final Object currentObject, final Set<String> currentLabels) {
         this.previousPath = previousPath;
         this.currentObject = currentObject;
-        this.currentLabels.addAll(currentLabels);
+        this.currentLabels = internLabels(currentLabels);
+    }
+
+    /**
+     * Get the shared, unmodifiable copy of the provided labels. Iteration order is part of a path's labels, so a
+     * previously interned set is only reused if it iterates in the same order.
+     */
+    private static Set<String> internLabels(final Set<String> labels) {
+        if (labels.isEmpty())
+            return Collections.emptySet();
+        final int slot = labels.hashCode() & (INTERNED_LABELS_SIZE - 1);
+        final Set<String> interned = INTERNED_LABELS.get(slot);
+        if (null != interned && (interned == labels || (interned.equals(labels) && (1 == labels.size() || sameOrder(interned, labels)))))
+            return interned;
+        final Set<String> copy = Collections.unmodifiableSet(new LinkedHashSet<>(labels));
+        INTERNED_LABELS.set(slot, copy);
+        return copy;
+    }
+
+    private static boolean sameOrder(final Set<String> a, final Set<String> b) {
+        final Iterator<String> bIterator = b.iterator();
+        for (final String label : a) {
+            if (!label.equals(bIterator.next()))
+                return false;
+        }
+        return true;
     }
 
     @Override
     public int size() {
-        return this.previousPath.size() + 1;
+        int size = 0;
+        ImmutablePathImpl currentPath = this;
+        while (currentPath instanceof ImmutablePath) {
+            size++;
+            currentPath = ((ImmutablePath) currentPath).previousPath;
+        }
+        return size;
     }
 
     @Override
@@ -73,7 +118,14 @@ public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Clo
 
     @Override
     public <A> A get(final int index) {
-        return (this.size() - 1) == index ? (A) this.currentObject : this.previousPath.get(index);
+        int currentIndex = this.size() - 1;
+        if (index < 0 || index > currentIndex)
+            return TailPath.instance().get(index);
+        ImmutablePath currentPath = this;
+        while (currentIndex-- != index) {
+            currentPath = (ImmutablePath) currentPath.previousPath;
+        }
+        return (A) currentPath.currentObject;
     }
 
     @Override
@@ -131,25 +183,83 @@ public class ImmutablePath implements Path, ImmutablePathImpl, Serializable, Clo
 
     @Override
     public void addLabel(final String label) {
-        this.currentLabels.add(label);
+        if (!this.currentLabels.contains(label)) {
+            final Set<String> labels = new LinkedHashSet<>(this.currentLabels);
+            labels.add(label);
+            this.currentLabels = internLabels(labels);
+        }
+    }
+
+    /**
+     * Get the labels of the head of the path without building the full {@link #labels()} list.
+     */
+    public Set<String> headLabels() {
+        return this.currentLabels;
+    }
+
+    /**
+     * Get the path nodes from the start of the path to its head.
+     */
+    private ImmutablePath[] nodes() {
+        final ImmutablePath[] nodes = new ImmutablePath[this.size()];
+        ImmutablePathImpl currentPath = this;
+        for (int i = nodes.length - 1; i >= 0; i--) {
+            nodes[i] = (ImmutablePath) currentPath;
+            currentPath = nodes[i].previousPath;
+        }
+        return nodes;
     }
 
     @Override
     public List<Object> objects() {
-        final List<Object> objectPath = new ArrayList<>();
-        objectPath.addAll(this.previousPath.objects());
-        objectPath.add(this.currentObject);
+        final ImmutablePath[] nodes = this.nodes();
+        final List<Object> objectPath = new ArrayList<>(nodes.length);
+        for (final ImmutablePath node : nodes) {
+            objectPath.add(node.currentObject);
+        }
         return Collections.unmodifiableList(objectPath);
     }
 
     @Override
     public List<Set<String>> labels() {
-        final List<Set<String>> labelPath = new ArrayList<>();
-        labelPath.addAll(this.previousPath.labels());
-        labelPath.add(this.currentLabels);
+        final ImmutablePath[] nodes = this.nodes();
+        final List<Set<String>> labelPath = new ArrayList<>(nodes.length);
+        for (final ImmutablePath node : nodes) {
+            labelPath.add(node.currentLabels);
+        }
         return Collections.unmodifiableList(labelPath);
     }
 
+    @Override
+    public void forEach(final BiConsumer<Object, Set<String>> consumer) {
+        for (final ImmutablePath node : this.nodes()) {
+            consumer.accept(node.currentObject, node.currentLabels);
+        }
+    }
+
+    /**
+     * Determine whether two paths have equal objects and labels. {@link ImmutablePath} keeps identity equality, so
+     * that traversers whose equality includes their path do not merge by value. Paths that extend the same
+     * {@link ImmutablePath} share it, so the comparison of two such paths stops as soon as they meet.
+     */
+    public static boolean haveEqualObjectsAndLabels(final Path a, final Path b) {
+        if (!(a instanceof ImmutablePathImpl) || !(b instanceof ImmutablePathImpl))
+            return a.objects().equals(b.objects()) && a.labels().equals(b.labels());
+        ImmutablePathImpl currentPath = (ImmutablePathImpl) a;
+        ImmutablePathImpl otherPath = (ImmutablePathImpl) b;
+        while (currentPath != otherPath) {
+            if (!(currentPath instanceof ImmutablePath) || !(otherPath instanceof ImmutablePath))
+                return false;
+            final ImmutablePath path = (ImmutablePath) currentPath;
+            final ImmutablePath other = (ImmutablePath) otherPath;
+            if (!Objects.equals(path.currentObject, other.currentObject) || !path.currentLabels.equals(other.currentLabels))
+                return false;
+            currentPath = path.previousPath;
+            otherPath = other.previousPath;
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         return this.objects().toString();
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash set of primitive {@code long} values which avoids boxing and an entry per value.
+ *
+ * @author agent (agent@local)
+ */
+final class LongHashSet implements Serializable {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long FREE = 0l;
+
+    // FREE can not be stored in the table so whether it was added is kept aside
+    private long[] table = new long[INITIAL_CAPACITY];
+    private boolean containsFree = false;
+    private int size = 0;
+
+    public boolean add(final long value) {
+        if (FREE == value) {
+            if (this.containsFree)
+                return false;
+            this.containsFree = true;
+            this.size++;
+            return true;
+        }
+        final int mask = this.table.length - 1;
+        int slot = mix(value) & mask;
+        while (FREE != this.table[slot]) {
+            if (value == this.table[slot])
+                return false;
+            slot = (slot + 1) & mask;
+        }
+        this.table[slot] = value;
+        if (++this.size * 2 > this.table.length)
+            this.resize();
+        return true;
+    }
+
+    public boolean contains(final long value) {
+        if (FREE == value)
+            return this.containsFree;
+        final int mask = this.table.length - 1;
+        int slot = mix(value) & mask;
+        while (FREE != this.table[slot]) {
+            if (value == this.table[slot])
+                return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public boolean isEmpty() {
+        return 0 == this.size;
+    }
+
+    /**
+     * The values of the set in no particular order.
+     */
+    public long[] toArray() {
+        final long[] values = new long[this.size];
+        int i = 0;
+        if (this.containsFree)
+            values[i++] = FREE;
+        for (final long value : this.table) {
+            if (FREE != value)
+                values[i++] = value;
+        }
+        return values;
+    }
+
+    public void clear() {
+        this.table = new long[INITIAL_CAPACITY];
+        this.containsFree = false;
+        this.size = 0;
+    }
+
+    private void resize() {
+        final long[] old = this.table;
+        this.table = new long[old.length * 2];
+        final int mask = this.table.length - 1;
+        for (final long value : old) {
+            if (FREE != value) {
+                int slot = mix(value) & mask;
+                while (FREE != this.table[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                this.table[slot] = value;
+            }
+        }
+    }
+
+    static int mix(final long value) {
+        final long h = value * 0x9E3779B97F4A7C15l;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray());
+    }
+}
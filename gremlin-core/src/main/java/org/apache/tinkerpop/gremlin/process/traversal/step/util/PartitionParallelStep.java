@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.engine.StandardTraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Processes all of its starts with its partition traversal by splitting them into partitions which are each run
+ * through their own clone of the partition traversal on the {@link ForkJoinPool} of a parallel
+ * {@link StandardTraversalEngine}. The results of the partitions are bulked into a single {@link TraverserSet} in
+ * partition order, which makes this step a barrier. It is inserted by
+ * {@link StandardTraversalEngine.PartitionParallelStrategy} before a step that is itself a barrier.
+ *
+ * @author agent (agent@local)
+ */
+public final class PartitionParallelStep<S, E> extends AbstractStep<S, E> implements TraversalParent {
+
+    private static final int PARTITIONS_PER_WORKER = 4;
+
+    private Traversal.Admin<S, E> partitionTraversal;
+    private TraverserSet<E> results = null;
+
+    public PartitionParallelStep(final Traversal.Admin traversal, final Traversal.Admin<S, E> partitionTraversal) {
+        super(traversal);
+        this.partitionTraversal = this.integrateChild(partitionTraversal);
+    }
+
+    @Override
+    protected Traverser<E> processNextStart() throws NoSuchElementException {
+        if (null == this.results)
+            this.results = this.processAllStarts();
+        if (this.results.isEmpty())
+            throw FastNoSuchElementException.instance();
+        return this.results.remove();
+    }
+
+    private TraverserSet<E> processAllStarts() {
+        final List<Traverser.Admin<S>> starts = new ArrayList<>();
+        while (this.starts.hasNext()) {
+            starts.add(this.starts.next());
+        }
+        final TraversalEngine engine = this.getTraversal().getEngine();
+        final ForkJoinPool pool = engine instanceof StandardTraversalEngine ? ((StandardTraversalEngine) engine).getForkJoinPool() : null;
+        final int partitions = null == pool ? 1 : Math.min(starts.size(), ((StandardTraversalEngine) engine).getWorkers() * PARTITIONS_PER_WORKER);
+        if (partitions <= 1)
+            return this.processPartition(starts);
+
+        final int partitionSize = (starts.size() + partitions - 1) / partitions;
+        final List<ForkJoinTask<TraverserSet<E>>> tasks = new ArrayList<>(partitions);
+        for (int i = 0; i < starts.size(); i = i + partitionSize) {
+            final List<Traverser.Admin<S>> partition = starts.subList(i, Math.min(i + partitionSize, starts.size()));
+            tasks.add(pool.submit(() -> this.processPartition(partition)));
+        }
+        final TraverserSet<E> results = new TraverserSet<>();
+        for (final ForkJoinTask<TraverserSet<E>> task : tasks) {
+            results.addAll(task.join());
+        }
+        return results;
+    }
+
+    private TraverserSet<E> processPartition(final List<Traverser.Admin<S>> partition) {
+        final Traversal.Admin<S, E> traversal = this.partitionTraversal.clone();
+        final Step<S, ?> startStep = traversal.getStartStep();
+        partition.forEach(startStep::addStart);
+        final Step<?, E> endStep = traversal.getEndStep();
+        final TraverserSet<E> results = new TraverserSet<>();
+        while (endStep.hasNext()) {
+            results.add((Traverser.Admin<E>) endStep.next());
+        }
+        return results;
+    }
+
+    @Override
+    public List<Traversal.Admin<S, E>> getLocalChildren() {
+        return Collections.singletonList(this.partitionTraversal);
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.getSelfAndChildRequirements(TraverserRequirement.BULK);
+    }
+
+    @Override
+    public PartitionParallelStep<S, E> clone() {
+        final PartitionParallelStep<S, E> clone = (PartitionParallelStep<S, E>) super.clone();
+        clone.partitionTraversal = clone.integrateChild(this.partitionTraversal.clone());
+        clone.results = null;
+        return clone;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.partitionTraversal.reset();
+        this.results = null;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, this.partitionTraversal);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() ^ this.partitionTraversal.hashCode();
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Supplier;
+
+/**
+ * A {@link CompactDuplicateFilter} that holds at most {@code maxInMemoryIds} {@code long} element ids in memory.
+ * When that many are held, they are sorted and written to a file in the spill directory (a "run") which is then
+ * read through a {@link FileChannel}, so that it is held by the operating system's page cache rather than the heap.
+ * An id is looked up in the runs of its kind by binary search, which a small Bloom filter per run skips for most ids
+ * that are not in it.  Runs of a kind are merged once there are too many of them.  Only {@code long} ids are spilled;
+ * other ids and objects are held as by {@link CompactDuplicateFilter}.  The run files are closed and deleted on
+ * {@link #clear()}.
+ *
+ * @author agent (agent@local)
+ */
+public final class SpillingDuplicateFilter extends CompactDuplicateFilter {
+
+    private static final int MAX_RUNS = 8;
+    // the ids of a spill are sorted in a single array
+    private static final long MAX_SPILL_IDS = Integer.MAX_VALUE - 8;
+    private static final double RUN_FALSE_POSITIVE_PROBABILITY = 0.01d;
+
+    private final long maxInMemoryIds;
+    private final File directory;
+    private long inMemoryIds = 0l;
+    private transient List<Run>[] runs = null;
+
+    public SpillingDuplicateFilter(final long maxInMemoryIds, final File directory) {
+        if (maxInMemoryIds < 1)
+            throw new IllegalArgumentException("The maximum number of in-memory ids must be positive: " + maxInMemoryIds);
+        this.maxInMemoryIds = maxInMemoryIds;
+        this.directory = directory;
+    }
+
+    @Override
+    protected boolean addLongId(final int kind, final long id) {
+        if (null != this.runs) {
+            for (final Run run : this.runs[kind]) {
+                if (run.contains(id))
+                    return false;
+            }
+        }
+        if (!super.addLongId(kind, id))
+            return false;
+        if (++this.inMemoryIds >= Math.min(this.maxInMemoryIds, MAX_SPILL_IDS))
+            this.spill();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        if (null != this.runs) {
+            for (final List<Run> kindRuns : this.runs) {
+                kindRuns.forEach(Run::delete);
+            }
+        }
+        this.runs = null;
+        this.inMemoryIds = 0l;
+    }
+
+    /**
+     * The number of runs that the ids of elements have been spilled to.
+     */
+    public int getRunCount() {
+        return null == this.runs ? 0 : Arrays.stream(this.runs).mapToInt(List::size).sum();
+    }
+
+    public long getMaxInMemoryIds() {
+        return this.maxInMemoryIds;
+    }
+
+    private void spill() {
+        if (null == this.runs) {
+            this.runs = new List[]{new ArrayList<>(), new ArrayList<>(), new ArrayList<>()};
+        }
+        for (int kind = 0; kind < this.runs.length; kind++) {
+            final LongHashSet ids = this.getLongIds(kind);
+            if (ids.isEmpty())
+                continue;
+            final long[] sorted = ids.toArray();
+            Arrays.sort(sorted);
+            ids.clear();
+            this.runs[kind].add(this.writeRun(sorted.length, Arrays.stream(sorted).iterator()));
+            if (this.runs[kind].size() > MAX_RUNS) {
+                final List<Run> merged = this.runs[kind];
+                final List<RunReader> readers = new ArrayList<>(merged.size());
+                try {
+                    for (final Run run : merged) {
+                        readers.add(run.reader());
+                    }
+                    final long size = merged.stream().mapToLong(run -> run.size).sum();
+                    final Run mergedRun = this.writeRun(size, readers.toArray(new PrimitiveIterator.OfLong[readers.size()]));
+                    this.runs[kind] = new ArrayList<>();
+                    this.runs[kind].add(mergedRun);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException("Could not merge de-duplication runs in " + this.directory, e);
+                } finally {
+                    readers.forEach(RunReader::close);
+                }
+                merged.forEach(Run::delete);
+            }
+        }
+        this.inMemoryIds = 0l;
+    }
+
+    /**
+     * Writes the merge of the sorted (and disjoint) sources, which hold {@code size} ids in total, to a new run.
+     */
+    private Run writeRun(final long size, final PrimitiveIterator.OfLong... sources) {
+        final long[] heads = new long[sources.length];
+        final boolean[] hasHead = new boolean[sources.length];
+        for (int i = 0; i < sources.length; i++) {
+            hasHead[i] = sources[i].hasNext();
+            if (hasHead[i])
+                heads[i] = sources[i].nextLong();
+        }
+        final BloomBits bloomBits = new BloomBits(Math.max(1l, size), RUN_FALSE_POSITIVE_PROBABILITY);
+        File file = null;
+        try {
+            file = File.createTempFile("dedup-", ".ids", this.directory);
+            try (final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 1 << 16))) {
+                while (true) {
+                    int next = -1;
+                    for (int i = 0; i < sources.length; i++) {
+                        if (hasHead[i] && (-1 == next || heads[i] < heads[next]))
+                            next = i;
+                    }
+                    if (-1 == next)
+                        break;
+                    bloomBits.put(BloomBits.mix(heads[next]));
+                    output.writeLong(heads[next]);
+                    hasHead[next] = sources[next].hasNext();
+                    if (hasHead[next])
+                        heads[next] = sources[next].nextLong();
+                }
+            }
+            return new Run(file, size, bloomBits);
+        } catch (final IOException e) {
+            if (null != file)
+                file.delete();
+            throw new UncheckedIOException("Could not spill de-duplication ids to " + this.directory, e);
+        }
+    }
+
+    private static final class Run {
+
+        private final File file;
+        private final RandomAccessFile randomAccessFile;
+        private final FileChannel channel;
+        private final long size;
+        private final ByteBuffer value = ByteBuffer.allocate(8);
+        private final BloomBits bloomBits;
+
+        private Run(final File file, final long size, final BloomBits bloomBits) throws IOException {
+            this.file = file;
+            this.randomAccessFile = new RandomAccessFile(file, "r");
+            this.channel = this.randomAccessFile.getChannel();
+            this.size = size;
+            this.bloomBits = bloomBits;
+        }
+
+        private boolean contains(final long id) {
+            if (!this.bloomBits.mightContain(BloomBits.mix(id)))
+                return false;
+            long low = 0;
+            long high = this.size - 1;
+            while (low <= high) {
+                final long middle = (low + high) >>> 1;
+                final long value = this.get(middle);
+                if (value < id)
+                    low = middle + 1;
+                else if (value > id)
+                    high = middle - 1;
+                else
+                    return true;
+            }
+            return false;
+        }
+
+        private long get(final long index) {
+            this.value.clear();
+            try {
+                while (this.value.hasRemaining()) {
+                    if (this.channel.read(this.value, index * 8 + this.value.position()) < 0)
+                        throw new EOFException("The de-duplication run " + this.file + " is shorter than " + this.size + " ids");
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Could not read de-duplication ids from " + this.file, e);
+            }
+            return this.value.getLong(0);
+        }
+
+        private RunReader reader() throws IOException {
+            return new RunReader(this.file, this.size);
+        }
+
+        /**
+         * Closes the file and deletes it.  The run must not be read afterwards.
+         */
+        private void delete() {
+            try {
+                this.randomAccessFile.close();
+            } catch (final IOException ignored) {
+                // nothing was written through it and the file is deleted regardless
+            }
+            this.file.delete();
+        }
+    }
+
+    /**
+     * Reads the ids of a run in order, which is how runs are merged.
+     */
+    private static final class RunReader implements PrimitiveIterator.OfLong, Closeable {
+
+        private final DataInputStream input;
+        private long remaining;
+
+        private RunReader(final File file, final long size) throws IOException {
+            this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 16));
+            this.remaining = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.remaining > 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (this.remaining-- <= 0)
+                throw new NoSuchElementException();
+            try {
+                return this.input.readLong();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                this.input.close();
+            } catch (final IOException ignored) {
+                // the run is only read
+            }
+        }
+    }
+
+    public static Supplier<DuplicateFilter> supplier(final long maxInMemoryIds, final File directory) {
+        if (maxInMemoryIds < 1)
+            throw new IllegalArgumentException("The maximum number of in-memory ids must be positive: " + maxInMemoryIds);
+        return new SpillingSupplier(maxInMemoryIds, directory);
+    }
+
+    private static final class SpillingSupplier implements Supplier<DuplicateFilter>, Serializable {
+
+        private final long maxInMemoryIds;
+        private final File directory;
+
+        private SpillingSupplier(final long maxInMemoryIds, final File directory) {
+            this.maxInMemoryIds = maxInMemoryIds;
+            this.directory = directory;
+        }
+
+        @Override
+        public DuplicateFilter get() {
+            return new SpillingDuplicateFilter(this.maxInMemoryIds, this.directory);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.BloomDuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CompactDuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.DuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.SpillingDuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.io.File;
+import java.util.function.Supplier;
+
+/**
+ * This {@link TraversalStrategy} sets the {@link DuplicateFilter} of every {@link DedupGlobalStep} of a traversal,
+ * so that a de-duplication over more objects than fit in memory can spill element ids to disk or, where an estimate
+ * will do, only track them in a Bloom filter.
+ *
+ * @author agent (agent@local)
+ * @example <pre>
+ * DuplicateFilterStrategy.build().spill(1000000).create()                // hold at most a million ids in memory
+ * DuplicateFilterStrategy.build().approximate(100000000, 0.01).create()  // a Bloom filter for 100 million ids
+ * </pre>
+ */
+public final class DuplicateFilterStrategy extends AbstractTraversalStrategy<TraversalStrategy.DecorationStrategy>
+        implements TraversalStrategy.DecorationStrategy {
+
+    private final Supplier<DuplicateFilter> duplicateFilterSupplier;
+
+    private DuplicateFilterStrategy(final Supplier<DuplicateFilter> duplicateFilterSupplier) {
+        this.duplicateFilterSupplier = duplicateFilterSupplier;
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        TraversalHelper.getStepsOfClass(DedupGlobalStep.class, traversal).forEach(step -> step.setDuplicateFilterSupplier(this.duplicateFilterSupplier));
+    }
+
+    public Supplier<DuplicateFilter> getDuplicateFilterSupplier() {
+        return this.duplicateFilterSupplier;
+    }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private Supplier<DuplicateFilter> duplicateFilterSupplier = CompactDuplicateFilter.supplier();
+
+        private Builder() {
+        }
+
+        /**
+         * Hold at most {@code maxInMemoryIds} element ids in memory and spill the rest to the temporary directory.
+         */
+        public Builder spill(final long maxInMemoryIds) {
+            return this.spill(maxInMemoryIds, null);
+        }
+
+        /**
+         * Hold at most {@code maxInMemoryIds} element ids in memory and spill the rest to {@code directory}.
+         */
+        public Builder spill(final long maxInMemoryIds, final File directory) {
+            this.duplicateFilterSupplier = SpillingDuplicateFilter.supplier(maxInMemoryIds, directory);
+            return this;
+        }
+
+        /**
+         * Only track objects in a Bloom filter, which drops about {@code falsePositiveProbability} of the distinct
+         * objects when there are {@code expectedInsertions} of them.
+         */
+        public Builder approximate(final long expectedInsertions, final double falsePositiveProbability) {
+            this.duplicateFilterSupplier = BloomDuplicateFilter.supplier(expectedInsertions, falsePositiveProbability);
+            return this;
+        }
+
+        /**
+         * Use a custom {@link DuplicateFilter}. The supplier should be {@link java.io.Serializable} if traversals are
+         * to be executed by a {@code GraphComputer}.
+         */
+        public Builder duplicateFilter(final Supplier<DuplicateFilter> duplicateFilterSupplier) {
+            this.duplicateFilterSupplier = duplicateFilterSupplier;
+            return this;
+        }
+
+        public DuplicateFilterStrategy create() {
+            return new DuplicateFilterStrategy(this.duplicateFilterSupplier);
+        }
+    }
+}
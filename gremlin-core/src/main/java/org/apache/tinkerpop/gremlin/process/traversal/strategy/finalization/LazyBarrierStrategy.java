@@ -35,30 +35,68 @@ import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierS
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.SupplyingBarrierStep;
 import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
 import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.structure.Direction;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
+ * {@code LazyBarrierStrategy} inserts {@code barrier()}-steps after the expanding steps of a long traversal so that
+ * traversers at the same location are bulked before they expand again. Placement and size of each barrier are driven
+ * by the expected fan-out of the steps since the previous barrier: a barrier is only inserted once the traversal is
+ * expected to have multiplied its traversers by {@link Builder#minFanOut(double)}, and it is only made as large as
+ * the number of traversers expected to reach it, bounded by {@link Builder#maxBarrierSize(int)}. Fan-out is taken,
+ * in order of preference, from provider supplied statistics ({@link Builder#fanOut(Function)}), from a previous
+ * {@code profile()} of the traversal ({@link Builder#observedFanOut(TraversalMetrics)}) and from
+ * {@link Builder#defaultFanOut(double)}.
+ * <p/>
+ * The strategy is configured per {@code GraphTraversalSource}:
+ * <pre>
+ * g = graph.traversal(GraphTraversalSource.build().with(LazyBarrierStrategy.build().maxBarrierSize(1000).create()))
+ * </pre>
+ * It does not apply to the computer engine which already bulks traversers at each vertex.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class LazyBarrierStrategy extends AbstractTraversalStrategy<TraversalStrategy.FinalizationStrategy> implements TraversalStrategy.FinalizationStrategy {
 
-    private static final LazyBarrierStrategy INSTANCE = new LazyBarrierStrategy();
     private static final Set<Class<? extends FinalizationStrategy>> PRIORS = new HashSet<>();
     private static final Set<Class<? extends FinalizationStrategy>> POSTS = new HashSet<>();
 
     private static final int REQUIRED_DEPTH = 2;
     private static final int BIG_START_SIZE = 5;
     protected static final int MAX_BARRIER_SIZE = 10000;
+    protected static final int MIN_BARRIER_SIZE = 100;
+    protected static final double DEFAULT_FAN_OUT = 10.0d;
+    protected static final double MIN_FAN_OUT = 2.0d;
+
+    private static final LazyBarrierStrategy INSTANCE = LazyBarrierStrategy.build().create();
 
     static {
        POSTS.add(ProfileStrategy.class);
     }
 
+    private final int maxBarrierSize;
+    private final int minBarrierSize;
+    private final double defaultFanOut;
+    private final double minFanOut;
+    private final Function<Step<?, ?>, Double> fanOut;
+    private final Map<String, Double> observedFanOut;
 
-    private LazyBarrierStrategy() {
+    private LazyBarrierStrategy(final Builder builder) {
+        this.maxBarrierSize = builder.maxBarrierSize;
+        this.minBarrierSize = Math.min(builder.minBarrierSize, builder.maxBarrierSize);
+        this.defaultFanOut = builder.defaultFanOut;
+        this.minFanOut = builder.minFanOut;
+        this.fanOut = builder.fanOut;
+        this.observedFanOut = Collections.unmodifiableMap(new HashMap<>(builder.observedFanOut));
     }
 
     @Override
@@ -78,17 +116,33 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
         if (depth > REQUIRED_DEPTH) {
             boolean bigStart = false;
             char foundVertexStep = 'x';
+            // the number of traversers expected at the current step, where an unknown number of starts is assumed
+            // to fill the largest barrier
+            double expected = this.maxBarrierSize;
+            // the expected growth in traversers since the last barrier
+            double growth = 1.0d;
             for (int i = 0; i < traversal.getSteps().size() - 1; i++) {
                 final Step<?, ?> step = traversal.getSteps().get(i);
-                if (i == 0)
+                if (i == 0) {
                     bigStart = step instanceof GraphStep && (((GraphStep) step).getIds().length >= BIG_START_SIZE || (((GraphStep) step).getIds().length == 0 && step instanceof HasContainerHolder && ((HasContainerHolder) step).getHasContainers().isEmpty()));
-                else if ('v' == foundVertexStep || bigStart) {
-                    if (!(step instanceof FilterStep) &&
+                    if (step instanceof GraphStep && ((GraphStep) step).getIds().length > 0)
+                        expected = ((GraphStep) step).getIds().length;
+                    else if (!(step instanceof GraphStep))
+                        growth = this.getFanOut(step);
+                } else {
+                    final double fanOut = this.getFanOut(step);
+                    expected = expected * fanOut;
+                    growth = growth * fanOut;
+                    if (('v' == foundVertexStep || bigStart) &&
+                            growth >= this.minFanOut &&
+                            !(step instanceof FilterStep) &&
                             !(step instanceof CollectingBarrierStep) &&
                             !(step instanceof SupplyingBarrierStep) &&
                             !(step instanceof ReducingBarrierStep) &&
                             !(step instanceof VertexStep && ((VertexStep) step).returnsEdge())) {
-                        TraversalHelper.insertAfterStep(new NoOpBarrierStep<>(traversal, MAX_BARRIER_SIZE), step, traversal);
+                        final int barrierSize = (int) Math.max(this.minBarrierSize, Math.min(this.maxBarrierSize, expected));
+                        TraversalHelper.insertAfterStep(new NoOpBarrierStep<>(traversal, barrierSize), step, traversal);
+                        growth = 1.0d;
                     }
                 }
 
@@ -100,6 +154,35 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
         }
     }
 
+    /**
+     * Get the number of traversers a step is expected to emit for each traverser it consumes.
+     */
+    private double getFanOut(final Step<?, ?> step) {
+        if (null != this.fanOut) {
+            final Double fanOut = this.fanOut.apply(step);
+            if (null != fanOut)
+                return fanOut;
+        }
+        if (!this.observedFanOut.isEmpty()) {
+            final Double fanOut = this.observedFanOut.get(getStepKey(step.toString()));
+            if (null != fanOut)
+                return fanOut;
+        }
+        if (step instanceof VertexStep)
+            return this.defaultFanOut;
+        if (step instanceof EdgeVertexStep)
+            return ((EdgeVertexStep) step).getDirection().equals(Direction.BOTH) ? 2.0d : 1.0d;
+        return 1.0d;
+    }
+
+    /**
+     * Strip the step labels from the string representation of a step so that equivalent steps of different
+     * traversals are matched with each other.
+     */
+    private static String getStepKey(final String stepString) {
+        final int index = stepString.lastIndexOf(")@[");
+        return index < 0 ? stepString : stepString.substring(0, index + 1);
+    }
 
     @Override
     public Set<Class<? extends FinalizationStrategy>> applyPrior() {
@@ -114,4 +197,95 @@ public final class LazyBarrierStrategy extends AbstractTraversalStrategy<Travers
     public static LazyBarrierStrategy instance() {
         return INSTANCE;
     }
+
+    public static Builder build() {
+        return new Builder();
+    }
+
+    public final static class Builder {
+
+        private int maxBarrierSize = MAX_BARRIER_SIZE;
+        private int minBarrierSize = MIN_BARRIER_SIZE;
+        private double defaultFanOut = DEFAULT_FAN_OUT;
+        private double minFanOut = MIN_FAN_OUT;
+        private Function<Step<?, ?>, Double> fanOut = null;
+        private final Map<String, Double> observedFanOut = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * The largest barrier to insert, which bounds the number of traversers held in memory by each barrier.
+         */
+        public Builder maxBarrierSize(final int maxBarrierSize) {
+            if (maxBarrierSize < 1)
+                throw new IllegalArgumentException("The maximum barrier size must be positive: " + maxBarrierSize);
+            this.maxBarrierSize = maxBarrierSize;
+            return this;
+        }
+
+        /**
+         * The smallest barrier to insert when few traversers are expected to reach it.
+         */
+        public Builder minBarrierSize(final int minBarrierSize) {
+            if (minBarrierSize < 1)
+                throw new IllegalArgumentException("The minimum barrier size must be positive: " + minBarrierSize);
+            this.minBarrierSize = minBarrierSize;
+            return this;
+        }
+
+        /**
+         * The fan-out of a {@link VertexStep} for which there are no statistics.
+         */
+        public Builder defaultFanOut(final double defaultFanOut) {
+            if (defaultFanOut < 0.0d)
+                throw new IllegalArgumentException("The default fan-out can not be negative: " + defaultFanOut);
+            this.defaultFanOut = defaultFanOut;
+            return this;
+        }
+
+        /**
+         * The growth in traversers since the previous barrier (or the start) required before another barrier is
+         * inserted.
+         */
+        public Builder minFanOut(final double minFanOut) {
+            this.minFanOut = minFanOut;
+            return this;
+        }
+
+        /**
+         * Provider supplied statistics (e.g. average degree by edge label) which return the expected fan-out of a
+         * step or {@code null} if the step is unknown to them.
+         */
+        public Builder fanOut(final Function<Step<?, ?>, Double> fanOut) {
+            this.fanOut = fanOut;
+            return this;
+        }
+
+        /**
+         * Use the element counts of a previous {@code profile()} to estimate the fan-out of each step. Steps are
+         * matched by their string representation without labels and repeated steps are averaged.
+         */
+        public Builder observedFanOut(final TraversalMetrics metrics) {
+            final Map<String, double[]> totals = new HashMap<>();
+            long previousCount = 0l;
+            for (final Metrics stepMetrics : metrics.getMetrics()) {
+                final Long count = stepMetrics.getCount(TraversalMetrics.ELEMENT_COUNT_ID);
+                if (null == count)
+                    continue;
+                if (previousCount > 0l) {
+                    final double[] total = totals.computeIfAbsent(getStepKey(stepMetrics.getName()), k -> new double[2]);
+                    total[0] = total[0] + ((double) count / (double) previousCount);
+                    total[1] = total[1] + 1.0d;
+                }
+                previousCount = count;
+            }
+            totals.forEach((key, total) -> this.observedFanOut.put(key, total[0] / total[1]));
+            return this;
+        }
+
+        public LazyBarrierStrategy create() {
+            return new LazyBarrierStrategy(this);
+        }
+    }
 }
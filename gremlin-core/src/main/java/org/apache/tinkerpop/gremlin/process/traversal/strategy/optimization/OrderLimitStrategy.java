@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * This strategy optimizes any occurrence of {@link OrderGlobalStep} followed by a {@link RangeGlobalStep}. As only
+ * the traversers up to the high range of the {@link RangeGlobalStep} can pass it, the {@link OrderGlobalStep} is
+ * limited to them and only holds the top traversers seen so far instead of all of its traversers.
+ *
+ * @author agent (agent@local)
+ * @example <pre>
+ * __.order().by("score", decr).limit(10)  // the order() holds at most 10 traversers
+ * __.order().range(5, 15)                 // the order() holds at most 15 traversers
+ * </pre>
+ */
+public final class OrderLimitStrategy extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy> implements TraversalStrategy.OptimizationStrategy {
+
+    private static final OrderLimitStrategy INSTANCE = new OrderLimitStrategy();
+    private static final Set<Class<? extends OptimizationStrategy>> PRIORS = Collections.singleton(IdentityRemovalStrategy.class);
+
+    private OrderLimitStrategy() {
+    }
+
+    @Override
+    public void apply(final Traversal.Admin<?, ?> traversal) {
+        for (final OrderGlobalStep<?> orderGlobalStep : TraversalHelper.getStepsOfClass(OrderGlobalStep.class, traversal)) {
+            final Step<?, ?> nextStep = orderGlobalStep.getNextStep();
+            if (nextStep instanceof RangeGlobalStep && -1 != ((RangeGlobalStep) nextStep).getHighRange())
+                orderGlobalStep.setLimit(((RangeGlobalStep) nextStep).getHighRange());
+        }
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPrior() {
+        return PRIORS;
+    }
+
+    public static OrderLimitStrategy instance() {
+        return INSTANCE;
+    }
+}
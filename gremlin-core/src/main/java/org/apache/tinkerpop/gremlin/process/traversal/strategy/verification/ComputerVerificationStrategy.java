@@ -75,17 +75,21 @@ public final class ComputerVerificationStrategy extends AbstractTraversalStrateg
         while (endStep instanceof ComputerAwareStep.EndStep || endStep instanceof ComputerResultStep) {
             endStep = endStep.getPreviousStep();
         }
+        // an order() followed by a final range() is processed along with it by the TraverserMapReduce
+        final Step<?, ?> barrierStep = endStep instanceof RangeGlobalStep && endStep.getPreviousStep() instanceof OrderGlobalStep ?
+                endStep.getPreviousStep() :
+                endStep;
 
         if (traversal.getParent() instanceof EmptyStep) {
             if (!(traversal.getStartStep() instanceof GraphStep))
                 throw new ComputerVerificationException("GraphComputer does not support traversals starting from a non-GraphStep: " + traversal.getStartStep(), traversal);
             ///
-            if (endStep instanceof CollectingBarrierStep && endStep instanceof TraversalParent) {
-                if (((TraversalParent) endStep).getLocalChildren().stream().filter(t ->
+            if (barrierStep instanceof CollectingBarrierStep && barrierStep instanceof TraversalParent) {
+                if (((TraversalParent) barrierStep).getLocalChildren().stream().filter(t ->
                         !(t instanceof IdentityTraversal) &&
                                 !(t instanceof ConstantTraversal) &&  // for SampleStep
                                 !(t instanceof TokenTraversal && ((TokenTraversal) t).getToken().equals(T.id))).findAny().isPresent())
-                    throw new ComputerVerificationException("A final CollectingBarrierStep can not process an element beyond its id: " + endStep, traversal);
+                    throw new ComputerVerificationException("A final CollectingBarrierStep can not process an element beyond its id: " + barrierStep, traversal);
             }
             ///
             if (endStep instanceof RangeGlobalStep || endStep instanceof TailGlobalStep || endStep instanceof DedupGlobalStep)
@@ -95,7 +99,7 @@ public final class ComputerVerificationStrategy extends AbstractTraversalStrateg
         }
 
         for (final Step<?, ?> step : traversal.getSteps()) {
-            if ((step instanceof ReducingBarrierStep || step instanceof SupplyingBarrierStep || step instanceof OrderGlobalStep || step instanceof RangeGlobalStep || step instanceof TailGlobalStep || step instanceof DedupGlobalStep) && (step != endStep || !(traversal.getParent() instanceof EmptyStep)))
+            if ((step instanceof ReducingBarrierStep || step instanceof SupplyingBarrierStep || step instanceof OrderGlobalStep || step instanceof RangeGlobalStep || step instanceof TailGlobalStep || step instanceof DedupGlobalStep) && ((step != endStep && step != barrierStep) || !(traversal.getParent() instanceof EmptyStep)))
                 throw new ComputerVerificationException("Global traversals on GraphComputer may not contain mid-traversal barriers: " + step, traversal);
 
             if (step instanceof DedupGlobalStep && !((DedupGlobalStep) step).getLocalChildren().isEmpty())
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Path;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ImmutablePath;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A traverser whose {@link Path} only records the objects of labeled steps. If a set of labels to keep is provided,
+ * then only those labels (i.e. the labels referenced by the traversal) are recorded. As such, two traversers at the
+ * same object are equal (and thus, bulkable) if their paths agree on the referenced labels. The hash code of the
+ * path is maintained as the path is extended so that adding the traverser to a
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet} does not walk the path.
+ *
+ * @author agent (agent@local)
+ */
+public class B_LP_O_S_SE_SL_Traverser<T> extends B_O_S_SE_SL_Traverser<T> {
+
+    protected Path path;
+    protected boolean labeled = false; // whether the head of the path is the current object
+    protected int pathHashCode = 1;
+    protected transient Set<String> keepLabels; // null means that every label is kept
+
+    protected B_LP_O_S_SE_SL_Traverser() {
+    }
+
+    public B_LP_O_S_SE_SL_Traverser(final T t, final Step<T, ?> step, final long initialBulk, final Set<String> keepLabels) {
+        super(t, step, initialBulk);
+        this.keepLabels = keepLabels;
+        this.path = ImmutablePath.make();
+        this.addLabels(step.getLabels());
+    }
+
+    private Set<String> keptLabels(final Set<String> labels) {
+        if (labels.isEmpty() || null == this.keepLabels || this.keepLabels.containsAll(labels))
+            return labels;
+        final Set<String> keptLabels = new HashSet<>(labels);
+        keptLabels.retainAll(this.keepLabels);
+        return keptLabels;
+    }
+
+    private static Set<String> headLabels(final Path path) {
+        if (path instanceof ImmutablePath)
+            return ((ImmutablePath) path).headLabels();
+        final List<Set<String>> labels = path.labels();
+        return labels.get(labels.size() - 1);
+    }
+
+    /////////////////
+
+    @Override
+    public Path path() {
+        return this.path;
+    }
+
+    /////////////////
+
+    @Override
+    public Traverser.Admin<T> detach() {
+        super.detach();
+        this.path = ReferenceFactory.detach(this.path);
+        return this;
+    }
+
+    @Override
+    public T attach(final Function<Attachable<T>, T> method) {
+        // you do not want to attach a path because it will reference graph objects not at the current vertex
+        if (this.t instanceof Attachable && !(((Attachable) this.t).get() instanceof Path))
+            this.t = ((Attachable<T>) this.t).attach(method);
+        return this.t;
+    }
+
+    /////////////////
+
+    @Override
+    public void merge(final Traverser.Admin<?> other) {
+        this.bulk = this.bulk + other.bulk();
+    }
+
+    @Override
+    public <R> Traverser.Admin<R> split(final R r, final Step<T, R> step) {
+        final B_LP_O_S_SE_SL_Traverser<R> clone = (B_LP_O_S_SE_SL_Traverser<R>) super.split(r, step);
+        clone.labeled = false;
+        clone.addLabels(step.getLabels());
+        return clone;
+    }
+
+    @Override
+    public void set(final T t) {
+        super.set(t);
+        this.labeled = false;
+    }
+
+    @Override
+    public void addLabels(final Set<String> labels) {
+        final Set<String> keptLabels = this.keptLabels(labels);
+        if (keptLabels.isEmpty())
+            return;
+        // the step that created the head of the path has already labeled it (split() and then next())
+        if (this.labeled && headLabels(this.path).containsAll(keptLabels))
+            return;
+        this.path = this.path.clone().extend(this.t, keptLabels);
+        this.pathHashCode = 31 * (31 * this.pathHashCode + Objects.hashCode(this.t)) + keptLabels.hashCode();
+        this.labeled = true;
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode() + this.pathHashCode;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        return (object instanceof B_LP_O_S_SE_SL_Traverser)
+                && ((B_LP_O_S_SE_SL_Traverser) object).pathHashCode == this.pathHashCode
+                && ((B_LP_O_S_SE_SL_Traverser) object).get().equals(this.t)
+                && ((B_LP_O_S_SE_SL_Traverser) object).getStepId().equals(this.getStepId())
+                && ((B_LP_O_S_SE_SL_Traverser) object).loops() == this.loops()
+                && ((B_LP_O_S_SE_SL_Traverser) object).labeled == this.labeled
+                && (null == this.sack)
+                && ImmutablePath.haveEqualObjectsAndLabels(((B_LP_O_S_SE_SL_Traverser) object).path(), this.path);
+    }
+}
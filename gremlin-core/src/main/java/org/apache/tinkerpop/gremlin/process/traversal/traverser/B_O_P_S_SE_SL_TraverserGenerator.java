@@ -36,6 +36,7 @@ public class B_O_P_S_SE_SL_TraverserGenerator implements TraverserGenerator {
             TraverserRequirement.BULK,
             TraverserRequirement.SINGLE_LOOP,
             TraverserRequirement.PATH,
+            TraverserRequirement.LABELED_PATH,
             TraverserRequirement.SACK,
             TraverserRequirement.SIDE_EFFECTS);
 
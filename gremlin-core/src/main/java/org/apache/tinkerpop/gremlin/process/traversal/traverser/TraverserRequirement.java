@@ -32,6 +32,7 @@ public enum TraverserRequirement {
     SINGLE_LOOP,
     NESTED_LOOP,
     PATH,
+    LABELED_PATH,
     SACK,
     SIDE_EFFECTS,
 
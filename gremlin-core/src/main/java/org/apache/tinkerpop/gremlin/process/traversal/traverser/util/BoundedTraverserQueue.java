@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Retains the first {@code limit} traversers (by bulk) of the order given by a comparator without holding all of
+ * the traversers that were added.  The retained traversers are kept in a heap with the last of them at its head,
+ * and a traverser is only evicted when the traversers that follow it already account for {@code limit}.  Traversers
+ * that compare as equal are ordered by when they were added, so {@link #drainTo(TraverserSet)} yields the same
+ * traversers as a stable sort of every traverser followed by a range of {@code limit}.
+ *
+ * @author agent (agent@local)
+ */
+public final class BoundedTraverserQueue<S> {
+
+    private final Comparator<Traverser<S>> comparator;
+    private final long limit;
+    private final PriorityQueue<Entry<S>> queue;
+    private long bulk = 0l;
+    private long sequence = 0l;
+
+    public BoundedTraverserQueue(final Comparator<Traverser<S>> comparator, final long limit) {
+        if (limit < 0)
+            throw new IllegalArgumentException("The limit of a bounded traverser queue can not be negative: " + limit);
+        this.comparator = comparator;
+        this.limit = limit;
+        this.queue = new PriorityQueue<>((int) Math.min(Math.max(limit, 1l), 64l), (a, b) -> this.compare(b, a));
+    }
+
+    public void add(final Traverser.Admin<S> traverser) {
+        if (0 == this.limit || 0 == traverser.bulk())
+            return;
+        // a traverser added later sorts after those equal to it, so once full it must be strictly before the last
+        if (this.bulk >= this.limit && this.comparator.compare(traverser, this.queue.peek().traverser) >= 0)
+            return;
+        this.queue.add(new Entry<>(traverser, this.sequence++));
+        this.bulk = this.bulk + traverser.bulk();
+        while (this.bulk - this.queue.peek().traverser.bulk() >= this.limit) {
+            this.bulk = this.bulk - this.queue.poll().traverser.bulk();
+        }
+    }
+
+    public int size() {
+        return this.queue.size();
+    }
+
+    public long bulkSize() {
+        return this.bulk;
+    }
+
+    public long getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * Adds the retained traversers to the {@link TraverserSet} in order and empties the queue.
+     */
+    public void drainTo(final TraverserSet<S> traverserSet) {
+        final List<Entry<S>> entries = new ArrayList<>(this.queue);
+        Collections.sort(entries, this::compare);
+        entries.forEach(entry -> traverserSet.add(entry.traverser));
+        this.queue.clear();
+        this.bulk = 0l;
+    }
+
+    private int compare(final Entry<S> a, final Entry<S> b) {
+        final int comparison = this.comparator.compare(a.traverser, b.traverser);
+        return 0 != comparison ? comparison : Long.compare(a.sequence, b.sequence);
+    }
+
+    private static final class Entry<S> {
+
+        private final Traverser.Admin<S> traverser;
+        private final long sequence;
+
+        private Entry(final Traverser.Admin<S> traverser, final long sequence) {
+            this.traverser = traverser;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -24,69 +24,115 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import java.io.Serializable;
 import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
 
 /**
+ * An insertion ordered set of {@link Traverser} objects in which adding a traverser equal to one already in the set
+ * merges it into the existing traverser.  Traversers are kept in an array in the order they were added and located
+ * with an open-addressing table of indices into that array, so that {@link #poll()} removes the head without
+ * allocating and {@link #bulkSize()} sums the bulks in a single pass.  As with a {@code HashMap}, the hash of a
+ * traverser is taken when it is added.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements Set<Traverser.Admin<S>>, Queue<Traverser.Admin<S>>, Serializable {
 
-    private final Map<Traverser.Admin<S>, Traverser.Admin<S>> map = new LinkedHashMap<>();
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int FREE = 0;
+
+    // live traversers are in traversers[head, tail) with null where one has been removed.  hashes and slots hold
+    // the hash of each traverser when it was added and the slot of the table that refers to it
+    private Traverser.Admin<S>[] traversers = null;
+    private int[] hashes = null;
+    private int[] slots = null;
+    // 1 + the index of a traverser in traversers or FREE.  linear probing with a length that is a power of two
+    private int[] table = null;
+    private int head = 0;
+    private int tail = 0;
+    private int size = 0;
+    private transient int modCount = 0;
 
     public TraverserSet() {
 
     }
 
     public TraverserSet(final Traverser.Admin<S> traverser) {
-        this.map.put(traverser, traverser);
+        this.add(traverser);
     }
 
     @Override
     public Iterator<Traverser.Admin<S>> iterator() {
-        return this.map.values().iterator();
+        return new TraverserSetIterator();
     }
 
     public Traverser.Admin<S> get(final Traverser.Admin<S> traverser) {
-        return this.map.get(traverser);
+        final int slot = this.find(traverser);
+        return -1 == slot ? null : this.traversers[this.table[slot] - 1];
     }
 
     @Override
     public int size() {
-        return this.map.size();
+        return this.size;
     }
 
     public long bulkSize() {
-        return this.map.values().stream().map(Traverser::bulk).reduce(0l, (a, b) -> a + b);
+        long bulk = 0l;
+        for (int i = this.head; i < this.tail; i++) {
+            if (null != this.traversers[i])
+                bulk = bulk + this.traversers[i].bulk();
+        }
+        return bulk;
     }
 
     @Override
     public boolean isEmpty() {
-        return this.map.isEmpty();
+        return 0 == this.size;
     }
 
     @Override
     public boolean contains(final Object traverser) {
-        return this.map.containsKey(traverser);
+        return traverser instanceof Traverser.Admin && -1 != this.find((Traverser.Admin<S>) traverser);
     }
 
     @Override
     public boolean add(final Traverser.Admin<S> traverser) {
-        final Traverser.Admin<S> existing = this.map.get(traverser);
-        if (null == existing) {
-            this.map.put(traverser, traverser);
-            return true;
-        } else {
-            existing.merge(traverser);
-            return false;
+        if (null == this.table) {
+            this.traversers = new Traverser.Admin[INITIAL_CAPACITY];
+            this.hashes = new int[INITIAL_CAPACITY];
+            this.slots = new int[INITIAL_CAPACITY];
+            this.table = new int[INITIAL_CAPACITY * 2];
+        }
+        final int hash = hash(traverser);
+        final int mask = this.table.length - 1;
+        int slot = hash & mask;
+        while (FREE != this.table[slot]) {
+            final int index = this.table[slot] - 1;
+            if (this.hashes[index] == hash && this.traversers[index].equals(traverser)) {
+                this.traversers[index].merge(traverser);
+                return false;
+            }
+            slot = (slot + 1) & mask;
         }
+        if (this.tail == this.traversers.length) {
+            this.resize();
+            return this.add(traverser);
+        }
+        this.traversers[this.tail] = traverser;
+        this.hashes[this.tail] = hash;
+        this.slots[this.tail] = slot;
+        this.table[slot] = ++this.tail;
+        this.size++;
+        this.modCount++;
+        return true;
     }
 
     @Override
@@ -96,54 +142,194 @@ public class TraverserSet<S> extends AbstractSet<Traverser.Admin<S>> implements
 
     @Override
     public Traverser.Admin<S> remove() {  // pop, exception if empty
-        final Iterator<Traverser.Admin<S>> iterator = this.map.values().iterator();
-        if (!iterator.hasNext())
+        final Traverser.Admin<S> next = this.poll();
+        if (null == next)
             throw FastNoSuchElementException.instance();
-        final Traverser.Admin<S> next = iterator.next();
-        iterator.remove();
         return next;
     }
 
     @Override
     public Traverser.Admin<S> poll() {  // pop, null if empty
-        return this.map.isEmpty() ? null : this.remove();
+        final Traverser.Admin<S> next = this.peek();
+        if (null != next)
+            this.removeIndex(this.head);
+        return next;
     }
 
     @Override
     public Traverser.Admin<S> element() { // peek, exception if empty
-        return this.iterator().next();
+        final Traverser.Admin<S> next = this.peek();
+        if (null == next)
+            throw FastNoSuchElementException.instance();
+        return next;
     }
 
     @Override
     public Traverser.Admin<S> peek() { // peek, null if empty
-        return this.map.isEmpty() ? null : this.iterator().next();
+        if (0 == this.size)
+            return null;
+        while (null == this.traversers[this.head]) {
+            this.head++;
+        }
+        return this.traversers[this.head];
     }
 
     @Override
     public boolean remove(final Object traverser) {
-        return this.map.remove(traverser) != null;
+        if (!(traverser instanceof Traverser.Admin))
+            return false;
+        final int slot = this.find((Traverser.Admin<S>) traverser);
+        if (-1 == slot)
+            return false;
+        this.removeIndex(this.table[slot] - 1);
+        return true;
     }
 
     @Override
     public void clear() {
-        this.map.clear();
+        if (null != this.table) {
+            Arrays.fill(this.traversers, this.head, this.tail, null);
+            Arrays.fill(this.table, FREE);
+        }
+        this.head = 0;
+        this.tail = 0;
+        this.size = 0;
+        this.modCount++;
     }
 
     @Override
     public Spliterator<Traverser.Admin<S>> spliterator() {
-        return this.map.values().spliterator();
-    }
-
-    @Override
-    public String toString() {
-        return this.map.keySet().toString();
+        return Spliterators.spliterator(this, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL);
     }
 
     public void sort(final Comparator<Traverser<S>> comparator) {
-        final List<Traverser.Admin<S>> list = new ArrayList<>(this.map.values());
+        final List<Traverser.Admin<S>> list = new ArrayList<>(this.size);
+        for (int i = this.head; i < this.tail; i++) {
+            if (null != this.traversers[i])
+                list.add(this.traversers[i]);
+        }
         Collections.sort(list, comparator);
-        this.map.clear();
-        list.forEach(traverser -> this.map.put(traverser, traverser));
+        this.clear();
+        list.forEach(this::add);
+    }
+
+    /**
+     * Return the table slot that refers to a traverser equal to the one provided or -1 if there is none.
+     */
+    private int find(final Traverser.Admin<S> traverser) {
+        if (0 == this.size)
+            return -1;
+        final int hash = hash(traverser);
+        final int mask = this.table.length - 1;
+        int slot = hash & mask;
+        while (FREE != this.table[slot]) {
+            final int index = this.table[slot] - 1;
+            if (this.hashes[index] == hash && this.traversers[index].equals(traverser))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeIndex(final int index) {
+        this.traversers[index] = null;
+        // shift the later entries of the probe sequence back so that no deleted markers are needed
+        final int mask = this.table.length - 1;
+        int slot = this.slots[index];
+        int next = (slot + 1) & mask;
+        while (FREE != this.table[next]) {
+            final int ideal = this.hashes[this.table[next] - 1] & mask;
+            if (((next - ideal) & mask) >= ((next - slot) & mask)) {
+                this.table[slot] = this.table[next];
+                this.slots[this.table[slot] - 1] = slot;
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        this.table[slot] = FREE;
+        this.size--;
+        this.modCount++;
+        if (0 == this.size) {
+            this.head = 0;
+            this.tail = 0;
+        } else if (index == this.head) {
+            this.head++;
+        }
     }
 
+    /**
+     * Called when there is no room after the tail.  Moves the live traversers to the front of the array, growing it
+     * if more than half of it is in use, and rebuilds the table.
+     */
+    private void resize() {
+        if (this.size * 2 > this.traversers.length) {
+            final int capacity = this.traversers.length * 2;
+            this.traversers = Arrays.copyOf(this.traversers, capacity);
+            this.hashes = Arrays.copyOf(this.hashes, capacity);
+            this.slots = new int[capacity];
+            this.table = new int[capacity * 2];
+        } else
+            Arrays.fill(this.table, FREE);
+        int live = 0;
+        for (int i = this.head; i < this.tail; i++) {
+            if (null != this.traversers[i]) {
+                this.traversers[live] = this.traversers[i];
+                this.hashes[live++] = this.hashes[i];
+            }
+        }
+        Arrays.fill(this.traversers, live, this.tail, null);
+        this.head = 0;
+        this.tail = live;
+        final int mask = this.table.length - 1;
+        for (int i = 0; i < live; i++) {
+            int slot = this.hashes[i] & mask;
+            while (FREE != this.table[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            this.table[slot] = i + 1;
+            this.slots[i] = slot;
+        }
+        this.modCount++;
+    }
+
+    private static int hash(final Object traverser) {
+        final int hash = traverser.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class TraverserSetIterator implements Iterator<Traverser.Admin<S>> {
+
+        private int index = head;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            while (this.index < tail && null == traversers[this.index]) {
+                this.index++;
+            }
+            return this.index < tail;
+        }
+
+        @Override
+        public Traverser.Admin<S> next() {
+            if (this.expectedModCount != modCount)
+                throw new ConcurrentModificationException();
+            if (!this.hasNext())
+                throw FastNoSuchElementException.instance();
+            this.last = this.index;
+            return traversers[this.index++];
+        }
+
+        @Override
+        public void remove() {
+            if (-1 == this.last)
+                throw new IllegalStateException();
+            if (this.expectedModCount != modCount)
+                throw new ConcurrentModificationException();
+            removeIndex(this.last);
+            this.last = -1;
+            this.expectedModCount = modCount;
+        }
+    }
 }
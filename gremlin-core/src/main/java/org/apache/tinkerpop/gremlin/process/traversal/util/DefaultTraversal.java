@@ -53,6 +53,7 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     protected TraversalStrategies strategies;
     protected TraversalEngine traversalEngine = StandardTraversalEngine.instance(); // necessary for strategies that need the engine in OLAP message passing (not so bueno)
     protected boolean locked = false;
+    protected transient TraversalCache cache = null;
 
     public DefaultTraversal() {
         this.graph = null;
@@ -73,6 +74,8 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
     @Override
     public void applyStrategies() throws IllegalStateException {
         if (this.locked) throw Traversal.Exceptions.traversalIsLocked();
+        if (null != this.cache && this.cache.compile(this))
+            return;
         TraversalHelper.reIdSteps(this.stepPosition, this);
         this.strategies.applyStrategies(this);
         boolean hasGraph = null != this.graph;
@@ -96,6 +99,49 @@ public class DefaultTraversal<S, E> implements Traversal.Admin<S, E> {
         this.locked = true;
     }
 
+    /**
+     * Replace the steps of this traversal with clones of the steps of an equivalent traversal that already had its
+     * strategies applied.
+     */
+    void adoptSteps(final DefaultTraversal<?, ?> compiled) {
+        this.steps = new ArrayList<>(compiled.steps.size());
+        for (final Step<?, ?> step : compiled.steps) {
+            final Step<?, ?> clonedStep = step.clone();
+            clonedStep.setTraversal(this);
+            final Step previousStep = this.steps.isEmpty() ? EmptyStep.instance() : this.steps.get(this.steps.size() - 1);
+            clonedStep.setPreviousStep(previousStep);
+            previousStep.setNextStep(clonedStep);
+            this.steps.add(clonedStep);
+            if (clonedStep instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> globalChild : ((TraversalParent) clonedStep).getGlobalChildren()) {
+                    globalChild.setEngine(this.traversalEngine);
+                    this.adoptChild(globalChild);
+                }
+                ((TraversalParent) clonedStep).getLocalChildren().forEach(this::adoptChild);
+            }
+        }
+        this.finalEndStep = this.getEndStep();
+        this.locked = true;
+    }
+
+    private void adoptChild(final Traversal.Admin<?, ?> child) {
+        child.setSideEffects(this.sideEffects);
+        if (null != this.graph) child.setGraph(this.graph);
+        for (final Step<?, ?> step : child.getSteps()) {
+            if (step instanceof TraversalParent) {
+                ((TraversalParent) step).getGlobalChildren().forEach(this::adoptChild);
+                ((TraversalParent) step).getLocalChildren().forEach(this::adoptChild);
+            }
+        }
+    }
+
+    /**
+     * Set the cache of compiled traversals that is consulted instead of applying the strategies of this traversal.
+     */
+    public void setTraversalCache(final TraversalCache cache) {
+        this.cache = cache;
+    }
+
     @Override
     public TraversalEngine getEngine() {
         return this.traversalEngine;
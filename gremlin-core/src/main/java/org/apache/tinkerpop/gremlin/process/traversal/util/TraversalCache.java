@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.lambda.AbstractLambdaTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.Mutating;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.HasStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.javatuples.Tuple;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A bounded cache of traversals that have already had their strategies applied. A traversal is keyed by the classes,
+ * labels and field values of its steps where the values of the {@code has()} containers of its root traversal are
+ * parameters. On a hit, clones of the compiled steps are bound to the values of the submitted traversal so repeated
+ * queries that only differ in those values skip strategy application. Traversals with lambdas or mutating steps are
+ * never cached and strategies are assumed to not depend on the parameterized values. A cache is created per
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource} with
+ * {@link org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource.Builder#cache(int)}.
+ *
+ * @author agent (agent@local)
+ */
+public final class TraversalCache {
+
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+    private static final Entry UNCACHEABLE = new Entry(null, null);
+    private static final Object UNKEYABLE = new Object();
+    private static final List<Field> UNKEYABLE_FIELDS = new ArrayList<>(0);
+    private static final Map<Class<?>, Kind> KINDS = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+    private final Map<List<Object>, Entry> entries;
+    private final AtomicLong hits = new AtomicLong(0l);
+    private final AtomicLong misses = new AtomicLong(0l);
+
+    public TraversalCache(final int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("The maximum size of the traversal cache must be positive: " + maxSize);
+        this.maxSize = maxSize;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<List<Object>, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<Object>, Entry> eldest) {
+                return this.size() > TraversalCache.this.maxSize;
+            }
+        });
+    }
+
+    /**
+     * Replace the steps of the traversal with the compiled steps of an equivalent traversal which are bound to the
+     * parameter values of the traversal.
+     *
+     * @return whether the traversal was compiled or otherwise must have its strategies applied
+     */
+    boolean compile(final DefaultTraversal<?, ?> traversal) {
+        final List<P> parameters = new ArrayList<>();
+        final List<Object> key = key(traversal, parameters);
+        if (null == key)
+            return false;
+        Entry entry = this.entries.get(key);
+        if (null == entry) {
+            this.misses.incrementAndGet();
+            entry = prepare(traversal);
+            this.entries.put(key, entry);
+        } else if (UNCACHEABLE != entry)
+            this.hits.incrementAndGet();
+        if (UNCACHEABLE == entry)
+            return false;
+        entry.bind(traversal, parameters);
+        return true;
+    }
+
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    public void clear() {
+        this.entries.clear();
+        this.hits.set(0l);
+        this.misses.set(0l);
+    }
+
+    @Override
+    public String toString() {
+        return "traversalcache[size:" + this.size() + ", hits:" + this.getHits() + ", misses:" + this.getMisses() + "]";
+    }
+
+    ///////////
+
+    private static <S, E> Entry prepare(final DefaultTraversal<S, E> traversal) {
+        final DefaultTraversal<S, E> compiled = traversal.clone();
+        compiled.cache = null;
+        final List<P> parameters = new ArrayList<>();
+        key(compiled, parameters);
+        compiled.applyStrategies();
+        // find the root step and container that each parameter was left in and make sure that a clone does not share it
+        final DefaultTraversal<S, E> clonedCompiled = compiled.clone();
+        final int[][] slots = new int[parameters.size()][];
+        for (int i = 0; i < parameters.size(); i++) {
+            for (int j = 0; null == slots[i] && j < compiled.getSteps().size(); j++) {
+                if (compiled.getSteps().get(j) instanceof HasContainerHolder) {
+                    final List<HasContainer> hasContainers = ((HasContainerHolder) compiled.getSteps().get(j)).getHasContainers();
+                    for (int k = 0; k < hasContainers.size(); k++) {
+                        if (hasContainers.get(k).getPredicate() == parameters.get(i)) {
+                            slots[i] = new int[]{j, k};
+                            break;
+                        }
+                    }
+                }
+            }
+            if (null == slots[i] || hasContainer(compiled, slots[i]) == hasContainer(clonedCompiled, slots[i]))
+                return UNCACHEABLE;
+        }
+        return new Entry(compiled, slots);
+    }
+
+    private static HasContainer hasContainer(final Traversal.Admin<?, ?> traversal, final int[] slot) {
+        return ((HasContainerHolder) traversal.getSteps().get(slot[0])).getHasContainers().get(slot[1]);
+    }
+
+    /**
+     * The structure of a traversal as nested lists of step classes, labels and the (normalized) values of the fields
+     * of the steps so that two traversals with equal keys only differ in their parameters.
+     *
+     * @return the key or {@code null} if the traversal can not be cached
+     */
+    private static List<Object> key(final Traversal.Admin<?, ?> traversal, final List<P> parameters) {
+        final List<Object> key = new ArrayList<>(traversal.getSteps().size() * 6);
+        key.add(traversal.getClass());
+        if (traversal instanceof AbstractLambdaTraversal)
+            return fields(traversal, key) ? key : null;
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            key.add(step.getClass());
+            key.add(step.getLabels().isEmpty() ? Collections.emptySet() : new HashSet<>(step.getLabels()));
+            if (null != parameters && step.getClass().equals(HasStep.class)) {
+                for (final HasContainer hasContainer : ((HasStep<?>) step).getHasContainers()) {
+                    final P<?> predicate = hasContainer.getPredicate();
+                    if (predicate.getClass().equals(P.class) && (predicate.getBiPredicate() instanceof Compare || predicate.getBiPredicate() instanceof Contains)) {
+                        parameters.add(predicate);
+                        key.add(Arrays.asList(hasContainer.getKey(), predicate.getBiPredicate(), null == predicate.getValue() ? null : predicate.getValue().getClass()));
+                    } else {
+                        final Object value = normalize(hasContainer);
+                        if (UNKEYABLE == value)
+                            return null;
+                        key.add(value);
+                    }
+                }
+            } else if (!fields(step, key))
+                return null;
+        }
+        return key;
+    }
+
+    private static boolean fields(final Object object, final List<Object> key) {
+        List<Field> fields = FIELDS.get(object.getClass());
+        if (null == fields) {
+            fields = declaredFields(object.getClass());
+            FIELDS.put(object.getClass(), fields);
+        }
+        if (UNKEYABLE_FIELDS == fields)
+            return false;
+        for (final Field field : fields) {
+            final Object value;
+            try {
+                value = normalize(field.get(object));
+            } catch (final IllegalAccessException e) {
+                return false;
+            }
+            if (UNKEYABLE == value)
+                return false;
+            key.add(value);
+        }
+        return true;
+    }
+
+    private static List<Field> declaredFields(final Class<?> objectClass) {
+        if (Mutating.class.isAssignableFrom(objectClass) || LambdaHolder.class.isAssignableFrom(objectClass))
+            return UNKEYABLE_FIELDS;
+        final Class<?> baseClass = AbstractLambdaTraversal.class.isAssignableFrom(objectClass) ? AbstractLambdaTraversal.class : AbstractStep.class;
+        final List<Field> fields = new ArrayList<>();
+        for (Class<?> current = objectClass; null != current && !current.equals(baseClass); current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers()) && !field.isSynthetic()) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Turn a field value into something that is equal for equal configurations. Traversals are replaced by their
+     * key and containers by lists of their normalized members. Any other object is compared with its own
+     * {@code equals()} which for lambdas means that only the same lambda is equal.
+     */
+    private static Object normalize(final Object value) {
+        if (null == value)
+            return null;
+        Kind kind = KINDS.get(value.getClass());
+        if (null == kind) {
+            kind = Kind.of(value.getClass());
+            KINDS.put(value.getClass(), kind);
+        }
+        switch (kind) {
+            case VALUE:
+                return value;
+            case TRAVERSAL:
+                final List<Object> key = key((Traversal.Admin<?, ?>) value, null);
+                return null == key ? UNKEYABLE : key;
+            case STEP:
+                return UNKEYABLE;
+            case HAS_CONTAINER:
+                return normalizeAll(Arrays.asList(((HasContainer) value).getKey(), ((HasContainer) value).getPredicate()));
+            case CONJUNCTION_P:
+                return normalizeAll(Arrays.asList(value.getClass(), ((ConjunctionP<?>) value).getPredicates()));
+            case P:
+                return normalizeAll(Arrays.asList(value.getClass(), ((P<?>) value).getBiPredicate(), ((P<?>) value).getOriginalValue()));
+            case TRAVERSAL_RING:
+                return normalizeAll(((TraversalRing<?, ?>) value).getTraversals());
+            case TUPLE:
+                return normalizeAll(((Tuple) value).toList());
+            case MAP:
+                return normalizeAll(((Map<?, ?>) value).entrySet().stream().flatMap(entry -> Stream.of(entry.getKey(), entry.getValue())).collect(Collectors.toList()));
+            case COLLECTION:
+                return normalizeAll((Collection<?>) value);
+            case ARRAY:
+                return normalizeAll(Arrays.asList((Object[]) value));
+            default:
+                return value;
+        }
+    }
+
+    private static Object normalizeAll(final Collection<?> values) {
+        if (values.isEmpty())
+            return Collections.emptyList();
+        final List<Object> normalized = new ArrayList<>(values.size());
+        for (final Object value : values) {
+            final Object normalizedValue = normalize(value);
+            if (UNKEYABLE == normalizedValue)
+                return UNKEYABLE;
+            normalized.add(normalizedValue);
+        }
+        return normalized;
+    }
+
+    /**
+     * How the values of a class are normalized which is resolved once per class as repeated {@code instanceof}
+     * checks against interfaces are a large part of the cost of building a key.
+     */
+    private enum Kind {
+        VALUE, TRAVERSAL, STEP, HAS_CONTAINER, CONJUNCTION_P, P, TRAVERSAL_RING, TUPLE, MAP, COLLECTION, ARRAY, OTHER;
+
+        private static Kind of(final Class<?> valueClass) {
+            if (String.class.equals(valueClass) || Number.class.isAssignableFrom(valueClass) || Boolean.class.equals(valueClass) || Enum.class.isAssignableFrom(valueClass) || Class.class.equals(valueClass))
+                return VALUE;
+            else if (Traversal.Admin.class.isAssignableFrom(valueClass))
+                return TRAVERSAL;
+            else if (Step.class.isAssignableFrom(valueClass))
+                return STEP;
+            else if (HasContainer.class.equals(valueClass))
+                return HAS_CONTAINER;
+            else if (ConjunctionP.class.isAssignableFrom(valueClass))
+                return CONJUNCTION_P;
+            else if (P.class.isAssignableFrom(valueClass))
+                return P;
+            else if (TraversalRing.class.equals(valueClass))
+                return TRAVERSAL_RING;
+            else if (Tuple.class.isAssignableFrom(valueClass))
+                return TUPLE;
+            else if (Map.class.isAssignableFrom(valueClass))
+                return MAP;
+            else if (Collection.class.isAssignableFrom(valueClass))
+                return COLLECTION;
+            else if (Object[].class.isAssignableFrom(valueClass))
+                return ARRAY;
+            else
+                return OTHER;
+        }
+    }
+
+    private static final class Entry {
+
+        private final DefaultTraversal<?, ?> compiled;
+        private final int[][] slots;
+
+        private Entry(final DefaultTraversal<?, ?> compiled, final int[][] slots) {
+            this.compiled = compiled;
+            this.slots = slots;
+        }
+
+        private void bind(final DefaultTraversal<?, ?> traversal, final List<P> parameters) {
+            traversal.adoptSteps(this.compiled);
+            for (int i = 0; i < this.slots.length; i++) {
+                hasContainer(traversal, this.slots[i]).setPredicate(parameters.get(i).clone());
+            }
+        }
+    }
+}
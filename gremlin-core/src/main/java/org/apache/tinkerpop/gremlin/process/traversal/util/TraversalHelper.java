@@ -21,6 +21,7 @@ package org.apache.tinkerpop.gremlin.process.traversal.util;
 import org.apache.tinkerpop.gremlin.process.traversal.Step;
 import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
+import org.apache.tinkerpop.gremlin.process.traversal.step.LambdaHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.Scoping;
 import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
 import org.apache.tinkerpop.gremlin.process.traversal.step.branch.RepeatStep;
@@ -333,6 +334,39 @@ public final class TraversalHelper {
         return labels;
     }
 
+    /**
+     * Get the labels that are referenced by the {@link Scoping} steps of the traversal and its children. If the
+     * traversal has a {@link LambdaHolder} step, then any label may be accessed via the traverser and {@code null}
+     * is returned.
+     *
+     * @param traversal the traversal whose referenced labels are computed (typically the root traversal)
+     * @return the referenced labels or {@code null} if every label must be considered referenced
+     */
+    public static Set<String> getReferencedLabels(final Traversal.Admin<?, ?> traversal) {
+        final Set<String> labels = new HashSet<>();
+        return TraversalHelper.getReferencedLabels(labels, traversal) ? labels : null;
+    }
+
+    private static boolean getReferencedLabels(final Set<String> labels, final Traversal.Admin<?, ?> traversal) {
+        for (final Step<?, ?> step : traversal.getSteps()) {
+            if (step instanceof LambdaHolder)
+                return false;
+            if (step instanceof Scoping)
+                labels.addAll(((Scoping) step).getScopeKeys());
+            if (step instanceof TraversalParent) {
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getLocalChildren()) {
+                    if (!getReferencedLabels(labels, child))
+                        return false;
+                }
+                for (final Traversal.Admin<?, ?> child : ((TraversalParent) step).getGlobalChildren()) {
+                    if (!getReferencedLabels(labels, child))
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
     public static Set<Scoping.Variable> getVariableLocations(final Traversal.Admin<?, ?> traversal) {
         return TraversalHelper.getVariableLocations(new HashSet<>(), traversal);
     }
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.structure.io;
+
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.Attachable;
+import org.apache.tinkerpop.gremlin.structure.util.star.StarGraph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * {@code StarVertexLoader} writes the {@link StarGraph.StarVertex} objects produced by a {@link GraphReader} into a
+ * {@link Graph}.  All vertices are written first and then all edges, as the edges of a star vertex may refer to
+ * vertices later in the stream.  Between the two passes only a map of the identifiers in the stream to the
+ * identifiers of the created vertices and a compact record of each out-edge is held, rather than the star vertices
+ * themselves.
+ * <p/>
+ * The thread calling {@link #load(Iterator)} consumes the iterator.  With a single worker it also writes to the
+ * graph.  With more workers the elements are handed in chunks to that many writer threads, each of which commits
+ * after every {@code batchSize} mutations when the graph supports transactions.  Using more than one worker
+ * requires that the graph allows vertices and edges to be added concurrently from different threads.
+ *
+ * @author agent (agent@local)
+ */
+public final class StarVertexLoader {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final Graph graph;
+    private final long batchSize;
+    private final int workers;
+    private final boolean supportsTx;
+    private final Graph.Features.EdgeFeatures edgeFeatures;
+    private final Map<Object, Object> vertexIds = new ConcurrentHashMap<>();
+
+    public StarVertexLoader(final Graph graph, final long batchSize, final int workers) {
+        if (workers < 1)
+            throw new IllegalArgumentException("The number of workers must be at least 1: " + workers);
+        this.graph = graph;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.supportsTx = graph.features().graph().supportsTransactions();
+        this.edgeFeatures = graph.features().edge();
+    }
+
+    /**
+     * Write the star vertices and their out-edges to the graph.
+     */
+    public void load(final Iterator<StarGraph.StarVertex> starVertices) {
+        final List<EdgeRecord> edgeRecords = new ArrayList<>();
+        this.write(new Iterator<StarGraph.StarVertex>() {
+            @Override
+            public boolean hasNext() {
+                return starVertices.hasNext();
+            }
+
+            @Override
+            public StarGraph.StarVertex next() {
+                final StarGraph.StarVertex starVertex = starVertices.next();
+                starVertex.edges(Direction.OUT).forEachRemaining(edge -> edgeRecords.add(new EdgeRecord(edge)));
+                return starVertex;
+            }
+        }, this::addVertex);
+        this.write(edgeRecords.iterator(), this::addEdge);
+    }
+
+    private void addVertex(final StarGraph.StarVertex starVertex) {
+        this.vertexIds.put(starVertex.id(), starVertex.attach(Attachable.Method.create(this.graph)).id());
+    }
+
+    private void addEdge(final EdgeRecord edgeRecord) {
+        final Vertex outVertex = this.graph.vertices(this.vertexIds.get(edgeRecord.outVertexId)).next();
+        final Vertex inVertex = this.graph.vertices(this.vertexIds.get(edgeRecord.inVertexId)).next();
+        final Edge edge = this.edgeFeatures.willAllowId(edgeRecord.id) ?
+                outVertex.addEdge(edgeRecord.label, inVertex, T.id, edgeRecord.id) :
+                outVertex.addEdge(edgeRecord.label, inVertex);
+        for (int i = 0; i < edgeRecord.keyValues.length; i = i + 2) {
+            edge.property((String) edgeRecord.keyValues[i], edgeRecord.keyValues[i + 1]);
+        }
+    }
+
+    private <S> void write(final Iterator<S> iterator, final Consumer<S> writer) {
+        if (1 == this.workers) {
+            final Batch batch = new Batch();
+            iterator.forEachRemaining(s -> {
+                writer.accept(s);
+                batch.mutated();
+            });
+            batch.commit();
+            return;
+        }
+
+        final BlockingQueue<List<S>> chunks = new ArrayBlockingQueue<>(this.workers * 2);
+        final ExecutorService executor = Executors.newFixedThreadPool(this.workers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(this.workers);
+            for (int i = 0; i < this.workers; i++) {
+                futures.add(executor.submit(() -> {
+                    final Batch batch = new Batch();
+                    List<S> chunk;
+                    while (!(chunk = chunks.take()).isEmpty()) {
+                        for (final S s : chunk) {
+                            writer.accept(s);
+                            batch.mutated();
+                        }
+                    }
+                    batch.commit();
+                    return null;
+                }));
+            }
+
+            List<S> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    put(chunks, chunk, futures);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+            if (!chunk.isEmpty()) put(chunks, chunk, futures);
+            for (int i = 0; i < this.workers; i++) {
+                put(chunks, Collections.emptyList(), futures);
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e.getMessage(), e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Hand a chunk to the writers, failing fast rather than blocking forever if a writer has died.
+     */
+    private static <S> void put(final BlockingQueue<List<S>> chunks, final List<S> chunk, final List<Future<?>> futures) throws InterruptedException, ExecutionException {
+        while (!chunks.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            for (final Future<?> future : futures) {
+                if (future.isDone()) future.get();
+            }
+        }
+    }
+
+    /**
+     * Counts the mutations of a single writer and commits every {@code batchSize} of them.
+     */
+    private final class Batch {
+        private long mutations = 0;
+
+        private void mutated() {
+            if (supportsTx && ++this.mutations % batchSize == 0)
+                graph.tx().commit();
+        }
+
+        private void commit() {
+            if (supportsTx) graph.tx().commit();
+        }
+    }
+
+    /**
+     * The parts of an out-edge of a star vertex needed to create it once all vertices exist.
+     */
+    private static final class EdgeRecord {
+        private final Object id;
+        private final String label;
+        private final Object outVertexId;
+        private final Object inVertexId;
+        private final Object[] keyValues;
+
+        private EdgeRecord(final Edge edge) {
+            this.id = edge.id();
+            this.label = edge.label();
+            this.outVertexId = edge.outVertex().id();
+            this.inVertexId = edge.inVertex().id();
+            final List<Object> keyValues = new ArrayList<>();
+            edge.properties().forEachRemaining(property -> {
+                keyValues.add(property.key());
+                keyValues.add(property.value());
+            });
+            this.keyValues = keyValues.toArray();
+        }
+    }
+}
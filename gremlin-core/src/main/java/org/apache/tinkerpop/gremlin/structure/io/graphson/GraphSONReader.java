@@ -24,11 +24,11 @@ import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
-import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.io.GraphReader;
 import org.apache.tinkerpop.gremlin.structure.io.GraphWriter;
+import org.apache.tinkerpop.gremlin.structure.io.StarVertexLoader;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoWriter;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.structure.util.Host;
@@ -47,10 +47,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -66,13 +64,15 @@ import java.util.function.Function;
 public final class GraphSONReader implements GraphReader {
     private final ObjectMapper mapper;
     private final long batchSize;
+    private final int workers;
 
     final TypeReference<Map<String, Object>> mapTypeReference = new TypeReference<Map<String, Object>>() {
     };
 
-    private GraphSONReader(final GraphSONMapper mapper, final long batchSize) {
+    private GraphSONReader(final GraphSONMapper mapper, final long batchSize, final int workers) {
         this.mapper = mapper.createMapper();
         this.batchSize = batchSize;
+        this.workers = workers;
     }
 
     /**
@@ -85,34 +85,11 @@ public final class GraphSONReader implements GraphReader {
      */
     @Override
     public void readGraph(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
-        // dual pass - create all vertices and store to cache the ids.  then create edges.  as long as we don't
-        // have vertex labels in the output we can't do this single pass
-        final Map<StarGraph.StarVertex,Vertex> cache = new HashMap<>();
-        final AtomicLong counter = new AtomicLong(0);
-
-        final boolean supportsTx = graphToWriteTo.features().graph().supportsTransactions();
-        final Graph.Features.EdgeFeatures edgeFeatures = graphToWriteTo.features().edge();
-
+        // vertices are written as they are read and edges once all vertices exist.  only an id map and a compact
+        // record of each edge are kept in between
         final BufferedReader br = new BufferedReader(new InputStreamReader(inputStream));
-        br.lines().<Vertex>map(FunctionUtils.wrapFunction(line -> readVertex(new ByteArrayInputStream(line.getBytes()), null, null, Direction.OUT))).forEach(vertex -> {
-            final Attachable<Vertex> attachable = (Attachable<Vertex>) vertex;
-            cache.put((StarGraph.StarVertex) attachable.get(), attachable.attach(Attachable.Method.create(graphToWriteTo)));
-            if (supportsTx && counter.incrementAndGet() % batchSize == 0)
-                graphToWriteTo.tx().commit();
-        });
-        cache.entrySet().forEach(kv -> kv.getKey().edges(Direction.OUT).forEachRemaining(e -> {
-            // can't use a standard Attachable attach method here because we have to use the cache for those
-            // graphs that don't support userSuppliedIds on edges.  note that outVertex/inVertex methods return
-            // StarAdjacentVertex whose equality should match StarVertex.
-            final Vertex cachedOutV = cache.get(e.outVertex());
-            final Vertex cachedInV = cache.get(e.inVertex());
-            final Edge newEdge = edgeFeatures.willAllowId(e.id()) ? cachedOutV.addEdge(e.label(), cachedInV, T.id, e.id()) : cachedOutV.addEdge(e.label(), cachedInV);
-            e.properties().forEachRemaining(p -> newEdge.property(p.key(), p.value()));
-            if (supportsTx && counter.incrementAndGet() % batchSize == 0)
-                graphToWriteTo.tx().commit();
-        }));
-
-        if (supportsTx) graphToWriteTo.tx().commit();
+        new StarVertexLoader(graphToWriteTo, this.batchSize, this.workers).load(br.lines().<StarGraph.StarVertex>map(FunctionUtils.wrapFunction(line ->
+                (StarGraph.StarVertex) readVertex(new ByteArrayInputStream(line.getBytes()), null, null, Direction.OUT))).iterator());
     }
 
     /**
@@ -250,6 +227,7 @@ public final class GraphSONReader implements GraphReader {
 
     public final static class Builder implements ReaderBuilder<GraphSONReader> {
         private long batchSize = 10000;
+        private int workers = 1;
 
         private GraphSONMapper mapper = GraphSONMapper.build().create();
 
@@ -264,6 +242,18 @@ public final class GraphSONReader implements GraphReader {
             return this;
         }
 
+        /**
+         * Number of threads that write vertices and edges to the graph when using
+         * {@link GraphSONReader#readGraph(InputStream, Graph)}.  More than one requires a graph that can be written
+         * to concurrently and, if it supports transactions, one in which each thread commits its own transaction.
+         */
+        public Builder workers(final int workers) {
+            if (workers < 1)
+                throw new IllegalArgumentException("The number of workers must be at least 1: " + workers);
+            this.workers = workers;
+            return this;
+        }
+
         /**
          * Override all of the {@link GraphSONMapper} builder
          * options with this mapper.  If this value is set to something other than null then that value will be
@@ -275,7 +265,7 @@ public final class GraphSONReader implements GraphReader {
         }
 
         public GraphSONReader create() {
-            return new GraphSONReader(mapper, batchSize);
+            return new GraphSONReader(mapper, batchSize, workers);
         }
     }
 }
@@ -19,9 +19,9 @@
 package org.apache.tinkerpop.gremlin.structure.io.gryo;
 
 import org.apache.tinkerpop.gremlin.structure.Property;
-import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.io.GraphWriter;
+import org.apache.tinkerpop.gremlin.structure.io.StarVertexLoader;
 import org.apache.tinkerpop.gremlin.structure.util.Attachable;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.Host;
@@ -42,10 +42,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 /**
@@ -62,10 +59,12 @@ public final class GryoReader implements GraphReader {
     private final Kryo kryo;
 
     private final long batchSize;
+    private final int workers;
 
-    private GryoReader(final long batchSize, final GryoMapper gryoMapper) {
+    private GryoReader(final long batchSize, final int workers, final GryoMapper gryoMapper) {
         this.kryo = gryoMapper.createMapper();
         this.batchSize = batchSize;
+        this.workers = workers;
     }
 
     /**
@@ -79,33 +78,10 @@ public final class GryoReader implements GraphReader {
      */
     @Override
     public void readGraph(final InputStream inputStream, final Graph graphToWriteTo) throws IOException {
-        // dual pass - create all vertices and store to cache the ids.  then create edges.  as long as we don't
-        // have vertex labels in the output we can't do this single pass
-        final Map<StarGraph.StarVertex,Vertex> cache = new HashMap<>();
-        final AtomicLong counter = new AtomicLong(0);
-
-        final Graph.Features.EdgeFeatures edgeFeatures = graphToWriteTo.features().edge();
-        final boolean supportsTx = graphToWriteTo.features().graph().supportsTransactions();
-
-        IteratorUtils.iterate(new VertexInputIterator(new Input(inputStream), attachable -> {
-            final Vertex v = cache.put((StarGraph.StarVertex) attachable.get(), attachable.attach(Attachable.Method.create(graphToWriteTo)));
-            if (supportsTx && counter.incrementAndGet() % batchSize == 0)
-                graphToWriteTo.tx().commit();
-            return v;
-        }, null, null));
-        cache.entrySet().forEach(kv -> kv.getKey().edges(Direction.OUT).forEachRemaining(e -> {
-            // can't use a standard Attachable attach method here because we have to use the cache for those
-            // graphs that don't support userSuppliedIds on edges. note that outVertex/inVertex methods return
-            // StarAdjacentVertex whose equality should match StarVertex.
-            final Vertex cachedOutV = cache.get(e.outVertex());
-            final Vertex cachedInV = cache.get(e.inVertex());
-            final Edge newEdge = edgeFeatures.willAllowId(e.id()) ? cachedOutV.addEdge(e.label(), cachedInV, T.id, e.id()) : cachedOutV.addEdge(e.label(), cachedInV);
-            e.properties().forEachRemaining(p -> newEdge.property(p.key(), p.value()));
-            if (supportsTx && counter.incrementAndGet() % batchSize == 0)
-                graphToWriteTo.tx().commit();
-        }));
-
-        if (supportsTx) graphToWriteTo.tx().commit();
+        // vertices are written as they are read and edges once all vertices exist.  only an id map and a compact
+        // record of each edge are kept in between
+        final Iterator<Vertex> starVertices = new VertexInputIterator(new Input(inputStream), attachable -> (Vertex) attachable.get(), null, null);
+        new StarVertexLoader(graphToWriteTo, this.batchSize, this.workers).load(IteratorUtils.map(starVertices, v -> (StarGraph.StarVertex) v));
     }
 
     /**
@@ -249,6 +225,7 @@ public final class GryoReader implements GraphReader {
     public final static class Builder implements ReaderBuilder<GryoReader> {
 
         private long batchSize = 10000;
+        private int workers = 1;
         /**
          * Always use the most recent gryo version by default
          */
@@ -266,6 +243,18 @@ public final class GryoReader implements GraphReader {
             return this;
         }
 
+        /**
+         * Number of threads that write vertices and edges to the graph when using
+         * {@link GryoReader#readGraph(InputStream, Graph)}.  More than one requires a graph that can be written
+         * to concurrently and, if it supports transactions, one in which each thread commits its own transaction.
+         */
+        public Builder workers(final int workers) {
+            if (workers < 1)
+                throw new IllegalArgumentException("The number of workers must be at least 1: " + workers);
+            this.workers = workers;
+            return this;
+        }
+
         /**
          * Supply a mapper {@link GryoMapper} instance to use as the serializer for the {@code KryoWriter}.
          */
@@ -275,7 +264,7 @@ public final class GryoReader implements GraphReader {
         }
 
         public GryoReader create() {
-            return new GryoReader(batchSize, this.gryoMapper);
+            return new GryoReader(batchSize, workers, this.gryoMapper);
         }
 
     }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util.function;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
+
+import java.io.Serializable;
+import java.util.function.Supplier;
+
+/**
+ * @author agent (agent@local)
+ */
+public final class CountNumberSupplier implements Supplier<CountGlobalStep.CountNumber>, Serializable {
+
+    private static final CountNumberSupplier INSTANCE = new CountNumberSupplier();
+
+    private CountNumberSupplier() {}
+
+    @Override
+    public CountGlobalStep.CountNumber get() {
+        return new CountGlobalStep.CountNumber();
+    }
+
+    public static CountNumberSupplier instance() {
+        return INSTANCE;
+    }
+}
+
@@ -24,9 +24,11 @@ package org.apache.tinkerpop.gremlin.process.traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.ImmutablePath;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.MutablePath;
 import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedPath;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
 import org.apache.tinkerpop.gremlin.structure.util.reference.ReferencePath;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -199,4 +201,33 @@ public class PathTest {
         });
     }
 
+    @Test
+    public void shouldShareLabelSetsWithoutSharingAddedLabels() {
+        final Path path = ImmutablePath.make().extend("marko", "a").extend("stephen", "b");
+        final Path other = path.clone().extend("matthias", "b");
+        assertSame(path.labels().get(1), other.labels().get(2));
+        final Path detached = ReferenceFactory.detach(other);
+        detached.addLabel("c");
+        assertEquals("matthias", detached.get("c"));
+        assertFalse(other.hasLabel("c"));
+        assertFalse(path.hasLabel("c"));
+        other.addLabel("d");
+        assertEquals("matthias", other.get("d"));
+        assertFalse(path.hasLabel("d"));
+        assertFalse(detached.hasLabel("d"));
+    }
+
+    @Test
+    public void shouldKeepInterningLabelSetsAfterManyDistinctLabels() {
+        for (int i = 0; i < 5000; i++) {
+            ImmutablePath.make().extend(i, "label" + i);
+        }
+        final Path path = ImmutablePath.make().extend("marko", "x", "y");
+        final Path other = ImmutablePath.make().extend("stephen", "x", "y");
+        assertSame(path.labels().get(0), other.labels().get(0));
+        final Path reordered = ImmutablePath.make().extend("matthias", "y", "x");
+        assertEquals(Arrays.asList("y", "x"), new ArrayList<>(reordered.labels().get(0)));
+        assertEquals(Arrays.asList("x", "y"), new ArrayList<>(path.labels().get(0)));
+    }
+
 }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.engine;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.CountGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.AggregateStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.PartitionParallelStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class StandardTraversalEngineTest {
+
+    private static void applyStrategy(final Traversal traversal, final TraversalEngine traversalEngine) {
+        final TraversalStrategies strategies = new DefaultTraversalStrategies();
+        strategies.addStrategies(StandardTraversalEngine.PartitionParallelStrategy.instance());
+        traversal.asAdmin().setStrategies(strategies);
+        traversal.asAdmin().setEngine(traversalEngine);
+        traversal.asAdmin().applyStrategies();
+    }
+
+    @Test
+    public void shouldReturnSingletonForOneWorker() {
+        assertSame(StandardTraversalEngine.instance(), StandardTraversalEngine.build().create(EmptyGraph.instance()));
+        assertSame(StandardTraversalEngine.instance(), StandardTraversalEngine.build().workers(1).create(EmptyGraph.instance()));
+    }
+
+    @Test
+    public void shouldSharePoolBetweenBuildersWithSameWorkers() {
+        final StandardTraversalEngine a = (StandardTraversalEngine) StandardTraversalEngine.build().workers(3).create(EmptyGraph.instance());
+        final StandardTraversalEngine b = (StandardTraversalEngine) StandardTraversalEngine.build().workers(3).create(EmptyGraph.instance());
+        final StandardTraversalEngine c = (StandardTraversalEngine) StandardTraversalEngine.build().workers(5).create(EmptyGraph.instance());
+        assertSame(a.getForkJoinPool(), b.getForkJoinPool());
+        assertNotSame(a.getForkJoinPool(), c.getForkJoinPool());
+        assertEquals(3, a.getForkJoinPool().getParallelism());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRequireAtLeastOneWorker() {
+        StandardTraversalEngine.build().workers(0);
+    }
+
+    @Test
+    public void shouldPartitionStepsBeforeBarrier() {
+        final Traversal.Admin<?, ?> traversal = EmptyGraph.instance().traversal().V().out().has("age", 32).out().count().asAdmin();
+        applyStrategy(traversal, StandardTraversalEngine.build().workers(2).create(EmptyGraph.instance()));
+        assertEquals(3, traversal.getSteps().size());
+        assertTrue(traversal.getStartStep() instanceof GraphStep);
+        assertTrue(traversal.getSteps().get(1) instanceof PartitionParallelStep);
+        assertTrue(traversal.getEndStep() instanceof CountGlobalStep);
+        assertEquals(3, ((PartitionParallelStep<?, ?>) traversal.getSteps().get(1)).getLocalChildren().get(0).getSteps().size());
+    }
+
+    @Test
+    public void shouldNotPartitionForOneWorker() {
+        final Traversal.Admin<?, ?> traversal = EmptyGraph.instance().traversal().V().out().out().count().asAdmin();
+        applyStrategy(traversal, StandardTraversalEngine.instance());
+        assertFalse(TraversalHelper.hasStepOfClass(PartitionParallelStep.class, traversal));
+    }
+
+    @Test
+    public void shouldNotPartitionWithoutBarrier() {
+        final Traversal.Admin<?, ?> traversal = EmptyGraph.instance().traversal().V().out().out().asAdmin();
+        applyStrategy(traversal, StandardTraversalEngine.build().workers(2).create(EmptyGraph.instance()));
+        assertFalse(TraversalHelper.hasStepOfClass(PartitionParallelStep.class, traversal));
+    }
+
+    @Test
+    public void shouldNotPartitionBeforeBulkIgnorantBarrier() {
+        final Traversal.Admin<?, ?> traversal = EmptyGraph.instance().traversal().V().out().out().fold().asAdmin();
+        applyStrategy(traversal, StandardTraversalEngine.build().workers(2).create(EmptyGraph.instance()));
+        assertFalse(TraversalHelper.hasStepOfClass(PartitionParallelStep.class, traversal));
+    }
+
+    @Test
+    public void shouldNotPartitionPastSideEffects() {
+        final Traversal.Admin<?, ?> traversal = EmptyGraph.instance().traversal().V().out().aggregate("x").out().count().asAdmin();
+        applyStrategy(traversal, StandardTraversalEngine.build().workers(2).create(EmptyGraph.instance()));
+        assertEquals(5, traversal.getSteps().size());
+        assertTrue(traversal.getSteps().get(1) instanceof PartitionParallelStep);
+        assertTrue(traversal.getSteps().get(2) instanceof AggregateStep);
+        assertEquals(1, ((PartitionParallelStep<?, ?>) traversal.getSteps().get(1)).getLocalChildren().get(0).getSteps().size());
+    }
+
+    @Test
+    public void shouldNotPartitionGlobalRanges() {
+        final Traversal.Admin<?, ?> traversal = EmptyGraph.instance().traversal().V().out().limit(2).out().count().asAdmin();
+        applyStrategy(traversal, StandardTraversalEngine.build().workers(2).create(EmptyGraph.instance()));
+        assertFalse(TraversalHelper.hasStepOfClass(PartitionParallelStep.class, traversal));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class CountMapTest {
+
+    @Test
+    public void shouldIncrementCounts() {
+        final CountMap<String> map = new CountMap<>();
+        assertEquals(0l, map.getCount("a"));
+        assertEquals(1l, map.incr("a", 1l));
+        assertEquals(3l, map.incr("a", 2l));
+        assertEquals(5l, map.incr(null, 5l));
+        assertEquals(2, map.size());
+        assertEquals(Long.valueOf(3l), map.get("a"));
+        assertEquals(Long.valueOf(5l), map.get(null));
+        assertNull(map.get("b"));
+        assertTrue(map.containsKey(null));
+        assertFalse(map.containsKey("b"));
+    }
+
+    @Test
+    public void shouldBehaveLikeHashMap() {
+        final CountMap<Integer> map = new CountMap<>();
+        final Map<Integer, Long> expected = new HashMap<>();
+        final Random random = new Random(0);
+        for (int i = 0; i < 100000; i++) {
+            final Integer key = random.nextInt(2000);
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    expected.put(key, expected.getOrDefault(key, 0l) + i);
+                    assertEquals(expected.get(key).longValue(), map.incr(key, i));
+            }
+        }
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+
+    @Test
+    public void shouldRemoveWhileIterating() {
+        final CountMap<Integer> map = new CountMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.incr(i, i);
+        }
+        final Iterator<Map.Entry<Integer, Long>> iterator = map.entrySet().iterator();
+        int visited = 0;
+        while (iterator.hasNext()) {
+            final Map.Entry<Integer, Long> entry = iterator.next();
+            visited++;
+            if (entry.getKey() % 2 == 0)
+                iterator.remove();
+            else
+                entry.setValue(entry.getValue() * 2);
+        }
+        assertEquals(1000, visited);
+        assertEquals(500, map.size());
+        map.forEachCount((key, count) -> assertEquals(key * 2l, count));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(1l, map.incr(1, 1l));
+    }
+
+    @Test
+    public void shouldSerialize() throws Exception {
+        final CountMap<Object> map = new CountMap<>();
+        map.incr("a", 1l);
+        map.incr(1, 2l);
+        map.incr(null, 3l);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(map);
+        }
+        try (final ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertEquals(map, inputStream.readObject());
+        }
+
+        final Kryo kryo = GryoMapper.build().create().createMapper();
+        final Output output = new Output(new ByteArrayOutputStream());
+        kryo.writeClassAndObject(output, map);
+        final Object other = kryo.readClassAndObject(new Input(output.toBytes()));
+        assertEquals(HashMap.class, other.getClass());
+        assertEquals(map, other);
+    }
+}
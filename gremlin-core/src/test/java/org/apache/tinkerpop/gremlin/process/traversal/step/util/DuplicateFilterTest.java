@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.step.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedEdge;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedVertex;
+import org.apache.tinkerpop.gremlin.structure.util.reference.ReferenceFactory;
+import org.javatuples.Pair;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class DuplicateFilterTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldFilterElementsByKindAndId() {
+        final DuplicateFilter filter = new CompactDuplicateFilter();
+        assertTrue(filter.add(vertex(1l)));
+        assertFalse(filter.add(vertex(1l)));
+        assertFalse(filter.add(ReferenceFactory.detach(vertex(1l))));
+        assertTrue(filter.add(edge(1l)));
+        assertFalse(filter.add(edge(1l)));
+        assertTrue(filter.add(vertex(1)));
+        assertTrue(filter.add(vertex("1")));
+        assertFalse(filter.add(vertex("1")));
+        assertTrue(filter.add(vertex(0l)));
+        assertFalse(filter.add(vertex(0l)));
+        assertEquals(5l, filter.size());
+        filter.clear();
+        assertEquals(0l, filter.size());
+        assertTrue(filter.add(vertex(1l)));
+    }
+
+    @Test
+    public void shouldFilterObjectsAndLists() {
+        final DuplicateFilter filter = new CompactDuplicateFilter();
+        assertTrue(filter.add(1l));
+        assertTrue(filter.add("1"));
+        assertFalse(filter.add(1l));
+        assertTrue(filter.add(null));
+        assertFalse(filter.add(null));
+        assertTrue(filter.add(Arrays.asList(vertex(1l), "a")));
+        assertFalse(filter.add(Arrays.asList(vertex(1l), "a")));
+        assertTrue(filter.add(Arrays.asList(edge(1l), "a")));
+        assertTrue(filter.add(Collections.singletonList(1l)));
+        assertEquals(6l, filter.size());
+    }
+
+    @Test
+    public void shouldSpillIdsAndFilterAsInMemory() {
+        final SpillingDuplicateFilter filter = new SpillingDuplicateFilter(100, this.temporaryFolder.getRoot());
+        final Set<Long> seen = new HashSet<>();
+        final Random random = new Random(0);
+        for (int i = 0; i < 20000; i++) {
+            final long id = random.nextInt(5000) - 100;
+            assertEquals(seen.add(id), filter.add(i % 2 == 0 ? vertex(id) : ReferenceFactory.detach(vertex(id))));
+        }
+        assertTrue(filter.add(edge(1l)));
+        assertTrue(filter.add(vertex("a")));
+        assertEquals(seen.size() + 2, filter.size());
+        assertTrue(filter.getRunCount() > 0);
+        assertTrue(this.temporaryFolder.getRoot().list().length > 0);
+        filter.clear();
+        assertEquals(0, filter.getRunCount());
+        assertEquals(0, this.temporaryFolder.getRoot().list().length);
+        assertTrue(filter.add(vertex(1l)));
+    }
+
+    @Test
+    public void shouldDeleteSpilledRunsWhenTraversalIsExhaustedOrReset() {
+        final Vertex[] vertices = new Vertex[2000];
+        for (int i = 0; i < vertices.length; i++) {
+            vertices[i] = vertex((long) (i % 1000));
+        }
+
+        final Traversal.Admin<Vertex, Vertex> abandoned = spillingDedup(vertices);
+        assertEquals(500, abandoned.next(500).size());
+        assertTrue(this.temporaryFolder.getRoot().list().length > 0);
+        abandoned.reset();
+        assertEquals(0, this.temporaryFolder.getRoot().list().length);
+
+        final Traversal.Admin<Vertex, Vertex> exhausted = spillingDedup(vertices);
+        assertEquals(1000, exhausted.toList().size());
+        assertEquals(0, this.temporaryFolder.getRoot().list().length);
+    }
+
+    @Test
+    public void shouldNotMissDuplicatesWithBloomFilter() {
+        final DuplicateFilter filter = new BloomDuplicateFilter(100000, 0.01d);
+        int falsePositives = 0;
+        for (long id = 0; id < 100000; id++) {
+            if (!filter.add(vertex(id)))
+                falsePositives++;
+        }
+        for (long id = 0; id < 100000; id++) {
+            assertFalse(filter.add(vertex(id)));
+        }
+        assertTrue("false positives: " + falsePositives, falsePositives < 3000);
+        assertEquals(100000 - falsePositives, filter.size());
+        filter.clear();
+        assertTrue(filter.add(vertex(1l)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowBloomFilterWithoutFalsePositiveProbability() {
+        BloomDuplicateFilter.supplier(100, 0.0d);
+    }
+
+    private Traversal.Admin<Vertex, Vertex> spillingDedup(final Vertex... vertices) {
+        final Traversal.Admin<Vertex, Vertex> traversal = __.inject(vertices).dedup().asAdmin();
+        TraversalHelper.getLastStepOfAssignableClass(DedupGlobalStep.class, traversal).get()
+                .setDuplicateFilterSupplier(SpillingDuplicateFilter.supplier(100, this.temporaryFolder.getRoot()));
+        return traversal;
+    }
+
+    private static Vertex vertex(final Object id) {
+        return new DetachedVertex(id, Vertex.DEFAULT_LABEL, Collections.emptyMap());
+    }
+
+    private static Edge edge(final Object id) {
+        return new DetachedEdge(id, Edge.DEFAULT_LABEL, Collections.emptyMap(), Pair.with(1l, Vertex.DEFAULT_LABEL), Pair.with(2l, Vertex.DEFAULT_LABEL));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.strategy.decoration;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.DedupGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CompactDuplicateFilter;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author agent (agent@local)
+ */
+public class DuplicateFilterStrategyTest {
+
+    @Test
+    public void shouldUseCompactDuplicateFilterByDefault() {
+        final Traversal.Admin<?, ?> traversal = __.out().dedup().asAdmin();
+        assertSame(CompactDuplicateFilter.supplier(), TraversalHelper.getLastStepOfAssignableClass(DedupGlobalStep.class, traversal).get().getDuplicateFilterSupplier());
+        assertSame(CompactDuplicateFilter.supplier(), DuplicateFilterStrategy.build().create().getDuplicateFilterSupplier());
+    }
+
+    @Test
+    public void shouldSetDuplicateFilterOfDedupSteps() {
+        final DuplicateFilterStrategy strategy = DuplicateFilterStrategy.build().spill(1000).create();
+        final Traversal.Admin<?, ?> traversal = __.out().dedup().out().dedup().asAdmin();
+        strategy.apply(traversal);
+        assertEquals(2, TraversalHelper.getStepsOfClass(DedupGlobalStep.class, traversal).size());
+        TraversalHelper.getStepsOfClass(DedupGlobalStep.class, traversal).forEach(step -> assertSame(strategy.getDuplicateFilterSupplier(), step.getDuplicateFilterSupplier()));
+    }
+}
@@ -25,7 +25,11 @@ import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalEngine;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategies;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
 import org.apache.tinkerpop.gremlin.process.traversal.util.DefaultTraversalStrategies;
+import org.apache.tinkerpop.gremlin.process.traversal.util.Metrics;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -33,6 +37,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
 import java.util.Arrays;
+import java.util.Collection;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
@@ -70,6 +75,91 @@ public class LazyBarrierStrategyTest {
         }
     }
 
+    public static class ConfiguredTest {
+
+        private static void applyStrategy(final Traversal traversal, final LazyBarrierStrategy strategy) {
+            final TraversalEngine traversalEngine = mock(TraversalEngine.class);
+            when(traversalEngine.getType()).thenReturn(TraversalEngine.Type.STANDARD);
+            final TraversalStrategies strategies = new DefaultTraversalStrategies();
+            strategies.addStrategies(strategy);
+            traversal.asAdmin().setStrategies(strategies);
+            traversal.asAdmin().setEngine(traversalEngine);
+            traversal.asAdmin().applyStrategies();
+        }
+
+        @Test
+        public void shouldBoundBarriersByMaxBarrierSize() {
+            final Traversal traversal = __.out().out().out().count();
+            applyStrategy(traversal, LazyBarrierStrategy.build().maxBarrierSize(500).create());
+            assertEquals(__.out().out().barrier(500).out().barrier(500).count(), traversal);
+        }
+
+        @Test
+        public void shouldNotInsertBarriersWithoutFanOut() {
+            final Traversal traversal = __.out().out().out().count();
+            applyStrategy(traversal, LazyBarrierStrategy.build().fanOut(step -> step instanceof VertexStep ? 1.0d : null).create());
+            assertEquals(__.out().out().out().count(), traversal);
+        }
+
+        @Test
+        public void shouldInsertBarriersOnceFanOutIsReached() {
+            final Traversal traversal = __.out().out().out().out().count();
+            applyStrategy(traversal, LazyBarrierStrategy.build().defaultFanOut(1.5d).create());
+            assertEquals(__.out().out().barrier(LazyBarrierStrategy.MAX_BARRIER_SIZE).out().out().barrier(LazyBarrierStrategy.MAX_BARRIER_SIZE).count(), traversal);
+        }
+
+        @Test
+        public void shouldSizeBarriersByExpectedTraversers() {
+            final Traversal traversal = EmptyGraph.instance().traversal().V(1, 2, 3, 4, 5).out().out().out().count();
+            applyStrategy(traversal, LazyBarrierStrategy.build().minBarrierSize(10).create());
+            assertEquals(EmptyGraph.instance().traversal().V(1, 2, 3, 4, 5).out().barrier(50).out().barrier(500).out().barrier(5000).count(), traversal);
+        }
+
+        @Test
+        public void shouldUseObservedFanOut() {
+            final Metrics start = mock(Metrics.class);
+            when(start.getName()).thenReturn("GraphStep(vertex,[])");
+            when(start.getCount(TraversalMetrics.ELEMENT_COUNT_ID)).thenReturn(100l);
+            final Metrics knows = mock(Metrics.class);
+            when(knows.getName()).thenReturn("VertexStep(OUT,[knows],vertex)@[a]");
+            when(knows.getCount(TraversalMetrics.ELEMENT_COUNT_ID)).thenReturn(100l);
+            final Metrics created = mock(Metrics.class);
+            when(created.getName()).thenReturn("VertexStep(OUT,[created],vertex)");
+            when(created.getCount(TraversalMetrics.ELEMENT_COUNT_ID)).thenReturn(5000l);
+            final TraversalMetrics metrics = mock(TraversalMetrics.class);
+            when(metrics.getMetrics()).thenReturn((Collection) Arrays.asList(start, knows, created));
+
+            final Traversal traversal = __.out("knows").out("knows").out("created").out("knows").count();
+            applyStrategy(traversal, LazyBarrierStrategy.build().observedFanOut(metrics).create());
+            final int size = LazyBarrierStrategy.MAX_BARRIER_SIZE;
+            assertEquals(__.out("knows").out("knows").out("created").barrier(size).out("knows").count(), traversal);
+        }
+
+        @Test
+        public void shouldNotSeeObservedFanOutAddedToBuilderAfterCreate() {
+            final Metrics start = mock(Metrics.class);
+            when(start.getName()).thenReturn("GraphStep(vertex,[])");
+            when(start.getCount(TraversalMetrics.ELEMENT_COUNT_ID)).thenReturn(100l);
+            final Metrics knows = mock(Metrics.class);
+            when(knows.getName()).thenReturn("VertexStep(OUT,[knows],vertex)@[a]");
+            when(knows.getCount(TraversalMetrics.ELEMENT_COUNT_ID)).thenReturn(100l);
+            final Metrics created = mock(Metrics.class);
+            when(created.getName()).thenReturn("VertexStep(OUT,[created],vertex)");
+            when(created.getCount(TraversalMetrics.ELEMENT_COUNT_ID)).thenReturn(5000l);
+            final TraversalMetrics metrics = mock(TraversalMetrics.class);
+            when(metrics.getMetrics()).thenReturn((Collection) Arrays.asList(start, knows, created));
+
+            final LazyBarrierStrategy.Builder builder = LazyBarrierStrategy.build();
+            final LazyBarrierStrategy strategy = builder.create();
+            builder.observedFanOut(metrics);
+            final Traversal traversal = __.out("knows").out("knows").out("created").out("knows").count();
+            applyStrategy(traversal, strategy);
+            final Traversal expected = __.out("knows").out("knows").out("created").out("knows").count();
+            applyStrategy(expected, LazyBarrierStrategy.build().create());
+            assertEquals(expected, traversal);
+        }
+    }
+
     private static abstract class AbstractLazyBarrierStrategyTest {
 
         protected TraversalEngine traversalEngine;
@@ -96,6 +186,8 @@ public class LazyBarrierStrategyTest {
                     {__.out().out().out().count(), __.out().out().barrier(size).out().barrier(size).count()},
                     {__.outE().inV().outE().inV().outE().inV().groupCount(), __.outE().inV().outE().inV().barrier(size).outE().inV().barrier(size).groupCount()},
                     {__.out().out().has("age", 32).out().count(), __.out().out().barrier(size).has("age", 32).out().barrier(size).count()},
+                    {__.out().as("a").out().out().select("a"), __.out().as("a").out().barrier(size).out().barrier(size).select("a")},
+                    {__.out().out().out().path(), __.out().out().out().path()},
             });
         }
     }
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.TraverserGenerator;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.util.TraverserSet;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class B_LP_O_S_SE_SL_TraverserTest {
+
+    @Test
+    public void shouldUseLabeledPathTraverserForScopingSteps() {
+        assertTrue(generator(__.identity().as("a").identity().select("a")) instanceof B_LP_O_S_SE_SL_TraverserGenerator);
+        assertTrue(generator(__.identity().as("a").identity().as("b").select("a", "b")) instanceof B_LP_O_S_SE_SL_TraverserGenerator);
+        assertTrue(generator(__.identity().as("a").identity().where(P.neq("a"))) instanceof B_LP_O_S_SE_SL_TraverserGenerator);
+        assertTrue(generator(__.identity().as("a").identity().select("a").path()) instanceof B_O_P_S_SE_SL_TraverserGenerator);
+        assertTrue(generator(__.identity().as("a").identity().path()) instanceof B_O_P_S_SE_SL_TraverserGenerator);
+    }
+
+    @Test
+    public void shouldOnlyRecordReferencedLabels() {
+        final Traversal.Admin<?, ?> traversal = __.identity().as("a").identity().as("b").identity().as("a", "c").select("a").asAdmin();
+        final Traverser.Admin<String> traverser = generate(traversal, "x", 1l);
+        final Traverser.Admin<String> split = split(split(traverser, traversal, 1, "y"), traversal, 2, "z");
+        assertEquals(Arrays.asList("x", "z"), split.path().objects());
+        assertEquals(new HashSet<>(Arrays.asList("a")), split.path().labels().get(1));
+        assertEquals("x", traverser.path().get("a"));
+        assertFalse(split.path().hasLabel("b"));
+        assertFalse(split.path().hasLabel("c"));
+    }
+
+    @Test
+    public void shouldRecordFullPathIfLambdasAreUsed() {
+        final Traversal.Admin<?, ?> traversal = __.identity().as("a").identity().map(t -> t.get()).select("a").asAdmin();
+        assertTrue(traversal.getTraverserGenerator() instanceof B_O_P_S_SE_SL_TraverserGenerator);
+        final Traverser.Admin<String> traverser = split(split(generate(traversal, "x", 1l), traversal, 1, "y"), traversal, 2, "z");
+        assertEquals(Arrays.asList("x", "y", "z"), traverser.path().objects());
+    }
+
+    @Test
+    public void shouldNotBulkFullPathTraversersWithDistinctPaths() {
+        final Traversal.Admin<?, ?> traversal = __.identity().as("a").identity().path().asAdmin();
+        final Traverser.Admin<String> one = split(generate(traversal, "x", 1l), traversal, 1, "y");
+        final Traverser.Admin<String> two = split(generate(traversal, "x", 2l), traversal, 1, "y");
+        assertEquals(one.path().objects(), two.path().objects());
+        assertNotEquals(one, two);
+    }
+
+    @Test
+    public void shouldBulkTraversersWithEqualReferencedPaths() {
+        final Traversal.Admin<?, ?> traversal = __.identity().as("a").identity().as("b").identity().select("a").asAdmin();
+        final Traverser.Admin<String> one = split(split(generate(traversal, "x", 1l), traversal, 1, "y"), traversal, 2, "w");
+        final Traverser.Admin<String> two = split(split(generate(traversal, "x", 2l), traversal, 1, "z"), traversal, 2, "w");
+        final Traverser.Admin<String> three = split(split(generate(traversal, "v", 4l), traversal, 1, "y"), traversal, 2, "w");
+        assertEquals(one, two);
+        assertEquals(one.hashCode(), two.hashCode());
+        assertNotEquals(one, three);
+
+        final TraverserSet<String> traverserSet = new TraverserSet<>();
+        traverserSet.add(one);
+        traverserSet.add(two);
+        traverserSet.add(three);
+        assertEquals(2, traverserSet.size());
+        assertEquals(7l, traverserSet.bulkSize());
+    }
+
+    private static TraverserGenerator generator(final Traversal<?, ?> traversal) {
+        return traversal.asAdmin().getTraverserGenerator();
+    }
+
+    private static <S> Traverser.Admin<S> generate(final Traversal.Admin<?, ?> traversal, final S start, final long bulk) {
+        return traversal.getTraverserGenerator().generate(start, (Step) traversal.getStartStep(), bulk);
+    }
+
+    private static <S> Traverser.Admin<S> split(final Traverser.Admin<S> traverser, final Traversal.Admin<?, ?> traversal, final int stepIndex, final S object) {
+        final Traverser.Admin<S> split = traverser.split(object, (Step) traversal.getSteps().get(stepIndex));
+        split.setStepId(traversal.getSteps().get(stepIndex).getNextStep().getId());
+        return split;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class BoundedTraverserQueueTest {
+
+    @Test
+    public void shouldRetainFirstTraversers() {
+        final List<Integer> integers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            integers.add(i);
+        }
+        Collections.shuffle(integers, new Random(0));
+        final BoundedTraverserQueue<Integer> queue = new BoundedTraverserQueue<>((a, b) -> a.get().compareTo(b.get()), 10);
+        integers.forEach(i -> queue.add(traverser(i, 1)));
+        assertEquals(10, queue.size());
+        assertEquals(10l, queue.bulkSize());
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), drain(queue));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void shouldRetainTraverserThatReachesPastTheLimit() {
+        final BoundedTraverserQueue<String> queue = new BoundedTraverserQueue<>((a, b) -> a.get().compareTo(b.get()), 4);
+        queue.add(traverser("b", 3));
+        queue.add(traverser("c", 1));
+        queue.add(traverser("a", 2));
+        queue.add(traverser("d", 5));
+        assertEquals(5l, queue.bulkSize());
+        assertEquals(Arrays.asList("a", "b"), drain(queue));
+    }
+
+    @Test
+    public void shouldOrderEqualTraversersByInsertion() {
+        final BoundedTraverserQueue<String> queue = new BoundedTraverserQueue<>((a, b) -> Character.compare(a.get().charAt(0), b.get().charAt(0)), 2);
+        queue.add(traverser("x1", 1));
+        queue.add(traverser("x2", 1));
+        queue.add(traverser("x3", 1));
+        assertEquals(Arrays.asList("x1", "x2"), drain(queue));
+        queue.add(traverser("x1", 1));
+        queue.add(traverser("x2", 1));
+        queue.add(traverser("a", 1));
+        assertEquals(Arrays.asList("a", "x1"), drain(queue));
+    }
+
+    @Test
+    public void shouldRetainNothingForNoLimit() {
+        final BoundedTraverserQueue<String> queue = new BoundedTraverserQueue<>((a, b) -> a.get().compareTo(b.get()), 0);
+        queue.add(traverser("a", 1));
+        assertEquals(0, queue.size());
+        assertTrue(drain(queue).isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowNegativeLimit() {
+        new BoundedTraverserQueue<String>((a, b) -> a.get().compareTo(b.get()), -1);
+    }
+
+    @Test
+    public void shouldMatchStableSortOfAllTraversers() {
+        final Random random = new Random(1);
+        final Comparator<Traverser<Integer>> comparator = (a, b) -> Integer.compare(a.get() / 10, b.get() / 10);
+        final List<Integer> integers = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            integers.add(i);
+        }
+        for (int run = 0; run < 100; run++) {
+            Collections.shuffle(integers, random);
+            final long limit = random.nextInt(50);
+            final BoundedTraverserQueue<Integer> queue = new BoundedTraverserQueue<>(comparator, limit);
+            final List<Traverser.Admin<Integer>> traversers = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final Traverser.Admin<Integer> traverser = traverser(integers.get(i), 1 + random.nextInt(3));
+                traversers.add(traverser);
+                queue.add(traverser);
+            }
+            Collections.sort(traversers, comparator);
+            final List<Integer> expected = new ArrayList<>();
+            long bulk = 0l;
+            for (final Traverser.Admin<Integer> traverser : traversers) {
+                if (bulk >= limit)
+                    break;
+                expected.add(traverser.get());
+                bulk = bulk + traverser.bulk();
+            }
+            assertEquals(expected, drain(queue));
+        }
+    }
+
+    private static <T> Traverser.Admin<T> traverser(final T t, final long bulk) {
+        return new B_O_Traverser<>(t, bulk);
+    }
+
+    private static <T> List<T> drain(final BoundedTraverserQueue<T> queue) {
+        final TraverserSet<T> traverserSet = new TraverserSet<>();
+        queue.drainTo(traverserSet);
+        final List<T> objects = new ArrayList<>();
+        traverserSet.forEach(traverser -> objects.add(traverser.get()));
+        return objects;
+    }
+}
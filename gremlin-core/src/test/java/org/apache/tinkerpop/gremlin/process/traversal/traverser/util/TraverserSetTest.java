@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.traverser.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class TraverserSetTest {
+
+    @Test
+    public void shouldMergeEqualTraversersInInsertionOrder() {
+        final TraverserSet<String> traverserSet = new TraverserSet<>();
+        assertTrue(traverserSet.add(traverser("a", 1)));
+        assertTrue(traverserSet.add(traverser("b", 2)));
+        assertFalse(traverserSet.add(traverser("a", 3)));
+        assertTrue(traverserSet.add(traverser("c", 1)));
+        assertEquals(3, traverserSet.size());
+        assertEquals(7l, traverserSet.bulkSize());
+        assertEquals(4l, traverserSet.get(traverser("a", 1)).bulk());
+        assertEquals(Arrays.asList("a", "b", "c"), objects(traverserSet));
+
+        assertEquals("a", traverserSet.peek().get());
+        assertEquals("a", traverserSet.poll().get());
+        assertTrue(traverserSet.remove(traverser("c", 1)));
+        assertFalse(traverserSet.contains(traverser("c", 1)));
+        assertEquals("b", traverserSet.remove().get());
+        assertTrue(traverserSet.isEmpty());
+        assertNull(traverserSet.poll());
+        assertNull(traverserSet.peek());
+    }
+
+    @Test
+    public void shouldRemoveWithIteratorAndSort() {
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        for (int i = 10; i > 0; i--) {
+            traverserSet.add(traverser(i, 1));
+        }
+        final Iterator<Traverser.Admin<Integer>> iterator = traverserSet.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().get() % 2 == 0)
+                iterator.remove();
+        }
+        assertEquals(Arrays.asList(9, 7, 5, 3, 1), objects(traverserSet));
+        traverserSet.sort((a, b) -> a.get().compareTo(b.get()));
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), objects(traverserSet));
+        traverserSet.clear();
+        assertTrue(traverserSet.isEmpty());
+        assertEquals(0l, traverserSet.bulkSize());
+    }
+
+    @Test
+    public void shouldPollTraversersThatChangedAfterBeingAdded() {
+        final TraverserSet<String> traverserSet = new TraverserSet<>();
+        final Traverser.Admin<String> a = traverser("a", 1);
+        traverserSet.add(a);
+        traverserSet.add(traverser("b", 1));
+        a.setStepId("x");
+        assertEquals(2, traverserSet.size());
+        assertEquals("a", traverserSet.poll().get());
+        assertEquals("b", traverserSet.poll().get());
+        assertTrue(traverserSet.isEmpty());
+    }
+
+    @Test
+    public void shouldBehaveLikeAnInsertionOrderedMap() {
+        final Random random = new Random(42);
+        final TraverserSet<Integer> traverserSet = new TraverserSet<>();
+        final Map<Integer, Long> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 100000; i++) {
+            final int operation = random.nextInt(10);
+            final int object = random.nextInt(500);
+            if (operation < 6) {
+                traverserSet.add(traverser(object, 2));
+                expected.merge(object, 2l, Long::sum);
+            } else if (operation < 8) {
+                final Traverser.Admin<Integer> polled = traverserSet.poll();
+                if (expected.isEmpty())
+                    assertNull(polled);
+                else {
+                    final Map.Entry<Integer, Long> head = expected.entrySet().iterator().next();
+                    assertEquals(head.getKey(), polled.get());
+                    assertEquals(head.getValue().longValue(), polled.bulk());
+                    expected.remove(head.getKey());
+                }
+            } else {
+                assertEquals(null != expected.remove(object), traverserSet.remove(traverser(object, 1)));
+            }
+            assertEquals(expected.size(), traverserSet.size());
+        }
+        assertEquals(new ArrayList<>(expected.keySet()), objects(traverserSet));
+        assertEquals(expected.values().stream().mapToLong(Long::longValue).sum(), traverserSet.bulkSize());
+    }
+
+    private static <T> Traverser.Admin<T> traverser(final T t, final long bulk) {
+        return new B_O_Traverser<>(t, bulk);
+    }
+
+    private static <T> List<T> objects(final TraverserSet<T> traverserSet) {
+        final List<T> objects = new ArrayList<>();
+        traverserSet.forEach(traverser -> objects.add(traverser.get()));
+        return objects;
+    }
+}
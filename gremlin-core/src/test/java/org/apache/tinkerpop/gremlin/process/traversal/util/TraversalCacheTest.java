@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.process.traversal.util;
+
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.util.empty.EmptyGraph;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class TraversalCacheTest {
+
+    private final GraphTraversalSource g = GraphTraversalSource.build().cache(2).create(EmptyGraph.instance());
+    private final GraphTraversalSource uncached = GraphTraversalSource.build().create(EmptyGraph.instance());
+    private final TraversalCache cache = g.getTraversalCache().get();
+
+    @Test
+    public void shouldOnlyHaveCacheWhenConfigured() {
+        assertFalse(uncached.getTraversalCache().isPresent());
+        assertEquals(2, cache.getMaxSize());
+        assertEquals(2, g.asBuilder().create(EmptyGraph.instance()).getTraversalCache().get().getMaxSize());
+    }
+
+    @Test
+    public void shouldBindHasValuesOfCompiledTraversal() {
+        final Traversal.Admin<?, ?> marko = compile(g.V().has("name", "marko").out().has("age", P.gt(30)));
+        assertEquals(compile(uncached.V().has("name", "marko").out().has("age", P.gt(30))).toString(), marko.toString());
+        assertEquals(0, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        final Traversal.Admin<?, ?> josh = compile(g.V().has("name", "josh").out().has("age", P.gt(25)));
+        assertEquals(compile(uncached.V().has("name", "josh").out().has("age", P.gt(25))).toString(), josh.toString());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.size());
+        assertTrue(marko.toString().contains("marko"));
+        assertTrue(josh.toString().contains("josh"));
+    }
+
+    @Test
+    public void shouldBindIdValues() {
+        compile(g.V().has(T.id, P.within(1, 2)));
+        final Traversal.Admin<?, ?> traversal = compile(g.V().has(T.id, P.within(3, 4)));
+        assertEquals(compile(uncached.V().has(T.id, P.within(3, 4))).toString(), traversal.toString());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void shouldKeyOnStructureAndUnparameterizedValues() {
+        compile(g.V().has("name", "marko").out());
+        compile(g.V().has("name", "marko").in());
+        compile(g.V().has("name", 1).out());
+        compile(g.V().has("name", P.neq("marko").or(P.eq("josh"))));
+        compile(g.V().where(__.has("name", "marko")));
+        compile(g.V().where(__.has("name", "josh")));
+        compile(g.V().local(__.out().sample(1)));
+        compile(g.V().local(__.out().sample(2)));
+        assertEquals(0, cache.getHits());
+        assertEquals(8, cache.getMisses());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void shouldNotCacheLambdasOrMutations() {
+        final Traversal.Admin<?, ?> traversal = compile(g.V().has("name", "marko").filter(t -> true));
+        assertTrue(traversal.isLocked());
+        compile(g.V().has("name", "marko").property("name", "josh"));
+        compile(g.addV(T.label, "person"));
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldClearCache() {
+        compile(g.V().has("name", "marko"));
+        compile(g.V().has("name", "josh"));
+        assertNotEquals(0, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowEmptyCache() {
+        new TraversalCache(0);
+    }
+
+    private static Traversal.Admin<?, ?> compile(final Traversal<?, ?> traversal) {
+        traversal.asAdmin().applyStrategies();
+        return traversal.asAdmin();
+    }
+}
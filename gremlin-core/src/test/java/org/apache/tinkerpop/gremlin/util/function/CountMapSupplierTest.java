@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.util.function;
+
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.CountMap;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * @author agent (agent@local)
+ */
+public class CountMapSupplierTest {
+    @Test
+    public void shouldSupplyCountMap() {
+        assertEquals(0, CountMapSupplier.instance().get().size());
+    }
+
+    @Test
+    public void shouldSupplyCountMapInstance() {
+        assertEquals(0, CountMapSupplier.instance().get().size());
+        assertThat(CountMapSupplier.instance().get(), instanceOf(CountMap.class));
+    }
+
+    @Test
+    public void shouldSupplyNewCountMapOnEachInvocation() {
+        final CountMap<Object> l1 = CountMapSupplier.instance().get();
+        final CountMap<Object> l2 = CountMapSupplier.instance().get();
+        final CountMap<Object> l3 = CountMapSupplier.instance().get();
+
+        assertNotSame(l1, l2);
+        assertNotSame(l1, l3);
+        assertNotSame(l2, l3);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.ser;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+
+/**
+ * A Kryo {@link Input} that reads from a {@link ByteBuf}.  A {@link ByteBuf} backed by an array is decoded in
+ * place from that array.  Otherwise, as with a direct {@link ByteBuf}, the bytes are read in chunks into the
+ * reusable buffer of the {@link Input}, so that no {@code byte[]} for the whole message is required.  Instances are
+ * meant to be reused by a single thread with {@link #setByteBuf}.
+ *
+ * @author agent (agent@local)
+ */
+final class ByteBufInput extends Input {
+    private final byte[] chunk;
+    private ByteBuf byteBuf;
+
+    ByteBufInput(final int bufferSize) {
+        super(bufferSize);
+        this.chunk = buffer;
+    }
+
+    /**
+     * Sets the {@link ByteBuf} to read from.  Setting it to {@code null} releases the reference to the last
+     * {@link ByteBuf} read from.
+     */
+    void setByteBuf(final ByteBuf byteBuf) {
+        this.byteBuf = byteBuf;
+        if (null == byteBuf) {
+            setBuffer(chunk, 0, 0);
+        } else if (byteBuf.hasArray()) {
+            final int length = byteBuf.readableBytes();
+            setBuffer(byteBuf.array(), byteBuf.arrayOffset() + byteBuf.readerIndex(), length);
+            byteBuf.skipBytes(length);
+        } else {
+            setBuffer(chunk, 0, 0);
+        }
+    }
+
+    @Override
+    protected int fill(final byte[] buffer, final int offset, final int count) {
+        if (null == byteBuf) return -1;
+        final int length = Math.min(count, byteBuf.readableBytes());
+        if (0 == length) return -1;
+        byteBuf.readBytes(buffer, offset, length);
+        return length;
+    }
+
+    @Override
+    public void close() {
+        setByteBuf(null);
+    }
+}
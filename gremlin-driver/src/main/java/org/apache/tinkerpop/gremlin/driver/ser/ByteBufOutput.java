@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.driver.ser;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+/**
+ * A Kryo {@link Output} that writes to a {@link ByteBuf}.  Kryo encodes into the reusable buffer of the
+ * {@link Output} which is flushed straight into the {@link ByteBuf} each time it fills, so that no intermediate
+ * {@code byte[]} for the whole message is required.  Instances are meant to be reused by a single thread with
+ * {@link #setByteBuf}.
+ *
+ * @author agent (agent@local)
+ */
+final class ByteBufOutput extends Output {
+    private ByteBuf byteBuf;
+
+    ByteBufOutput(final int bufferSize) {
+        super(bufferSize, -1);
+    }
+
+    /**
+     * Sets the {@link ByteBuf} to write to, discarding anything that was not flushed to the previous one.  Setting
+     * it to {@code null} releases the reference to the last {@link ByteBuf} written to.
+     */
+    void setByteBuf(final ByteBuf byteBuf) {
+        this.byteBuf = byteBuf;
+        this.position = 0;
+        this.total = 0;
+    }
+
+    @Override
+    public void flush() {
+        if (null == byteBuf) return;
+        byteBuf.writeBytes(buffer, 0, position);
+        total += position;
+        position = 0;
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
@@ -30,12 +30,8 @@ import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoIo;
 import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
 import org.apache.tinkerpop.shaded.kryo.Kryo;
 import org.apache.tinkerpop.shaded.kryo.Serializer;
-import org.apache.tinkerpop.shaded.kryo.io.Input;
-import org.apache.tinkerpop.shaded.kryo.io.Output;
 import org.javatuples.Pair;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -59,7 +55,15 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
         }
     };
 
+    /**
+     * Messages are encoded and decoded directly against the {@code ByteBuf} through these, which are reused per
+     * thread as the {@link Kryo} instances are.
+     */
+    private static final ThreadLocal<ByteBufOutput> outputThreadLocal = ThreadLocal.withInitial(() -> new ByteBufOutput(BUFFER_SIZE));
+    private static final ThreadLocal<ByteBufInput> inputThreadLocal = ThreadLocal.withInitial(() -> new ByteBufInput(BUFFER_SIZE));
+
     private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final int BUFFER_SIZE = 4096;
 
     private static final String MIME_TYPE = SerTokens.MIME_GRYO_V1D0;
     private static final String MIME_TYPE_STRINGD = SerTokens.MIME_GRYO_V1D0 + "-stringd";
@@ -160,9 +164,9 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
     public ResponseMessage deserializeResponse(final ByteBuf msg) throws SerializationException {
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            final byte[] payload = new byte[msg.readableBytes()];
-            msg.readBytes(payload);
-            try (final Input input = new Input(payload)) {
+            final ByteBufInput input = inputThreadLocal.get();
+            input.setByteBuf(msg);
+            try {
                 final UUID requestId = kryo.readObjectOrNull(input, UUID.class);
                 final int status = input.readShort();
                 final String statusMsg = input.readString();
@@ -177,6 +181,8 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
                         .result(result)
                         .responseMetaData(metaAttributes)
                         .create();
+            } finally {
+                input.setByteBuf(null);
             }
         } catch (Exception ex) {
             logger.warn("Response [{}] could not be deserialized by {}.", msg, GryoMessageSerializerV1d0.class.getName());
@@ -189,9 +195,10 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
         ByteBuf encodedMessage = null;
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            try (final OutputStream baos = new ByteArrayOutputStream()) {
-                final Output output = new Output(baos);
-
+            final ByteBufOutput output = outputThreadLocal.get();
+            encodedMessage = allocator.buffer(BUFFER_SIZE);
+            output.setByteBuf(encodedMessage);
+            try {
                 // request id - if present
                 kryo.writeObjectOrNull(output, responseMessage.getRequestId() != null ? responseMessage.getRequestId() : null, UUID.class);
 
@@ -203,13 +210,9 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
                 // result
                 kryo.writeClassAndObject(output, serializeToString ? serializeResultToString(responseMessage) : responseMessage.getResult().getData());
                 kryo.writeClassAndObject(output, responseMessage.getResult().getMeta());
-
-                final long size = output.total();
-                if (size > Integer.MAX_VALUE)
-                    throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
-
-                encodedMessage = allocator.buffer((int) output.total());
-                encodedMessage.writeBytes(output.toBytes());
+                output.flush();
+            } finally {
+                output.setByteBuf(null);
             }
 
             return encodedMessage;
@@ -225,9 +228,9 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
     public RequestMessage deserializeRequest(final ByteBuf msg) throws SerializationException {
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            final byte[] payload = new byte[msg.readableBytes()];
-            msg.readBytes(payload);
-            try (final Input input = new Input(payload)) {
+            final ByteBufInput input = inputThreadLocal.get();
+            input.setByteBuf(msg);
+            try {
                 // by the time the message gets here, the mime length/type have been already read, so this part just
                 // needs to process the payload.
                 final UUID id = kryo.readObject(input, UUID.class);
@@ -241,6 +244,8 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
                 final Map<String, Object> args = kryo.readObject(input, HashMap.class);
                 args.forEach(builder::addArg);
                 return builder.create();
+            } finally {
+                input.setByteBuf(null);
             }
         } catch (Exception ex) {
             logger.warn("Request [{}] could not be deserialized by {}.", msg, GryoMessageSerializerV1d0.class.getName());
@@ -253,8 +258,10 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
         ByteBuf encodedMessage = null;
         try {
             final Kryo kryo = kryoThreadLocal.get();
-            try (final OutputStream baos = new ByteArrayOutputStream()) {
-                final Output output = new Output(baos);
+            final ByteBufOutput output = outputThreadLocal.get();
+            encodedMessage = allocator.buffer(BUFFER_SIZE);
+            output.setByteBuf(encodedMessage);
+            try {
                 final String mimeType = serializeToString ? MIME_TYPE_STRINGD : MIME_TYPE;
                 output.writeByte(mimeType.length());
                 output.write(mimeType.getBytes(UTF8));
@@ -263,13 +270,9 @@ public final class GryoMessageSerializerV1d0 implements MessageSerializer {
                 output.writeString(requestMessage.getProcessor());
                 output.writeString(requestMessage.getOp());
                 kryo.writeObject(output, requestMessage.getArgs());
-
-                final long size = output.total();
-                if (size > Integer.MAX_VALUE)
-                    throw new SerializationException(String.format("Message size of %s exceeds allocatable space", size));
-
-                encodedMessage = allocator.buffer((int) size);
-                encodedMessage.writeBytes(output.toBytes());
+                output.flush();
+            } finally {
+                output.setByteBuf(null);
             }
 
             return encodedMessage;
@@ -34,6 +34,7 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.UnpooledByteBufAllocator;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import org.junit.Test;
@@ -326,6 +327,29 @@ public class GryoMessageSerializerV1d0Test {
         assertEquals("this", deserialized.getArgs().get("test"));
     }
 
+    @Test
+    public void serializeResponseMessageLargerThanBufferInPooledBuffers() throws Exception {
+        final List<String> list = new ArrayList<>();
+        for (int ix = 0; ix < 1000; ix++) {
+            list.add("result-" + ix);
+        }
+
+        final ByteBufAllocator pooled = new PooledByteBufAllocator(true);
+        for (final boolean direct : new boolean[]{true, false}) {
+            final ByteBuf bb = binarySerializer.serializeResponseAsBinary(responseMessageBuilder.result(list).create(), pooled);
+            final ByteBuf copy = direct ? pooled.directBuffer() : pooled.heapBuffer();
+            copy.writeBytes(bb);
+            assertEquals(direct, copy.isDirect());
+
+            final ResponseMessage response = binarySerializer.deserializeResponse(copy);
+            assertCommon(response);
+            assertEquals(list, response.getResult().getData());
+
+            bb.release();
+            copy.release();
+        }
+    }
+
     private void assertCommon(final ResponseMessage response) {
         assertEquals(requestId, response.getRequestId());
         assertEquals(ResponseStatusCode.SUCCESS, response.getStatus().getCode());
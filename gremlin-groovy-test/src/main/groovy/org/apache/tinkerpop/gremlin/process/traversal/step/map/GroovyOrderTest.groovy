@@ -81,5 +81,15 @@ public abstract class GroovyOrderTest {
         public Traversal<Vertex, Vertex> get_g_V_order_byXoutE_count__decrX() {
             TraversalScriptHelper.compute("g.V.order.by(__.outE.count, decr)", g)
         }
+
+        @Override
+        public Traversal<Vertex, Double> get_g_V_bothE_weight_order_limitX3X() {
+            TraversalScriptHelper.compute("g.V.bothE.weight.order.limit(3)", g)
+        }
+
+        @Override
+        public Traversal<Vertex, Integer> get_g_V_age_order_byXdecrX_rangeX1_3X() {
+            TraversalScriptHelper.compute("g.V.age.order.by(decr).range(1, 3)", g)
+        }
     }
 }
@@ -54,6 +54,16 @@ public class SecurityCustomizerProvider implements CompilerCustomizerProvider {
         return new SandboxTransformer();
     }
 
+    /**
+     * Identifies how the classes of scripts compiled with this provider differ from those compiled with another,
+     * which keys the classes that a {@link org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptClassStore} holds.  It
+     * is the names of the classes of this provider and of its {@link CompilationCustomizer} by default, so a
+     * subclass whose customizer takes settings that change the compiled classes should add them.
+     */
+    public String getCompilationFingerprint() {
+        return this.getClass().getName() + ":" + this.getCompilationCustomizer().getClass().getName();
+    }
+
     public void registerInterceptors() {
         interceptors.forEach(GroovyInterceptor::register);
     }
@@ -23,6 +23,8 @@ import org.apache.tinkerpop.gremlin.groovy.SecurityCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.DependencyManager;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngineFactory;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptClassCache;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptClassStore;
 import org.apache.tinkerpop.gremlin.groovy.plugin.GremlinPlugin;
 import org.apache.tinkerpop.gremlin.groovy.plugin.IllegalEnvironmentException;
 import org.kohsuke.groovy.sandbox.GroovyInterceptor;
@@ -36,10 +38,12 @@ import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
 import java.io.Closeable;
+import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -154,6 +158,13 @@ public class ScriptEngines implements AutoCloseable {
         }
     }
 
+    /**
+     * Gets the {@code ScriptEngine} for a language if one is configured.
+     */
+    public Optional<ScriptEngine> get(final String language) {
+        return Optional.ofNullable(scriptEngines.get(language));
+    }
+
     /**
      * Reload a {@code ScriptEngine} with fresh imports.  Waits for any existing script evaluations to complete but
      * then blocks other operations until complete.
@@ -345,9 +356,33 @@ public class ScriptEngines implements AutoCloseable {
             final long interruptionTimeout = ((Number) config.getOrDefault("interruptionTimeout",
                     GremlinGroovyScriptEngine.DEFAULT_SCRIPT_EVALUATION_TIMEOUT)).longValue();
 
-            return Optional.of((ScriptEngine) new GremlinGroovyScriptEngine(
+            final long classCacheMaxSize = ((Number) config.getOrDefault("classCacheMaxSize",
+                    ScriptClassCache.DEFAULT_MAX_SIZE)).longValue();
+            final long classCacheMaxWeight = ((Number) config.getOrDefault("classCacheMaxWeight",
+                    ScriptClassCache.DEFAULT_MAX_WEIGHT)).longValue();
+
+            final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(
                     new DefaultImportCustomizerProvider(imports, staticImports), securityCustomizerProvider,
-                    interruptionTimeout));
+                    interruptionTimeout, classCacheMaxSize, classCacheMaxWeight);
+
+            final String classStoreDirectory = (String) config.getOrDefault("classStoreDirectory", "");
+            if (!classStoreDirectory.isEmpty()) {
+                final long classStoreMaxScripts = ((Number) config.getOrDefault("classStoreMaxScripts",
+                        ScriptClassStore.DEFAULT_MAX_SCRIPTS)).longValue();
+                engine.setClassStore(new ScriptClassStore(new File(classStoreDirectory), classStoreMaxScripts));
+            }
+
+            // pinned scripts that fail to compile now may still compile once plugins have added their imports
+            final List<String> pinnedScripts = (List<String>) config.getOrDefault("classCachePinnedScripts", Collections.emptyList());
+            pinnedScripts.forEach(script -> {
+                try {
+                    engine.pin(script);
+                } catch (ScriptException ex) {
+                    logger.warn("Could not compile pinned script [{}] - it will be compiled on first use", script);
+                }
+            });
+
+            return Optional.of((ScriptEngine) engine);
         } else {
             return Optional.ofNullable(SCRIPT_ENGINE_MANAGER.getEngineByName(language));
         }
@@ -19,12 +19,28 @@
 package org.apache.tinkerpop.gremlin.groovy.jsr223;
 
 import groovy.lang.GroovyClassLoader;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilationUnit;
 import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.SourceUnit;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 public class GremlinGroovyClassLoader extends GroovyClassLoader {
+
+    /**
+     * Receives the byte code of the classes compiled by {@link #parseClass(String, String, Map)} on the current
+     * thread.
+     */
+    private final ThreadLocal<Map<String, byte[]>> byteCodeCollector = new ThreadLocal<>();
+
     public GremlinGroovyClassLoader(final ClassLoader parent, final CompilerConfiguration conf) {
         super(parent, conf);
     }
@@ -33,4 +49,73 @@ public class GremlinGroovyClassLoader extends GroovyClassLoader {
     protected void removeClassCacheEntry(final String name) {
         super.removeClassCacheEntry(name);
     }
+
+    /**
+     * Removes the class of a script along with the classes of its closures from the class cache, so that they may
+     * be garbage collected once nothing else refers to them.
+     */
+    void removeScriptClasses(final Class scriptClass) {
+        final String innerClassPrefix = scriptClass.getName() + "$";
+        for (final Class clazz : getLoadedClasses()) {
+            // classes loaded from a ScriptClassStore are not in the class cache but may share a name with one that is
+            if (clazz == scriptClass || (clazz.getName().startsWith(innerClassPrefix)
+                    && clazz.getClassLoader() == scriptClass.getClassLoader()))
+                removeClassCacheEntry(clazz.getName());
+        }
+    }
+
+    /**
+     * Compiles a script like {@link #parseClass(String, String)} and adds the byte code of each class it produced
+     * to {@code byteCode}, keyed by class name.
+     */
+    Class parseClass(final String script, final String fileName, final Map<String, byte[]> byteCode)
+            throws CompilationFailedException {
+        byteCodeCollector.set(byteCode);
+        try {
+            return parseClass(script, fileName);
+        } finally {
+            byteCodeCollector.remove();
+        }
+    }
+
+    /**
+     * Defines the classes of a script from byte code previously collected by
+     * {@link #parseClass(String, String, Map)}.  The classes share a loader of their own, as they would had the
+     * script been compiled, but are not added to the class cache.
+     *
+     * @return the classes that were defined, keyed by class name
+     */
+    Map<String, Class> defineScriptClasses(final Map<String, byte[]> byteCode) {
+        final ScriptClassLoader scriptClassLoader = AccessController.doPrivileged(
+                (PrivilegedAction<ScriptClassLoader>) () -> new ScriptClassLoader(this));
+        final Map<String, Class> classes = new LinkedHashMap<>();
+        byteCode.forEach((name, code) -> classes.put(name, scriptClassLoader.define(name, code)));
+        return classes;
+    }
+
+    @Override
+    protected ClassCollector createCollector(final CompilationUnit unit, final SourceUnit su) {
+        final Map<String, byte[]> byteCode = byteCodeCollector.get();
+        if (null == byteCode) return super.createCollector(unit, su);
+
+        final InnerLoader innerLoader = AccessController.doPrivileged(
+                (PrivilegedAction<InnerLoader>) () -> new InnerLoader(this));
+        return new ClassCollector(innerLoader, unit, su) {
+            @Override
+            protected Class createClass(final byte[] code, final ClassNode classNode) {
+                byteCode.put(classNode.getName(), code);
+                return super.createClass(code, classNode);
+            }
+        };
+    }
+
+    private static class ScriptClassLoader extends InnerLoader {
+        private ScriptClassLoader(final GroovyClassLoader delegate) {
+            super(delegate);
+        }
+
+        private Class define(final String name, final byte[] code) {
+            return defineClass(name, code, 0, code.length);
+        }
+    }
 }
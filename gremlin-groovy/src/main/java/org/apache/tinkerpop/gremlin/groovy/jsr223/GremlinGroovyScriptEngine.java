@@ -31,6 +31,7 @@ import groovy.grape.Grape;
 import groovy.lang.Binding;
 import groovy.lang.Closure;
 import groovy.lang.DelegatingMetaClass;
+import groovy.lang.GroovySystem;
 import groovy.lang.MetaClass;
 import groovy.lang.MissingMethodException;
 import groovy.lang.MissingPropertyException;
@@ -64,11 +65,13 @@ import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
@@ -99,9 +102,19 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
     };
 
     /**
-     * Script to generated Class map.
+     * Script to generated Class cache.
      */
-    private ManagedConcurrentValueMap<String, Class> classMap = new ManagedConcurrentValueMap<>(ReferenceBundle.getSoftBundle());
+    private final ScriptClassCache classCache;
+
+    /**
+     * Optional store of compiled classes that outlives the engine.
+     */
+    private volatile ScriptClassStore classStore = null;
+
+    /**
+     * The settings that affect how scripts compile with the current classloader, which keys the {@link #classStore}.
+     */
+    private volatile String compilationFingerprint;
 
     /**
      * Global closures map - this is used to simulate a single global functions namespace
@@ -150,10 +163,23 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
     public GremlinGroovyScriptEngine(final ImportCustomizerProvider importCustomizerProvider,
                                      final SecurityCustomizerProvider securityCustomizerProvider,
                                      final long scriptEvaluationTimeout) {
+        this(importCustomizerProvider, securityCustomizerProvider, scriptEvaluationTimeout,
+                ScriptClassCache.DEFAULT_MAX_SIZE, ScriptClassCache.DEFAULT_MAX_WEIGHT);
+    }
+
+    /**
+     * @param classCacheMaxSize the maximum number of compiled scripts to cache
+     * @param classCacheMaxWeight the maximum total length of the sources of the compiled scripts to cache
+     */
+    public GremlinGroovyScriptEngine(final ImportCustomizerProvider importCustomizerProvider,
+                                     final SecurityCustomizerProvider securityCustomizerProvider,
+                                     final long scriptEvaluationTimeout, final long classCacheMaxSize,
+                                     final long classCacheMaxWeight) {
         GremlinLoader.load();
         this.importCustomizerProvider = importCustomizerProvider;
         this.securityProvider = Optional.ofNullable(securityCustomizerProvider);
         this.scriptEvaluationTimeout = scriptEvaluationTimeout;
+        this.classCache = new ScriptClassCache(classCacheMaxSize, classCacheMaxWeight, this::evicted);
         createClassLoader();
     }
 
@@ -250,7 +276,7 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
 
         // must clear the local cache here because the the classloader has been reset.  therefore, classes previously
         // referenced before that might not have evaluated might cleanly evaluate now.
-        this.classMap.clear();
+        this.classCache.clear();
         this.globalClosures.clear();
 
         this.loadedPlugins.clear();
@@ -359,19 +385,91 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         return makeInterface(thiz, clazz);
     }
 
+    /**
+     * Compiles a script and pins its class in the cache so that it is never evicted.  The script remains pinned
+     * through a {@link #reset()}, after which it is compiled again on its next use.
+     */
+    public void pin(final String script) throws ScriptException {
+        classCache.pin(script);
+        compile(script);
+    }
+
+    /**
+     * Gets the cache of classes compiled from scripts along with its statistics.
+     */
+    public ScriptClassCache getClassCache() {
+        return classCache;
+    }
+
+    /**
+     * Sets a store that the classes of scripts are written to once compiled and that scripts not in the cache are
+     * loaded from before they are compiled, so that a script compiled before a restart need not be compiled again.
+     * A script evicted from the cache is removed from the store as well.  It may be set to {@code null} to stop
+     * using a store.
+     */
+    public void setClassStore(final ScriptClassStore classStore) {
+        this.classStore = classStore;
+    }
+
+    public Optional<ScriptClassStore> getClassStore() {
+        return Optional.ofNullable(classStore);
+    }
+
     Class getScriptClass(final String script) throws SyntaxException, CompilationFailedException, IOException {
         ensureSandbox();
 
-        Class clazz = classMap.get(script);
+        Class clazz = classCache.get(script);
         if (clazz != null) return clazz;
 
-        clazz = loader.parseClass(script, generateScriptName());
-        classMap.put(script, clazz);
+        final ScriptClassStore store = classStore;
+        if (null == store) {
+            final long start = System.nanoTime();
+            clazz = loader.parseClass(script, generateScriptName());
+            classCache.put(script, clazz, System.nanoTime() - start);
+            return clazz;
+        }
+
+        final String fingerprint = compilationFingerprint;
+        final Optional<Class> storedClass = store.load(fingerprint, script).flatMap(byteCode -> {
+            try {
+                return Optional.of(loader.defineScriptClasses(byteCode).values().iterator().next());
+            } catch (LinkageError le) {
+                // written for another version of the jvm or groovy, so compile it again and replace it
+                store.remove(fingerprint, script);
+                return Optional.empty();
+            }
+        });
+
+        if (storedClass.isPresent()) {
+            clazz = storedClass.get();
+            classCache.put(script, clazz);
+            return clazz;
+        }
+
+        final Map<String, byte[]> byteCode = new LinkedHashMap<>();
+        final long start = System.nanoTime();
+        clazz = loader.parseClass(script, generateScriptName(), byteCode);
+        classCache.put(script, clazz, System.nanoTime() - start);
+
+        // a script the cache could not hold would never be evicted and so never removed from the store
+        if (classCache.contains(script)) store.store(fingerprint, script, clazz.getName(), byteCode);
         return clazz;
     }
 
+    /**
+     * Unloads the class of a script evicted from the cache and removes it from the store, unless the script was
+     * only replaced by another class compiled from it.
+     */
+    private void evicted(final String script, final Class clazz) {
+        loader.removeScriptClasses(clazz);
+
+        final ScriptClassStore store = classStore;
+        if (store != null && !classCache.contains(script))
+            store.remove(compilationFingerprint, script);
+    }
+
     boolean isCached(final String script) {
-        return classMap.get(script) != null;
+        return classCache.contains(script);
     }
 
     Object eval(final Class scriptClass, final ScriptContext context) throws ScriptException {
@@ -491,9 +589,23 @@ public class GremlinGroovyScriptEngine extends GroovyScriptEngineImpl implements
         conf.addCompilationCustomizers(new ASTTransformationCustomizer(ThreadInterrupt.class));
 
         this.loader = new GremlinGroovyClassLoader(getParentLoader(), conf);
+        this.compilationFingerprint = createCompilationFingerprint();
         this.securityProvider.ifPresent(SecurityCustomizerProvider::registerInterceptors);
     }
 
+    private String createCompilationFingerprint() {
+        final Set<String> imports = new TreeSet<>(importCustomizerProvider.getImports());
+        imports.addAll(importCustomizerProvider.getExtraImports());
+        final Set<String> staticImports = new TreeSet<>(importCustomizerProvider.getStaticImports());
+        staticImports.addAll(importCustomizerProvider.getExtraStaticImports());
+
+        return String.join("\n", "groovy=" + GroovySystem.getVersion(),
+                "imports=" + String.join(",", imports),
+                "staticImports=" + String.join(",", staticImports),
+                "sandbox=" + securityProvider.map(SecurityCustomizerProvider::getCompilationFingerprint).orElse(""),
+                "scriptEvaluationTimeout=" + scriptEvaluationTimeout);
+    }
+
     private Object callGlobal(final String name, final Object args[]) {
         return callGlobal(name, args, context);
     }
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.groovy.jsr223;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The cache of classes compiled from scripts by the {@link GremlinGroovyScriptEngine}.  It is bounded by the
+ * number of scripts and by their weight, which is the total length of the script sources, and evicts the least
+ * recently used script first.  Pinned scripts are never evicted.  The cache also keeps statistics on hits, misses,
+ * evictions and compilations, and counts the uses of each script so that the most used ones can be recorded and
+ * compiled ahead of time on a later start.
+ *
+ * @author agent (agent@local)
+ */
+public final class ScriptClassCache {
+
+    public static final long DEFAULT_MAX_SIZE = 10000;
+    public static final long DEFAULT_MAX_WEIGHT = 100000000;
+
+    private final long maxSize;
+    private final long maxWeight;
+    private final BiConsumer<String, Class> evictionListener;
+
+    /**
+     * Scripts in least recently used order, guarded by synchronizing on the map.
+     */
+    private final LinkedHashMap<String, Entry> classes = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+
+    private final Set<String> pinnedScripts = ConcurrentHashMap.newKeySet();
+    private final Map<String, Entry> pinnedClasses = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+    private final AtomicLong evictions = new AtomicLong(0);
+    private final AtomicLong compilations = new AtomicLong(0);
+    private final AtomicLong compilationTime = new AtomicLong(0);
+
+    /**
+     * @param maxSize the maximum number of scripts to hold, not counting pinned scripts
+     * @param maxWeight the maximum total length of the sources of the scripts to hold, not counting pinned scripts
+     * @param evictionListener called with each script that is evicted and its class
+     */
+    ScriptClassCache(final long maxSize, final long maxWeight, final BiConsumer<String, Class> evictionListener) {
+        if (maxSize < 0) throw new IllegalArgumentException("maxSize must be zero or greater");
+        if (maxWeight < 0) throw new IllegalArgumentException("maxWeight must be zero or greater");
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.evictionListener = evictionListener;
+    }
+
+    Class get(final String script) {
+        Entry entry = pinnedClasses.get(script);
+        if (null == entry) {
+            synchronized (classes) {
+                entry = classes.get(script);
+            }
+        }
+
+        if (null == entry) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        entry.uses.incrementAndGet();
+        return entry.clazz;
+    }
+
+    boolean contains(final String script) {
+        if (pinnedClasses.containsKey(script)) return true;
+        synchronized (classes) {
+            return classes.containsKey(script);
+        }
+    }
+
+    /**
+     * Adds the class compiled from a script, which took {@code compilationTime} nanoseconds to compile.
+     */
+    void put(final String script, final Class clazz, final long compilationTime) {
+        compilations.incrementAndGet();
+        this.compilationTime.addAndGet(compilationTime);
+        put(script, clazz);
+    }
+
+    /**
+     * Adds the class of a script that did not have to be compiled, such as one loaded from a
+     * {@link ScriptClassStore}.
+     */
+    void put(final String script, final Class clazz) {
+        final Entry entry = new Entry(clazz);
+        if (pinnedScripts.contains(script)) {
+            pinnedClasses.put(script, entry);
+            return;
+        }
+
+        final List<Map.Entry<String, Class>> evicted = new ArrayList<>();
+        synchronized (classes) {
+            final Entry previous = classes.put(script, entry);
+            if (null == previous)
+                weight += script.length();
+            else if (previous.clazz != clazz)
+                evicted.add(new AbstractMap.SimpleImmutableEntry<>(script, previous.clazz));
+
+            final Iterator<Map.Entry<String, Entry>> itty = classes.entrySet().iterator();
+            while ((classes.size() > maxSize || weight > maxWeight) && itty.hasNext()) {
+                final Map.Entry<String, Entry> e = itty.next();
+                itty.remove();
+                weight -= e.getKey().length();
+                evicted.add(new AbstractMap.SimpleImmutableEntry<>(e.getKey(), e.getValue().clazz));
+            }
+        }
+
+        evictions.addAndGet(evicted.size());
+        evicted.forEach(e -> evictionListener.accept(e.getKey(), e.getValue()));
+    }
+
+    /**
+     * Pins a script so that its class is never evicted.  The script is compiled on its next use if it is not in
+     * the cache already.
+     */
+    void pin(final String script) {
+        pinnedScripts.add(script);
+        synchronized (classes) {
+            final Entry entry = classes.remove(script);
+            if (entry != null) {
+                weight -= script.length();
+                pinnedClasses.put(script, entry);
+            }
+        }
+    }
+
+    /**
+     * Removes all classes from the cache.  Scripts that were pinned remain pinned.
+     */
+    void clear() {
+        pinnedClasses.clear();
+        synchronized (classes) {
+            classes.clear();
+            weight = 0;
+        }
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * The number of scripts in the cache including pinned scripts.
+     */
+    public long size() {
+        synchronized (classes) {
+            return classes.size() + pinnedClasses.size();
+        }
+    }
+
+    /**
+     * The total length of the sources of the scripts in the cache, not counting pinned scripts.
+     */
+    public long weight() {
+        synchronized (classes) {
+            return weight;
+        }
+    }
+
+    /**
+     * Gets the scripts in the cache that were used the most since they were added, most used first.  Scripts that
+     * were never used after they were compiled are not included.
+     *
+     * @param limit the maximum number of scripts to return
+     */
+    public List<String> getMostUsedScripts(final int limit) {
+        final List<Map.Entry<String, Long>> uses;
+        synchronized (classes) {
+            uses = Stream.concat(classes.entrySet().stream(), pinnedClasses.entrySet().stream())
+                    .map(e -> new AbstractMap.SimpleImmutableEntry<>(e.getKey(), e.getValue().uses.get()))
+                    .collect(Collectors.toList());
+        }
+
+        return uses.stream()
+                .filter(e -> e.getValue() > 0)
+                .sorted(Comparator.comparing((Map.Entry<String, Long> e) -> e.getValue()).reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    public Set<String> getPinnedScripts() {
+        return Collections.unmodifiableSet(pinnedScripts);
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getCompilationCount() {
+        return compilations.get();
+    }
+
+    /**
+     * The total time spent compiling scripts.
+     */
+    public long getCompilationTime(final TimeUnit unit) {
+        return unit.convert(compilationTime.get(), TimeUnit.NANOSECONDS);
+    }
+
+    private static final class Entry {
+        private final Class clazz;
+        private final AtomicLong uses = new AtomicLong(0);
+
+        private Entry(final Class clazz) {
+            this.clazz = clazz;
+        }
+    }
+}
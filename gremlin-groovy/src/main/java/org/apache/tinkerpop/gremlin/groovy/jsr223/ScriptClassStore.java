@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.groovy.jsr223;
+
+import org.apache.tinkerpop.gremlin.groovy.SecurityCustomizerProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A directory of the byte code of classes compiled from scripts by the {@link GremlinGroovyScriptEngine}, so that a
+ * script compiled before a restart can be loaded instead of compiled again.  Each script is stored in a file of its
+ * own, named by a hash of the script and of the engine settings that affect how it compiles, which are the imports,
+ * the sandbox (by its {@link SecurityCustomizerProvider#getCompilationFingerprint()}) and the interruption timeout.
+ * Classes a script refers to that are outside of the script are not part of that hash, so the directory should be
+ * cleared when the libraries on the classpath change.
+ * <p/>
+ * The store holds at most {@code maxScripts} scripts.  Once a new script takes it past that, the scripts that were
+ * least recently stored or loaded are removed, which also clears out scripts left behind by earlier settings.
+ *
+ * @author agent (agent@local)
+ */
+public final class ScriptClassStore {
+    private static final Logger logger = LoggerFactory.getLogger(ScriptClassStore.class);
+
+    private static final int VERSION = 1;
+    private static final String EXTENSION = ".classes";
+
+    public static final long DEFAULT_MAX_SCRIPTS = 10000;
+
+    private final Path directory;
+    private final long maxScripts;
+
+    /**
+     * An estimate of the number of scripts in the directory, which is counted again whenever it is pruned.
+     */
+    private final AtomicLong scripts;
+
+    private final AtomicLong loads = new AtomicLong(0);
+    private final AtomicLong stores = new AtomicLong(0);
+
+    public ScriptClassStore(final File directory) {
+        this(directory, DEFAULT_MAX_SCRIPTS);
+    }
+
+    /**
+     * @param maxScripts the maximum number of scripts to keep in the directory
+     */
+    public ScriptClassStore(final File directory, final long maxScripts) {
+        if (maxScripts < 1) throw new IllegalArgumentException("maxScripts must be one or greater");
+        this.directory = directory.toPath();
+        this.maxScripts = maxScripts;
+        this.scripts = new AtomicLong(listScripts().size());
+    }
+
+    /**
+     * Gets the byte code stored for a script keyed by class name, with the class of the script itself first.
+     *
+     * @param fingerprint the engine settings that affect how the script compiles
+     */
+    Optional<Map<String, byte[]>> load(final String fingerprint, final String script) {
+        final Path file = fileFor(fingerprint, script);
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            // every length read is checked against the size of the file so that a corrupt one cannot ask for more
+            final long size = Files.size(file);
+            if (in.readInt() != VERSION) return Optional.empty();
+
+            final byte[] storedScript = new byte[checkLength(in.readInt(), size, file)];
+            in.readFully(storedScript);
+            if (!Arrays.equals(storedScript, script.getBytes(StandardCharsets.UTF_8))) return Optional.empty();
+
+            final int classCount = checkLength(in.readInt(), size, file);
+            final Map<String, byte[]> byteCode = new LinkedHashMap<>();
+            for (int ix = 0; ix < classCount; ix++) {
+                final String name = in.readUTF();
+                final byte[] code = new byte[checkLength(in.readInt(), size, file)];
+                in.readFully(code);
+                byteCode.put(name, code);
+            }
+            if (byteCode.isEmpty()) throw new IOException(String.format("%s holds no classes", file));
+
+            touch(file);
+            loads.incrementAndGet();
+            return Optional.of(byteCode);
+        } catch (NoSuchFileException nsfe) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException ex) {
+            logger.warn(String.format("Could not read compiled script from %s - it will be compiled again", file), ex);
+            remove(fingerprint, script);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the byte code of the classes of a script.  The file is written under another name and moved into
+     * place so that concurrent readers never see part of it.
+     *
+     * @param fingerprint the engine settings that affect how the script compiles
+     * @param scriptClassName the name of the class of the script itself, which must be a key of {@code byteCode}
+     */
+    void store(final String fingerprint, final String script, final String scriptClassName,
+               final Map<String, byte[]> byteCode) {
+        final Path file = fileFor(fingerprint, script);
+        try {
+            Files.createDirectories(directory);
+            final Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    out.writeInt(VERSION);
+
+                    final byte[] scriptBytes = script.getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(scriptBytes.length);
+                    out.write(scriptBytes);
+
+                    out.writeInt(byteCode.size());
+                    writeClass(out, scriptClassName, byteCode.get(scriptClassName));
+                    for (Map.Entry<String, byte[]> entry : byteCode.entrySet()) {
+                        if (!entry.getKey().equals(scriptClassName))
+                            writeClass(out, entry.getKey(), entry.getValue());
+                    }
+                }
+
+                final boolean replaced = Files.exists(file);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                stores.incrementAndGet();
+                if (!replaced && scripts.incrementAndGet() > maxScripts) prune();
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException ioe) {
+            logger.warn(String.format("Could not write compiled script to %s", file), ioe);
+        }
+    }
+
+    /**
+     * Removes the byte code stored for a script, if any.
+     */
+    void remove(final String fingerprint, final String script) {
+        final Path file = fileFor(fingerprint, script);
+        try {
+            if (Files.deleteIfExists(file)) scripts.decrementAndGet();
+        } catch (IOException ioe) {
+            logger.warn(String.format("Could not remove compiled script %s", file), ioe);
+        }
+    }
+
+    public File getDirectory() {
+        return directory.toFile();
+    }
+
+    public long getMaxScripts() {
+        return maxScripts;
+    }
+
+    /**
+     * The number of scripts loaded from the store.
+     */
+    public long getLoadCount() {
+        return loads.get();
+    }
+
+    /**
+     * The number of scripts written to the store.
+     */
+    public long getStoreCount() {
+        return stores.get();
+    }
+
+    /**
+     * Removes the least recently stored or loaded scripts until no more than {@code maxScripts} remain.
+     */
+    private synchronized void prune() {
+        final List<Path> files = listScripts();
+        files.sort(Comparator.comparing(ScriptClassStore::lastModified));
+
+        long remaining = files.size();
+        for (Path file : files) {
+            if (remaining <= maxScripts) break;
+            try {
+                Files.deleteIfExists(file);
+                remaining--;
+            } catch (IOException ioe) {
+                logger.warn(String.format("Could not remove compiled script %s", file), ioe);
+            }
+        }
+
+        scripts.set(remaining);
+    }
+
+    private List<Path> listScripts() {
+        if (!Files.isDirectory(directory)) return new ArrayList<>();
+        try (final Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(EXTENSION)).collect(Collectors.toList());
+        } catch (IOException ioe) {
+            logger.warn(String.format("Could not list compiled scripts in %s", directory), ioe);
+            return new ArrayList<>();
+        }
+    }
+
+    private static int checkLength(final int length, final long fileSize, final Path file) throws IOException {
+        if (length < 0 || length > fileSize)
+            throw new IOException(String.format("%s is corrupt - it holds a length of %s in %s bytes", file, length, fileSize));
+        return length;
+    }
+
+    private static FileTime lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException ioe) {
+            // most likely removed since it was listed, so let it sort first
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    /**
+     * Marks a script as recently used so that it is among the last to be pruned.
+     */
+    private static void touch(final Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException ioe) {
+            logger.debug(String.format("Could not update the modification time of %s", file), ioe);
+        }
+    }
+
+    private Path fileFor(final String fingerprint, final String script) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException nsae) {
+            // every java platform is required to support SHA-256
+            throw new IllegalStateException(nsae);
+        }
+
+        digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(script.getBytes(StandardCharsets.UTF_8));
+
+        final StringBuilder name = new StringBuilder();
+        for (byte b : digest.digest()) {
+            name.append(String.format("%02x", b));
+        }
+        return directory.resolve(name.append(EXTENSION).toString());
+    }
+
+    private static void writeClass(final DataOutputStream out, final String name, final byte[] code) throws IOException {
+        out.writeUTF(name);
+        out.writeInt(code.length);
+        out.write(code);
+    }
+}
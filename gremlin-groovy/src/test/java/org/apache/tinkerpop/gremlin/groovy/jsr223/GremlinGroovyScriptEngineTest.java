@@ -20,11 +20,15 @@ package org.apache.tinkerpop.gremlin.groovy.jsr223;
 
 import groovy.lang.Closure;
 import groovy.lang.Script;
+import groovy.transform.TypeChecked;
+import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.groovy.DefaultImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.NoImportCustomizerProvider;
 import org.apache.tinkerpop.gremlin.groovy.SecurityCustomizerProvider;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
+import org.codehaus.groovy.control.customizers.CompilationCustomizer;
 import org.junit.Test;
 import org.kohsuke.groovy.sandbox.GroovyInterceptor;
 import org.kohsuke.groovy.sandbox.GroovyValueFilter;
@@ -33,6 +37,9 @@ import javax.script.Bindings;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+import java.io.File;
+import java.io.RandomAccessFile;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
@@ -67,6 +74,229 @@ public class GremlinGroovyScriptEngineTest {
         assertFalse(engine.isCached(script));
     }
 
+    @Test
+    public void shouldEvictLeastRecentlyUsedScriptsFromClassCache() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new DefaultImportCustomizerProvider(),
+                null, GremlinGroovyScriptEngine.DEFAULT_SCRIPT_EVALUATION_TIMEOUT, 2, 1000);
+
+        assertEquals(1, engine.eval("1"));
+        assertEquals(2, engine.eval("2"));
+        assertEquals(1, engine.eval("1"));
+        assertEquals(3, engine.eval("3"));
+
+        assertTrue(engine.isCached("1"));
+        assertFalse(engine.isCached("2"));
+        assertTrue(engine.isCached("3"));
+
+        final ScriptClassCache cache = engine.getClassCache();
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(3, cache.getCompilationCount());
+        assertEquals(1, cache.getEvictionCount());
+
+        // the evicted class must not be held by the classloader either
+        assertEquals(2, engine.loader.getLoadedClasses().length);
+    }
+
+    @Test
+    public void shouldEvictScriptsFromClassCacheByWeight() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new DefaultImportCustomizerProvider(),
+                null, GremlinGroovyScriptEngine.DEFAULT_SCRIPT_EVALUATION_TIMEOUT, 100, 10);
+
+        assertEquals(2, engine.eval("1 + 1"));
+        assertEquals(4, engine.eval("2 + 2"));
+        assertEquals(6, engine.eval("3 + 3"));
+
+        assertFalse(engine.isCached("1 + 1"));
+        assertTrue(engine.isCached("2 + 2"));
+        assertTrue(engine.isCached("3 + 3"));
+        assertEquals(10, engine.getClassCache().weight());
+    }
+
+    @Test
+    public void shouldNotEvictPinnedScriptsFromClassCache() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new DefaultImportCustomizerProvider(),
+                null, GremlinGroovyScriptEngine.DEFAULT_SCRIPT_EVALUATION_TIMEOUT, 1, 1000);
+
+        engine.pin("1");
+        assertEquals(2, engine.eval("2"));
+        assertEquals(3, engine.eval("3"));
+
+        assertTrue(engine.isCached("1"));
+        assertFalse(engine.isCached("2"));
+        assertTrue(engine.isCached("3"));
+
+        engine.reset();
+        assertFalse(engine.isCached("1"));
+        assertEquals(1, engine.eval("1"));
+        assertTrue(engine.isCached("1"));
+        assertEquals(2, engine.eval("2"));
+        assertTrue(engine.isCached("1"));
+    }
+
+    @Test
+    public void shouldRankScriptsInClassCacheByUse() throws Exception {
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
+
+        engine.pin("1");
+        assertEquals(2, engine.eval("2"));
+        assertEquals(3, engine.eval("3"));
+        assertEquals(3, engine.eval("3"));
+        assertEquals(3, engine.eval("3"));
+        assertEquals(1, engine.eval("1"));
+        assertEquals(1, engine.eval("1"));
+
+        assertEquals(Arrays.asList("3", "1"), engine.getClassCache().getMostUsedScripts(10));
+        assertEquals(Arrays.asList("3"), engine.getClassCache().getMostUsedScripts(1));
+    }
+
+    @Test
+    public void shouldLoadScriptClassesFromClassStore() throws Exception {
+        final File directory = TestHelper.makeTestDataPath(GremlinGroovyScriptEngineTest.class, "class-store");
+        if (directory.exists()) Arrays.stream(directory.listFiles()).forEach(File::delete);
+        final ScriptClassStore store = new ScriptClassStore(directory);
+        final String script = "def x = [1, 2, 3].collect{it * y}; x.sum()";
+
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
+        engine.setClassStore(store);
+        final Bindings b = new SimpleBindings();
+        b.put("y", 2);
+        assertEquals(12, engine.eval(script, b));
+        assertEquals(1, store.getStoreCount());
+        assertEquals(1, directory.listFiles().length);
+
+        // a new engine, as after a restart, loads the class instead of compiling the script
+        final GremlinGroovyScriptEngine restarted = new GremlinGroovyScriptEngine();
+        restarted.setClassStore(new ScriptClassStore(directory));
+        assertEquals(12, restarted.eval(script, b));
+        assertEquals(1, restarted.getClassStore().get().getLoadCount());
+        assertEquals(0, restarted.getClassCache().getCompilationCount());
+        assertTrue(restarted.isCached(script));
+
+        // imports change how a script compiles so the stored class is not used
+        final GremlinGroovyScriptEngine noImports = new GremlinGroovyScriptEngine(new NoImportCustomizerProvider());
+        noImports.setClassStore(new ScriptClassStore(directory));
+        assertEquals(12, noImports.eval(script, b));
+        assertEquals(0, noImports.getClassStore().get().getLoadCount());
+        assertEquals(1, noImports.getClassCache().getCompilationCount());
+        assertEquals(2, directory.listFiles().length);
+    }
+
+    @Test
+    public void shouldRemoveScriptsEvictedFromClassCacheFromClassStore() throws Exception {
+        final File directory = TestHelper.makeTestDataPath(GremlinGroovyScriptEngineTest.class, "class-store-evict");
+        if (directory.exists()) Arrays.stream(directory.listFiles()).forEach(File::delete);
+        final ScriptClassStore store = new ScriptClassStore(directory);
+
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new DefaultImportCustomizerProvider(),
+                null, GremlinGroovyScriptEngine.DEFAULT_SCRIPT_EVALUATION_TIMEOUT, 2, 1000);
+        engine.setClassStore(store);
+
+        assertEquals(1, engine.eval("1"));
+        assertEquals(2, engine.eval("2"));
+        assertEquals(2, directory.listFiles().length);
+
+        // "1" is evicted to make room for "3" so it is no longer kept in the store
+        assertEquals(3, engine.eval("3"));
+        assertEquals(3, store.getStoreCount());
+        assertEquals(2, directory.listFiles().length);
+
+        final GremlinGroovyScriptEngine restarted = new GremlinGroovyScriptEngine();
+        restarted.setClassStore(new ScriptClassStore(directory));
+        assertEquals(1, restarted.eval("1"));
+        assertEquals(2, restarted.eval("2"));
+        assertEquals(3, restarted.eval("3"));
+        assertEquals(2, restarted.getClassStore().get().getLoadCount());
+        assertEquals(1, restarted.getClassCache().getCompilationCount());
+    }
+
+    @Test
+    public void shouldPruneLeastRecentlyUsedScriptsFromClassStore() throws Exception {
+        final File directory = TestHelper.makeTestDataPath(GremlinGroovyScriptEngineTest.class, "class-store-prune");
+        if (directory.exists()) Arrays.stream(directory.listFiles()).forEach(File::delete);
+
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
+        engine.setClassStore(new ScriptClassStore(directory, 2));
+        assertEquals(1, engine.eval("1"));
+        assertEquals(2, engine.eval("2"));
+        assertEquals(2, directory.listFiles().length);
+
+        // age both scripts so that the order is not left to the resolution of file modification times
+        Arrays.stream(directory.listFiles()).forEach(f -> f.setLastModified(0));
+
+        final GremlinGroovyScriptEngine restarted = new GremlinGroovyScriptEngine();
+        final ScriptClassStore store = new ScriptClassStore(directory, 2);
+        restarted.setClassStore(store);
+        assertEquals(2, restarted.eval("2"));
+        assertEquals(1, store.getLoadCount());
+
+        // loading "2" marked it as used so "1" is the one pruned to make room for "3"
+        assertEquals(3, restarted.eval("3"));
+        assertEquals(2, directory.listFiles().length);
+        assertEquals(1, restarted.eval("1"));
+        assertEquals(1, store.getLoadCount());
+    }
+
+    @Test
+    public void shouldCompileScriptAgainWhenClassStoreHoldsCorruptLength() throws Exception {
+        final File directory = TestHelper.makeTestDataPath(GremlinGroovyScriptEngineTest.class, "class-store-corrupt");
+        if (directory.exists()) Arrays.stream(directory.listFiles()).forEach(File::delete);
+
+        for (int length : new int[]{-1, Integer.MAX_VALUE}) {
+            final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
+            engine.setClassStore(new ScriptClassStore(directory));
+            assertEquals(12, engine.eval("6 * 2"));
+            assertEquals(1, directory.listFiles().length);
+
+            // the length of the script follows the version at the start of the file
+            try (final RandomAccessFile file = new RandomAccessFile(directory.listFiles()[0], "rw")) {
+                file.seek(4);
+                file.writeInt(length);
+            }
+
+            final GremlinGroovyScriptEngine restarted = new GremlinGroovyScriptEngine();
+            restarted.setClassStore(new ScriptClassStore(directory));
+            assertEquals(12, restarted.eval("6 * 2"));
+            assertEquals(0, restarted.getClassStore().get().getLoadCount());
+            assertEquals(1, restarted.getClassCache().getCompilationCount());
+
+            // the corrupt file was replaced by the class compiled again
+            assertEquals(1, directory.listFiles().length);
+            directory.listFiles()[0].delete();
+        }
+    }
+
+    @Test
+    public void shouldNotLoadScriptClassesStoredUnderAnotherSandbox() throws Exception {
+        final File directory = TestHelper.makeTestDataPath(GremlinGroovyScriptEngineTest.class, "class-store-sandbox");
+        if (directory.exists()) Arrays.stream(directory.listFiles()).forEach(File::delete);
+        final String script = "1 + 2";
+
+        final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine(new DefaultImportCustomizerProvider(),
+                new SecurityCustomizerProvider());
+        engine.setClassStore(new ScriptClassStore(directory));
+        assertEquals(3, engine.eval(script));
+        assertEquals(1, directory.listFiles().length);
+
+        // the same sandbox loads the stored class
+        final GremlinGroovyScriptEngine sameSandbox = new GremlinGroovyScriptEngine(new DefaultImportCustomizerProvider(),
+                new SecurityCustomizerProvider());
+        sameSandbox.setClassStore(new ScriptClassStore(directory));
+        assertEquals(3, sameSandbox.eval(script));
+        assertEquals(1, sameSandbox.getClassStore().get().getLoadCount());
+        assertEquals(0, sameSandbox.getClassCache().getCompilationCount());
+
+        // a sandbox that compiles differently must compile the script itself
+        final GremlinGroovyScriptEngine otherSandbox = new GremlinGroovyScriptEngine(new DefaultImportCustomizerProvider(),
+                new TypeCheckedSecurityCustomizerProvider());
+        otherSandbox.setClassStore(new ScriptClassStore(directory));
+        assertEquals(3, otherSandbox.eval(script));
+        assertEquals(0, otherSandbox.getClassStore().get().getLoadCount());
+        assertEquals(1, otherSandbox.getClassCache().getCompilationCount());
+        assertEquals(2, directory.listFiles().length);
+    }
+
     @Test
     public void shouldEvalSimple() throws Exception {
         final GremlinGroovyScriptEngine engine = new GremlinGroovyScriptEngine();
@@ -362,6 +592,13 @@ public class GremlinGroovyScriptEngineTest {
         assertEquals(3, engine.eval("addItUp(1,2)"));
     }
 
+    public static class TypeCheckedSecurityCustomizerProvider extends SecurityCustomizerProvider {
+        @Override
+        public CompilationCustomizer getCompilationCustomizer() {
+            return new ASTTransformationCustomizer(TypeChecked.class);
+        }
+    }
+
     public static class DenyAll extends GroovyValueFilter {
         @Override
         public Object filter(final Object o) {
@@ -239,6 +239,9 @@ public class GremlinServer {
                 logger.warn("Timeout waiting for Gremlin thread pool to shutdown - continuing with shutdown process.");
             }
 
+            // recorded once the gremlin pool has drained so that the last requests count
+            serverGremlinExecutor.recordWarmupScripts();
+
             try {
                 servicesLeftToShutdown.await(30000, TimeUnit.MILLISECONDS);
             } catch (InterruptedException ie) {
@@ -241,6 +241,7 @@ public class Settings {
         scriptEngineSettingsDescription.putListPropertyType("imports", String.class);
         scriptEngineSettingsDescription.putListPropertyType("staticImports", String.class);
         scriptEngineSettingsDescription.putListPropertyType("scripts", String.class);
+        scriptEngineSettingsDescription.putListPropertyType("warmupScripts", String.class);
         scriptEngineSettingsDescription.putMapPropertyType("config", String.class, Object.class);
         constructor.addTypeDescription(scriptEngineSettingsDescription);
 
@@ -317,6 +318,24 @@ public class Settings {
          * {@code ScriptEngine} implementation being used.
          */
         public Map<String, Object> config = null;
+
+        /**
+         * A list of scripts to compile when Gremlin Server starts, so that the first requests to use them do not
+         * have to wait for them to compile.  Only applies to a {@code ScriptEngine} that can compile scripts.
+         */
+        public List<String> warmupScripts = new ArrayList<>();
+
+        /**
+         * A file to which the scripts used the most are written when Gremlin Server stops and from which they are
+         * read and compiled, along with the {@link #warmupScripts}, when it starts again.  Scripts are only
+         * recorded for the {@code gremlin-groovy} {@code ScriptEngine}.
+         */
+        public String warmupScriptsFile = null;
+
+        /**
+         * The maximum number of scripts to write to the {@link #warmupScriptsFile}.
+         */
+        public int warmupScriptsFileLimit = 100;
     }
 
     /**
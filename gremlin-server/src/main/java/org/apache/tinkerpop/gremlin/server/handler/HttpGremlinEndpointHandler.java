@@ -29,30 +29,38 @@ import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
 import org.apache.tinkerpop.gremlin.driver.ser.MessageTextSerializer;
+import org.apache.tinkerpop.gremlin.driver.ser.SerTokens;
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
+import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.util.function.FunctionUtils;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
-import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import io.netty.util.CharsetUtil;
 import io.netty.util.ReferenceCountUtil;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.commons.lang.time.StopWatch;
 import org.javatuples.Quartet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -69,7 +77,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.codahale.metrics.MetricRegistry.name;
 import static io.netty.handler.codec.http.HttpHeaders.Names.*;
@@ -107,15 +117,30 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
      */
     private static final ObjectMapper mapper = new ObjectMapper();
 
+    private static final byte[] COMMA = ",".getBytes(UTF8);
+    private static final byte[] DATA_KEY = ("\"" + SerTokens.TOKEN_DATA + "\":").getBytes(UTF8);
+    private static final byte[] EMPTY_ARRAY = "[]".getBytes(UTF8);
+
     private final GremlinExecutor gremlinExecutor;
     private final GraphManager graphManager;
+    private final int resultIterationBatchSize;
+    private final long serializedResponseTimeout;
 
     public HttpGremlinEndpointHandler(final Map<String, MessageSerializer> serializers,
                                       final GremlinExecutor gremlinExecutor,
                                       final GraphManager graphManager) {
+        this(serializers, gremlinExecutor, graphManager, new Settings());
+    }
+
+    public HttpGremlinEndpointHandler(final Map<String, MessageSerializer> serializers,
+                                      final GremlinExecutor gremlinExecutor,
+                                      final GraphManager graphManager,
+                                      final Settings settings) {
         this.serializers = serializers;
         this.gremlinExecutor = gremlinExecutor;
         this.graphManager = graphManager;
+        this.resultIterationBatchSize = settings.resultIterationBatchSize;
+        this.serializedResponseTimeout = settings.serializedResponseTimeout;
     }
 
     @Override
@@ -160,30 +185,6 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
             try {
                 logger.debug("Processing request containing script [{}] and bindings of [{}] on {}",
                         requestArguments.getValue0(), requestArguments.getValue1(), Thread.currentThread().getName());
-                final ChannelPromise promise = ctx.channel().newPromise();
-                final AtomicReference<Object> resultHolder = new AtomicReference<>();
-                promise.addListener(future -> {
-                    // if failed then the error was already written back to the client as part of the eval future
-                    // processing of the exception
-                    if (future.isSuccess()) {
-                        logger.debug("Preparing HTTP response for request with script [{}] and bindings of [{}] with result of [{}] on [{}]",
-                                requestArguments.getValue0(), requestArguments.getValue1(), resultHolder.get(), Thread.currentThread().getName());
-                        final FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, OK, (ByteBuf) resultHolder.get());
-                        response.headers().set(CONTENT_TYPE, accept);
-                        response.headers().set(CONTENT_LENGTH, response.content().readableBytes());
-
-                        // handle cors business
-                        if (origin != null) response.headers().set(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
-
-                        if (!keepAlive) {
-                            ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE);
-                        } else {
-                            response.headers().set(CONNECTION, HttpHeaders.Values.KEEP_ALIVE);
-                            ctx.writeAndFlush(response);
-                        }
-                    }
-                });
-
                 final Timer.Context timerContext = evalOpTimer.time();
 
                 final Bindings bindings;
@@ -195,9 +196,11 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
                     return;
                 }
 
-                // provide a transform function to serialize to message - this will force serialization to occur
-                // in the same thread as the eval. after the CompletableFuture is returned from the eval the result
-                // is ready to be written as a ByteBuf directly to the response.  nothing should be blocking here.
+                // provide a transform function to serialize and write the response - this will force serialization to
+                // occur in the same thread as the eval. the results are streamed to the client in chunks of
+                // resultIterationBatchSize so the full result never has to be held in memory. nothing should be
+                // blocking the event loop here.
+                final AtomicBoolean responseStarted = new AtomicBoolean(false);
                 final CompletableFuture<Object> evalFuture = gremlinExecutor.eval(requestArguments.getValue0(), requestArguments.getValue2(), bindings,
                         FunctionUtils.wrapFunction(o -> {
                             // stopping the timer here is roughly equivalent to where the timer would have been stopped for
@@ -206,32 +209,21 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
 
                             logger.debug("Transforming result of request with script [{}] and bindings of [{}] with result of [{}] on [{}]",
                                     requestArguments.getValue0(), requestArguments.getValue1(), o, Thread.currentThread().getName());
-                            final ResponseMessage responseMessage = ResponseMessage.build(UUID.randomUUID())
-                                    .code(ResponseStatusCode.SUCCESS)
-                                    .result(IteratorUtils.asList(o)).create();
-                            try {
-                                Object wrappedBuffer = (Object) Unpooled.wrappedBuffer(serializer.serializeResponseAsString(responseMessage).getBytes(UTF8));
-                                // http server is sessionless and must handle commit on transactions
-                                this.graphManager.commitAll();
-                                return wrappedBuffer;
-                            } catch (Exception ex) {
-                                logger.warn(String.format("Error during serialization for %s", responseMessage), ex);
-                                throw ex;
-                            }
+                            writeResponse(ctx, serializer, accept, origin, keepAlive, IteratorUtils.asIterator(o), responseStarted);
+                            return null;
                         }));
 
                 evalFuture.exceptionally(t -> {
-                    sendError(ctx, INTERNAL_SERVER_ERROR, String.format("Error encountered evaluating script: %s", requestArguments.getValue0()));
-                    promise.setFailure(t);
+                    // once the headers of the chunked response are written an error can no longer be sent so the
+                    // connection is closed which leaves the client with an incomplete response
+                    if (responseStarted.get()) {
+                        logger.warn(String.format("Error encountered while streaming the result of script: %s", requestArguments.getValue0()), t);
+                        errorMeter.mark();
+                        ctx.close();
+                    } else
+                        sendError(ctx, INTERNAL_SERVER_ERROR, String.format("Error encountered evaluating script: %s", requestArguments.getValue0()));
                     return null;
                 });
-
-                evalFuture.thenAcceptAsync(r -> {
-                    // now that the eval/serialization is done in the same thread - complete the promise so we can
-                    // write back the HTTP response on the same thread as the original request
-                    resultHolder.set(r);
-                    promise.setSuccess();
-                }, gremlinExecutor.getExecutorService());
             } catch (Exception ex) {
                 // tossed to exceptionCaught which delegates to sendError method
                 final Throwable t = ExceptionUtils.getRootCause(ex);
@@ -240,6 +232,144 @@ public class HttpGremlinEndpointHandler extends ChannelInboundHandlerAdapter {
         }
     }
 
+    /**
+     * Writes the results as a single {@link ResponseMessage} with {@code Transfer-Encoding: chunked}. Each batch of
+     * results is serialized with {@link MessageSerializer#serializeResponseAsBinary} into a pooled {@code ByteBuf}
+     * and only the part of it that holds the serialized results is written as a chunk, so that the envelope of the
+     * message is written once around all of the batches. The first batch is serialized before the headers are written
+     * so that early serialization errors can still be returned as an error response.
+     */
+    private void writeResponse(final ChannelHandlerContext ctx, final MessageTextSerializer serializer, final String accept,
+                               final String origin, final boolean keepAlive, final Iterator<Object> itty,
+                               final AtomicBoolean responseStarted) throws Exception {
+        final UUID requestId = UUID.randomUUID();
+        final ByteBuf envelope = serializer.serializeResponseAsBinary(createResponse(requestId, new ArrayList<>()), ctx.alloc());
+        final int dataIndex = indexOfData(envelope);
+        final byte[] prefix = new byte[Math.max(dataIndex, 0)];
+        final byte[] suffix = new byte[envelope.readableBytes() - prefix.length];
+        envelope.getBytes(envelope.readerIndex(), prefix).getBytes(envelope.readerIndex() + prefix.length, suffix);
+        ReferenceCountUtil.release(envelope);
+
+        if (-1 == dataIndex) {
+            // the serializer does not write the data as an array so the response can not be split into chunks
+            final ByteBuf content = serializer.serializeResponseAsBinary(createResponse(requestId, IteratorUtils.list(itty)), ctx.alloc());
+            this.graphManager.commitAll();
+            final FullHttpResponse response = new DefaultFullHttpResponse(HTTP_1_1, OK, content);
+            response.headers().set(CONTENT_LENGTH, content.readableBytes());
+            writeHeadersAndContent(ctx, response, accept, origin, keepAlive, null);
+            return;
+        }
+
+        final StopWatch stopWatch = new StopWatch();
+        stopWatch.start();
+        boolean warnOnce = false;
+        boolean first = true;
+        try {
+            do {
+                // since the client is lagging hold here for a period of time for the client to catch up. this
+                // isn't blocking the IO thread - just a worker. the iteration stays on this thread as the http
+                // server must commit the transaction on the thread that evaluated the script.
+                if (!first && !ctx.channel().isWritable()) {
+                    final long pausedAt = System.nanoTime();
+                    while (!ctx.channel().isWritable()) {
+                        if (!ctx.channel().isActive())
+                            throw new IllegalStateException("The connection was closed before the response was fully written");
+
+                        // don't keep triggering this warning over and over again for the same request
+                        if (!warnOnce) {
+                            logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on request {} - writing will continue once client has caught up", requestId);
+                            warnOnce = true;
+                        }
+                        TimeUnit.MILLISECONDS.sleep(10);
+                        checkTimeout(stopWatch, warnOnce);
+                    }
+                    IteratorHandler.pausedTimer.update(System.nanoTime() - pausedAt, TimeUnit.NANOSECONDS);
+                }
+
+                final List<Object> aggregate = new ArrayList<>(this.resultIterationBatchSize);
+                while (itty.hasNext() && aggregate.size() < this.resultIterationBatchSize) {
+                    aggregate.add(itty.next());
+                }
+
+                // http server is sessionless and must handle commit on transactions
+                if (!itty.hasNext()) this.graphManager.commitAll();
+
+                final ByteBuf batch = serializer.serializeResponseAsBinary(createResponse(requestId, aggregate), ctx.alloc());
+                final ByteBuf data = batch.slice(batch.readerIndex() + prefix.length, batch.readableBytes() - prefix.length - suffix.length);
+                if (first) {
+                    final HttpResponse response = new DefaultHttpResponse(HTTP_1_1, OK);
+                    response.headers().set(TRANSFER_ENCODING, HttpHeaders.Values.CHUNKED);
+                    responseStarted.set(true);
+                    writeHeadersAndContent(ctx, response, accept, origin, keepAlive,
+                            new DefaultHttpContent(Unpooled.wrappedBuffer(Unpooled.wrappedBuffer(prefix), data)));
+                    first = false;
+                } else
+                    ctx.writeAndFlush(new DefaultHttpContent(Unpooled.wrappedBuffer(Unpooled.wrappedBuffer(COMMA), data)));
+
+                checkTimeout(stopWatch, warnOnce);
+            } while (itty.hasNext());
+
+            final ChannelFuture future = ctx.writeAndFlush(new DefaultLastHttpContent(Unpooled.wrappedBuffer(suffix)));
+            if (!keepAlive) future.addListener(ChannelFutureListener.CLOSE);
+        } finally {
+            stopWatch.stop();
+        }
+    }
+
+    private void checkTimeout(final StopWatch stopWatch, final boolean warnOnce) throws TimeoutException {
+        stopWatch.split();
+        if (stopWatch.getSplitTime() > this.serializedResponseTimeout) {
+            final String timeoutMsg = String.format("Serialization of the entire response exceeded the serializeResponseTimeout setting %s",
+                    warnOnce ? "[Gremlin Server paused writes to client as messages were not being consumed quickly enough]" : "");
+            throw new TimeoutException(timeoutMsg.trim());
+        }
+        stopWatch.unsplit();
+    }
+
+    private static void writeHeadersAndContent(final ChannelHandlerContext ctx, final HttpResponse response,
+                                               final String accept, final String origin, final boolean keepAlive,
+                                               final HttpContent content) {
+        response.headers().set(CONTENT_TYPE, accept);
+
+        // handle cors business
+        if (origin != null) response.headers().set(ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+
+        if (keepAlive) response.headers().set(CONNECTION, HttpHeaders.Values.KEEP_ALIVE);
+
+        if (null == content) {
+            final ChannelFuture future = ctx.writeAndFlush(response);
+            if (!keepAlive) future.addListener(ChannelFutureListener.CLOSE);
+        } else {
+            ctx.write(response);
+            ctx.writeAndFlush(content);
+        }
+    }
+
+    private static ResponseMessage createResponse(final UUID requestId, final List<Object> data) {
+        return ResponseMessage.build(requestId).code(ResponseStatusCode.SUCCESS).result(data).create();
+    }
+
+    /**
+     * Finds the position in a serialized {@link ResponseMessage} with no results at which the results would be
+     * written, which is the closing bracket of the empty array that follows the data key, or -1 if there is none.
+     */
+    private static int indexOfData(final ByteBuf envelope) {
+        final int start = indexOf(envelope, DATA_KEY, envelope.readerIndex());
+        final int index = -1 == start ? -1 : indexOf(envelope, EMPTY_ARRAY, start + DATA_KEY.length);
+        return -1 == index ? -1 : index + 1 - envelope.readerIndex();
+    }
+
+    private static int indexOf(final ByteBuf buffer, final byte[] bytes, final int fromIndex) {
+        for (int i = fromIndex; i <= buffer.writerIndex() - bytes.length; i++) {
+            int j = 0;
+            while (j < bytes.length && buffer.getByte(i + j) == bytes[j]) {
+                j++;
+            }
+            if (j == bytes.length) return i;
+        }
+        return -1;
+    }
+
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         logger.error("Error processing HTTP Request", cause);
@@ -18,18 +18,23 @@
  */
 package org.apache.tinkerpop.gremlin.server.handler;
 
+import com.codahale.metrics.Timer;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode;
+import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.util.MetricManager;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.util.ReferenceCountUtil;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
 import org.apache.commons.lang.time.StopWatch;
 import org.javatuples.Pair;
 import org.slf4j.Logger;
@@ -38,26 +43,82 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.codahale.metrics.MetricRegistry.name;
 
 /**
  * This handler helps in scenarios where iteration is not being already handled later in the Netty pipeline. It is
  * important that if this handler is used at all, that it not block, thus ensure that if {@link Iterator} instances
  * are passed to it, they do not contain large result sets or iterates over objects that require network calls.
+ * <p/>
+ * Iteration pauses while the channel is not writable because the {@code writeBufferHighWaterMark} was exceeded and
+ * resumes when the channel becomes writable again. No thread is held while it is paused. The handler also notifies
+ * the tasks registered with {@link #whenWritable} for the channel, which is how other parts of Gremlin Server wait
+ * on a slow client.
  *
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
 @ChannelHandler.Sharable
-public class IteratorHandler extends ChannelOutboundHandlerAdapter {
+public class IteratorHandler extends ChannelDuplexHandler {
     private static final Logger logger = LoggerFactory.getLogger(IteratorHandler.class);
 
+    /**
+     * The time spent with result writing paused on a slow client, which is shared by everything in Gremlin Server
+     * that waits for a channel to become writable.
+     */
+    public static final Timer pausedTimer = MetricManager.INSTANCE.getTimer(name(GremlinServer.class, "channels", "paused"));
+
     private final Settings settings;
 
     public IteratorHandler(final Settings settings) {
         this.settings = settings;
     }
 
+    /**
+     * Runs the task once the channel becomes writable or is closed. The task is run right away if the channel is
+     * writable already. The task is run on the event loop of the channel so it should only hand off work.
+     */
+    public static void whenWritable(final Channel channel, final Runnable task) {
+        Queue<Runnable> tasks = channel.attr(StateKey.WRITABILITY_TASKS).get();
+        if (null == tasks) {
+            final Queue<Runnable> newTasks = new ConcurrentLinkedQueue<>();
+            tasks = channel.attr(StateKey.WRITABILITY_TASKS).setIfAbsent(newTasks);
+            if (null == tasks) tasks = newTasks;
+        }
+        tasks.add(task);
+
+        // the channel may have become writable before the task was added
+        if (channel.isWritable() || !channel.isActive())
+            runWritabilityTasks(channel);
+    }
+
+    private static void runWritabilityTasks(final Channel channel) {
+        final Queue<Runnable> tasks = channel.attr(StateKey.WRITABILITY_TASKS).get();
+        if (null == tasks) return;
+        Runnable task;
+        while (null != (task = tasks.poll())) {
+            task.run();
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+        if (ctx.channel().isWritable()) runWritabilityTasks(ctx.channel());
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+        runWritabilityTasks(ctx.channel());
+        super.channelInactive(ctx);
+    }
+
     @Override
     public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) throws Exception {
         if (msg instanceof Pair) {
@@ -71,52 +132,112 @@ public class IteratorHandler extends ChannelOutboundHandlerAdapter {
 
                 // timer for the total serialization time
                 final StopWatch stopWatch = new StopWatch();
+                stopWatch.start();
 
-                final EventExecutorGroup executorService = ctx.executor();
-                final Future<?> iteration = executorService.submit((Callable<Void>) () -> {
-                    logger.debug("Preparing to iterate results from - {} - in thread [{}]", requestMessage, Thread.currentThread().getName());
-
-                    stopWatch.start();
+                logger.debug("Preparing to iterate results from - {} - in thread [{}]", requestMessage, Thread.currentThread().getName());
+                new Iteration(ctx, requestMessage, itty, resultIterationBatchSize, stopWatch).submit();
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
 
-                    List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
-                    while (itty.hasNext()) {
-                        aggregate.add(itty.next());
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
 
-                        // send back a page of results if batch size is met or if it's the end of the results being
-                        // iterated
-                        if (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
-                            final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
-                            ctx.writeAndFlush(ResponseMessage.build(requestMessage)
-                                    .code(code)
-                                    .result(aggregate).create());
-                            aggregate = new ArrayList<>(resultIterationBatchSize);
-                        }
+    /**
+     * The iteration of the results of a request, which is resubmitted to the executor of the channel each time it
+     * resumes after a pause.
+     */
+    private final class Iteration {
+        private final ChannelHandlerContext ctx;
+        private final RequestMessage requestMessage;
+        private final Iterator itty;
+        private final int resultIterationBatchSize;
+        private final StopWatch stopWatch;
+        private long pausedAt = -1l;
+
+        private Iteration(final ChannelHandlerContext ctx, final RequestMessage requestMessage, final Iterator itty,
+                          final int resultIterationBatchSize, final StopWatch stopWatch) {
+            this.ctx = ctx;
+            this.requestMessage = requestMessage;
+            this.itty = itty;
+            this.resultIterationBatchSize = resultIterationBatchSize;
+            this.stopWatch = stopWatch;
+        }
 
-                        stopWatch.split();
-                        if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
-                            throw new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting");
+        private void submit() {
+            final EventExecutorGroup executorService = ctx.executor();
+            final Future<Boolean> iteration = executorService.submit((Callable<Boolean>) this::iterate);
+            iteration.addListener(f -> {
+                if (!f.isSuccess()) {
+                    stopWatch.stop();
+                    final String errorMessage = String.format("Response iteration and serialization exceeded the configured threshold for request [%s] - %s", requestMessage, f.cause().getMessage());
+                    logger.warn(errorMessage);
+                    ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
+                } else if ((Boolean) f.getNow()) {
+                    stopWatch.stop();
+                }
+            });
+        }
 
-                        stopWatch.unsplit();
+        /**
+         * Iterates the results until they are all written or the channel is no longer writable, in which case the
+         * iteration is submitted again once the channel becomes writable or the time left to serialize the response
+         * is up.
+         *
+         * @return {@code true} if the iteration is complete
+         */
+        private boolean iterate() throws TimeoutException {
+            while (itty.hasNext()) {
+                stopWatch.split();
+                if (stopWatch.getSplitTime() > settings.serializedResponseTimeout)
+                    throw new TimeoutException("Serialization of the entire response exceeded the serializeResponseTimeout setting");
+
+                stopWatch.unsplit();
+
+                if (!ctx.channel().isWritable()) {
+                    if (!ctx.channel().isActive()) {
+                        logger.debug("Stopped iterating results from - {} - as the channel was closed", requestMessage);
+                        return true;
                     }
 
-                    return null;
-                });
-
-                iteration.addListener(f -> {
-                    stopWatch.stop();
-
-                    if (!f.isSuccess()) {
-                        final String errorMessage = String.format("Response iteration and serialization exceeded the configured threshold for request [%s] - %s", msg, f.cause().getMessage());
-                        logger.warn(errorMessage);
-                        ctx.writeAndFlush(ResponseMessage.build(requestMessage).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
+                    if (-1l == pausedAt) {
+                        logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", requestMessage);
+                        pausedAt = System.nanoTime();
                     }
-                });
-            } finally {
-                ReferenceCountUtil.release(msg);
+
+                    final AtomicBoolean resumed = new AtomicBoolean(false);
+                    final ScheduledFuture<?> timeout = ctx.executor().schedule(() -> {
+                        if (resumed.compareAndSet(false, true)) submit();
+                    }, settings.serializedResponseTimeout - stopWatch.getTime() + 1, TimeUnit.MILLISECONDS);
+                    whenWritable(ctx.channel(), () -> {
+                        if (resumed.compareAndSet(false, true)) {
+                            timeout.cancel(false);
+                            submit();
+                        }
+                    });
+                    return false;
+                }
+
+                if (-1l != pausedAt) {
+                    pausedTimer.update(System.nanoTime() - pausedAt, TimeUnit.NANOSECONDS);
+                    pausedAt = -1l;
+                }
+
+                final List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
+                while (itty.hasNext() && aggregate.size() < resultIterationBatchSize) {
+                    aggregate.add(itty.next());
+                }
+
+                // send back a page of results if batch size is met or if it's the end of the results being iterated
+                final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
+                ctx.writeAndFlush(ResponseMessage.build(requestMessage)
+                        .code(code)
+                        .result(aggregate).create());
             }
 
-        } else {
-            ctx.write(msg, promise);
+            return true;
         }
     }
 }
@@ -22,6 +22,8 @@ import org.apache.tinkerpop.gremlin.driver.MessageSerializer;
 import org.apache.tinkerpop.gremlin.server.op.session.Session;
 import io.netty.util.AttributeKey;
 
+import java.util.Queue;
+
 /**
  * Keys used in the various handlers to store state in the pipeline.
  *
@@ -31,4 +33,5 @@ public class StateKey {
     public static final AttributeKey<MessageSerializer> SERIALIZER = AttributeKey.valueOf("serializer");
     public static final AttributeKey<Boolean> USE_BINARY = AttributeKey.valueOf("useBinary");
     public static final AttributeKey<Session> SESSION = AttributeKey.valueOf("session");
+    public static final AttributeKey<Queue<Runnable>> WRITABILITY_TASKS = AttributeKey.valueOf("writabilityTasks");
 }
@@ -29,6 +29,7 @@ import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
 import org.apache.tinkerpop.gremlin.server.Settings;
+import org.apache.tinkerpop.gremlin.server.handler.IteratorHandler;
 import org.apache.tinkerpop.gremlin.server.util.MetricManager;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
@@ -45,8 +46,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import static com.codahale.metrics.MetricRegistry.name;
@@ -153,13 +156,8 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
 
             try {
                 handleIterator(context, itty);
-            } catch (TimeoutException ex) {
-                final String errorMessage = String.format("Response iteration exceeded the configured threshold for request [%s] - %s", msg, ex.getMessage());
-                logger.warn(errorMessage);
-                ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
             } catch (Exception ex) {
-                logger.warn(String.format("Exception processing a script on request [%s].", msg), ex);
-                ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR).statusMessage(ex.getMessage()).create());
+                handleIteratorException(context, ex);
             }
         });
 
@@ -186,6 +184,10 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
      * {@link Settings#serializedResponseTimeout} configuration and break the serialization process if
      * it begins to take too long to do so, throwing a {@link java.util.concurrent.TimeoutException} in such
      * cases.
+     * <p/>
+     * When the channel is not writable because the {@code writeBufferHighWaterMark} was exceeded, iteration is
+     * suspended and resumed on the {@link GremlinExecutor} once the client catches up, if
+     * {@link #canSuspendIteration} allows it.  Otherwise the calling thread waits for the client.
      *
      * @param context The Gremlin Server {@link Context} object containing settings, request message, etc.
      * @param itty The result to iterator
@@ -195,7 +197,6 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
         final ChannelHandlerContext ctx = context.getChannelHandlerContext();
         final RequestMessage msg = context.getRequestMessage();
         final Settings settings = context.getSettings();
-        boolean warnOnce = false;
 
         // we have an empty iterator - happens on stuff like: g.V().iterate()
         if (!itty.hasNext()) {
@@ -205,6 +206,7 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
             ctx.writeAndFlush(ResponseMessage.build(msg)
                     .code(ResponseStatusCode.NO_CONTENT)
                     .create());
+            return;
         }
 
         // timer for the total serialization time
@@ -214,60 +216,160 @@ public abstract class AbstractEvalOpProcessor implements OpProcessor {
         // the batch size can be overridden by the request
         final int resultIterationBatchSize = (Integer) msg.optionalArgs(Tokens.ARGS_BATCH_SIZE)
                 .orElse(settings.resultIterationBatchSize);
-        List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
-        while (itty.hasNext()) {
-            if (Thread.interrupted()) throw new InterruptedException();
-
-            // have to check the aggregate size because it is possible that the channel is not writeable (below)
-            // so iterating next() if the message is not written and flushed would bump the aggregate size beyond
-            // the expected resultIterationBatchSize.  Total serialization time for the response remains in
-            // effect so if the client is "slow" it may simply timeout.
-            if (aggregate.size() < resultIterationBatchSize) aggregate.add(itty.next());
-
-            // if there's no more items in the iterator then we've aggregated everything and are thus ready to
-            // commit stuff if transaction management is on.  exceptions should bubble up and be handle in the normal
-            // manner of things.  a final SUCCESS message will not have been sent (below) and we ship back an error.
-            // if transaction management is not enabled, then returning SUCCESS below is OK as this is a different
-            // usage context.  without transaction management enabled, the user is responsible for maintaining
-            // the transaction and will want a SUCCESS to know their eval and iteration was ok.  they would then
-            // potentially have a failure on commit on the next request.
-            if (!itty.hasNext() && manageTransactions)
-                context.getGraphManager().commitAll();
-
-            // send back a page of results if batch size is met or if it's the end of the results being iterated.
-            // also check writeability of the channel to prevent OOME for slow clients.
-            if (ctx.channel().isWritable()) {
-                if  (aggregate.size() == resultIterationBatchSize || !itty.hasNext()) {
-                    final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
-                    ctx.writeAndFlush(ResponseMessage.build(msg)
-                            .code(code)
-                            .result(aggregate).create());
-
-                    aggregate = new ArrayList<>(resultIterationBatchSize);
+        new ResultIteration(context, itty, resultIterationBatchSize, stopWatch).iterate();
+    }
+
+    /**
+     * Determines if result iteration may be suspended while the client is not consuming results and then resumed
+     * on another thread.  Graph implementations bind transactions to the thread, so by default iteration is only
+     * suspended if none of the configured graphs support transactions.
+     */
+    protected boolean canSuspendIteration(final Context context) {
+        return context.getGraphManager().getGraphs().values().stream()
+                .noneMatch(graph -> graph.features().graph().supportsTransactions());
+    }
+
+    private static void handleIteratorException(final Context context, final Exception ex) {
+        final ChannelHandlerContext ctx = context.getChannelHandlerContext();
+        final RequestMessage msg = context.getRequestMessage();
+        if (ex instanceof TimeoutException) {
+            final String errorMessage = String.format("Response iteration exceeded the configured threshold for request [%s] - %s", msg, ex.getMessage());
+            logger.warn(errorMessage);
+            ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR_TIMEOUT).statusMessage(errorMessage).create());
+        } else {
+            logger.warn(String.format("Exception processing a script on request [%s].", msg), ex);
+            ctx.writeAndFlush(ResponseMessage.build(msg).code(ResponseStatusCode.SERVER_ERROR).statusMessage(ex.getMessage()).create());
+        }
+    }
+
+    /**
+     * The state of the iteration of a result set, which allows it to be suspended while the channel is not
+     * writable and resumed later.
+     */
+    private final class ResultIteration {
+        private final Context context;
+        private final ChannelHandlerContext ctx;
+        private final RequestMessage msg;
+        private final Settings settings;
+        private final Iterator itty;
+        private final int resultIterationBatchSize;
+        private final StopWatch stopWatch;
+        private boolean warnOnce = false;
+        private long pausedAt = -1l;
+        private Boolean suspendable = null;
+
+        private ResultIteration(final Context context, final Iterator itty, final int resultIterationBatchSize,
+                                final StopWatch stopWatch) {
+            this.context = context;
+            this.ctx = context.getChannelHandlerContext();
+            this.msg = context.getRequestMessage();
+            this.settings = context.getSettings();
+            this.itty = itty;
+            this.resultIterationBatchSize = resultIterationBatchSize;
+            this.stopWatch = stopWatch;
+        }
+
+        private void iterate() throws TimeoutException, InterruptedException {
+            while (itty.hasNext()) {
+                if (Thread.interrupted()) throw new InterruptedException();
+
+                // total serialization time for the response remains in effect so if the client is "slow" it may
+                // simply timeout.
+                stopWatch.split();
+                if (stopWatch.getSplitTime() > settings.serializedResponseTimeout) {
+                    final String timeoutMsg = String.format("Serialization of the entire response exceeded the serializeResponseTimeout setting %s",
+                            warnOnce ? "[Gremlin Server paused writes to client as messages were not being consumed quickly enough]" : "");
+                    throw new TimeoutException(timeoutMsg.trim());
+                }
+
+                stopWatch.unsplit();
+
+                // check writeability of the channel to prevent OOME for slow clients.
+                if (!ctx.channel().isWritable()) {
+                    if (!ctx.channel().isActive()) {
+                        logger.debug("Stopped iterating results from - {} - as the channel was closed", msg);
+                        stopWatch.stop();
+                        return;
+                    }
+
+                    // don't keep triggering this warning over and over again for the same request
+                    if (!warnOnce) {
+                        logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
+                        warnOnce = true;
+                    }
+
+                    if (-1l == pausedAt) pausedAt = System.nanoTime();
+                    if (null == suspendable) suspendable = canSuspendIteration(context);
+
+                    if (suspendable) {
+                        suspend();
+                        return;
+                    }
+
+                    // since the client is lagging we can hold here for a period of time for the client to catch up.
+                    // this isn't blocking the IO thread - just a worker.
+                    TimeUnit.MILLISECONDS.sleep(10);
+                    continue;
                 }
-            } else {
-                // don't keep triggering this warning over and over again for the same request
-                if (!warnOnce) {
-                    logger.warn("Pausing response writing as writeBufferHighWaterMark exceeded on {} - writing will continue once client has caught up", msg);
-                    warnOnce = true;
+
+                if (-1l != pausedAt) {
+                    IteratorHandler.pausedTimer.update(System.nanoTime() - pausedAt, TimeUnit.NANOSECONDS);
+                    pausedAt = -1l;
                 }
 
-                // since the client is lagging we can hold here for a period of time for the client to catch up.
-                // this isn't blocking the IO thread - just a worker.
-                TimeUnit.MILLISECONDS.sleep(10);
-            }
+                final List<Object> aggregate = new ArrayList<>(resultIterationBatchSize);
+                while (itty.hasNext() && aggregate.size() < resultIterationBatchSize) {
+                    aggregate.add(itty.next());
+                }
 
-            stopWatch.split();
-            if (stopWatch.getSplitTime() > settings.serializedResponseTimeout) {
-                final String timeoutMsg = String.format("Serialization of the entire response exceeded the serializeResponseTimeout setting %s",
-                        warnOnce ? "[Gremlin Server paused writes to client as messages were not being consumed quickly enough]" : "");
-                throw new TimeoutException(timeoutMsg.trim());
+                // if there's no more items in the iterator then we've aggregated everything and are thus ready to
+                // commit stuff if transaction management is on.  exceptions should bubble up and be handle in the
+                // normal manner of things.  a final SUCCESS message will not have been sent (below) and we ship back
+                // an error. if transaction management is not enabled, then returning SUCCESS below is OK as this is
+                // a different usage context.  without transaction management enabled, the user is responsible for
+                // maintaining the transaction and will want a SUCCESS to know their eval and iteration was ok.  they
+                // would then potentially have a failure on commit on the next request.
+                if (!itty.hasNext() && manageTransactions)
+                    context.getGraphManager().commitAll();
+
+                // send back a page of results if batch size is met or if it's the end of the results being iterated.
+                final ResponseStatusCode code = itty.hasNext() ? ResponseStatusCode.PARTIAL_CONTENT : ResponseStatusCode.SUCCESS;
+                ctx.writeAndFlush(ResponseMessage.build(msg)
+                        .code(code)
+                        .result(aggregate).create());
             }
 
-            stopWatch.unsplit();
+            stopWatch.stop();
+        }
+
+        /**
+         * Releases the current thread and resumes iteration when the channel becomes writable or when the time
+         * left to serialize the response is up, whichever comes first.
+         */
+        private void suspend() {
+            final AtomicBoolean resumed = new AtomicBoolean(false);
+            final long remaining = settings.serializedResponseTimeout - stopWatch.getTime() + 1;
+            final ScheduledFuture<?> timeout = context.getScheduledExecutorService().schedule(() -> {
+                if (resumed.compareAndSet(false, true)) resume();
+            }, remaining, TimeUnit.MILLISECONDS);
+
+            IteratorHandler.whenWritable(ctx.channel(), () -> {
+                if (resumed.compareAndSet(false, true)) {
+                    timeout.cancel(false);
+                    resume();
+                }
+            });
         }
 
-        stopWatch.stop();
+        private void resume() {
+            context.getGremlinExecutor().getExecutorService().submit(() -> {
+                try {
+                    iterate();
+                } catch (Exception ex) {
+                    handleIteratorException(context, ex);
+                }
+            });
+        }
     }
 
     @FunctionalInterface
@@ -105,6 +105,15 @@ public class SessionOpProcessor extends AbstractEvalOpProcessor {
         return Optional.empty();
     }
 
+    /**
+     * Iteration of results in a session stays on the thread of the session so that it is bound to the same
+     * transaction as the script evaluation.
+     */
+    @Override
+    protected boolean canSuspendIteration(final Context context) {
+        return false;
+    }
+
     protected void evalOp(final Context context) throws OpProcessorException {
         final RequestMessage msg = context.getRequestMessage();
         final Session session = getSession(context, msg);
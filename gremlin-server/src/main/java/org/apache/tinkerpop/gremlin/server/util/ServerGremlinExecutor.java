@@ -19,6 +19,8 @@
 package org.apache.tinkerpop.gremlin.server.util;
 
 import org.apache.tinkerpop.gremlin.groovy.engine.GremlinExecutor;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
+import org.apache.tinkerpop.gremlin.groovy.jsr223.ScriptClassCache;
 import org.apache.tinkerpop.gremlin.process.traversal.TraversalSource;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.GremlinServer;
@@ -26,15 +28,34 @@ import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
 
+import javax.script.ScriptException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.codahale.metrics.MetricRegistry.name;
+
 /**
  * The core of script execution in Gremlin Server.  Given {@link Settings} and optionally other arguments, this
  * class will construct a {@link GremlinExecutor} to be used by Gremlin Server.  Those expecting to build their
@@ -138,6 +159,116 @@ public class ServerGremlinExecutor<T extends ScheduledExecutorService> {
                 .filter(kv -> kv.getValue() instanceof LifeCycleHook)
                 .map(kv -> (LifeCycleHook) kv.getValue())
                 .collect(Collectors.toList());
+
+        settings.scriptEngines.forEach(this::warmupScriptEngine);
+        settings.scriptEngines.keySet().forEach(this::registerClassCacheMetrics);
+    }
+
+    /**
+     * Writes the scripts used the most by each {@link GremlinGroovyScriptEngine} that has a
+     * {@link Settings.ScriptEngineSettings#warmupScriptsFile} to that file so that they are compiled when Gremlin
+     * Server starts again.  When fewer scripts than the limit were used, the scripts recorded by the previous run
+     * fill out the rest of the file, so that a short run does not lose them.
+     */
+    public void recordWarmupScripts() {
+        settings.scriptEngines.forEach((language, engineSettings) -> {
+            if (null == engineSettings.warmupScriptsFile) return;
+
+            gremlinExecutor.getScriptEngines().get(language)
+                    .filter(engine -> engine instanceof GremlinGroovyScriptEngine)
+                    .ifPresent(engine -> {
+                        final File file = new File(engineSettings.warmupScriptsFile);
+                        final Set<String> scripts = new LinkedHashSet<>(((GremlinGroovyScriptEngine) engine)
+                                .getClassCache().getMostUsedScripts(engineSettings.warmupScriptsFileLimit));
+                        readWarmupScriptsFile(file).stream()
+                                .limit(Math.max(0, engineSettings.warmupScriptsFileLimit - scripts.size()))
+                                .forEach(scripts::add);
+
+                        final DumperOptions options = new DumperOptions();
+                        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+                        try (final Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+                            new Yaml(options).dump(scripts.stream().limit(engineSettings.warmupScriptsFileLimit)
+                                    .collect(Collectors.toList()), writer);
+                            logger.info("Recorded {} warmup scripts for {} to {}", Math.min(scripts.size(),
+                                    engineSettings.warmupScriptsFileLimit), language, file);
+                        } catch (Exception ex) {
+                            logger.warn(String.format("Could not record warmup scripts for %s to %s", language, file), ex);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Compiles the {@link Settings.ScriptEngineSettings#warmupScripts} of a language along with those recorded in
+     * its {@link Settings.ScriptEngineSettings#warmupScriptsFile} so that they are in the class cache of the
+     * {@code ScriptEngine} before the first request arrives.
+     */
+    private void warmupScriptEngine(final String language, final Settings.ScriptEngineSettings engineSettings) {
+        final Set<String> scripts = new LinkedHashSet<>(engineSettings.warmupScripts);
+        if (engineSettings.warmupScriptsFile != null)
+            scripts.addAll(readWarmupScriptsFile(new File(engineSettings.warmupScriptsFile)));
+        if (scripts.isEmpty()) return;
+
+        final long start = System.currentTimeMillis();
+        int compiled = 0;
+        for (String script : scripts) {
+            try {
+                if (!gremlinExecutor.compile(script, Optional.of(language)).isPresent()) {
+                    logger.warn("The {} ScriptEngine cannot compile scripts - warmup scripts are ignored", language);
+                    return;
+                }
+                compiled++;
+            } catch (ScriptException ex) {
+                logger.warn("Could not compile warmup script [{}] for {} - {}", script, language, ex.getMessage());
+            }
+        }
+
+        logger.info("Compiled {} of {} warmup scripts for {} in {}ms", compiled, scripts.size(), language,
+                System.currentTimeMillis() - start);
+    }
+
+    private static List<String> readWarmupScriptsFile(final File file) {
+        // the file does not exist before the first run that records it
+        if (!file.exists()) return Collections.emptyList();
+
+        try (final Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            final Object scripts = new Yaml().load(reader);
+            if (scripts instanceof List)
+                return ((List<?>) scripts).stream().map(Object::toString).collect(Collectors.toList());
+
+            logger.warn("Warmup scripts file {} does not contain a list of scripts - it will be ignored", file);
+        } catch (Exception ex) {
+            logger.warn(String.format("Could not read warmup scripts file %s - it will be ignored", file), ex);
+        }
+
+        return Collections.emptyList();
+    }
+
+    /**
+     * Registers gauges for the {@link ScriptClassCache} of the {@link GremlinGroovyScriptEngine} of a language.
+     * The gauges read from the engine currently configured for the language, so they survive a reload of the
+     * engine, and report zero for engines of other types.
+     */
+    private void registerClassCacheMetrics(final String language) {
+        registerClassCacheGauge(language, "size", ScriptClassCache::size);
+        registerClassCacheGauge(language, "weight", ScriptClassCache::weight);
+        registerClassCacheGauge(language, "hits", ScriptClassCache::getHitCount);
+        registerClassCacheGauge(language, "misses", ScriptClassCache::getMissCount);
+        registerClassCacheGauge(language, "evictions", ScriptClassCache::getEvictionCount);
+        registerClassCacheGauge(language, "compilations", ScriptClassCache::getCompilationCount);
+        registerClassCacheGauge(language, "compilation-time", cache -> cache.getCompilationTime(TimeUnit.MILLISECONDS));
+    }
+
+    private void registerClassCacheGauge(final String language, final String metric,
+                                         final Function<ScriptClassCache, Long> value) {
+        final String gaugeName = name(GremlinServer.class, "engine", language, "class-cache", metric);
+
+        // a previous instance in the same jvm may have registered the gauge already
+        MetricManager.INSTANCE.getRegistry().remove(gaugeName);
+        MetricManager.INSTANCE.getGuage(() -> gremlinExecutor.getScriptEngines().get(language)
+                .filter(engine -> engine instanceof GremlinGroovyScriptEngine)
+                .map(engine -> value.apply(((GremlinGroovyScriptEngine) engine).getClassCache()))
+                .orElse(0l), gaugeName);
     }
 
     public T getScheduledExecutorService() {
@@ -34,6 +34,7 @@ import org.apache.tinkerpop.gremlin.driver.simple.WebSocketClient;
 import org.apache.tinkerpop.gremlin.groovy.jsr223.GremlinGroovyScriptEngine;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.server.channel.NioChannelizer;
+import org.apache.tinkerpop.gremlin.server.handler.IteratorHandler;
 import org.apache.tinkerpop.gremlin.server.op.session.SessionOpProcessor;
 import org.apache.tinkerpop.gremlin.util.Log4jRecordingAppender;
 import org.junit.After;
@@ -41,7 +42,9 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
@@ -89,6 +92,11 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
                 settings.writeBufferHighWaterMark = 64;
                 settings.writeBufferLowWaterMark = 32;
                 break;
+            case "shouldReleaseGremlinPoolThreadWhileWritingIsPaused":
+                settings.writeBufferHighWaterMark = 64;
+                settings.writeBufferLowWaterMark = 32;
+                settings.gremlinPool = 1;
+                break;
             case "shouldReceiveFailureTimeOutOnScriptEval":
                 settings.scriptEvaluationTimeout = 200;
                 break;
@@ -202,6 +210,73 @@ public class GremlinServerIntegrateTest extends AbstractGremlinServerIntegration
         }
     }
 
+    @Test
+    public void shouldReleaseGremlinPoolThreadWhileWritingIsPaused() throws Exception {
+        final long pausedBefore = IteratorHandler.pausedTimer.getCount();
+        final int resultCount = 20000;
+        final List<String> results = new ArrayList<>();
+        final CountDownLatch reading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicBoolean failed = new AtomicBoolean(false);
+
+        try (SimpleClient slowClient = new WebSocketClient();
+             SimpleClient client = new WebSocketClient()) {
+            // far more than the socket buffers hold, so the server stays paused while the slow client stops reading
+            final RequestMessage request = RequestMessage.build(Tokens.OPS_EVAL)
+                    .addArg(Tokens.ARGS_BATCH_SIZE, 1)
+                    .addArg(Tokens.ARGS_GREMLIN, "(0..<" + resultCount + ").collect{it + ':' + 'x' * 1024}").create();
+
+            // the callback blocks the event loop of the slow client which stops it reading from the socket
+            slowClient.submit(request, response -> {
+                try {
+                    final ResponseStatusCode code = response.getStatus().getCode();
+                    if (code == ResponseStatusCode.SUCCESS || code == ResponseStatusCode.PARTIAL_CONTENT)
+                        ((List<Object>) response.getResult().getData()).forEach(r -> results.add(r.toString()));
+                    else
+                        failed.set(true);
+
+                    reading.countDown();
+                    release.await(60000, TimeUnit.MILLISECONDS);
+
+                    if (code != ResponseStatusCode.PARTIAL_CONTENT) done.countDown();
+                } catch (Exception ex) {
+                    failed.set(true);
+                    done.countDown();
+                }
+            });
+
+            assertTrue(reading.await(30000, TimeUnit.MILLISECONDS));
+
+            // with a single gremlinPool thread this only evaluates if the paused request gave that thread back
+            final CountDownLatch evaluated = new CountDownLatch(1);
+            final AtomicInteger result = new AtomicInteger(0);
+            client.submit("1+1", response -> {
+                if (response.getStatus().getCode() != ResponseStatusCode.PARTIAL_CONTENT) {
+                    result.set((Integer) ((List<Object>) response.getResult().getData()).get(0));
+                    evaluated.countDown();
+                }
+            });
+
+            assertTrue(evaluated.await(10000, TimeUnit.MILLISECONDS));
+            assertEquals(2, result.get());
+            assertEquals(1, done.getCount());
+
+            release.countDown();
+            assertTrue(done.await(60000, TimeUnit.MILLISECONDS));
+        }
+
+        assertFalse(failed.get());
+        assertEquals(resultCount, results.size());
+        for (int ix = 0; ix < resultCount; ix++) {
+            final String r = results.get(ix);
+            assertEquals(ix, Integer.parseInt(r.substring(0, r.indexOf(':'))));
+        }
+
+        assertTrue(recordingAppender.getMessages().stream().anyMatch(m -> m.contains("Pausing response writing as writeBufferHighWaterMark exceeded on")));
+        assertTrue(IteratorHandler.pausedTimer.getCount() > pausedBefore);
+    }
+
     @Test
     public void shouldReturnInvalidRequestArgsWhenGremlinArgIsNotSupplied() throws Exception {
         try (SimpleClient client = new WebSocketClient()) {
@@ -23,6 +23,7 @@ import org.apache.tinkerpop.gremlin.LoadGraphWith;
 import org.apache.tinkerpop.gremlin.process.AbstractGremlinProcessTest;
 import org.apache.tinkerpop.gremlin.process.computer.util.StaticMapReduce;
 import org.apache.tinkerpop.gremlin.process.computer.util.StaticVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -30,18 +31,22 @@ import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.junit.Test;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
 
 import static org.apache.tinkerpop.gremlin.LoadGraphWith.GraphData.MODERN;
 import static org.junit.Assert.*;
@@ -605,6 +610,103 @@ public class GraphComputerTest extends AbstractGremlinProcessTest {
     }
     /////////////////////////////////////////////
 
+    /////////////////////////////////////////////
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldAddMemoryValuesWithReducersThroughSubStages() throws Exception {
+        ComputerResult results = graph.compute(graphComputerClass.get()).program(new VertexProgramL()).submit().get();
+        assertEquals(2, results.memory().getIteration());
+        assertEquals(3, results.memory().asMap().size());
+        assertEquals(3, results.memory().keys().size());
+        assertEquals(27.0d, results.memory().<Double>get("sum"), 0.0d);
+        assertEquals(0, results.memory().<Integer>get("max").intValue());
+        assertEquals(new HashSet<>(Arrays.asList("marko", "vadas", "lop", "josh", "ripple", "peter")), results.memory().get("names"));
+    }
+
+    public static class VertexProgramL extends StaticVertexProgram {
+
+        private static final Set<String> NAMES = new HashSet<>(Arrays.asList("marko", "vadas", "lop", "josh", "ripple", "peter"));
+
+        @Override
+        public void setup(final Memory memory) {
+            memory.set("sum", 0.0d);
+            memory.set("max", 0);
+            memory.set("names", Collections.emptySet());
+        }
+
+        @Override
+        public void execute(Vertex vertex, Messenger messenger, Memory memory) {
+            // test current step values
+            assertEquals(9.0d * memory.getIteration(), memory.<Double>get("sum"), 0.0d);
+            assertEquals(0, memory.<Integer>get("max").intValue());
+            assertEquals(memory.isInitialIteration() ? Collections.emptySet() : NAMES, memory.get("names"));
+
+            // update current step values
+            final String name = vertex.value("name");
+            memory.add("sum", 1.5d);
+            memory.add("max", name.length() + memory.getIteration());
+            memory.add("names", Collections.singleton(name));
+
+            // test current step values, should be the same as previous prior to update
+            assertEquals(9.0d * memory.getIteration(), memory.<Double>get("sum"), 0.0d);
+            assertEquals(0, memory.<Integer>get("max").intValue());
+            assertEquals(memory.isInitialIteration() ? Collections.emptySet() : NAMES, memory.get("names"));
+        }
+
+        @Override
+        public boolean terminate(Memory memory) {
+            assertEquals(9.0d * (memory.getIteration() + 1), memory.<Double>get("sum"), 0.0d);
+            assertEquals(6 + memory.getIteration(), memory.<Integer>get("max").intValue());
+            assertEquals(NAMES, memory.get("names"));
+            memory.set("max", 0);
+            return memory.getIteration() > 1;
+        }
+
+        @Override
+        public Set<String> getElementComputeKeys() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Set<String> getMemoryComputeKeys() {
+            return new HashSet<>(Arrays.asList("sum", "max", "names"));
+        }
+
+        @Override
+        public Map<String, BinaryOperator<?>> getMemoryReducers() {
+            final Map<String, BinaryOperator<?>> reducers = new HashMap<>();
+            reducers.put("sum", Operator.sum);
+            reducers.put("max", Operator.max);
+            reducers.put("names", new Union());
+            return reducers;
+        }
+
+        @Override
+        public Set<MessageScope> getMessageScopes(Memory memory) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public GraphComputer.ResultGraph getPreferredResultGraph() {
+            return GraphComputer.ResultGraph.NEW;
+        }
+
+        @Override
+        public GraphComputer.Persist getPreferredPersist() {
+            return GraphComputer.Persist.NOTHING;
+        }
+
+        private static final class Union implements BinaryOperator<Set<String>>, Serializable {
+            @Override
+            public Set<String> apply(final Set<String> a, final Set<String> b) {
+                final Set<String> union = new HashSet<>(a);
+                union.addAll(b);
+                return union;
+            }
+        }
+    }
+    /////////////////////////////////////////////
+
     /////////////////////////////////////////////
     @Test
     @LoadGraphWith(MODERN)
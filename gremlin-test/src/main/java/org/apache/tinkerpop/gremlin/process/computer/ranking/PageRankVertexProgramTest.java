@@ -65,6 +65,26 @@ public class PageRankVertexProgramTest extends AbstractGremlinProcessTest {
         }
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void shouldExecutePageRankUntilConverged() throws Exception {
+        if (g.getGraphComputer().get().features().supportsResultGraphPersistCombination(GraphComputer.ResultGraph.NEW, GraphComputer.Persist.VERTEX_PROPERTIES)) {
+            final ComputerResult result = graph.compute(g.getGraphComputer().get().getClass()).program(PageRankVertexProgram.build().epsilon(0.001d).create(graph)).submit().get();
+            result.graph().traversal().V().forEachRemaining(v -> {
+                final String name = v.value("name");
+                final Double pageRank = v.value(PageRankVertexProgram.PAGE_RANK);
+                if (name.equals("marko") || name.equals("peter"))
+                    assertTrue(pageRank > 0.14 && pageRank < 0.16);
+                else if (name.equals("lop"))
+                    assertTrue(pageRank > 0.39 && pageRank < 0.41);
+                else if (name.equals("ripple"))
+                    assertTrue(pageRank > 0.22 && pageRank < 0.24);
+            });
+            assertTrue(result.memory().getIteration() < 30);
+            assertEquals(result.memory().asMap().size(), 1);
+        }
+    }
+
     /*@Test
     @LoadGraphWith(MODERN)
     public void shouldExecutePageRankWithNormalizedValues() throws Exception {
@@ -62,6 +62,10 @@ public abstract class OrderTest extends AbstractGremlinProcessTest {
 
     public abstract Traversal<Vertex, Vertex> get_g_V_order_byXoutE_count__decrX();
 
+    public abstract Traversal<Vertex, Double> get_g_V_bothE_weight_order_limitX3X();
+
+    public abstract Traversal<Vertex, Integer> get_g_V_age_order_byXdecrX_rangeX1_3X();
+
     @Test
     @LoadGraphWith(MODERN)
     public void g_V_name_order() {
@@ -214,6 +218,22 @@ public abstract class OrderTest extends AbstractGremlinProcessTest {
         });
     }
 
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_bothE_weight_order_limitX3X() {
+        final Traversal<Vertex, Double> traversal = get_g_V_bothE_weight_order_limitX3X();
+        printTraversalForm(traversal);
+        assertEquals(Arrays.asList(0.2d, 0.2d, 0.4d), traversal.toList());
+    }
+
+    @Test
+    @LoadGraphWith(MODERN)
+    public void g_V_age_order_byXdecrX_rangeX1_3X() {
+        final Traversal<Vertex, Integer> traversal = get_g_V_age_order_byXdecrX_rangeX1_3X();
+        printTraversalForm(traversal);
+        assertEquals(Arrays.asList(32, 29), traversal.toList());
+    }
+
     public static class Traversals extends OrderTest {
 
         @Override
@@ -270,5 +290,15 @@ public abstract class OrderTest extends AbstractGremlinProcessTest {
             return g.V().order().by(outE().count(), Order.decr);
         }
 
+        @Override
+        public Traversal<Vertex, Double> get_g_V_bothE_weight_order_limitX3X() {
+            return g.V().bothE().<Double>values("weight").order().limit(3);
+        }
+
+        @Override
+        public Traversal<Vertex, Integer> get_g_V_age_order_byXdecrX_rangeX1_3X() {
+            return g.V().<Integer>values("age").order().by(Order.decr).range(1, 3);
+        }
+
     }
 }
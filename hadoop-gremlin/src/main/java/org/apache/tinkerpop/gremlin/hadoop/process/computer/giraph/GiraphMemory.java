@@ -37,8 +37,11 @@ import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
 import java.io.DataInput;
 import java.io.DataOutput;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -49,6 +52,7 @@ public final class GiraphMemory extends MasterCompute implements Memory {
     private VertexProgram<?> vertexProgram;
     private GiraphWorkerContext worker;
     private Set<String> memoryKeys;
+    private Map<String, BinaryOperator<?>> memoryReducers;
     private boolean isMasterCompute = true;
     private long startTime = System.currentTimeMillis();
 
@@ -60,6 +64,7 @@ public final class GiraphMemory extends MasterCompute implements Memory {
         this.worker = worker;
         this.vertexProgram = vertexProgram;
         this.memoryKeys = new HashSet<>(this.vertexProgram.getMemoryComputeKeys());
+        this.memoryReducers = new HashMap<>(this.vertexProgram.getMemoryReducers());
         this.isMasterCompute = false;
     }
 
@@ -77,6 +82,7 @@ public final class GiraphMemory extends MasterCompute implements Memory {
             final Configuration apacheConfiguration = ConfUtil.makeApacheConfiguration(this.getConf());
             this.vertexProgram = VertexProgram.createVertexProgram(HadoopGraph.open(apacheConfiguration), apacheConfiguration);
             this.memoryKeys = new HashSet<>(this.vertexProgram.getMemoryComputeKeys());
+            this.memoryReducers = new HashMap<>(this.vertexProgram.getMemoryReducers());
             try {
                 for (final String key : this.memoryKeys) {
                     MemoryHelper.validateKey(key);
@@ -193,6 +199,17 @@ public final class GiraphMemory extends MasterCompute implements Memory {
         }
     }
 
+    @Override
+    public void add(final String key, final Object value) {
+        this.checkKeyValue(key, value);
+        final Rule rule = new Rule(Rule.Operation.REDUCE, value, MemoryHelper.getReducer(this.memoryReducers, key));
+        if (this.isMasterCompute) {   // only called on setup() and terminate()
+            this.setAggregatedValue(key, rule.reduce(this.<Rule>getAggregatedValue(key).getObject()));
+        } else {
+            this.worker.aggregate(key, rule);
+        }
+    }
+
     @Override
     public void write(final DataOutput output) {
         // no need to serialize the master compute as it gets its data from aggregators
@@ -21,6 +21,8 @@ package org.apache.tinkerpop.gremlin.hadoop.process.computer.giraph;
 import org.apache.giraph.aggregators.Aggregator;
 import org.apache.tinkerpop.gremlin.hadoop.process.computer.util.Rule;
 
+import java.util.function.BinaryOperator;
+
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
@@ -28,6 +30,7 @@ public final class MemoryAggregator implements Aggregator<Rule> {
 
     private Object currentObject;
     private Rule.Operation lastOperation = null;
+    private BinaryOperator<Object> reducer = null;
 
     public MemoryAggregator() {
         this.currentObject = null;
@@ -37,6 +40,8 @@ public final class MemoryAggregator implements Aggregator<Rule> {
     public Rule getAggregatedValue() {
         if (null == this.currentObject)
             return createInitialValue();
+        else if (Rule.Operation.REDUCE == this.lastOperation)
+            return new Rule(Rule.Operation.REDUCE, this.currentObject, this.reducer);
         else if (this.currentObject instanceof Long)
             return new Rule(Rule.Operation.INCR, this.currentObject);
         else
@@ -64,11 +69,15 @@ public final class MemoryAggregator implements Aggregator<Rule> {
         final Object object = ruleWritable.getObject();
         if (rule != Rule.Operation.NO_OP)
             this.lastOperation = rule;
+        if (rule == Rule.Operation.REDUCE)
+            this.reducer = ruleWritable.getReducer();
 
         if (null == this.currentObject || rule.equals(Rule.Operation.SET)) {
             this.currentObject = object;
         } else {
-            if (rule.equals(Rule.Operation.INCR)) {
+            if (rule.equals(Rule.Operation.REDUCE)) {
+                this.currentObject = this.reducer.apply(this.currentObject, object);
+            } else if (rule.equals(Rule.Operation.INCR)) {
                 this.currentObject = (Long) this.currentObject + (Long) object;
             } else if (rule.equals(Rule.Operation.AND)) {
                 this.currentObject = (Boolean) this.currentObject && (Boolean) object;
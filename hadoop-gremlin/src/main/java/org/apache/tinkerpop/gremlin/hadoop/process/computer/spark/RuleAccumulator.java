@@ -32,6 +32,8 @@ public final class RuleAccumulator implements AccumulatorParam<Rule> {
             return b;
         if (b.getOperation().equals(Rule.Operation.NO_OP))
             return a;
+        else if (b.getOperation().equals(Rule.Operation.REDUCE))
+            return b.reduce(a.getObject());
         else
             return new Rule(b.getOperation(), b.getOperation().compute(a.getObject(), b.getObject()));
     }
@@ -42,6 +44,8 @@ public final class RuleAccumulator implements AccumulatorParam<Rule> {
             return b;
         if (b.getOperation().equals(Rule.Operation.NO_OP))
             return a;
+        else if (b.getOperation().equals(Rule.Operation.REDUCE))
+            return b.reduce(a.getObject());
         else
             return new Rule(b.getOperation(), b.getOperation().compute(a.getObject(), b.getObject()));
     }
@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -47,6 +48,7 @@ public final class SparkMemory implements Memory.Admin, Serializable {
     private final AtomicInteger iteration = new AtomicInteger(0);   // do these need to be atomics?
     private final AtomicLong runtime = new AtomicLong(0l);
     private final Map<String, Accumulator<Rule>> memory = new HashMap<>();
+    private final Map<String, BinaryOperator<?>> memoryReducers = new HashMap<>();
     private Broadcast<Map<String, Object>> broadcast;
     private boolean inTask = false;
 
@@ -56,6 +58,7 @@ public final class SparkMemory implements Memory.Admin, Serializable {
                 MemoryHelper.validateKey(key);
                 this.memoryKeys.add(key);
             }
+            this.memoryReducers.putAll(vertexProgram.getMemoryReducers());
         }
         for (final MapReduce mapReduce : mapReducers) {
             this.memoryKeys.add(mapReduce.getMemoryKey());
@@ -141,6 +144,16 @@ public final class SparkMemory implements Memory.Admin, Serializable {
             this.memory.get(key).setValue(new Rule(Rule.Operation.OR, this.<Boolean>getValue(key) || bool));
     }
 
+    @Override
+    public void add(final String key, final Object value) {
+        checkKeyValue(key, value);
+        final Rule rule = new Rule(Rule.Operation.REDUCE, value, MemoryHelper.getReducer(this.memoryReducers, key));
+        if (this.inTask)
+            this.memory.get(key).add(rule);
+        else
+            this.memory.get(key).setValue(rule.reduce(this.getValue(key)));
+    }
+
     @Override
     public void set(final String key, final Object value) {
         checkKeyValue(key, value);
@@ -26,6 +26,7 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.function.BinaryOperator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -69,6 +70,10 @@ public final class Rule implements Writable, Serializable {
             public Object compute(final Object first, final Object second) {
                 return null == first ? second : first;
             }
+        }, REDUCE {
+            public Object compute(final Object first, final Object second) {
+                throw new IllegalStateException("A reduce operation can only be computed with the reducer of its rule");
+            }
         };
 
         public abstract Object compute(final Object first, final Object second);
@@ -76,12 +81,18 @@ public final class Rule implements Writable, Serializable {
 
     private Operation operation;
     private Object object;
+    private BinaryOperator<Object> reducer;
 
     public Rule(final Operation operation, final Object object) {
         this.operation = operation;
         this.object = object;
     }
 
+    public Rule(final Operation operation, final Object object, final BinaryOperator<?> reducer) {
+        this(operation, object);
+        this.reducer = (BinaryOperator<Object>) reducer;
+    }
+
     public Operation getOperation() {
         return this.operation;
     }
@@ -90,6 +101,17 @@ public final class Rule implements Writable, Serializable {
         return (R) this.object;
     }
 
+    public BinaryOperator<Object> getReducer() {
+        return this.reducer;
+    }
+
+    /**
+     * Reduce the object of this {@link Operation#REDUCE} rule into the provided object with the reducer of this rule.
+     */
+    public Rule reduce(final Object object) {
+        return new Rule(Operation.REDUCE, null == object ? this.object : this.reducer.apply(object, this.object), this.reducer);
+    }
+
     public String toString() {
         return "rule[" + this.operation + ":" + this.object + "]";
     }
@@ -100,20 +122,30 @@ public final class Rule implements Writable, Serializable {
         final byte[] objectBytes = Serializer.serializeObject(this.object);
         WritableUtils.writeVInt(output, objectBytes.length);
         output.write(objectBytes);
+        if (Operation.REDUCE == this.operation) {
+            final byte[] reducerBytes = Serializer.serializeObject(this.reducer);
+            WritableUtils.writeVInt(output, reducerBytes.length);
+            output.write(reducerBytes);
+        }
     }
 
     @Override
     public void readFields(final DataInput input) throws IOException {
         this.operation = Operation.values()[WritableUtils.readVInt(input)];
-        final int objectLength = WritableUtils.readVInt(input);
-        final byte[] objectBytes = new byte[objectLength];
-        for (int i = 0; i < objectLength; i++) {
-            objectBytes[i] = input.readByte();
-        }
         try {
-            this.object = Serializer.deserializeObject(objectBytes);
+            this.object = Serializer.deserializeObject(readBytes(input));
+            this.reducer = Operation.REDUCE == this.operation ? (BinaryOperator<Object>) Serializer.deserializeObject(readBytes(input)) : null;
         } catch (final ClassNotFoundException e) {
             throw new IOException(e.getMessage(), e);
         }
     }
+
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        final int length = WritableUtils.readVInt(input);
+        final byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = input.readByte();
+        }
+        return bytes;
+    }
 }
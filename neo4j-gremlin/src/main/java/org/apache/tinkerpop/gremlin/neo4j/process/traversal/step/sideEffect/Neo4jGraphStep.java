@@ -33,6 +33,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -41,14 +42,15 @@ import java.util.List;
  */
 public final class Neo4jGraphStep<S extends Element> extends GraphStep<S> implements HasContainerHolder {
 
-    private final List<HasContainer> hasContainers = new ArrayList<>();
+    private List<HasContainer> hasContainers = new ArrayList<>();
+    private transient Supplier<Iterator<S>> elementIteratorSupplier;
 
     public Neo4jGraphStep(final GraphStep<S> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.getIds());
         originalGraphStep.getLabels().forEach(this::addLabel);
         //No need to do anything if the first element is an Element, all elements are guaranteed to be an element and will be return as is
         if ((this.ids.length == 0 || !(this.ids[0] instanceof Element)))
-            this.setIteratorSupplier(() -> (Iterator<S>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
+            this.setIteratorSupplier(this.elementIteratorSupplier = () -> (Iterator<S>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
     }
 
     private Iterator<? extends Edge> edges() {
@@ -60,6 +62,17 @@ public final class Neo4jGraphStep<S extends Element> extends GraphStep<S> implem
         return graph.getTrait().lookupVertices(graph, this.hasContainers, this.ids);
     }
 
+    @Override
+    public Neo4jGraphStep<S> clone() {
+        final Neo4jGraphStep<S> clone = (Neo4jGraphStep<S>) super.clone();
+        clone.hasContainers = new ArrayList<>();
+        this.hasContainers.forEach(hasContainer -> clone.hasContainers.add(hasContainer.clone()));
+        // the element iterator is bound to the step it was created for (unless an engine replaced it)
+        if (null != this.elementIteratorSupplier && this.iteratorSupplier == this.elementIteratorSupplier)
+            clone.setIteratorSupplier(clone.elementIteratorSupplier = () -> (Iterator<S>) (Vertex.class.isAssignableFrom(clone.returnClass) ? clone.vertices() : clone.edges()));
+        return clone;
+    }
+
     @Override
     public String toString() {
         if (this.hasContainers.isEmpty())
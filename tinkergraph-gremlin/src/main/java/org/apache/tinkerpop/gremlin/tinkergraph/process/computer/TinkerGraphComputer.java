@@ -30,9 +30,11 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
@@ -52,14 +54,26 @@ public final class TinkerGraphComputer implements GraphComputer {
     private VertexProgram<?> vertexProgram;
     private final TinkerGraph graph;
     private TinkerMemory memory;
-    private final TinkerMessageBoard messageBoard = new TinkerMessageBoard();
+    private TinkerMessageBoard messageBoard;
     private boolean executed = false;
     private final Set<MapReduce> mapReducers = new HashSet<>();
+    private int workers = Runtime.getRuntime().availableProcessors();
 
     public TinkerGraphComputer(final TinkerGraph graph) {
         this.graph = graph;
     }
 
+    /**
+     * Set the number of worker threads that execute the {@link VertexProgram} and {@link MapReduce} jobs. Each
+     * worker processes its own partition of the vertices. The default is the number of available processors.
+     */
+    public TinkerGraphComputer workers(final int workers) {
+        if (workers < 1)
+            throw new IllegalArgumentException("The number of workers must be greater than zero: " + workers);
+        this.workers = workers;
+        return this;
+    }
+
     @Override
     public GraphComputer result(final ResultGraph resultGraph) {
         this.resultGraph = resultGraph;
@@ -109,20 +123,21 @@ public final class TinkerGraphComputer implements GraphComputer {
         this.memory = new TinkerMemory(this.vertexProgram, this.mapReducers);
         return CompletableFuture.<ComputerResult>supplyAsync(() -> {
             final long time = System.currentTimeMillis();
-            try (final TinkerWorkerPool workers = new TinkerWorkerPool(Runtime.getRuntime().availableProcessors())) {
+            try (final TinkerWorkerPool workers = new TinkerWorkerPool(this.workers)) {
+                // vertices can not be added or removed during the computation so partition a single snapshot of them
+                final List<Vertex> vertices = IteratorUtils.list(this.graph.vertices());
                 if (null != this.vertexProgram) {
-                    TinkerHelper.createGraphComputerView(this.graph, this.vertexProgram.getElementComputeKeys());
+                    this.messageBoard = new TinkerMessageBoard<>(vertices, this.vertexProgram.getMessageCombiner());
+                    TinkerHelper.createGraphComputerView(this.graph, vertices, this.vertexProgram.getElementComputeKeys());
                     // execute the vertex program
                     this.vertexProgram.setup(this.memory);
                     this.memory.completeSubRound();
                     while (true) {
                         workers.setVertexProgram(this.vertexProgram);
                         workers.vertexProgramWorkerIterationStart(this.memory.asImmutable());
-                        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(this.graph.vertices());
-                        workers.executeVertexProgram(vertexProgram -> {
-                            while (true) {
-                                final Vertex vertex = vertices.next();
-                                if (null == vertex) return;
+                        workers.executeVertexProgram(vertices, (partition, vertexProgram) -> {
+                            while (partition.hasNext()) {
+                                final Vertex vertex = partition.next();
                                 vertexProgram.execute(
                                         ComputerGraph.vertexProgram(vertex, this.vertexProgram),
                                         new TinkerMessenger<>(vertex, this.messageBoard, vertexProgram.getMessageCombiner()),
@@ -148,14 +163,11 @@ public final class TinkerGraphComputer implements GraphComputer {
                 for (final MapReduce mapReduce : mapReducers) {
                     if (mapReduce.doStage(MapReduce.Stage.MAP)) {
                         final TinkerMapEmitter<?, ?> mapEmitter = new TinkerMapEmitter<>(mapReduce.doStage(MapReduce.Stage.REDUCE));
-                        final SynchronizedIterator<Vertex> vertices = new SynchronizedIterator<>(this.graph.vertices());
                         workers.setMapReduce(mapReduce);
                         workers.mapReduceWorkerStart(MapReduce.Stage.MAP);
-                        workers.executeMapReduce(workerMapReduce -> {
-                            while (true) {
-                                final Vertex vertex = vertices.next();
-                                if (null == vertex) return;
-                                workerMapReduce.map(ComputerGraph.mapReduce(vertex), mapEmitter);
+                        workers.executeMapReduce(vertices, (partition, workerMapReduce) -> {
+                            while (partition.hasNext()) {
+                                workerMapReduce.map(ComputerGraph.mapReduce(partition.next()), mapEmitter);
                             }
                         });
                         workers.mapReduceWorkerEnd(MapReduce.Stage.MAP);
@@ -166,12 +178,11 @@ public final class TinkerGraphComputer implements GraphComputer {
                         // no need to run combiners as this is single machine
                         if (mapReduce.doStage(MapReduce.Stage.REDUCE)) {
                             final TinkerReduceEmitter<?, ?> reduceEmitter = new TinkerReduceEmitter<>();
-                            final SynchronizedIterator<Map.Entry<?, Queue<?>>> keyValues = new SynchronizedIterator((Iterator) mapEmitter.reduceMap.entrySet().iterator());
+                            final List<Map.Entry<?, Queue<?>>> keyValues = new ArrayList(mapEmitter.reduceMap.entrySet());
                             workers.mapReduceWorkerStart(MapReduce.Stage.REDUCE);
-                            workers.executeMapReduce(workerMapReduce -> {
-                                while (true) {
-                                    final Map.Entry<?, Queue<?>> entry = keyValues.next();
-                                    if (null == entry) return;
+                            workers.executeMapReduce(keyValues, (partition, workerMapReduce) -> {
+                                while (partition.hasNext()) {
+                                    final Map.Entry<?, Queue<?>> entry = partition.next();
                                     workerMapReduce.reduce(entry.getKey(), entry.getValue().iterator(), reduceEmitter);
                                 }
                             });
@@ -203,19 +214,6 @@ public final class TinkerGraphComputer implements GraphComputer {
         return StringFactory.graphComputerString(this);
     }
 
-    private static class SynchronizedIterator<V> {
-
-        private final Iterator<V> iterator;
-
-        public SynchronizedIterator(final Iterator<V> iterator) {
-            this.iterator = iterator;
-        }
-
-        public synchronized V next() {
-            return this.iterator.hasNext() ? this.iterator.next() : null;
-        }
-    }
-
     @Override
     public Features features() {
         return new Features() {
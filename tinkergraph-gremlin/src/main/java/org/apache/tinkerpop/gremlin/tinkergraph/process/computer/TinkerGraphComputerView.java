@@ -19,10 +19,7 @@
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
 import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
-import org.apache.tinkerpop.gremlin.structure.Edge;
-import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
-import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
@@ -35,61 +32,143 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertexProperty;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
+ * The compute properties of the vertices are stored in columns, one per compute key, that are indexed by the ordinal
+ * of the vertex in the snapshot of the vertices of the computation. A slot of a column holds the single
+ * {@link VertexProperty} of the vertex or a list of them. As a vertex only updates its own compute properties and
+ * every vertex is executed by one worker at a time, the slots are read and written without synchronization.
+ * A {@link GraphComputer.ResultGraph#NEW} result graph is a {@link TinkerResultGraph} that retains the columns.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class TinkerGraphComputerView {
 
     private final TinkerGraph graph;
     protected final Set<String> computeKeys;
-    private Map<Element, Map<String, List<VertexProperty<?>>>> computeProperties;
+    private final List<Vertex> vertices;
+    private final String[] keys;
+    private final Object[][] columns;
+    private volatile Map<Object, Integer> ordinals = null;
 
-    public TinkerGraphComputerView(final TinkerGraph graph, final Set<String> computeKeys) {
+    public TinkerGraphComputerView(final TinkerGraph graph, final List<Vertex> vertices, final Set<String> computeKeys) {
         this.graph = graph;
         this.computeKeys = computeKeys;
-        this.computeProperties = new ConcurrentHashMap<>();
+        this.vertices = vertices;
+        for (int i = 0; i < vertices.size(); i++) {
+            TinkerHelper.setComputeOrdinal((TinkerVertex) vertices.get(i), i);
+        }
+        this.keys = computeKeys.toArray(new String[computeKeys.size()]);
+        this.columns = new Object[this.keys.length][vertices.size()];
     }
 
-    public <V> Property<V> addProperty(final TinkerVertex vertex, final String key, final V value) {
+    public <V> VertexProperty<V> addProperty(final TinkerVertex vertex, final String key, final V value) {
         ElementHelper.validateProperty(key, value);
-        if (isComputeKey(key)) {
-            final TinkerVertexProperty<V> property = new TinkerVertexProperty<V>((TinkerVertex) vertex, key, value) {
-                @Override
-                public void remove() {
-                    removeProperty(vertex, key, this);
-                }
-            };
-            this.addValue(vertex, key, property);
-            return property;
-        } else {
+        final int column = this.column(key);
+        if (-1 == column)
             throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
+        final TinkerVertexProperty<V> property = new TinkerVertexProperty<V>(vertex, key, value) {
+            @Override
+            public void remove() {
+                removeProperty(vertex, key, this);
+            }
+        };
+        final Object[] values = this.columns[column];
+        final int ordinal = this.ordinal(vertex);
+        final Object current = values[ordinal];
+        if (null == current)
+            values[ordinal] = property;
+        else if (current instanceof List)
+            ((List<VertexProperty<?>>) current).add(property);
+        else {
+            final List<VertexProperty<?>> list = new ArrayList<>(2);
+            list.add((VertexProperty<?>) current);
+            list.add(property);
+            values[ordinal] = list;
         }
+        return property;
     }
 
-    public List<VertexProperty<?>> getProperty(final TinkerVertex vertex, final String key) {
-        return isComputeKey(key) ? this.getValue(vertex, key) : (List) TinkerHelper.getProperties(vertex).getOrDefault(key, Collections.emptyList());
+    public <V> VertexProperty<V> getProperty(final TinkerVertex vertex, final String key) {
+        final int column = this.column(key);
+        final Object current;
+        if (-1 == column) {
+            final List<VertexProperty> list = TinkerHelper.getProperties(vertex).get(key);
+            current = null == list || list.isEmpty() ? null : list.size() == 1 ? list.get(0) : list;
+        } else
+            current = this.contains(vertex) ? this.columns[column][this.ordinal(vertex)] : null;
+        if (null == current)
+            return VertexProperty.<V>empty();
+        else if (current instanceof VertexProperty)
+            return (VertexProperty<V>) current;
+        else if (((List) current).size() == 1)
+            return (VertexProperty<V>) ((List) current).get(0);
+        else if (((List) current).isEmpty())
+            return VertexProperty.<V>empty();
+        else
+            throw Vertex.Exceptions.multiplePropertiesExistForProvidedKey(key);
     }
 
-    public List<Property> getProperties(final TinkerVertex vertex) {
-        final Stream<Property> a = TinkerHelper.getProperties(vertex).values().stream().flatMap(list -> list.stream());
-        final Stream<Property> b = this.computeProperties.containsKey(vertex) ?
-                this.computeProperties.get(vertex).values().stream().flatMap(list -> list.stream()) :
-                Stream.empty();
-        return Stream.concat(a, b).collect(Collectors.toList());
+    public <V> Iterator<VertexProperty<V>> getProperties(final TinkerVertex vertex, final String... propertyKeys) {
+        final List<VertexProperty<V>> properties = new ArrayList<>();
+        for (final List<VertexProperty> list : TinkerHelper.getProperties(vertex).values()) {
+            for (final VertexProperty property : list) {
+                if (ElementHelper.keyExists(property.key(), propertyKeys))
+                    properties.add(property);
+            }
+        }
+        if (this.contains(vertex)) {
+            final int ordinal = this.ordinal(vertex);
+            for (int i = 0; i < this.keys.length; i++) {
+                final Object current = this.columns[i][ordinal];
+                if (null != current && ElementHelper.keyExists(this.keys[i], propertyKeys)) {
+                    if (current instanceof VertexProperty)
+                        properties.add((VertexProperty<V>) current);
+                    else
+                        properties.addAll((List) current);
+                }
+            }
+        }
+        return properties.iterator();
+    }
+
+    /**
+     * Get the compute properties of a vertex of the snapshot. Unlike {@link #getProperties} this remains valid after
+     * the computation, when the ordinals of the vertices may have been reassigned by a later computation.
+     */
+    public <V> Iterator<VertexProperty<V>> getComputeProperties(final TinkerVertex vertex, final String... propertyKeys) {
+        final int ordinal = this.indexOf(vertex);
+        if (-1 == ordinal)
+            return Collections.emptyIterator();
+        final List<VertexProperty<V>> properties = new ArrayList<>();
+        for (int i = 0; i < this.keys.length; i++) {
+            final Object current = this.columns[i][ordinal];
+            if (null != current && ElementHelper.keyExists(this.keys[i], propertyKeys)) {
+                if (current instanceof VertexProperty)
+                    properties.add((VertexProperty<V>) current);
+                else
+                    properties.addAll((List) current);
+            }
+        }
+        return properties.iterator();
     }
 
     public void removeProperty(final TinkerVertex vertex, final String key, final VertexProperty property) {
-        if (isComputeKey(key)) {
-            this.removeValue(vertex, key, property);
-        } else {
+        final int column = this.column(key);
+        if (-1 == column)
             throw GraphComputer.Exceptions.providedKeyIsNotAnElementComputeKey(key);
+        if (this.contains(vertex)) {
+            final Object[] values = this.columns[column];
+            final int ordinal = this.ordinal(vertex);
+            if (values[ordinal] == property)
+                values[ordinal] = null;
+            else if (values[ordinal] instanceof List)
+                ((List) values[ordinal]).remove(property);
         }
     }
 
@@ -105,86 +184,84 @@ public final class TinkerGraphComputerView {
             if (GraphComputer.ResultGraph.ORIGINAL == resultGraph) {
                 this.addPropertiesToOriginalGraph();
                 return this.graph;
-            } else {
-                final TinkerGraph newGraph = TinkerGraph.open();
-                this.graph.vertices().forEachRemaining(vertex -> {
-                    final Vertex newVertex = newGraph.addVertex(T.id, vertex.id(), T.label, vertex.label());
-                    vertex.properties().forEachRemaining(vertexProperty -> {
-                        final VertexProperty<?> newVertexProperty = newVertex.property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
-                        vertexProperty.properties().forEachRemaining(property -> {
-                            newVertexProperty.property(property.key(), property.value());
-                        });
-                    });
-                });
-                return newGraph;
-            }
+            } else
+                return new TinkerResultGraph(this.graph, this, false);
         } else {  // Persist.EDGES
             if (GraphComputer.ResultGraph.ORIGINAL == resultGraph) {
                 this.addPropertiesToOriginalGraph();
                 return this.graph;
-            } else {
-                final TinkerGraph newGraph = TinkerGraph.open();
-                this.graph.vertices().forEachRemaining(vertex -> {
-                    final Vertex newVertex = newGraph.addVertex(T.id, vertex.id(), T.label, vertex.label());
-                    vertex.properties().forEachRemaining(vertexProperty -> {
-                        final VertexProperty<?> newVertexProperty = newVertex.property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
-                        vertexProperty.properties().forEachRemaining(property -> {
-                            newVertexProperty.property(property.key(), property.value());
-                        });
-                    });
-                });
-                this.graph.edges().forEachRemaining(edge -> {
-                    final Vertex outVertex = newGraph.vertices(edge.outVertex().id()).next();
-                    final Vertex inVertex = newGraph.vertices(edge.inVertex().id()).next();
-                    final Edge newEdge = outVertex.addEdge(edge.label(), inVertex, T.id, edge.id());
-                    edge.properties().forEachRemaining(property -> newEdge.property(property.key(), property.value()));
-                });
-                return newGraph;
-            }
+            } else
+                return new TinkerResultGraph(this.graph, this, true);
         }
     }
 
     private void addPropertiesToOriginalGraph() {
         TinkerHelper.dropGraphComputerView(this.graph);
-        this.computeProperties.forEach((element, properties) -> {
-            properties.forEach((key, vertexProperties) -> {
-                vertexProperties.forEach(vertexProperty -> {
-                    final VertexProperty<?> newVertexProperty = ((Vertex) element).property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
-                    vertexProperty.properties().forEachRemaining(property -> {
-                        newVertexProperty.property(property.key(), property.value());
-                    });
-                });
-            });
+        for (final Object[] values : this.columns) {
+            for (int ordinal = 0; ordinal < values.length; ordinal++) {
+                final Object current = values[ordinal];
+                if (null != current) {
+                    final Vertex vertex = this.vertices.get(ordinal);
+                    if (current instanceof VertexProperty)
+                        addPropertyToOriginalGraph(vertex, (VertexProperty<?>) current);
+                    else
+                        ((List<VertexProperty<?>>) current).forEach(vertexProperty -> addPropertyToOriginalGraph(vertex, vertexProperty));
+                    values[ordinal] = null;
+                }
+            }
+        }
+    }
+
+    private static void addPropertyToOriginalGraph(final Vertex vertex, final VertexProperty<?> vertexProperty) {
+        final VertexProperty<?> newVertexProperty = vertex.property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
+        vertexProperty.properties().forEachRemaining(property -> {
+            newVertexProperty.property(property.key(), property.value());
         });
-        this.computeProperties.clear();
     }
 
     //////////////////////
 
-    private boolean isComputeKey(final String key) {
-        return this.computeKeys.contains(key);
+    private int column(final String key) {
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i].equals(key))
+                return i;
+        }
+        return -1;
     }
 
-    private void addValue(final Vertex vertex, final String key, final VertexProperty property) {
-        final Map<String, List<VertexProperty<?>>> elementProperties = this.computeProperties.computeIfAbsent(vertex, k -> new ConcurrentHashMap<>());
-        elementProperties.compute(key, (k, v) -> {
-            if (null == v) v = Collections.synchronizedList(new ArrayList<>());
-            v.add(property);
-            return v;
-        });
+    /**
+     * The ordinal of the vertex in the snapshot or -1 if it is not a part of it. If a later computation has reassigned
+     * the ordinals of the vertices, they are looked up by id.
+     */
+    private int indexOf(final TinkerVertex vertex) {
+        if (this.contains(vertex))
+            return TinkerHelper.getComputeOrdinal(vertex);
+        if (null == this.ordinals) {
+            synchronized (this) {
+                if (null == this.ordinals) {
+                    final Map<Object, Integer> ordinals = new HashMap<>(this.vertices.size());
+                    for (int i = 0; i < this.vertices.size(); i++) {
+                        ordinals.put(this.vertices.get(i).id(), i);
+                    }
+                    this.ordinals = ordinals;
+                }
+            }
+        }
+        final Integer ordinal = this.ordinals.get(vertex.id());
+        return null != ordinal && this.vertices.get(ordinal) == vertex ? ordinal : -1;
     }
 
-    private void removeValue(final Vertex vertex, final String key, final VertexProperty property) {
-        this.computeProperties.computeIfPresent(vertex, (k, v) -> {
-            v.computeIfPresent(key, (k1, v1) -> {
-                v1.remove(property);
-                return v1;
-            });
-            return v;
-        });
+    private int ordinal(final TinkerVertex vertex) {
+        if (!this.contains(vertex))
+            throw new IllegalStateException("The vertex is not a part of the graph computation: " + vertex);
+        return TinkerHelper.getComputeOrdinal(vertex);
     }
 
-    private List<VertexProperty<?>> getValue(final Vertex vertex, final String key) {
-        return this.computeProperties.getOrDefault(vertex, Collections.emptyMap()).getOrDefault(key, Collections.emptyList());
+    /**
+     * Whether the vertex was a part of the snapshot of the vertices when the view was created.
+     */
+    private boolean contains(final TinkerVertex vertex) {
+        final int ordinal = TinkerHelper.getComputeOrdinal(vertex);
+        return ordinal >= 0 && ordinal < this.vertices.size() && this.vertices.get(ordinal) == vertex;
     }
-}
\ No newline at end of file
+}
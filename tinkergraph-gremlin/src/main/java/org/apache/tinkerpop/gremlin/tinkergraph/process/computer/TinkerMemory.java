@@ -25,21 +25,41 @@ import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.MemoryHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
 
 /**
+ * The values written with {@link #incr}, {@link #and}, {@link #or} and {@link #add} are reduced into a buffer local
+ * to the writing thread and the buffers of all threads are merged into the memory at the end of each sub-round.
+ * As the reducers are associative and commutative, the workers never contend on a memory key.  A {@link #set} of a
+ * key bumps the version of the key so that the values any thread buffered for it before the set are dropped rather
+ * than merged over the value that was set.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 public final class TinkerMemory implements Memory.Admin {
 
+    private static final BinaryOperator<Object> INCR = (a, b) -> (Long) a + (Long) b;
+    private static final BinaryOperator<Object> AND = (a, b) -> (Boolean) a && (Boolean) b;
+    private static final BinaryOperator<Object> OR = (a, b) -> (Boolean) a || (Boolean) b;
+
     public final Set<String> memoryKeys = new HashSet<>();
     public Map<String, Object> previousMap;
     public Map<String, Object> currentMap;
+    private final Map<String, BinaryOperator<?>> memoryReducers;
+    private final Queue<Buffer> buffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Buffer> buffer = ThreadLocal.withInitial(Buffer::new);
+    private final Map<String, Long> setVersions = new ConcurrentHashMap<>();
+    private final AtomicLong sets = new AtomicLong(0l);
     private final AtomicInteger iteration = new AtomicInteger(0);
     private final AtomicLong runtime = new AtomicLong(0l);
 
@@ -51,6 +71,9 @@ public final class TinkerMemory implements Memory.Admin {
                 MemoryHelper.validateKey(key);
                 this.memoryKeys.add(key);
             }
+            this.memoryReducers = new HashMap<>(vertexProgram.getMemoryReducers());
+        } else {
+            this.memoryReducers = Collections.emptyMap();
         }
         for (final MapReduce mapReduce : mapReducers) {
             this.memoryKeys.add(mapReduce.getMemoryKey());
@@ -88,13 +111,15 @@ public final class TinkerMemory implements Memory.Admin {
     }
 
     protected void complete() {
+        this.mergeBuffers();
+        this.buffer.remove();
         this.iteration.decrementAndGet();
         this.previousMap = this.currentMap;
     }
 
     protected void completeSubRound() {
+        this.mergeBuffers();
         this.previousMap = new ConcurrentHashMap<>(this.currentMap);
-
     }
 
     @Override
@@ -114,24 +139,31 @@ public final class TinkerMemory implements Memory.Admin {
     @Override
     public void incr(final String key, final long delta) {
         checkKeyValue(key, delta);
-        this.currentMap.compute(key, (k, v) -> null == v ? delta : delta + (Long) v);
+        this.reduce(key, delta, INCR);
     }
 
     @Override
     public void and(final String key, final boolean bool) {
         checkKeyValue(key, bool);
-        this.currentMap.compute(key, (k, v) -> null == v ? bool : bool && (Boolean) v);
+        this.reduce(key, bool, AND);
     }
 
     @Override
     public void or(final String key, final boolean bool) {
         checkKeyValue(key, bool);
-        this.currentMap.compute(key, (k, v) -> null == v ? bool : bool || (Boolean) v);
+        this.reduce(key, bool, OR);
+    }
+
+    @Override
+    public void add(final String key, final Object value) {
+        checkKeyValue(key, value);
+        this.reduce(key, value, MemoryHelper.getReducer(this.memoryReducers, key));
     }
 
     @Override
     public void set(final String key, final Object value) {
         checkKeyValue(key, value);
+        this.setVersions.put(key, this.sets.incrementAndGet());
         this.currentMap.put(key, value);
     }
 
@@ -145,4 +177,62 @@ public final class TinkerMemory implements Memory.Admin {
             throw GraphComputer.Exceptions.providedKeyIsNotAMemoryComputeKey(key);
         MemoryHelper.validateValue(value);
     }
+
+    private void reduce(final String key, final Object value, final BinaryOperator<Object> reducer) {
+        final Buffer buffer = this.buffer.get();
+        if (!buffer.registered) {
+            buffer.registered = true;
+            this.buffers.add(buffer);
+        }
+        final Partial partial = buffer.get(key);
+        final long version = this.setVersion(key);
+        if (null == partial || partial.version != version)
+            buffer.put(key, new Partial(value, reducer, version));
+        else if (partial.reducer == reducer)
+            partial.value = reducer.apply(partial.value, value);
+        else {
+            // the key is being reduced in another way so the buffered value can not be combined with the new one
+            this.currentMap.merge(key, partial.value, partial.reducer);
+            buffer.put(key, new Partial(value, reducer, version));
+        }
+    }
+
+    private long setVersion(final String key) {
+        final Long version = this.setVersions.get(key);
+        return null == version ? 0l : version;
+    }
+
+    /**
+     * Only called between the sub-rounds of the computation, when no worker is writing to its buffer. The merged
+     * buffers are deregistered so that only the buffers of the threads that wrote in a sub-round are merged at its
+     * end and the buffers of threads that are gone are not retained.
+     */
+    private void mergeBuffers() {
+        Buffer buffer;
+        while (null != (buffer = this.buffers.poll())) {
+            for (final Map.Entry<String, Partial> entry : buffer.entrySet()) {
+                // values buffered before the last set of the key were overwritten by it
+                if (entry.getValue().version == this.setVersion(entry.getKey()))
+                    this.currentMap.merge(entry.getKey(), entry.getValue().value, entry.getValue().reducer);
+            }
+            buffer.clear();
+            buffer.registered = false;
+        }
+    }
+
+    private static final class Buffer extends HashMap<String, Partial> {
+        private volatile boolean registered = false;
+    }
+
+    private static final class Partial {
+        private Object value;
+        private final BinaryOperator<Object> reducer;
+        private final long version;
+
+        private Partial(final Object value, final BinaryOperator<Object> reducer, final long version) {
+            this.value = value;
+            this.reducer = reducer;
+            this.version = version;
+        }
+    }
 }
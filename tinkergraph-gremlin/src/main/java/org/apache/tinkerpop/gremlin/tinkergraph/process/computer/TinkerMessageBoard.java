@@ -18,29 +18,291 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiFunction;
 
 /**
+ * The messages of an iteration are kept in arrays that are indexed by the position of a vertex in the snapshot of the
+ * vertices of the computation. A message sent along a {@link MessageScope.Local} is stored at the slot of the sending
+ * vertex, which is only written by the worker executing that vertex, and is read by the receiving vertices through
+ * the {@link LocalAdjacency} of the message scope. A message sent to a {@link MessageScope.Global} is buffered by the
+ * sending worker and merged into the slot of the receiving vertex when the iteration completes.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerMessageBoard<M> {
 
-    public Map<Vertex, Queue<M>> sendMessages = new ConcurrentHashMap<>();
-    public Map<Vertex, Queue<M>> receiveMessages = new ConcurrentHashMap<>();
-    public Set<MessageScope> previousMessageScopes = new HashSet<>();
-    public Set<MessageScope> currentMessageScopes = new HashSet<>();
+    private final Map<Object, Integer> vertexIndices;
+    private final int numberOfVertices;
+    private final MessageCombiner<M> combiner;
+
+    private Messages<M>[] sendLocalMessages;
+    private Messages<M>[] receiveLocalMessages;
+    private Messages<M>[] receiveGlobalMessages = null;
+    private final Queue<Messages<M>[]> globalBuffers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Messages<M>[]> globalBuffer = ThreadLocal.withInitial(() -> {
+        final Messages<M>[] buffer = new Messages[this.getNumberOfVertices()];
+        this.globalBuffers.add(buffer);
+        return buffer;
+    });
+
+    private final Map<MessageScope.Local<?>, LocalAdjacency> localAdjacencies = new HashMap<>();
+    private Set<MessageScope> currentMessageScopes = ConcurrentHashMap.newKeySet();
+    private LocalAdjacency[] receiveLocalScopes = new TinkerMessageBoard.LocalAdjacency[0];
+    private boolean receiveGlobalScope = false;
+
+    public TinkerMessageBoard(final List<Vertex> vertices, final Optional<MessageCombiner<M>> combiner) {
+        this.numberOfVertices = vertices.size();
+        this.vertexIndices = new HashMap<>(this.numberOfVertices * 4 / 3 + 1);
+        for (int i = 0; i < this.numberOfVertices; i++) {
+            this.vertexIndices.put(vertices.get(i).id(), i);
+        }
+        this.combiner = combiner.isPresent() ? combiner.get() : null;
+        this.sendLocalMessages = new Messages[this.numberOfVertices];
+        this.receiveLocalMessages = new Messages[this.numberOfVertices];
+    }
+
+    public int getNumberOfVertices() {
+        return this.numberOfVertices;
+    }
+
+    /**
+     * The position of the vertex in the snapshot of the vertices or -1 if the vertex is not a part of the computation.
+     */
+    public int indexOf(final Vertex vertex) {
+        final Integer index = this.vertexIndices.get(vertex.id());
+        return null == index ? -1 : index;
+    }
+
+    public void addMessageScope(final MessageScope messageScope) {
+        if (!this.currentMessageScopes.contains(messageScope))
+            this.currentMessageScopes.add(messageScope);
+    }
+
+    /**
+     * The slot of the messages that the vertex at the index sends along its local message scopes in this iteration.
+     */
+    public Messages<M> sendLocalMessages(final int index) {
+        Messages<M> messages = this.sendLocalMessages[index];
+        if (null == messages)
+            this.sendLocalMessages[index] = messages = new Messages<>();
+        return messages;
+    }
+
+    /**
+     * The slot of the messages sent to the vertex at the index in the buffer of the current worker.
+     */
+    public Messages<M> sendGlobalMessages(final int index) {
+        final Messages<M>[] buffer = this.globalBuffer.get();
+        Messages<M> messages = buffer[index];
+        if (null == messages)
+            buffer[index] = messages = new Messages<>();
+        return messages;
+    }
+
+    public Messages<M> receiveLocalMessages(final int index) {
+        return this.receiveLocalMessages[index];
+    }
+
+    public Messages<M> receiveGlobalMessages(final int index) {
+        return this.receiveGlobalScope && null != this.receiveGlobalMessages ? this.receiveGlobalMessages[index] : null;
+    }
+
+    public LocalAdjacency[] receiveLocalScopes() {
+        return this.receiveLocalScopes;
+    }
 
     public void completeIteration() {
-        this.receiveMessages = this.sendMessages;
-        this.sendMessages = new ConcurrentHashMap<>();
-        this.previousMessageScopes = this.currentMessageScopes;
-        this.currentMessageScopes = new HashSet<>();
+        // the workers are done so their global buffers are merged into the slots of the receiving vertices
+        Messages<M>[] globalMessages = null;
+        for (final Messages<M>[] buffer : this.globalBuffers) {
+            for (int i = 0; i < buffer.length; i++) {
+                if (null != buffer[i]) {
+                    if (null == globalMessages)
+                        globalMessages = new Messages[this.numberOfVertices];
+                    if (null == globalMessages[i])
+                        globalMessages[i] = buffer[i];
+                    else
+                        globalMessages[i].addAll(buffer[i], this.combiner);
+                    buffer[i] = null;
+                }
+            }
+        }
+        this.receiveGlobalMessages = globalMessages;
+        final Messages<M>[] temp = this.receiveLocalMessages;
+        this.receiveLocalMessages = this.sendLocalMessages;
+        this.sendLocalMessages = temp;
+        Arrays.fill(this.sendLocalMessages, null);
+
+        final List<LocalAdjacency> localScopes = new ArrayList<>();
+        this.receiveGlobalScope = false;
+        for (final MessageScope messageScope : this.currentMessageScopes) {
+            if (messageScope instanceof MessageScope.Local)
+                localScopes.add(this.localAdjacencies.computeIfAbsent((MessageScope.Local<?>) messageScope, LocalAdjacency::new));
+            else
+                this.receiveGlobalScope = true;
+        }
+        this.receiveLocalScopes = localScopes.toArray(new TinkerMessageBoard.LocalAdjacency[localScopes.size()]);
+        this.currentMessageScopes = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * The vertices (and if the edge function is not the identity, the edges) along which a vertex receives the
+     * messages of a {@link MessageScope.Local}. They are resolved from the incident traversal of the message scope
+     * the first time a vertex receives messages and only by the worker executing that vertex.
+     */
+    final class LocalAdjacency {
+
+        private final MessageScope.Local<M> messageScope;
+        private final boolean identityEdgeFunction;
+        private final int[][] vertices;
+        private final Edge[][] edges;
+
+        private LocalAdjacency(final MessageScope.Local<?> messageScope) {
+            this.messageScope = (MessageScope.Local<M>) messageScope;
+            this.identityEdgeFunction = messageScope.hasIdentityEdgeFunction();
+            this.vertices = new int[numberOfVertices][];
+            this.edges = this.identityEdgeFunction ? null : new Edge[numberOfVertices][];
+        }
+
+        public boolean hasIdentityEdgeFunction() {
+            return this.identityEdgeFunction;
+        }
+
+        public BiFunction<M, Edge, M> getEdgeFunction() {
+            return this.messageScope.getEdgeFunction();
+        }
+
+        public int[] vertices(final int index, final Vertex vertex) {
+            if (null == this.vertices[index])
+                this.resolve(index, vertex);
+            return this.vertices[index];
+        }
+
+        public Edge[] edges(final int index, final Vertex vertex) {
+            if (null == this.vertices[index])
+                this.resolve(index, vertex);
+            return this.edges[index];
+        }
+
+        private void resolve(final int index, final Vertex vertex) {
+            final Traversal.Admin<Vertex, Edge> incidentTraversal = this.messageScope.getIncidentTraversal().get().asAdmin();
+            incidentTraversal.addStep(0, new StartStep<>(incidentTraversal, vertex));
+            final Direction direction = TraversalHelper.getLastStepOfAssignableClass(VertexStep.class, incidentTraversal).get().getDirection();
+            final Traversal.Admin<Vertex, Edge> reverseTraversal = VertexProgramHelper.reverse(incidentTraversal);
+            int[] adjacentVertices = new int[4];
+            Edge[] adjacentEdges = this.identityEdgeFunction ? null : new Edge[4];
+            int size = 0;
+            while (reverseTraversal.hasNext()) {
+                final Edge edge = reverseTraversal.next();
+                final int adjacentIndex = indexOf(edge.vertices(direction).next());
+                if (adjacentIndex < 0)
+                    continue;
+                if (size == adjacentVertices.length) {
+                    adjacentVertices = Arrays.copyOf(adjacentVertices, size * 2);
+                    if (!this.identityEdgeFunction)
+                        adjacentEdges = Arrays.copyOf(adjacentEdges, size * 2);
+                }
+                adjacentVertices[size] = adjacentIndex;
+                if (!this.identityEdgeFunction)
+                    adjacentEdges[size] = edge;
+                size++;
+            }
+            if (!this.identityEdgeFunction)
+                this.edges[index] = Arrays.copyOf(adjacentEdges, size);
+            this.vertices[index] = Arrays.copyOf(adjacentVertices, size);
+        }
+    }
+
+    /**
+     * The messages in a slot, with double messages kept unboxed. If there is a combiner, the messages are combined
+     * as they are added so that a slot holds at most one object message and one double message.
+     */
+    static final class Messages<M> {
+
+        private static final Object[] NO_OBJECTS = new Object[0];
+        private static final double[] NO_DOUBLES = new double[0];
+
+        private Object[] objects = NO_OBJECTS;
+        private int objectSize = 0;
+        private double[] doubles = NO_DOUBLES;
+        private int doubleSize = 0;
+
+        public void add(final M message, final MessageCombiner<M> combiner) {
+            if (null != combiner && this.objectSize > 0)
+                this.objects[0] = combiner.combine((M) this.objects[0], message);
+            else {
+                if (this.objectSize == this.objects.length)
+                    this.objects = Arrays.copyOf(this.objects, Math.max(1, this.objectSize * 2));
+                this.objects[this.objectSize++] = message;
+            }
+        }
+
+        public void addDouble(final double message, final MessageCombiner<?> combiner) {
+            if (null != combiner && this.doubleSize > 0)
+                this.doubles[0] = combiner.combine(this.doubles[0], message);
+            else {
+                if (this.doubleSize == this.doubles.length)
+                    this.doubles = Arrays.copyOf(this.doubles, Math.max(1, this.doubleSize * 2));
+                this.doubles[this.doubleSize++] = message;
+            }
+        }
+
+        public void addAll(final Messages<M> other, final MessageCombiner<M> combiner) {
+            for (int i = 0; i < other.objectSize; i++) {
+                this.add((M) other.objects[i], combiner);
+            }
+            for (int i = 0; i < other.doubleSize; i++) {
+                this.addDouble(other.doubles[i], combiner);
+            }
+        }
+
+        public void addDoubles(final Messages<?> other) {
+            for (int i = 0; i < other.doubleSize; i++) {
+                this.addDouble(other.doubles[i], null);
+            }
+        }
+
+        public boolean hasObjects() {
+            return this.objectSize > 0;
+        }
+
+        /**
+         * Adds the messages, with the double messages boxed, to the list after applying the edge function to them.
+         */
+        public void collect(final List<M> messages, final BiFunction<M, Edge, M> edgeFunction, final Edge edge) {
+            for (int i = 0; i < this.objectSize; i++) {
+                messages.add(null == edgeFunction ? (M) this.objects[i] : edgeFunction.apply((M) this.objects[i], edge));
+            }
+            for (int i = 0; i < this.doubleSize; i++) {
+                final M message = (M) (Double) this.doubles[i];
+                messages.add(null == edgeFunction ? message : edgeFunction.apply(message, edge));
+            }
+        }
+
+        public PrimitiveIterator.OfDouble doubleIterator() {
+            return Arrays.stream(this.doubles, 0, this.doubleSize).iterator();
+        }
     }
 }
@@ -21,24 +21,14 @@ package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
 import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
 import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
 import org.apache.tinkerpop.gremlin.process.computer.Messenger;
-import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramHelper;
-import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
-import org.apache.tinkerpop.gremlin.process.traversal.step.map.VertexStep;
-import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.StartStep;
-import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
-import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
-import org.apache.tinkerpop.gremlin.util.iterator.MultiIterator;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
-import java.util.Queue;
-import java.util.Spliterator;
-import java.util.Spliterators;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
+import java.util.PrimitiveIterator;
 
 /**
  * @author Marko A. Rodriguez (http://markorodriguez.com)
@@ -48,6 +38,7 @@ public final class TinkerMessenger<M> implements Messenger<M> {
     private final Vertex vertex;
     private final TinkerMessageBoard<M> messageBoard;
     private final MessageCombiner<M> combiner;
+    private int index = -1;
 
     public TinkerMessenger(final Vertex vertex, final TinkerMessageBoard<M> messageBoard, final Optional<MessageCombiner<M>> combiner) {
         this.vertex = vertex;
@@ -57,55 +48,80 @@ public final class TinkerMessenger<M> implements Messenger<M> {
 
     @Override
     public Iterator<M> receiveMessages() {
-        final MultiIterator<M> multiIterator = new MultiIterator<>();
-        for (final MessageScope messageScope : this.messageBoard.previousMessageScopes) {
-            if (messageScope instanceof MessageScope.Local) {
-                final MessageScope.Local<M> localMessageScope = (MessageScope.Local<M>) messageScope;
-                final Traversal.Admin<Vertex, Edge> incidentTraversal = TinkerMessenger.setVertexStart(localMessageScope.getIncidentTraversal().get().asAdmin(), this.vertex);
-                final Direction direction = TinkerMessenger.getDirection(incidentTraversal);
-                final Edge[] edge = new Edge[1]; // simulates storage side-effects available in Gremlin, but not Java8 streams
-                multiIterator.addIterator(StreamSupport.stream(Spliterators.spliteratorUnknownSize(VertexProgramHelper.reverse(incidentTraversal.asAdmin()), Spliterator.IMMUTABLE | Spliterator.SIZED), false)
-                        .map(e -> this.messageBoard.receiveMessages.get((edge[0] = e).vertices(direction).next()))
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
-                        .map(message -> localMessageScope.getEdgeFunction().apply(message, edge[0]))
-                        .iterator());
+        final int index = this.getIndex();
+        final List<M> messages = new ArrayList<>();
+        for (final TinkerMessageBoard<M>.LocalAdjacency localAdjacency : this.messageBoard.receiveLocalScopes()) {
+            final int[] adjacentVertices = localAdjacency.vertices(index, this.vertex);
+            final Edge[] adjacentEdges = localAdjacency.hasIdentityEdgeFunction() ? null : localAdjacency.edges(index, this.vertex);
+            for (int i = 0; i < adjacentVertices.length; i++) {
+                final TinkerMessageBoard.Messages<M> adjacentMessages = this.messageBoard.receiveLocalMessages(adjacentVertices[i]);
+                if (null != adjacentMessages)
+                    adjacentMessages.collect(messages, null == adjacentEdges ? null : localAdjacency.getEdgeFunction(), null == adjacentEdges ? null : adjacentEdges[i]);
+            }
+        }
+        final TinkerMessageBoard.Messages<M> globalMessages = this.messageBoard.receiveGlobalMessages(index);
+        if (null != globalMessages)
+            globalMessages.collect(messages, null, null);
+        return messages.iterator();
+    }
 
-            } else {
-                multiIterator.addIterator(Stream.of(this.vertex)
-                        .map(this.messageBoard.receiveMessages::get)
-                        .filter(q -> null != q)
-                        .flatMap(Queue::stream)
-                        .iterator());
+    @Override
+    public PrimitiveIterator.OfDouble receiveDoubleMessages() {
+        final int index = this.getIndex();
+        // the messages are gathered without boxing when they were all sent as doubles and arrive unchanged
+        final TinkerMessageBoard.Messages<M> receivedMessages = new TinkerMessageBoard.Messages<>();
+        for (final TinkerMessageBoard<M>.LocalAdjacency localAdjacency : this.messageBoard.receiveLocalScopes()) {
+            if (!localAdjacency.hasIdentityEdgeFunction())
+                return Messenger.super.receiveDoubleMessages();
+            for (final int adjacentVertex : localAdjacency.vertices(index, this.vertex)) {
+                final TinkerMessageBoard.Messages<M> adjacentMessages = this.messageBoard.receiveLocalMessages(adjacentVertex);
+                if (null != adjacentMessages) {
+                    if (adjacentMessages.hasObjects())
+                        return Messenger.super.receiveDoubleMessages();
+                    receivedMessages.addDoubles(adjacentMessages);
+                }
             }
         }
-        return multiIterator;
+        final TinkerMessageBoard.Messages<M> globalMessages = this.messageBoard.receiveGlobalMessages(index);
+        if (null != globalMessages) {
+            if (globalMessages.hasObjects())
+                return Messenger.super.receiveDoubleMessages();
+            receivedMessages.addDoubles(globalMessages);
+        }
+        return receivedMessages.doubleIterator();
     }
 
     @Override
-    public void sendMessage(final MessageScope messageScope, final M message) {
-        this.messageBoard.currentMessageScopes.add(messageScope);
+    public void sendDoubleMessage(final MessageScope messageScope, final double message) {
+        this.messageBoard.addMessageScope(messageScope);
         if (messageScope instanceof MessageScope.Local) {
-            addMessage(this.vertex, message);
+            this.messageBoard.sendLocalMessages(this.getIndex()).addDouble(message, this.combiner);
         } else {
-            ((MessageScope.Global) messageScope).vertices().forEach(v -> addMessage(v, message));
+            ((MessageScope.Global) messageScope).vertices().forEach(v -> {
+                final int index = this.messageBoard.indexOf(v);
+                if (index >= 0)
+                    this.messageBoard.sendGlobalMessages(index).addDouble(message, this.combiner);
+            });
         }
     }
 
-    private void addMessage(final Vertex vertex, final M message) {
-        final Queue<M> queue = this.messageBoard.sendMessages.computeIfAbsent(vertex, v -> new ConcurrentLinkedQueue<>());
-        queue.add(null != this.combiner && !queue.isEmpty() ? this.combiner.combine(queue.remove(), message) : message);
-    }
-
-    ///////////
-
-    private static <T extends Traversal.Admin<Vertex, Edge>> T setVertexStart(final Traversal.Admin<Vertex, Edge> incidentTraversal, final Vertex vertex) {
-        incidentTraversal.addStep(0, new StartStep<>(incidentTraversal, vertex));
-        return (T) incidentTraversal;
+    @Override
+    public void sendMessage(final MessageScope messageScope, final M message) {
+        this.messageBoard.addMessageScope(messageScope);
+        if (messageScope instanceof MessageScope.Local) {
+            this.messageBoard.sendLocalMessages(this.getIndex()).add(message, this.combiner);
+        } else {
+            ((MessageScope.Global) messageScope).vertices().forEach(v -> {
+                final int index = this.messageBoard.indexOf(v);
+                if (index >= 0)
+                    this.messageBoard.sendGlobalMessages(index).add(message, this.combiner);
+            });
+        }
     }
 
-    private static Direction getDirection(final Traversal.Admin<Vertex, Edge> incidentTraversal) {
-        final VertexStep step = TraversalHelper.getLastStepOfAssignableClass(VertexStep.class, incidentTraversal).get();
-        return step.getDirection();
+    private int getIndex() {
+        if (-1 == this.index)
+            this.index = this.messageBoard.indexOf(this.vertex);
+        return this.index;
     }
 }
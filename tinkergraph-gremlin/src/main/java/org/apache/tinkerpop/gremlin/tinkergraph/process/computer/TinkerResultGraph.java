@@ -0,0 +1,649 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.commons.configuration.Configuration;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.structure.util.detached.DetachedFactory;
+import org.apache.tinkerpop.gremlin.structure.util.wrapped.WrappedEdge;
+import org.apache.tinkerpop.gremlin.structure.util.wrapped.WrappedProperty;
+import org.apache.tinkerpop.gremlin.structure.util.wrapped.WrappedVertex;
+import org.apache.tinkerpop.gremlin.structure.util.wrapped.WrappedVertexProperty;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerEdge;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerVertex;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link GraphComputer.ResultGraph#NEW} graph of a {@link TinkerGraphComputer}. Rather than copying the graph,
+ * it shares the vertices, edges and properties of the original graph and adds the compute properties of its
+ * {@link TinkerGraphComputerView}. The result graph is a snapshot of the original graph at the end of the computation.
+ * Thus, before the original graph mutates a vertex or an edge, the result graph keeps a copy of that element as it
+ * was (see {@link #preserve(TinkerVertex)}) and notes the elements the original graph adds, so that only the elements
+ * that change are ever copied. On the first mutation of the result graph itself, or when the original graph is
+ * cleared, the result graph is materialized into a new {@link TinkerGraph} and all subsequent operations are
+ * delegated to it.
+ *
+ * @author agent (agent@local)
+ */
+public final class TinkerResultGraph implements Graph {
+
+    private static final Configuration EMPTY_CONFIGURATION = new BaseConfiguration() {{
+        this.setProperty(Graph.GRAPH, TinkerGraph.class.getName());
+    }};
+
+    private final TinkerGraph graph;
+    private final TinkerGraphComputerView view;
+    private final boolean includeEdges;
+    private volatile TinkerGraph materializedGraph = null;
+
+    private final Map<Object, PreservedVertex> preservedVertices = new ConcurrentHashMap<>();
+    private final Map<Object, PreservedEdge> preservedEdges = new ConcurrentHashMap<>();
+    private final Set<Object> addedVertexIds = ConcurrentHashMap.newKeySet();
+    private final Set<Object> addedEdgeIds = ConcurrentHashMap.newKeySet();
+
+    public TinkerResultGraph(final TinkerGraph graph, final TinkerGraphComputerView view, final boolean includeEdges) {
+        this.graph = graph;
+        this.view = view;
+        this.includeEdges = includeEdges;
+        TinkerHelper.addResultGraph(graph, this);
+    }
+
+    /**
+     * Copy the shared structure and the compute properties into a new {@link TinkerGraph}. This is done at most once.
+     */
+    public synchronized TinkerGraph materialize() {
+        if (null == this.materializedGraph) {
+            final TinkerGraph newGraph = TinkerGraph.open();
+            this.vertices().forEachRemaining(vertex -> {
+                final Vertex newVertex = newGraph.addVertex(T.id, vertex.id(), T.label, vertex.label());
+                vertex.properties().forEachRemaining(vertexProperty -> {
+                    final VertexProperty<?> newVertexProperty = newVertex.property(VertexProperty.Cardinality.list, vertexProperty.key(), vertexProperty.value(), T.id, vertexProperty.id());
+                    vertexProperty.properties().forEachRemaining(property -> {
+                        newVertexProperty.property(property.key(), property.value());
+                    });
+                });
+            });
+            this.edges().forEachRemaining(edge -> {
+                final Vertex outVertex = newGraph.vertices(edge.outVertex().id()).next();
+                final Vertex inVertex = newGraph.vertices(edge.inVertex().id()).next();
+                final Edge newEdge = outVertex.addEdge(edge.label(), inVertex, T.id, edge.id());
+                edge.properties().forEachRemaining(property -> newEdge.property(property.key(), property.value()));
+            });
+            this.materializedGraph = newGraph;
+            TinkerHelper.removeResultGraph(this.graph, this);
+            this.preservedVertices.clear();
+            this.preservedEdges.clear();
+            this.addedVertexIds.clear();
+            this.addedEdgeIds.clear();
+        }
+        return this.materializedGraph;
+    }
+
+    /**
+     * Keep a copy of the properties and adjacent edges of a vertex of the original graph that is about to be mutated,
+     * unless it is already kept or was added to the original graph after the computation.
+     */
+    public void preserve(final TinkerVertex vertex) {
+        if (this.isMaterialized() || this.addedVertexIds.contains(vertex.id()))
+            return;
+        this.preservedVertices.computeIfAbsent(vertex.id(), id -> new PreservedVertex(vertex));
+    }
+
+    /**
+     * Keep a copy of the properties of an edge of the original graph that is about to be mutated, unless it is
+     * already kept or was added to the original graph after the computation.
+     */
+    public void preserve(final TinkerEdge edge) {
+        if (this.isMaterialized() || this.addedEdgeIds.contains(edge.id()))
+            return;
+        this.preservedEdges.computeIfAbsent(edge.id(), id -> new PreservedEdge(edge));
+    }
+
+    /**
+     * Note an element that was added to the original graph after the computation so that it is not part of the
+     * result graph.
+     */
+    public void added(final Element element) {
+        if (this.isMaterialized())
+            return;
+        if (element instanceof Vertex)
+            this.addedVertexIds.add(element.id());
+        else
+            this.addedEdgeIds.add(element.id());
+    }
+
+    public boolean isMaterialized() {
+        return null != this.materializedGraph;
+    }
+
+    @Override
+    public Vertex addVertex(final Object... keyValues) {
+        return this.materialize().addVertex(keyValues);
+    }
+
+    @Override
+    public <C extends GraphComputer> C compute(final Class<C> graphComputerClass) throws IllegalArgumentException {
+        return this.materialize().compute(graphComputerClass);
+    }
+
+    @Override
+    public GraphComputer compute() throws IllegalArgumentException {
+        return this.materialize().compute();
+    }
+
+    @Override
+    public Iterator<Vertex> vertices(final Object... vertexIds) {
+        if (this.isMaterialized())
+            return this.materializedGraph.vertices(vertexIds);
+        if (0 == vertexIds.length) {
+            final Iterator<Vertex> unchanged = IteratorUtils.filter(this.graph.vertices(), vertex -> this.isUnchanged(this.preservedVertices, this.addedVertexIds, vertex.id()));
+            final Iterator<Vertex> preserved = IteratorUtils.map(this.preservedVertices.values().iterator(), preservedVertex -> preservedVertex.vertex);
+            return IteratorUtils.map(IteratorUtils.concat(unchanged, preserved), vertex -> new ResultVertex((TinkerVertex) vertex));
+        }
+        final List<Vertex> vertices = new ArrayList<>(vertexIds.length);
+        for (final Object vertexId : vertexIds) {
+            final Object id = vertexId instanceof Vertex ? ((Vertex) vertexId).id() : TinkerHelper.convertVertexId(this.graph, vertexId);
+            final PreservedVertex preservedVertex = this.preservedVertices.get(id);
+            if (null != preservedVertex)
+                vertices.add(new ResultVertex(preservedVertex.vertex));
+            else if (!this.addedVertexIds.contains(id))
+                this.graph.vertices(id).forEachRemaining(vertex -> vertices.add(new ResultVertex((TinkerVertex) vertex)));
+        }
+        return vertices.iterator();
+    }
+
+    @Override
+    public Iterator<Edge> edges(final Object... edgeIds) {
+        if (this.isMaterialized())
+            return this.materializedGraph.edges(edgeIds);
+        if (!this.includeEdges)
+            return Collections.emptyIterator();
+        if (0 == edgeIds.length) {
+            final Iterator<Edge> unchanged = IteratorUtils.filter(this.graph.edges(), edge -> this.isUnchanged(this.preservedEdges, this.addedEdgeIds, edge.id()));
+            final Iterator<Edge> preserved = IteratorUtils.map(this.preservedEdges.values().iterator(), preservedEdge -> preservedEdge.edge);
+            return IteratorUtils.map(IteratorUtils.concat(unchanged, preserved), edge -> new ResultEdge((TinkerEdge) edge));
+        }
+        final List<Edge> edges = new ArrayList<>(edgeIds.length);
+        for (final Object edgeId : edgeIds) {
+            final Object id = edgeId instanceof Edge ? ((Edge) edgeId).id() : TinkerHelper.convertEdgeId(this.graph, edgeId);
+            final PreservedEdge preservedEdge = this.preservedEdges.get(id);
+            if (null != preservedEdge)
+                edges.add(new ResultEdge(preservedEdge.edge));
+            else if (!this.addedEdgeIds.contains(id))
+                this.graph.edges(id).forEachRemaining(edge -> edges.add(new ResultEdge((TinkerEdge) edge)));
+        }
+        return edges.iterator();
+    }
+
+    private boolean isUnchanged(final Map<Object, ?> preserved, final Set<Object> added, final Object id) {
+        return !preserved.containsKey(id) && !added.contains(id);
+    }
+
+    @Override
+    public Transaction tx() {
+        throw Exceptions.transactionsNotSupported();
+    }
+
+    @Override
+    public Variables variables() {
+        return this.materialize().variables();
+    }
+
+    @Override
+    public Configuration configuration() {
+        return this.isMaterialized() ? this.materializedGraph.configuration() : EMPTY_CONFIGURATION;
+    }
+
+    @Override
+    public Features features() {
+        return this.graph.features();
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (this.isMaterialized())
+            this.materializedGraph.close();
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.graphString(this, "vertices:" + IteratorUtils.count(this.vertices()) + " edges:" + IteratorUtils.count(this.edges()));
+    }
+
+    ///////////////////////////
+
+    private Vertex materializedVertex(final Object id) {
+        final Iterator<Vertex> vertices = this.materialize().vertices(id);
+        if (!vertices.hasNext())
+            throw Element.Exceptions.elementAlreadyRemoved(Vertex.class, id);
+        return vertices.next();
+    }
+
+    private Edge materializedEdge(final Object id) {
+        final Iterator<Edge> edges = this.materialize().edges(id);
+        if (!edges.hasNext())
+            throw Element.Exceptions.elementAlreadyRemoved(Edge.class, id);
+        return edges.next();
+    }
+
+    private <V> VertexProperty<V> materializedVertexProperty(final VertexProperty<V> vertexProperty) {
+        final Iterator<VertexProperty<V>> vertexProperties = this.materializedVertex(vertexProperty.element().id()).properties(vertexProperty.key());
+        while (vertexProperties.hasNext()) {
+            final VertexProperty<V> materializedVertexProperty = vertexProperties.next();
+            if (materializedVertexProperty.id().equals(vertexProperty.id()))
+                return materializedVertexProperty;
+        }
+        throw Element.Exceptions.elementAlreadyRemoved(VertexProperty.class, vertexProperty.id());
+    }
+
+    ///////////////////////////
+
+    private final class ResultVertex implements Vertex, WrappedVertex<Vertex> {
+
+        private final TinkerVertex vertex;
+
+        private ResultVertex(final TinkerVertex vertex) {
+            this.vertex = vertex;
+        }
+
+        @Override
+        public Object id() {
+            return this.vertex.id();
+        }
+
+        @Override
+        public String label() {
+            return this.vertex.label();
+        }
+
+        @Override
+        public Graph graph() {
+            return TinkerResultGraph.this;
+        }
+
+        @Override
+        public Edge addEdge(final String label, final Vertex inVertex, final Object... keyValues) {
+            if (null == inVertex) throw Graph.Exceptions.argumentCanNotBeNull("vertex");
+            return materializedVertex(this.id()).addEdge(label, materializedVertex(inVertex.id()), keyValues);
+        }
+
+        @Override
+        public <V> VertexProperty<V> property(final VertexProperty.Cardinality cardinality, final String key, final V value, final Object... keyValues) {
+            return materializedVertex(this.id()).property(cardinality, key, value, keyValues);
+        }
+
+        @Override
+        public Iterator<Edge> edges(final Direction direction, final String... edgeLabels) {
+            if (isMaterialized())
+                return materializedVertex(this.id()).edges(direction, edgeLabels);
+            if (!includeEdges)
+                return Collections.emptyIterator();
+            final PreservedVertex preservedVertex = preservedVertices.get(this.id());
+            if (null != preservedVertex)
+                return IteratorUtils.map(preservedVertex.edges(direction, edgeLabels), ResultEdge::new);
+            return IteratorUtils.map(TinkerHelper.getEdges(this.vertex, direction, edgeLabels), ResultEdge::new);
+        }
+
+        @Override
+        public Iterator<Vertex> vertices(final Direction direction, final String... edgeLabels) {
+            if (isMaterialized())
+                return materializedVertex(this.id()).vertices(direction, edgeLabels);
+            if (!includeEdges)
+                return Collections.emptyIterator();
+            final PreservedVertex preservedVertex = preservedVertices.get(this.id());
+            if (null != preservedVertex)
+                return IteratorUtils.map(preservedVertex.vertices(direction, edgeLabels), ResultVertex::new);
+            return IteratorUtils.map(TinkerHelper.getVertices(this.vertex, direction, edgeLabels), ResultVertex::new);
+        }
+
+        @Override
+        public <V> Iterator<VertexProperty<V>> properties(final String... propertyKeys) {
+            if (isMaterialized())
+                return materializedVertex(this.id()).properties(propertyKeys);
+            final List<VertexProperty<V>> properties = new ArrayList<>();
+            final PreservedVertex preservedVertex = preservedVertices.get(this.id());
+            if (null != preservedVertex) {
+                for (final VertexProperty property : preservedVertex.properties) {
+                    if (ElementHelper.keyExists(property.key(), propertyKeys))
+                        properties.add(new ResultVertexProperty<V>(property, this));
+                }
+            } else {
+                for (final List<VertexProperty> list : TinkerHelper.getProperties(this.vertex).values()) {
+                    for (final VertexProperty property : list) {
+                        if (ElementHelper.keyExists(property.key(), propertyKeys))
+                            properties.add(new ResultVertexProperty<V>(property, this));
+                    }
+                }
+            }
+            view.<V>getComputeProperties(this.vertex, propertyKeys).forEachRemaining(property -> properties.add(new ResultVertexProperty<>(property, this)));
+            return properties.iterator();
+        }
+
+        @Override
+        public void remove() {
+            materializedVertex(this.id()).remove();
+        }
+
+        @Override
+        public Vertex getBaseVertex() {
+            return this.vertex;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return ElementHelper.areEqual(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return ElementHelper.hashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return StringFactory.vertexString(this);
+        }
+    }
+
+    ///////////////////////////
+
+    private final class ResultEdge implements Edge, WrappedEdge<Edge> {
+
+        private final TinkerEdge edge;
+
+        private ResultEdge(final TinkerEdge edge) {
+            this.edge = edge;
+        }
+
+        @Override
+        public Object id() {
+            return this.edge.id();
+        }
+
+        @Override
+        public String label() {
+            return this.edge.label();
+        }
+
+        @Override
+        public Graph graph() {
+            return TinkerResultGraph.this;
+        }
+
+        @Override
+        public Iterator<Vertex> vertices(final Direction direction) {
+            if (isMaterialized())
+                return materializedEdge(this.id()).vertices(direction);
+            return IteratorUtils.map(this.edge.vertices(direction), vertex -> new ResultVertex((TinkerVertex) vertex));
+        }
+
+        @Override
+        public <V> Property<V> property(final String key, final V value) {
+            return materializedEdge(this.id()).property(key, value);
+        }
+
+        @Override
+        public <V> Iterator<Property<V>> properties(final String... propertyKeys) {
+            if (isMaterialized())
+                return materializedEdge(this.id()).properties(propertyKeys);
+            final PreservedEdge preservedEdge = preservedEdges.get(this.id());
+            if (null == preservedEdge)
+                return IteratorUtils.map(this.edge.<V>properties(propertyKeys), property -> new ResultProperty<>(property, this));
+            final List<Property<V>> properties = new ArrayList<>();
+            for (final Property property : preservedEdge.properties) {
+                if (ElementHelper.keyExists(property.key(), propertyKeys))
+                    properties.add(new ResultProperty<V>(property, this));
+            }
+            return properties.iterator();
+        }
+
+        @Override
+        public void remove() {
+            materializedEdge(this.id()).remove();
+        }
+
+        @Override
+        public Edge getBaseEdge() {
+            return this.edge;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return ElementHelper.areEqual(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return ElementHelper.hashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return StringFactory.edgeString(this);
+        }
+    }
+
+    ///////////////////////////
+
+    private final class ResultVertexProperty<V> implements VertexProperty<V>, WrappedVertexProperty<VertexProperty<V>> {
+
+        private final VertexProperty<V> vertexProperty;
+        private final ResultVertex vertex;
+
+        private ResultVertexProperty(final VertexProperty<V> vertexProperty, final ResultVertex vertex) {
+            this.vertexProperty = vertexProperty;
+            this.vertex = vertex;
+        }
+
+        @Override
+        public Object id() {
+            return this.vertexProperty.id();
+        }
+
+        @Override
+        public String key() {
+            return this.vertexProperty.key();
+        }
+
+        @Override
+        public V value() throws NoSuchElementException {
+            return this.vertexProperty.value();
+        }
+
+        @Override
+        public boolean isPresent() {
+            return this.vertexProperty.isPresent();
+        }
+
+        @Override
+        public Vertex element() {
+            return this.vertex;
+        }
+
+        @Override
+        public <U> Property<U> property(final String key, final U value) {
+            return materializedVertexProperty(this).property(key, value);
+        }
+
+        @Override
+        public <U> Iterator<Property<U>> properties(final String... propertyKeys) {
+            if (isMaterialized())
+                return materializedVertexProperty(this).properties(propertyKeys);
+            return IteratorUtils.map(this.vertexProperty.<U>properties(propertyKeys), property -> new ResultProperty<>(property, this));
+        }
+
+        @Override
+        public void remove() {
+            materializedVertexProperty(this).remove();
+        }
+
+        @Override
+        public VertexProperty<V> getBaseVertexProperty() {
+            return this.vertexProperty;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return ElementHelper.areEqual(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return ElementHelper.hashCode((Element) this);
+        }
+
+        @Override
+        public String toString() {
+            return StringFactory.propertyString(this);
+        }
+    }
+
+    ///////////////////////////
+
+    private final class ResultProperty<V> implements Property<V>, WrappedProperty<Property<V>> {
+
+        private final Property<V> property;
+        private final Element element;
+
+        private ResultProperty(final Property<V> property, final Element element) {
+            this.property = property;
+            this.element = element;
+        }
+
+        @Override
+        public String key() {
+            return this.property.key();
+        }
+
+        @Override
+        public V value() throws NoSuchElementException {
+            return this.property.value();
+        }
+
+        @Override
+        public boolean isPresent() {
+            return this.property.isPresent();
+        }
+
+        @Override
+        public Element element() {
+            return this.element;
+        }
+
+        @Override
+        public void remove() {
+            final Element materializedElement = this.element instanceof Edge ?
+                    materializedEdge(this.element.id()) :
+                    materializedVertexProperty((VertexProperty<?>) this.element);
+            materializedElement.property(this.key()).remove();
+        }
+
+        @Override
+        public Property<V> getBaseProperty() {
+            return this.property;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return ElementHelper.areEqual(this, other);
+        }
+
+        @Override
+        public int hashCode() {
+            return ElementHelper.hashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            return StringFactory.propertyString(this);
+        }
+    }
+
+    ///////////////////////////
+
+    /**
+     * A vertex of the original graph as it was at the end of the computation.
+     */
+    private static final class PreservedVertex {
+
+        private final TinkerVertex vertex;
+        private final List<VertexProperty> properties = new ArrayList<>();
+        private final List<TinkerEdge> outEdges;
+        private final List<TinkerEdge> inEdges;
+
+        private PreservedVertex(final TinkerVertex vertex) {
+            this.vertex = vertex;
+            TinkerHelper.getProperties(vertex).values().forEach(list -> list.forEach(property -> this.properties.add(DetachedFactory.detach((VertexProperty<?>) property, true))));
+            this.outEdges = IteratorUtils.list(TinkerHelper.getEdges(vertex, Direction.OUT));
+            this.inEdges = IteratorUtils.list(TinkerHelper.getEdges(vertex, Direction.IN));
+        }
+
+        private Iterator<TinkerEdge> edges(final Direction direction, final String... edgeLabels) {
+            final Iterator<TinkerEdge> edges = Direction.OUT == direction ? this.outEdges.iterator() :
+                    Direction.IN == direction ? this.inEdges.iterator() :
+                            IteratorUtils.concat(this.outEdges.iterator(), this.inEdges.iterator());
+            return 0 == edgeLabels.length ? edges : IteratorUtils.filter(edges, edge -> ElementHelper.keyExists(edge.label(), edgeLabels));
+        }
+
+        private Iterator<TinkerVertex> vertices(final Direction direction, final String... edgeLabels) {
+            final Iterator<TinkerVertex> outVertices = Direction.IN == direction ? Collections.emptyIterator() :
+                    IteratorUtils.map(this.edges(Direction.OUT, edgeLabels), edge -> (TinkerVertex) edge.inVertex());
+            final Iterator<TinkerVertex> inVertices = Direction.OUT == direction ? Collections.emptyIterator() :
+                    IteratorUtils.map(this.edges(Direction.IN, edgeLabels), edge -> (TinkerVertex) edge.outVertex());
+            return IteratorUtils.concat(outVertices, inVertices);
+        }
+    }
+
+    /**
+     * An edge of the original graph as it was at the end of the computation. The vertices of an edge never change.
+     */
+    private static final class PreservedEdge {
+
+        private final TinkerEdge edge;
+        private final List<Property> properties = new ArrayList<>();
+
+        private PreservedEdge(final TinkerEdge edge) {
+            this.edge = edge;
+            edge.properties().forEachRemaining(property -> this.properties.add(DetachedFactory.detach(property)));
+        }
+    }
+}
@@ -24,12 +24,22 @@ import org.apache.tinkerpop.gremlin.process.computer.Memory;
 import org.apache.tinkerpop.gremlin.process.computer.VertexProgram;
 import org.apache.tinkerpop.gremlin.process.computer.util.MapReducePool;
 import org.apache.tinkerpop.gremlin.process.computer.util.VertexProgramPool;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
+ * A pool of worker threads that executes {@link VertexProgram} iterations and {@link MapReduce} stages in parallel.
+ * The items of a stage are split into one contiguous partition per worker and each worker processes its partition
+ * with its own {@link VertexProgram} or {@link MapReduce} clone.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  * @author Stephen Mallette (http://stephen.genoprime.com)
  */
@@ -44,6 +54,8 @@ public final class TinkerWorkerPool implements AutoCloseable {
     private MapReducePool mapReducePool;
 
     public TinkerWorkerPool(final int numberOfWorkers) {
+        if (numberOfWorkers < 1)
+            throw new IllegalArgumentException("The number of workers must be greater than zero: " + numberOfWorkers);
         this.numberOfWorkers = numberOfWorkers;
         workerPool = Executors.newFixedThreadPool(numberOfWorkers, threadFactoryWorker);
     }
@@ -66,16 +78,15 @@ public final class TinkerWorkerPool implements AutoCloseable {
         this.vertexProgramPool.workerIterationEnd(memory);
     }
 
-    public void executeVertexProgram(final Consumer<VertexProgram> worker) {
-        try {
-            this.workerPool.submit(() -> {
-                final VertexProgram vp = this.vertexProgramPool.take();
-                worker.accept(vp);
+    public void executeVertexProgram(final List<Vertex> vertices, final BiConsumer<Iterator<Vertex>, VertexProgram> worker) {
+        this.execute(vertices, partition -> {
+            final VertexProgram vp = this.vertexProgramPool.take();
+            try {
+                worker.accept(partition, vp);
+            } finally {
                 this.vertexProgramPool.offer(vp);
-            }).get();
-        } catch (final Exception e) {
-            throw new IllegalStateException(e.getMessage(), e);
-        }
+            }
+        });
     }
 
     ///
@@ -89,14 +100,39 @@ public final class TinkerWorkerPool implements AutoCloseable {
     }
 
 
-    public void executeMapReduce(final Consumer<MapReduce> worker) {
-        try {
-            this.workerPool.submit(() -> {
-                final MapReduce mr = this.mapReducePool.take();
-                worker.accept(mr);
+    public <S> void executeMapReduce(final List<S> items, final BiConsumer<Iterator<S>, MapReduce> worker) {
+        this.execute(items, partition -> {
+            final MapReduce mr = this.mapReducePool.take();
+            try {
+                worker.accept(partition, mr);
+            } finally {
                 this.mapReducePool.offer(mr);
-            }).get();
+            }
+        });
+    }
+
+    public int getNumberOfWorkers() {
+        return this.numberOfWorkers;
+    }
+
+    /**
+     * Splits the items into at most one partition per worker, submits a task for each partition and waits for all
+     * of them to complete. As there are never more partitions than workers, every task is guaranteed a clone from
+     * the {@link VertexProgramPool} or {@link MapReducePool}.
+     */
+    private <S> void execute(final List<S> items, final Consumer<Iterator<S>> task) {
+        final int partitionSize = Math.max(1, (items.size() + this.numberOfWorkers - 1) / this.numberOfWorkers);
+        final List<Future<?>> futures = new ArrayList<>(this.numberOfWorkers);
+        try {
+            for (int i = 0; i < items.size(); i = i + partitionSize) {
+                final List<S> partition = items.subList(i, Math.min(items.size(), i + partitionSize));
+                futures.add(this.workerPool.submit(() -> task.accept(partition.iterator())));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
         } catch (final Exception e) {
+            futures.forEach(future -> future.cancel(true));
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
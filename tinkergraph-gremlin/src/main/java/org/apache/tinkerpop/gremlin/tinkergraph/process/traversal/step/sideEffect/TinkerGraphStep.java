@@ -19,9 +19,11 @@
 package org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.step.sideEffect;
 
 import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.step.HasContainerHolder;
 import org.apache.tinkerpop.gremlin.process.traversal.step.sideEffect.GraphStep;
 import org.apache.tinkerpop.gremlin.process.traversal.step.util.HasContainer;
+import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
 import org.apache.tinkerpop.gremlin.structure.Edge;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
@@ -31,10 +33,14 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerHelper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -43,50 +49,86 @@ import java.util.stream.Collectors;
  */
 public final class TinkerGraphStep<S extends Element> extends GraphStep<S> implements HasContainerHolder {
 
-    private final List<HasContainer> hasContainers = new ArrayList<>();
+    private List<HasContainer> hasContainers = new ArrayList<>();
+    private transient Supplier<Iterator<S>> elementIteratorSupplier;
 
     public TinkerGraphStep(final GraphStep<S> originalGraphStep) {
         super(originalGraphStep.getTraversal(), originalGraphStep.getReturnClass(), originalGraphStep.getIds());
         originalGraphStep.getLabels().forEach(this::addLabel);
         //No need to do anything if the first element is an Element, all elements are guaranteed to be an element and will be return as is
         if ((this.ids.length == 0 || !(this.ids[0] instanceof Element)))
-            this.setIteratorSupplier(() -> (Iterator<S>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
+            this.setIteratorSupplier(this.elementIteratorSupplier = () -> (Iterator<S>) (Vertex.class.isAssignableFrom(this.returnClass) ? this.vertices() : this.edges()));
     }
 
     private Iterator<? extends Edge> edges() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Edge.class);
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
             return this.iteratorList(graph.edges(this.ids));
-        else
-            return null == indexedContainer ?
-                    this.iteratorList(graph.edges()) :
-                    TinkerHelper.queryEdgeIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
-                            .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
-                            .collect(Collectors.<Edge>toList()).iterator();
+        final Collection<? extends Edge> indexedEdges = this.queryIndex(graph, Edge.class);
+        return null == indexedEdges ?
+                this.iteratorList(graph.edges()) :
+                indexedEdges.stream()
+                        .filter(edge -> HasContainer.testAll(edge, this.hasContainers))
+                        .collect(Collectors.<Edge>toList()).iterator();
     }
 
     private Iterator<? extends Vertex> vertices() {
         final TinkerGraph graph = (TinkerGraph) this.getTraversal().getGraph().get();
-        final HasContainer indexedContainer = getIndexKey(Vertex.class);
         // ids are present, filter on them first
         if (this.ids != null && this.ids.length > 0)
             return this.iteratorList(graph.vertices(this.ids));
-        else
-            return null == indexedContainer ?
-                    this.iteratorList(graph.vertices()) :
-                    TinkerHelper.queryVertexIndex(graph, indexedContainer.getKey(), indexedContainer.getPredicate().getValue()).stream()
-                            .filter(vertex -> HasContainer.testAll(vertex, this.hasContainers))
-                            .collect(Collectors.<Vertex>toList()).iterator();
+        final Collection<? extends Vertex> indexedVertices = this.queryIndex(graph, Vertex.class);
+        return null == indexedVertices ?
+                this.iteratorList(graph.vertices()) :
+                indexedVertices.stream()
+                        .filter(vertex -> HasContainer.testAll(vertex, this.hasContainers))
+                        .collect(Collectors.<Vertex>toList()).iterator();
     }
 
-    private HasContainer getIndexKey(final Class<? extends Element> indexedClass) {
-        final Set<String> indexedKeys = ((TinkerGraph) this.getTraversal().getGraph().get()).getIndexedKeys(indexedClass);
-        return this.hasContainers.stream()
-                .filter(c -> indexedKeys.contains(c.getKey()) && c.getPredicate().getBiPredicate() == Compare.eq)
-                .findAny()
-                .orElseGet(() -> null);
+    /**
+     * Get the candidate elements from the index that answers the {@link HasContainer}s. An equality lookup is used as
+     * soon as one is found, otherwise the smallest candidate set of the range and {@code within()} lookups. The
+     * containers of a key are queried as one conjunction as {@code has(key, between(a, b))} is split into a container
+     * per bound.
+     *
+     * @return the candidate elements or {@code null} if none of the containers can be answered by an index
+     */
+    private <E extends Element> Collection<? extends E> queryIndex(final TinkerGraph graph, final Class<E> indexedClass) {
+        final Set<String> indexedKeys = graph.getIndexedKeys(indexedClass);
+        final Map<String, List<P>> indexedPredicates = new LinkedHashMap<>();
+        for (final HasContainer hasContainer : this.hasContainers) {
+            if (!indexedKeys.contains(hasContainer.getKey()))
+                continue;
+            if (hasContainer.getPredicate().getBiPredicate() == Compare.eq)
+                return (Collection<E>) (Vertex.class.isAssignableFrom(indexedClass) ?
+                        TinkerHelper.queryVertexIndex(graph, hasContainer.getKey(), hasContainer.getPredicate().getValue()) :
+                        TinkerHelper.queryEdgeIndex(graph, hasContainer.getKey(), hasContainer.getPredicate().getValue()));
+            indexedPredicates.computeIfAbsent(hasContainer.getKey(), k -> new ArrayList<>()).add(hasContainer.getPredicate());
+        }
+        Collection<? extends E> candidates = null;
+        for (final Map.Entry<String, List<P>> entry : indexedPredicates.entrySet()) {
+            final P<?> predicate = 1 == entry.getValue().size() ?
+                    entry.getValue().get(0) :
+                    new AndP(entry.getValue().toArray(new P[entry.getValue().size()]));
+            final Collection<? extends E> elements = (Collection<E>) (Vertex.class.isAssignableFrom(indexedClass) ?
+                    TinkerHelper.queryVertexIndex(graph, entry.getKey(), predicate) :
+                    TinkerHelper.queryEdgeIndex(graph, entry.getKey(), predicate));
+            if (null != elements && (null == candidates || elements.size() < candidates.size()))
+                candidates = elements;
+        }
+        return candidates;
+    }
+
+    @Override
+    public TinkerGraphStep<S> clone() {
+        final TinkerGraphStep<S> clone = (TinkerGraphStep<S>) super.clone();
+        clone.hasContainers = new ArrayList<>();
+        this.hasContainers.forEach(hasContainer -> clone.hasContainers.add(hasContainer.clone()));
+        // the element iterator is bound to the step it was created for (unless an engine replaced it)
+        if (null != this.elementIteratorSupplier && this.iteratorSupplier == this.elementIteratorSupplier)
+            clone.setIteratorSupplier(clone.elementIteratorSupplier = () -> (Iterator<S>) (Vertex.class.isAssignableFrom(clone.returnClass) ? clone.vertices() : clone.edges()));
+        return clone;
     }
 
     @Override
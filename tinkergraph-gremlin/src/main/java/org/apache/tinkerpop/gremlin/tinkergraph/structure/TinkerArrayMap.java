@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@code Map} that stores its keys and values in a single flat array and finds keys by a linear scan. It is used
+ * by {@link TinkerGraph.VertexStorage#COMPACT} for the edge label and property key maps of elements which almost
+ * always hold a handful of entries, where it costs a fraction of the memory of a {@code HashMap}. Keys are compared
+ * by reference first which makes lookups of interned labels and keys cheap. Insertion order is retained.
+ *
+ * @author agent (agent@local)
+ */
+final class TinkerArrayMap<K, V> extends AbstractMap<K, V> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private Object[] entries = EMPTY;
+    private int size = 0;
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return -1 != this.indexOf(key);
+    }
+
+    @Override
+    public V get(final Object key) {
+        final int index = this.indexOf(key);
+        return -1 == index ? null : (V) this.entries[index + 1];
+    }
+
+    @Override
+    public V getOrDefault(final Object key, final V defaultValue) {
+        final int index = this.indexOf(key);
+        return -1 == index ? defaultValue : (V) this.entries[index + 1];
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        final int index = this.indexOf(key);
+        if (-1 != index) {
+            final V oldValue = (V) this.entries[index + 1];
+            this.entries[index + 1] = value;
+            return oldValue;
+        }
+        final int length = this.size << 1;
+        if (length == this.entries.length)
+            this.entries = Arrays.copyOf(this.entries, 0 == length ? 2 : length << 1);
+        this.entries[length] = key;
+        this.entries[length + 1] = value;
+        this.size++;
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        final int index = this.indexOf(key);
+        return -1 == index ? null : this.removeAt(index);
+    }
+
+    @Override
+    public void clear() {
+        this.entries = EMPTY;
+        this.size = 0;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return TinkerArrayMap.this.size;
+            }
+        };
+    }
+
+    private int indexOf(final Object key) {
+        final int length = this.size << 1;
+        for (int i = 0; i < length; i = i + 2) {
+            final Object k = this.entries[i];
+            if (k == key || Objects.equals(k, key))
+                return i;
+        }
+        return -1;
+    }
+
+    private V removeAt(final int index) {
+        final V oldValue = (V) this.entries[index + 1];
+        final int length = this.size << 1;
+        System.arraycopy(this.entries, index + 2, this.entries, index, length - index - 2);
+        this.entries[length - 2] = null;
+        this.entries[length - 1] = null;
+        this.size--;
+        return oldValue;
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int next = 0;
+        private int last = -1;
+
+        @Override
+        public boolean hasNext() {
+            return this.next < TinkerArrayMap.this.size << 1;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (!this.hasNext())
+                throw new NoSuchElementException();
+            this.last = this.next;
+            this.next = this.next + 2;
+            final int index = this.last;
+            return new SimpleEntry<K, V>((K) entries[index], (V) entries[index + 1]) {
+                @Override
+                public V setValue(final V value) {
+                    entries[index + 1] = value;
+                    return super.setValue(value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (-1 == this.last)
+                throw new IllegalStateException();
+            TinkerArrayMap.this.removeAt(this.last);
+            this.next = this.last;
+            this.last = -1;
+        }
+    }
+}
@@ -29,8 +29,8 @@ import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
@@ -55,10 +55,11 @@ public final class TinkerEdge extends TinkerElement implements Edge {
     @Override
     public <V> Property<V> property(final String key, final V value) {
         ElementHelper.validateProperty(key, value);
+        TinkerHelper.preserveInResultGraphs(this);
         final Property oldProperty = super.property(key);
-        final Property<V> newProperty = new TinkerProperty<>(this, key, value);
-        if (null == this.properties) this.properties = new HashMap<>();
-        this.properties.put(key, newProperty);
+        final Property<V> newProperty = new TinkerProperty<>(this, TinkerHelper.key((TinkerGraph) this.graph(), key), value);
+        if (null == this.properties) this.properties = TinkerHelper.createMap((TinkerGraph) this.graph());
+        this.properties.put(newProperty.key(), newProperty);
         TinkerHelper.autoUpdateIndex(this, key, value, oldProperty.isPresent() ? oldProperty.value() : null);
         return newProperty;
 
@@ -81,14 +82,17 @@ public final class TinkerEdge extends TinkerElement implements Edge {
             throw Element.Exceptions.elementAlreadyRemoved(Edge.class, this.id);
         final TinkerVertex outVertex = (TinkerVertex) this.outVertex;
         final TinkerVertex inVertex = (TinkerVertex) this.inVertex;
+        TinkerHelper.preserveInResultGraphs(this);
+        TinkerHelper.preserveInResultGraphs(outVertex);
+        TinkerHelper.preserveInResultGraphs(inVertex);
 
         if (null != outVertex && null != outVertex.outEdges) {
-            final Set<Edge> edges = outVertex.outEdges.get(this.label());
+            final Collection<Edge> edges = outVertex.outEdges.get(this.label());
             if (null != edges)
                 edges.remove(this);
         }
         if (null != inVertex && null != inVertex.inEdges) {
-            final Set<Edge> edges = inVertex.inEdges.get(this.label());
+            final Collection<Edge> edges = inVertex.inEdges.get(this.label());
             if (null != edges)
                 edges.remove(this);
         }
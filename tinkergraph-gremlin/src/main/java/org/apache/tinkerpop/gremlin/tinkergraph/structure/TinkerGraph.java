@@ -33,9 +33,12 @@ import org.apache.tinkerpop.gremlin.structure.util.GraphFactory;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputer;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerResultGraph;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.traversal.strategy.optimization.TinkerGraphStepStrategy;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Map;
@@ -77,6 +80,8 @@ public final class TinkerGraph implements Graph {
     public static final String CONFIG_EDGE_ID = "gremlin.tinkergraph.edgeIdManager";
     public static final String CONFIG_VERTEX_PROPERTY_ID = "gremlin.tinkergraph.vertexPropertyIdManager";
     public static final String CONFIG_DEFAULT_VERTEX_PROPERTY_CARDINALITY = "gremlin.tinkergraph.defaultVertexPropertyCardinality";
+    public static final String CONFIG_VERTEX_STORAGE = "gremlin.tinkergraph.vertexStorage";
+    public static final String CONFIG_GRAPH_LOCATION = "gremlin.tinkergraph.graphLocation";
 
     private final TinkerGraphFeatures features = new TinkerGraphFeatures();
 
@@ -86,6 +91,7 @@ public final class TinkerGraph implements Graph {
 
     protected TinkerGraphVariables variables = null;
     protected TinkerGraphComputerView graphComputerView = null;
+    protected Set<TinkerResultGraph> resultGraphs = null;
     protected TinkerIndex<TinkerVertex> vertexIndex = null;
     protected TinkerIndex<TinkerEdge> edgeIndex = null;
 
@@ -93,8 +99,11 @@ public final class TinkerGraph implements Graph {
     protected final IdManager<?> edgeIdManager;
     protected final IdManager<?> vertexPropertyIdManager;
     protected final VertexProperty.Cardinality defaultVertexPropertyCardinality;
+    protected final VertexStorage vertexStorage;
+    private final Map<String, String> internedStrings = new ConcurrentHashMap<>();
 
     private final Configuration configuration;
+    private final String graphLocation;
 
     /**
      * An empty private constructor that initializes {@link TinkerGraph}.
@@ -106,6 +115,11 @@ public final class TinkerGraph implements Graph {
         this.vertexPropertyIdManager = selectIdManager(configuration, CONFIG_VERTEX_PROPERTY_ID, VertexProperty.class);
         this.defaultVertexPropertyCardinality = VertexProperty.Cardinality.valueOf(
                 configuration.getString(CONFIG_DEFAULT_VERTEX_PROPERTY_CARDINALITY, VertexProperty.Cardinality.single.name()));
+        this.vertexStorage = VertexStorage.valueOf(configuration.getString(CONFIG_VERTEX_STORAGE, VertexStorage.STANDARD.name()));
+        this.graphLocation = configuration.getString(CONFIG_GRAPH_LOCATION, null);
+
+        if (null != this.graphLocation && new File(this.graphLocation).exists())
+            this.loadGraph();
     }
 
     /**
@@ -154,6 +168,7 @@ public final class TinkerGraph implements Graph {
 
         final Vertex vertex = new TinkerVertex(idValue, label, this);
         this.vertices.put(vertex.id(), vertex);
+        TinkerHelper.addedToResultGraphs(this, vertex);
 
         ElementHelper.attachProperties(vertex, VertexProperty.Cardinality.list, keyValues);
         return vertex;
@@ -184,6 +199,7 @@ public final class TinkerGraph implements Graph {
     }
 
     public void clear() {
+        TinkerHelper.materializeResultGraphs(this);
         this.vertices.clear();
         this.edges.clear();
         this.variables = null;
@@ -193,8 +209,30 @@ public final class TinkerGraph implements Graph {
         this.graphComputerView = null;
     }
 
+    /**
+     * If a {@link #CONFIG_GRAPH_LOCATION} is configured, write a snapshot of the graph there so that it is reloaded
+     * the next time a {@link TinkerGraph} is opened with that location.
+     */
     @Override
     public void close() {
+        if (null != this.graphLocation)
+            this.saveGraph();
+    }
+
+    private void loadGraph() {
+        try {
+            TinkerGraphSnapshot.read(this, new File(this.graphLocation));
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Could not load the graph from %s", this.graphLocation), e);
+        }
+    }
+
+    private void saveGraph() {
+        try {
+            TinkerGraphSnapshot.write(this, new File(this.graphLocation));
+        } catch (IOException e) {
+            throw new IllegalStateException(String.format("Could not save the graph to %s", this.graphLocation), e);
+        }
     }
 
     @Override
@@ -350,7 +388,7 @@ public final class TinkerGraph implements Graph {
 
         @Override
         public boolean supportsPersistence() {
-            return false;
+            return null != graphLocation;
         }
 
         @Override
@@ -388,12 +426,27 @@ public final class TinkerGraph implements Graph {
      * @param <E>          The type of the element class
      */
     public <E extends Element> void createIndex(final String key, final Class<E> elementClass) {
+        this.createIndex(key, elementClass, IndexType.HASH);
+    }
+
+    /**
+     * Create an index of the specified {@link IndexType} for said element class ({@link Vertex} or {@link Edge}) and
+     * said property key. A {@link IndexType#SORTED} index additionally answers range predicates such as
+     * {@code gt()}, {@code lte()} and {@code between()}. Creating a sorted index on a key that already has a hash
+     * index upgrades it.
+     *
+     * @param key          the property key to index
+     * @param elementClass the element class to index
+     * @param indexType    the type of index to create
+     * @param <E>          The type of the element class
+     */
+    public <E extends Element> void createIndex(final String key, final Class<E> elementClass, final IndexType indexType) {
         if (Vertex.class.isAssignableFrom(elementClass)) {
             if (null == this.vertexIndex) this.vertexIndex = new TinkerIndex<>(this, TinkerVertex.class);
-            this.vertexIndex.createKeyIndex(key);
+            this.vertexIndex.createKeyIndex(key, indexType);
         } else if (Edge.class.isAssignableFrom(elementClass)) {
             if (null == this.edgeIndex) this.edgeIndex = new TinkerIndex<>(this, TinkerEdge.class);
-            this.edgeIndex.createKeyIndex(key);
+            this.edgeIndex.createKeyIndex(key, indexType);
         } else {
             throw new IllegalArgumentException("Class is not indexable: " + elementClass);
         }
@@ -433,6 +486,49 @@ public final class TinkerGraph implements Graph {
         }
     }
 
+    /**
+     * Return the canonical instance of an edge label or property key so that {@link VertexStorage#COMPACT} elements
+     * share a single copy of each.
+     */
+    protected String intern(final String string) {
+        final String interned = this.internedStrings.putIfAbsent(string, string);
+        return null == interned ? string : interned;
+    }
+
+    /**
+     * The layouts available to store the adjacency and properties of elements, selected with
+     * {@link #CONFIG_VERTEX_STORAGE}.
+     */
+    public enum VertexStorage {
+        /**
+         * Hash maps of edge label to hash sets of edges and of property key to property lists. Adding and removing
+         * edges is constant time regardless of degree.
+         */
+        STANDARD,
+
+        /**
+         * Flat arrays of interned edge labels and property keys with growing arrays of edges, which takes a fraction
+         * of the heap of {@link #STANDARD}. Removing an edge is linear in the degree of its vertices.
+         */
+        COMPACT
+    }
+
+    /**
+     * The types of index that can be created with {@link #createIndex(String, Class, IndexType)}.
+     */
+    public enum IndexType {
+        /**
+         * Maps each value to its elements and answers equality and {@code within()} lookups.
+         */
+        HASH,
+
+        /**
+         * A {@link #HASH} index that also keeps its values in a skip-list ordered by value and so answers range
+         * lookups in logarithmic time. Values of a sorted key should be mutually comparable.
+         */
+        SORTED
+    }
+
     /**
      * Construct an {@link TinkerGraph.IdManager} from the TinkerGraph {@code Configuration}.
      */
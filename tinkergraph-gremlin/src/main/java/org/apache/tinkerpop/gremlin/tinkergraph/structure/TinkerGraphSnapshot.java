@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
+import org.apache.tinkerpop.gremlin.structure.Property;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoMapper;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.apache.tinkerpop.shaded.kryo.Kryo;
+import org.apache.tinkerpop.shaded.kryo.io.Input;
+import org.apache.tinkerpop.shaded.kryo.io.Output;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes a {@link TinkerGraph} to a binary snapshot file and reads it back. All vertices are written before all edges
+ * so that a snapshot is read in a single buffered pass without caching vertices. Property values and identifiers are
+ * serialized with {@link GryoMapper} so any value that can be written with Gryo can be snapshot.
+ *
+ * @author agent (agent@local)
+ */
+final class TinkerGraphSnapshot {
+
+    private static final byte[] HEADER = "tgsnapshot".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+
+    private TinkerGraphSnapshot() {
+    }
+
+    /**
+     * Write the graph to the file.  The snapshot is written to a temporary file which then replaces the file so that
+     * a failure part way through never leaves a truncated snapshot behind.
+     */
+    public static void write(final TinkerGraph graph, final File file) throws IOException {
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (!parent.exists() && !parent.mkdirs())
+            throw new IOException("Could not create the directory for the TinkerGraph snapshot: " + parent);
+
+        final File temp = new File(parent, file.getName() + ".tmp");
+        final Kryo kryo = GryoMapper.build().create().createMapper();
+        try (final Output output = new Output(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+            output.writeBytes(HEADER);
+            output.writeInt(VERSION);
+            output.writeLong(graph.currentId.get());
+
+            output.writeInt(graph.vertices.size());
+            for (final Vertex vertex : graph.vertices.values()) {
+                kryo.writeClassAndObject(output, vertex.id());
+                output.writeString(vertex.label());
+                final List<VertexProperty<Object>> properties = IteratorUtils.list(vertex.properties());
+                output.writeInt(properties.size());
+                for (final VertexProperty<Object> property : properties) {
+                    kryo.writeClassAndObject(output, property.id());
+                    output.writeString(property.key());
+                    kryo.writeClassAndObject(output, property.value());
+                    writeProperties(kryo, output, IteratorUtils.list(property.properties()));
+                }
+            }
+
+            output.writeInt(graph.edges.size());
+            for (final Edge edge : graph.edges.values()) {
+                kryo.writeClassAndObject(output, edge.id());
+                output.writeString(edge.label());
+                kryo.writeClassAndObject(output, edge.outVertex().id());
+                kryo.writeClassAndObject(output, edge.inVertex().id());
+                writeProperties(kryo, output, IteratorUtils.list(edge.properties()));
+            }
+
+            final Set<String> variableKeys = null == graph.variables ? Collections.emptySet() : graph.variables.keys();
+            output.writeInt(variableKeys.size());
+            for (final String key : variableKeys) {
+                output.writeString(key);
+                kryo.writeClassAndObject(output, graph.variables.get(key).get());
+            }
+
+            writeIndex(output, graph.vertexIndex);
+            writeIndex(output, graph.edgeIndex);
+        }
+
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Read a snapshot written by {@link #write(TinkerGraph, File)} into an empty graph.
+     */
+    public static void read(final TinkerGraph graph, final File file) throws IOException {
+        final Kryo kryo = GryoMapper.build().create().createMapper();
+        try (final Input input = new Input(Files.newInputStream(file.toPath()), 65536)) {
+            if (!Arrays.equals(HEADER, input.readBytes(HEADER.length)))
+                throw new IOException("The file is not a TinkerGraph snapshot: " + file);
+            final int version = input.readInt();
+            if (VERSION != version)
+                throw new IOException("The TinkerGraph snapshot version " + version + " is not supported: " + file);
+            final long currentId = input.readLong();
+
+            final int vertexCount = input.readInt();
+            for (int i = 0; i < vertexCount; i++) {
+                final Vertex vertex = graph.addVertex(T.id, kryo.readClassAndObject(input), T.label, input.readString());
+                final int propertyCount = input.readInt();
+                for (int j = 0; j < propertyCount; j++) {
+                    final Object id = kryo.readClassAndObject(input);
+                    final VertexProperty<Object> property = vertex.property(VertexProperty.Cardinality.list, input.readString(), kryo.readClassAndObject(input), T.id, id);
+                    readProperties(kryo, input, property);
+                }
+            }
+
+            final int edgeCount = input.readInt();
+            for (int i = 0; i < edgeCount; i++) {
+                final Object id = kryo.readClassAndObject(input);
+                final String label = input.readString();
+                final Vertex outVertex = graph.vertices.get(kryo.readClassAndObject(input));
+                final Vertex inVertex = graph.vertices.get(kryo.readClassAndObject(input));
+                readProperties(kryo, input, outVertex.addEdge(label, inVertex, T.id, id));
+            }
+
+            final int variableCount = input.readInt();
+            for (int i = 0; i < variableCount; i++) {
+                graph.variables().set(input.readString(), kryo.readClassAndObject(input));
+            }
+
+            readIndex(input, graph, Vertex.class);
+            readIndex(input, graph, Edge.class);
+            graph.currentId.set(currentId);
+        }
+    }
+
+    private static void writeProperties(final Kryo kryo, final Output output, final List<? extends Property<Object>> properties) {
+        output.writeInt(properties.size());
+        for (final Property<Object> property : properties) {
+            output.writeString(property.key());
+            kryo.writeClassAndObject(output, property.value());
+        }
+    }
+
+    private static void readProperties(final Kryo kryo, final Input input, final Element element) {
+        final int propertyCount = input.readInt();
+        for (int i = 0; i < propertyCount; i++) {
+            element.property(input.readString(), kryo.readClassAndObject(input));
+        }
+    }
+
+    private static void writeIndex(final Output output, final TinkerIndex<?> index) {
+        final Set<String> keys = null == index ? Collections.emptySet() : index.getIndexedKeys();
+        output.writeInt(keys.size());
+        for (final String key : keys) {
+            output.writeString(key);
+            output.writeBoolean(index.isSorted(key));
+        }
+    }
+
+    private static void readIndex(final Input input, final TinkerGraph graph, final Class<? extends Element> elementClass) {
+        final int keyCount = input.readInt();
+        for (int i = 0; i < keyCount; i++) {
+            final String key = input.readString();
+            graph.createIndex(key, elementClass, input.readBoolean() ? TinkerGraph.IndexType.SORTED : TinkerGraph.IndexType.HASH);
+        }
+    }
+}
@@ -18,15 +18,20 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.structure.Direction;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerResultGraph;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph.VertexStorage;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,6 +40,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.stream.Stream;
 
 /**
@@ -59,7 +65,8 @@ public final class TinkerHelper {
             idValue = graph.edgeIdManager.getNextId(graph);
         }
 
-        edge = new TinkerEdge(idValue, outVertex, label, inVertex);
+        edge = new TinkerEdge(idValue, outVertex, VertexStorage.COMPACT == graph.vertexStorage ? graph.intern(label) : label, inVertex);
+        TinkerHelper.addedToResultGraphs(graph, edge);
         ElementHelper.attachProperties(edge, keyValues);
         graph.edges.put(edge.id(), edge);
         TinkerHelper.addOutEdge(outVertex, label, edge);
@@ -69,23 +76,55 @@ public final class TinkerHelper {
     }
 
     protected static void addOutEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        if (null == vertex.outEdges) vertex.outEdges = new HashMap<>();
-        Set<Edge> edges = vertex.outEdges.get(label);
-        if (null == edges) {
-            edges = new HashSet<>();
-            vertex.outEdges.put(label, edges);
+        synchronized (vertex) {
+            if (null == vertex.outEdges) vertex.outEdges = createMap(vertex.graph);
+            Collection<Edge> edges = vertex.outEdges.get(label);
+            if (null == edges) {
+                edges = createEdges(vertex.graph);
+                vertex.outEdges.put(edge.label(), edges);
+            }
+            edges.add(edge);
         }
-        edges.add(edge);
     }
 
     protected static void addInEdge(final TinkerVertex vertex, final String label, final Edge edge) {
-        if (null == vertex.inEdges) vertex.inEdges = new HashMap<>();
-        Set<Edge> edges = vertex.inEdges.get(label);
-        if (null == edges) {
-            edges = new HashSet<>();
-            vertex.inEdges.put(label, edges);
+        synchronized (vertex) {
+            if (null == vertex.inEdges) vertex.inEdges = createMap(vertex.graph);
+            Collection<Edge> edges = vertex.inEdges.get(label);
+            if (null == edges) {
+                edges = createEdges(vertex.graph);
+                vertex.inEdges.put(edge.label(), edges);
+            }
+            edges.add(edge);
         }
-        edges.add(edge);
+    }
+
+    /**
+     * Create a map for the edge labels or property keys of an element in the {@link VertexStorage} of the graph.
+     */
+    protected static <K, V> Map<K, V> createMap(final TinkerGraph graph) {
+        return VertexStorage.COMPACT == graph.vertexStorage ? new TinkerArrayMap<>() : new HashMap<>();
+    }
+
+    /**
+     * Create the collection of edges of a single label and direction in the {@link VertexStorage} of the graph.
+     */
+    protected static Collection<Edge> createEdges(final TinkerGraph graph) {
+        return VertexStorage.COMPACT == graph.vertexStorage ? new ArrayList<>(1) : new HashSet<>();
+    }
+
+    /**
+     * Create the list of properties of a single key of a vertex in the {@link VertexStorage} of the graph.
+     */
+    protected static List<VertexProperty> createVertexProperties(final TinkerGraph graph) {
+        return VertexStorage.COMPACT == graph.vertexStorage ? new ArrayList<>(1) : new ArrayList<>();
+    }
+
+    /**
+     * Intern the property key if the graph uses {@link VertexStorage#COMPACT}.
+     */
+    protected static String key(final TinkerGraph graph, final String key) {
+        return VertexStorage.COMPACT == graph.vertexStorage ? graph.intern(key) : key;
     }
 
     public static List<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final Object value) {
@@ -96,12 +135,26 @@ public final class TinkerHelper {
         return null == graph.edgeIndex ? Collections.emptyList() : graph.edgeIndex.get(key, value);
     }
 
+    /**
+     * Get the vertices that may satisfy the predicate on the indexed key or {@code null} if the index can not answer it.
+     */
+    public static Collection<TinkerVertex> queryVertexIndex(final TinkerGraph graph, final String key, final P<?> predicate) {
+        return null == graph.vertexIndex ? null : graph.vertexIndex.get(key, predicate);
+    }
+
+    /**
+     * Get the edges that may satisfy the predicate on the indexed key or {@code null} if the index can not answer it.
+     */
+    public static Collection<TinkerEdge> queryEdgeIndex(final TinkerGraph graph, final String key, final P<?> predicate) {
+        return null == graph.edgeIndex ? null : graph.edgeIndex.get(key, predicate);
+    }
+
     public static boolean inComputerMode(final TinkerGraph graph) {
         return null != graph.graphComputerView;
     }
 
-    public static TinkerGraphComputerView createGraphComputerView(final TinkerGraph graph, final Set<String> computeKeys) {
-        return graph.graphComputerView = new TinkerGraphComputerView(graph, computeKeys);
+    public static TinkerGraphComputerView createGraphComputerView(final TinkerGraph graph, final List<Vertex> vertices, final Set<String> computeKeys) {
+        return graph.graphComputerView = new TinkerGraphComputerView(graph, vertices, computeKeys);
     }
 
     public static TinkerGraphComputerView getGraphComputerView(final TinkerGraph graph) {
@@ -112,6 +165,86 @@ public final class TinkerHelper {
         graph.graphComputerView = null;
     }
 
+    /**
+     * Register a {@link TinkerResultGraph} that shares the structure of the graph. It is only weakly referenced so
+     * that it is collected once the result graph is no longer used.
+     */
+    public static synchronized void addResultGraph(final TinkerGraph graph, final TinkerResultGraph resultGraph) {
+        if (null == graph.resultGraphs)
+            graph.resultGraphs = Collections.newSetFromMap(new WeakHashMap<>());
+        graph.resultGraphs.add(resultGraph);
+    }
+
+    public static synchronized void removeResultGraph(final TinkerGraph graph, final TinkerResultGraph resultGraph) {
+        if (null != graph.resultGraphs)
+            graph.resultGraphs.remove(resultGraph);
+    }
+
+    /**
+     * Copy the result graphs that share the structure of the graph before the whole structure is mutated so that
+     * they remain a snapshot of the graph at the end of their computation.
+     */
+    protected static void materializeResultGraphs(final TinkerGraph graph) {
+        if (null == graph.resultGraphs) return;
+        final List<TinkerResultGraph> resultGraphs;
+        synchronized (TinkerHelper.class) {
+            if (null == graph.resultGraphs) return;
+            resultGraphs = new ArrayList<>(graph.resultGraphs);
+            graph.resultGraphs = null;
+        }
+        resultGraphs.forEach(TinkerResultGraph::materialize);
+    }
+
+    /**
+     * Let the result graphs that share the structure of the graph keep a copy of the vertex before it is mutated.
+     */
+    protected static void preserveInResultGraphs(final TinkerVertex vertex) {
+        final List<TinkerResultGraph> resultGraphs = getResultGraphs(vertex.graph);
+        if (null != resultGraphs)
+            resultGraphs.forEach(resultGraph -> resultGraph.preserve(vertex));
+    }
+
+    /**
+     * Let the result graphs that share the structure of the graph keep a copy of the edge before it is mutated.
+     */
+    protected static void preserveInResultGraphs(final TinkerEdge edge) {
+        final List<TinkerResultGraph> resultGraphs = getResultGraphs((TinkerGraph) edge.graph());
+        if (null != resultGraphs)
+            resultGraphs.forEach(resultGraph -> resultGraph.preserve(edge));
+    }
+
+    /**
+     * Hide an element added to the graph from the result graphs that share the structure of the graph.
+     */
+    protected static void addedToResultGraphs(final TinkerGraph graph, final Element element) {
+        final List<TinkerResultGraph> resultGraphs = getResultGraphs(graph);
+        if (null != resultGraphs)
+            resultGraphs.forEach(resultGraph -> resultGraph.added(element));
+    }
+
+    private static List<TinkerResultGraph> getResultGraphs(final TinkerGraph graph) {
+        if (null == graph.resultGraphs) return null;
+        synchronized (TinkerHelper.class) {
+            return null == graph.resultGraphs || graph.resultGraphs.isEmpty() ? null : new ArrayList<>(graph.resultGraphs);
+        }
+    }
+
+    public static Object convertVertexId(final TinkerGraph graph, final Object id) {
+        return graph.vertexIdManager.convert(id);
+    }
+
+    public static Object convertEdgeId(final TinkerGraph graph, final Object id) {
+        return graph.edgeIdManager.convert(id);
+    }
+
+    public static int getComputeOrdinal(final TinkerVertex vertex) {
+        return vertex.computeOrdinal;
+    }
+
+    public static void setComputeOrdinal(final TinkerVertex vertex, final int computeOrdinal) {
+        vertex.computeOrdinal = computeOrdinal;
+    }
+
     public static Map<String, List<VertexProperty>> getProperties(final TinkerVertex vertex) {
         return null == vertex.properties ? Collections.emptyMap() : vertex.properties;
     }
@@ -159,7 +292,7 @@ public final class TinkerHelper {
                 if (edgeLabels.length == 0)
                     vertex.outEdges.values().forEach(edges::addAll);
                 else if (edgeLabels.length == 1)
-                    edges.addAll(vertex.outEdges.getOrDefault(edgeLabels[0], Collections.emptySet()));
+                    edges.addAll(vertex.outEdges.getOrDefault(edgeLabels[0], Collections.emptyList()));
                 else
                     Stream.of(edgeLabels).map(vertex.outEdges::get).filter(Objects::nonNull).forEach(edges::addAll);
             }
@@ -169,7 +302,7 @@ public final class TinkerHelper {
                 if (edgeLabels.length == 0)
                     vertex.inEdges.values().forEach(edges::addAll);
                 else if (edgeLabels.length == 1)
-                    edges.addAll(vertex.inEdges.getOrDefault(edgeLabels[0], Collections.emptySet()));
+                    edges.addAll(vertex.inEdges.getOrDefault(edgeLabels[0], Collections.emptyList()));
                 else
                     Stream.of(edgeLabels).map(vertex.inEdges::get).filter(Objects::nonNull).forEach(edges::addAll);
             }
@@ -184,9 +317,9 @@ public final class TinkerHelper {
                 if (edgeLabels.length == 0)
                     vertex.outEdges.values().forEach(set -> set.forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex)));
                 else if (edgeLabels.length == 1)
-                    vertex.outEdges.getOrDefault(edgeLabels[0], Collections.emptySet()).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
+                    vertex.outEdges.getOrDefault(edgeLabels[0], Collections.emptyList()).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
                 else
-                    Stream.of(edgeLabels).map(vertex.outEdges::get).filter(Objects::nonNull).flatMap(Set::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
+                    Stream.of(edgeLabels).map(vertex.outEdges::get).filter(Objects::nonNull).flatMap(Collection::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).inVertex));
             }
         }
         if (direction.equals(Direction.IN) || direction.equals(Direction.BOTH)) {
@@ -194,9 +327,9 @@ public final class TinkerHelper {
                 if (edgeLabels.length == 0)
                     vertex.inEdges.values().forEach(set -> set.forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex)));
                 else if (edgeLabels.length == 1)
-                    vertex.inEdges.getOrDefault(edgeLabels[0], Collections.emptySet()).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
+                    vertex.inEdges.getOrDefault(edgeLabels[0], Collections.emptyList()).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
                 else
-                    Stream.of(edgeLabels).map(vertex.inEdges::get).filter(Objects::nonNull).flatMap(Set::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
+                    Stream.of(edgeLabels).map(vertex.inEdges::get).filter(Objects::nonNull).flatMap(Collection::stream).forEach(edge -> vertices.add(((TinkerEdge) edge).outVertex));
             }
         }
         return (Iterator) vertices.iterator();
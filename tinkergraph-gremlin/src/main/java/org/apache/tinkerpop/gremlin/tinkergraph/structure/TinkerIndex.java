@@ -18,25 +18,40 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.tinkerpop.gremlin.process.traversal.Compare;
+import org.apache.tinkerpop.gremlin.process.traversal.Contains;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.apache.tinkerpop.gremlin.process.traversal.util.AndP;
+import org.apache.tinkerpop.gremlin.process.traversal.util.OrP;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.Property;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
+ * A property index over the elements of a {@link TinkerGraph}. Every indexed key maintains a hash map from value to
+ * elements. Keys indexed with {@link TinkerGraph.IndexType#SORTED} additionally maintain a skip-list over the same
+ * element sets so that range predicates can be answered without a full scan.
+ *
  * @author Marko A. Rodriguez (http://markorodriguez.com)
  */
 final class TinkerIndex<T extends Element> {
 
     protected Map<String, Map<Object, Set<T>>> index = new ConcurrentHashMap<>();
+    protected Map<String, NavigableMap<Object, Set<T>>> sortedIndex = new ConcurrentHashMap<>();
     protected final Class<T> indexClass;
     private final Set<String> indexedKeys = new HashSet<>();
     private final TinkerGraph graph;
@@ -46,7 +61,7 @@ final class TinkerIndex<T extends Element> {
         this.indexClass = indexClass;
     }
 
-    protected void put(final String key, final Object value, final T element) {
+    protected synchronized void put(final String key, final Object value, final T element) {
         Map<Object, Set<T>> keyMap = this.index.get(key);
         if (keyMap == null) {
             keyMap = new ConcurrentHashMap<>();
@@ -56,6 +71,9 @@ final class TinkerIndex<T extends Element> {
         if (null == objects) {
             objects = new HashSet<>();
             keyMap.put(value, objects);
+            final NavigableMap<Object, Set<T>> sortedKeyMap = this.sortedIndex.get(key);
+            if (null != sortedKeyMap && value instanceof Comparable)
+                sortedKeyMap.put(value, objects);
         }
         objects.add(element);
 
@@ -74,6 +92,92 @@ final class TinkerIndex<T extends Element> {
         }
     }
 
+    /**
+     * Get the elements whose value for the key may satisfy the predicate. Equality and {@link Contains#within} are
+     * answered by the hash index, {@link Compare#gt}, {@link Compare#gte}, {@link Compare#lt}, {@link Compare#lte}
+     * and their conjunctions (e.g. {@code between()} and {@code inside()}) by the sorted index. The result may be a
+     * superset of the matching elements and must be filtered by the caller.
+     *
+     * @return the candidate elements or {@code null} if the index can not answer the predicate
+     */
+    public Collection<T> get(final String key, final P<?> predicate) {
+        if (!this.indexedKeys.contains(key))
+            return null;
+        if (predicate instanceof AndP) {
+            final Collection<T> range = this.getRange(key, ((AndP<?>) predicate).getPredicates());
+            if (null != range)
+                return range;
+            // any answerable conjunct yields a superset of the conjunction
+            for (final P<?> p : ((AndP<?>) predicate).getPredicates()) {
+                final Collection<T> elements = this.get(key, p);
+                if (null != elements)
+                    return elements;
+            }
+            return null;
+        } else if (predicate instanceof OrP) {
+            final Set<T> union = new LinkedHashSet<>();
+            for (final P<?> p : ((OrP<?>) predicate).getPredicates()) {
+                final Collection<T> elements = this.get(key, p);
+                if (null == elements)
+                    return null;
+                union.addAll(elements);
+            }
+            return union;
+        } else if (predicate.getBiPredicate() == Compare.eq) {
+            return this.get(key, predicate.getValue());
+        } else if (predicate.getBiPredicate() == Contains.within && predicate.getValue() instanceof Collection) {
+            final Set<T> union = new LinkedHashSet<>();
+            for (final Object value : (Collection<?>) predicate.getValue()) {
+                union.addAll(this.get(key, value));
+            }
+            return union;
+        } else
+            return this.getRange(key, Collections.singletonList(predicate));
+    }
+
+    public boolean isSorted(final String key) {
+        return this.sortedIndex.containsKey(key);
+    }
+
+    /**
+     * Answer a conjunction of range comparisons from the sorted index by narrowing the skip-list to the tightest
+     * lower and upper bound. A bound sorts before or after every value that is equal to it, so that {@code 1} and
+     * {@code 1l} are treated alike, as they are by {@link Compare}.
+     */
+    private Collection<T> getRange(final String key, final List<? extends P<?>> predicates) {
+        final NavigableMap<Object, Set<T>> sortedKeyMap = this.sortedIndex.get(key);
+        if (null == sortedKeyMap)
+            return null;
+        Bound lower = null, upper = null;
+        for (final P<?> p : predicates) {
+            final Object value = p.getValue();
+            if (!(value instanceof Comparable))
+                return null;
+            final Bound bound;
+            if (p.getBiPredicate() == Compare.gt || p.getBiPredicate() == Compare.lte)
+                bound = new Bound(value, 1);
+            else if (p.getBiPredicate() == Compare.gte || p.getBiPredicate() == Compare.lt)
+                bound = new Bound(value, -1);
+            else
+                return null;
+            if (p.getBiPredicate() == Compare.gt || p.getBiPredicate() == Compare.gte) {
+                if (null == lower || ValueComparator.INSTANCE.compare(bound, lower) > 0)
+                    lower = bound;
+            } else {
+                if (null == upper || ValueComparator.INSTANCE.compare(bound, upper) < 0)
+                    upper = bound;
+            }
+        }
+        if (null != lower && null != upper && ValueComparator.INSTANCE.compare(lower, upper) > 0)
+            return Collections.emptyList();
+        NavigableMap<Object, Set<T>> range = sortedKeyMap;
+        if (null != lower) range = range.tailMap(lower, false);
+        if (null != upper) range = range.headMap(upper, false);
+        final List<T> elements = new ArrayList<>();
+        range.values().forEach(elements::addAll);
+        return elements;
+    }
+
     public long count(final String key, final Object value) {
         final Map<Object, Set<T>> keyMap = this.index.get(key);
         if (null == keyMap) {
@@ -87,7 +191,7 @@ final class TinkerIndex<T extends Element> {
         }
     }
 
-    public void remove(final String key, final Object value, final T element) {
+    public synchronized void remove(final String key, final Object value, final T element) {
         final Map<Object, Set<T>> keyMap = this.index.get(key);
         if (null != keyMap) {
             Set<T> objects = keyMap.get(value);
@@ -95,6 +199,9 @@ final class TinkerIndex<T extends Element> {
                 objects.remove(element);
                 if (objects.size() == 0) {
                     keyMap.remove(value);
+                    final NavigableMap<Object, Set<T>> sortedKeyMap = this.sortedIndex.get(key);
+                    if (null != sortedKeyMap && value instanceof Comparable)
+                        sortedKeyMap.remove(value, objects);
                 }
             }
         }
@@ -124,14 +231,30 @@ final class TinkerIndex<T extends Element> {
     }
 
     public void createKeyIndex(final String key) {
+        this.createKeyIndex(key, TinkerGraph.IndexType.HASH);
+    }
+
+    public void createKeyIndex(final String key, final TinkerGraph.IndexType indexType) {
         if (null == key)
             throw Graph.Exceptions.argumentCanNotBeNull("key");
         if (key.isEmpty())
             throw new IllegalArgumentException("The key for the index cannot be an empty string");
 
-        if (this.indexedKeys.contains(key))
+        if (this.indexedKeys.contains(key)) {
+            // an existing hash index can be upgraded to a sorted one by sorting the value sets it already holds
+            if (TinkerGraph.IndexType.SORTED == indexType && !this.isSorted(key)) {
+                final NavigableMap<Object, Set<T>> sortedKeyMap = new ConcurrentSkipListMap<>(ValueComparator.INSTANCE);
+                this.index.getOrDefault(key, Collections.emptyMap()).forEach((value, objects) -> {
+                    if (value instanceof Comparable)
+                        sortedKeyMap.put(value, objects);
+                });
+                this.sortedIndex.put(key, sortedKeyMap);
+            }
             return;
+        }
         this.indexedKeys.add(key);
+        if (TinkerGraph.IndexType.SORTED == indexType)
+            this.sortedIndex.put(key, new ConcurrentSkipListMap<>(ValueComparator.INSTANCE));
 
         (Vertex.class.isAssignableFrom(this.indexClass) ?
                 this.graph.vertices.values().<T>parallelStream() :
@@ -142,6 +265,7 @@ final class TinkerIndex<T extends Element> {
     }
 
     public void dropKeyIndex(final String key) {
+        this.sortedIndex.remove(key);
         if (this.index.containsKey(key))
             this.index.remove(key).clear();
 
@@ -151,4 +275,58 @@ final class TinkerIndex<T extends Element> {
     public Set<String> getIndexedKeys() {
         return this.indexedKeys;
     }
+
+    /**
+     * Orders the values of a sorted index. Numbers of different classes are compared by their double value, as
+     * {@link Compare} does, with ties broken by class name so that {@code 1} and {@code 1l} remain distinct keys.
+     * Values of unrelated classes are grouped by class name.
+     */
+    private static final class ValueComparator implements Comparator<Object> {
+
+        private static final ValueComparator INSTANCE = new ValueComparator();
+
+        @Override
+        public int compare(final Object first, final Object second) {
+            // bounds never break ties so that they sort around every numerically equal value
+            final boolean bounded = first instanceof Bound || second instanceof Bound;
+            final int c = compareValues(unwrap(first), unwrap(second), !bounded);
+            return 0 != c ? c : offset(first) - offset(second);
+        }
+
+        private static int compareValues(final Object first, final Object second, final boolean breakTies) {
+            if (first instanceof Number && second instanceof Number && !first.getClass().equals(second.getClass())) {
+                final int c = Double.compare(((Number) first).doubleValue(), ((Number) second).doubleValue());
+                return 0 != c || !breakTies ? c : first.getClass().getName().compareTo(second.getClass().getName());
+            } else if (first.getClass().equals(second.getClass()))
+                return ((Comparable) first).compareTo(second);
+            else
+                return group(first).compareTo(group(second));
+        }
+
+        private static String group(final Object value) {
+            return value instanceof Number ? Number.class.getName() : value.getClass().getName();
+        }
+
+        private static Object unwrap(final Object value) {
+            return value instanceof Bound ? ((Bound) value).value : value;
+        }
+
+        private static int offset(final Object value) {
+            return value instanceof Bound ? ((Bound) value).offset : 0;
+        }
+    }
+
+    /**
+     * A search key that sorts just before ({@code -1}) or just after ({@code 1}) every value equal to its own.
+     */
+    private static final class Bound {
+
+        private final Object value;
+        private final int offset;
+
+        private Bound(final Object value, final int offset) {
+            this.value = value;
+            this.offset = offset;
+        }
+    }
 }
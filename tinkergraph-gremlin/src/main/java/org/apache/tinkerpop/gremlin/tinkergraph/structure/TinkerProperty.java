@@ -76,6 +76,10 @@ public final class TinkerProperty<V> implements Property<V> {
 
     @Override
     public void remove() {
+        if (this.element instanceof Edge)
+            TinkerHelper.preserveInResultGraphs((TinkerEdge) this.element);
+        else
+            TinkerHelper.preserveInResultGraphs((TinkerVertex) ((TinkerVertexProperty) this.element).element());
         if (this.element instanceof Edge) {
             ((TinkerEdge) this.element).properties.remove(this.key);
             TinkerHelper.removeIndex((TinkerEdge) this.element, this.key, this.value);
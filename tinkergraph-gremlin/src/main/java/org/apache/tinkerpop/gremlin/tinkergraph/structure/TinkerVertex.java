@@ -26,11 +26,12 @@ import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.util.ElementHelper;
 import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.process.computer.TinkerGraphComputerView;
 import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -44,9 +45,13 @@ import java.util.stream.Collectors;
 public final class TinkerVertex extends TinkerElement implements Vertex {
 
     protected Map<String, List<VertexProperty>> properties;
-    protected Map<String, Set<Edge>> outEdges;
-    protected Map<String, Set<Edge>> inEdges;
-    private final TinkerGraph graph;
+    protected Map<String, Collection<Edge>> outEdges;
+    protected Map<String, Collection<Edge>> inEdges;
+    protected final TinkerGraph graph;
+    /**
+     * The position of the vertex in the columns of the {@link TinkerGraphComputerView} of the current computation.
+     */
+    protected int computeOrdinal = -1;
 
     protected TinkerVertex(final Object id, final String label, final TinkerGraph graph) {
         super(id, label);
@@ -63,13 +68,7 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
         if (this.removed) throw Element.Exceptions.elementAlreadyRemoved(Vertex.class, this.id);
 
         if (TinkerHelper.inComputerMode(this.graph)) {
-            final List<VertexProperty> list = (List) this.graph.graphComputerView.getProperty(this, key);
-            if (list.size() == 0)
-                return VertexProperty.<V>empty();
-            else if (list.size() == 1)
-                return list.get(0);
-            else
-                throw Vertex.Exceptions.multiplePropertiesExistForProvidedKey(key);
+            return this.graph.graphComputerView.getProperty(this, key);
         } else {
             if (this.properties != null && this.properties.containsKey(key)) {
                 final List<VertexProperty> list = (List) this.properties.get(key);
@@ -92,20 +91,24 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
         if (optionalVertexProperty.isPresent()) return optionalVertexProperty.get();
 
         if (TinkerHelper.inComputerMode(this.graph)) {
-            final VertexProperty<V> vertexProperty = (VertexProperty<V>) this.graph.graphComputerView.addProperty(this, key, value);
+            final VertexProperty<V> vertexProperty = this.graph.graphComputerView.addProperty(this, key, value);
             ElementHelper.attachProperties(vertexProperty, keyValues);
             return vertexProperty;
         } else {
+            TinkerHelper.preserveInResultGraphs(this);
             final Object idValue = optionalId.isPresent() ?
                     graph.vertexPropertyIdManager.convert(optionalId.get()) :
                     graph.vertexPropertyIdManager.getNextId(graph);
 
-            final VertexProperty<V> vertexProperty = new TinkerVertexProperty<V>(idValue, this, key, value);
+            final VertexProperty<V> vertexProperty = new TinkerVertexProperty<V>(idValue, this, TinkerHelper.key(this.graph, key), value);
 
-            if (null == this.properties) this.properties = new HashMap<>();
-            final List<VertexProperty> list = this.properties.getOrDefault(key, new ArrayList<>());
+            if (null == this.properties) this.properties = TinkerHelper.createMap(this.graph);
+            List<VertexProperty> list = this.properties.get(key);
+            if (null == list) {
+                list = TinkerHelper.createVertexProperties(this.graph);
+                this.properties.put(vertexProperty.key(), list);
+            }
             list.add(vertexProperty);
-            this.properties.put(key, list);
             TinkerHelper.autoUpdateIndex(this, key, value, null);
             ElementHelper.attachProperties(vertexProperty, keyValues);
             return vertexProperty;
@@ -114,22 +117,23 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
 
     @Override
     public Set<String> keys() {
-        if (null == this.properties) return Collections.emptySet();
-        return TinkerHelper.inComputerMode((TinkerGraph) graph()) ?
-                Vertex.super.keys() :
-                this.properties.keySet();
+        if (TinkerHelper.inComputerMode(this.graph)) return Vertex.super.keys();
+        return null == this.properties ? Collections.emptySet() : this.properties.keySet();
     }
 
     @Override
     public Edge addEdge(final String label, final Vertex vertex, final Object... keyValues) {
         if (null == vertex) throw Graph.Exceptions.argumentCanNotBeNull("vertex");
         if (this.removed) throw Element.Exceptions.elementAlreadyRemoved(Vertex.class, this.id);
+        TinkerHelper.preserveInResultGraphs(this);
+        TinkerHelper.preserveInResultGraphs((TinkerVertex) vertex);
         return TinkerHelper.addEdge(this.graph, this, (TinkerVertex) vertex, label, keyValues);
     }
 
     @Override
     public void remove() {
         if (this.removed) throw Element.Exceptions.elementAlreadyRemoved(Vertex.class, this.id);
+        TinkerHelper.preserveInResultGraphs(this);
         final List<Edge> edges = new ArrayList<>();
         this.edges(Direction.BOTH).forEachRemaining(edges::add);
         edges.stream().filter(edge -> !((TinkerEdge) edge).removed).forEach(Edge::remove);
@@ -157,7 +161,7 @@ public final class TinkerVertex extends TinkerElement implements Vertex {
     @Override
     public <V> Iterator<VertexProperty<V>> properties(final String... propertyKeys) {
         if (TinkerHelper.inComputerMode((TinkerGraph) graph()))
-            return (Iterator) ((TinkerGraph) graph()).graphComputerView.getProperties(TinkerVertex.this).stream().filter(p -> ElementHelper.keyExists(p.key(), propertyKeys)).iterator();
+            return this.graph.graphComputerView.getProperties(this, propertyKeys);
         else {
             if (null == this.properties) return Collections.emptyIterator();
             if (propertyKeys.length == 1) {
@@ -117,6 +117,7 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
 
     @Override
     public <U> Property<U> property(final String key, final U value) {
+        TinkerHelper.preserveInResultGraphs(this.vertex);
         final Property<U> property = new TinkerProperty<>(this, key, value);
         if (this.properties == null) this.properties = new HashMap<>();
         this.properties.put(key, property);
@@ -130,6 +131,7 @@ public class TinkerVertexProperty<V> extends TinkerElement implements VertexProp
 
     @Override
     public void remove() {
+        TinkerHelper.preserveInResultGraphs(this.vertex);
         if (null != this.vertex.properties && this.vertex.properties.containsKey(this.key)) {
             this.vertex.properties.get(this.key).remove(this);
             if (this.vertex.properties.get(this.key).size() == 0) {
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures how {@link TinkerGraphComputer} scales with the number of workers on the Grateful Dead graph.
+ *
+ * @author agent (agent@local)
+ */
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "tinkergraph-computer")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-tinkergraph-computer")
+@RunWith(Parameterized.class)
+public class TinkerGraphComputerPerformanceTest extends AbstractBenchmark {
+
+    public final static int DEFAULT_BENCHMARK_ROUNDS = 10;
+    public final static int DEFAULT_WARMUP_ROUNDS = 5;
+
+    private static final String PAGE_RANK = "pageRank";
+    private static final String TRAVERSAL = "traversal";
+
+    private static TinkerGraph graph;
+
+    @BeforeClass
+    public static void loadGraph() throws Exception {
+        graph = TinkerGraph.open();
+        try (final InputStream stream = AbstractGremlinTest.class.getResourceAsStream("/org/apache/tinkerpop/gremlin/structure/io/gryo/grateful-dead.kryo")) {
+            GryoReader.build().create().readGraph(stream, graph);
+        }
+    }
+
+    @Parameterized.Parameters(name = "{0}({1})")
+    public static Iterable<Object[]> data() {
+        final List<Object[]> data = new ArrayList<>();
+        for (final String program : new String[]{PAGE_RANK, TRAVERSAL}) {
+            for (final int workers : new int[]{1, 2, 4, 8, 16}) {
+                data.add(new Object[]{program, workers});
+            }
+        }
+        return data;
+    }
+
+    @Parameterized.Parameter(value = 0)
+    public String program;
+
+    @Parameterized.Parameter(value = 1)
+    public int workers;
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void computeWithWorkers() throws Exception {
+        if (PAGE_RANK.equals(this.program))
+            pageRank(this.workers);
+        else
+            traversal(this.workers);
+    }
+
+    private static void pageRank(final int workers) throws Exception {
+        graph.compute(TinkerGraphComputer.class).workers(workers)
+                .program(PageRankVertexProgram.build().create(graph)).submit().get();
+    }
+
+    private static void traversal(final int workers) throws Exception {
+        graph.compute(TinkerGraphComputer.class).workers(workers)
+                .program(TraversalVertexProgram.build()
+                        .traversal(GraphTraversalSource.computer(), "gremlin-groovy", "g.V().both().both().both().count()").create(graph))
+                .submit().get();
+    }
+}
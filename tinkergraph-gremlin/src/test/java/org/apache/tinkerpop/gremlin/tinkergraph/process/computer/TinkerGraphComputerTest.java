@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.process.computer;
+
+import org.apache.tinkerpop.gremlin.process.computer.ComputerResult;
+import org.apache.tinkerpop.gremlin.process.computer.GraphComputer;
+import org.apache.tinkerpop.gremlin.process.computer.Memory;
+import org.apache.tinkerpop.gremlin.process.computer.MessageCombiner;
+import org.apache.tinkerpop.gremlin.process.computer.MessageScope;
+import org.apache.tinkerpop.gremlin.process.computer.Messenger;
+import org.apache.tinkerpop.gremlin.process.computer.ranking.pagerank.PageRankVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.traversal.TraversalVertexProgram;
+import org.apache.tinkerpop.gremlin.process.computer.util.StaticVertexProgram;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.ReducingBarrierStep;
+import org.apache.tinkerpop.gremlin.structure.Direction;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.apache.tinkerpop.gremlin.util.iterator.IteratorUtils;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author agent (agent@local)
+ */
+public class TinkerGraphComputerTest {
+
+    @Test
+    public void shouldComputeSamePageRankWithManyWorkers() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final Map<Object, Double> expected = pageRank(graph, 1);
+        for (final int workers : new int[]{2, 3, 4, 8, 16}) {
+            final Map<Object, Double> actual = pageRank(graph, workers);
+            assertEquals(expected.size(), actual.size());
+            expected.forEach((id, rank) -> assertEquals(rank, actual.get(id), 0.0000001d));
+        }
+    }
+
+    @Test
+    public void shouldComputeSameTraversalResultWithManyWorkers() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        for (final int workers : new int[]{1, 2, 3, 4, 8, 16}) {
+            final ComputerResult result = graph.compute(TinkerGraphComputer.class).workers(workers)
+                    .program(TraversalVertexProgram.build()
+                            .traversal(GraphTraversalSource.computer(), "gremlin-groovy", "g.V().both().both().count()").create(graph))
+                    .submit().get();
+            assertEquals(30l, result.memory().<Long>get(ReducingBarrierStep.REDUCING).longValue());
+        }
+    }
+
+    @Test
+    public void shouldCombineGlobalMessagesOfManyWorkers() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        for (final boolean combine : new boolean[]{true, false}) {
+            for (final int workers : new int[]{1, 2, 3, 4, 8, 16}) {
+                final ComputerResult result = graph.compute(TinkerGraphComputer.class).workers(workers)
+                        .program(new DegreeVertexProgram(combine)).submit().get();
+                result.graph().vertices().forEachRemaining(vertex ->
+                        assertEquals(IteratorUtils.count(graph.vertices(vertex.id()).next().edges(Direction.BOTH)), vertex.<Long>value(DegreeVertexProgram.DEGREE).longValue()));
+            }
+        }
+    }
+
+    @Test
+    public void shouldKeepNewResultGraphAsSnapshotOfOriginalGraph() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final ComputerResult result = graph.compute(TinkerGraphComputer.class).persist(GraphComputer.Persist.EDGES)
+                .program(PageRankVertexProgram.build().create(graph)).submit().get();
+        final TinkerResultGraph resultGraph = (TinkerResultGraph) result.graph();
+        final Map<Object, Double> ranks = pageRank(graph, 1);
+        assertFalse(resultGraph.isMaterialized());
+        assertEquals(6, IteratorUtils.count(resultGraph.vertices()));
+        assertEquals(6, IteratorUtils.count(resultGraph.edges()));
+        resultGraph.vertices().forEachRemaining(vertex -> {
+            assertEquals(ranks.get(vertex.id()), vertex.<Double>value(PageRankVertexProgram.PAGE_RANK), 0.0000001d);
+            assertEquals(resultGraph, vertex.graph());
+            vertex.edges(Direction.OUT).forEachRemaining(edge -> assertEquals(vertex, edge.outVertex()));
+        });
+        assertFalse(graph.vertices(1).next().property(PageRankVertexProgram.PAGE_RANK).isPresent());
+
+        graph.addVertex("name", "stephen");
+        graph.vertices(1).next().property(VertexProperty.Cardinality.single, "name", "okram");
+        assertFalse(resultGraph.isMaterialized());
+        assertEquals(7, IteratorUtils.count(graph.vertices()));
+        assertEquals(6, IteratorUtils.count(resultGraph.vertices()));
+        assertEquals("marko", resultGraph.vertices(1).next().value("name"));
+        assertEquals(ranks.get(1), resultGraph.vertices(1).next().<Double>value(PageRankVertexProgram.PAGE_RANK), 0.0000001d);
+
+        resultGraph.vertices(1).next().remove();
+        assertTrue(resultGraph.isMaterialized());
+        assertEquals(5, IteratorUtils.count(resultGraph.vertices()));
+        assertEquals(3, IteratorUtils.count(resultGraph.edges()));
+        assertEquals(7, IteratorUtils.count(graph.vertices()));
+        assertEquals(6, IteratorUtils.count(graph.edges()));
+    }
+
+    @Test
+    public void shouldKeepReturnedResultGraphConsistentWhenOriginalGraphMutates() throws Exception {
+        final TinkerGraph graph = TinkerFactory.createModern();
+        final ComputerResult result = graph.compute(TinkerGraphComputer.class).persist(GraphComputer.Persist.EDGES)
+                .program(PageRankVertexProgram.build().create(graph)).submit().get();
+        final TinkerResultGraph resultGraph = (TinkerResultGraph) result.graph();
+        final Map<Object, Double> ranks = pageRank(graph, 1);
+        final Vertex marko = resultGraph.vertices(1).next();
+
+        final Vertex stephen = graph.addVertex(T.id, 100, "name", "stephen");
+        graph.vertices(1).next().addEdge("knows", stephen, T.id, 100, "weight", 0.1d);
+        graph.vertices(4).next().remove();
+        graph.edges(9).next().property("weight", 1.0d);
+        graph.edges(7).next().remove();
+        graph.vertices(6).next().properties("name").next().property("since", 2015);
+        graph.vertices(2).next().property(VertexProperty.Cardinality.single, "age", 28);
+        assertFalse(resultGraph.isMaterialized());
+
+        assertEquals(6, IteratorUtils.count(graph.vertices()));
+        assertFalse(graph.vertices(4).hasNext());
+        assertEquals(6, IteratorUtils.count(resultGraph.vertices()));
+        assertEquals(6, IteratorUtils.count(resultGraph.edges()));
+        assertFalse(resultGraph.vertices(100).hasNext());
+        assertFalse(resultGraph.edges(100).hasNext());
+        assertEquals("josh", resultGraph.vertices(4).next().value("name"));
+        assertEquals(3, IteratorUtils.count(resultGraph.vertices(4).next().edges(Direction.BOTH)));
+        assertEquals(0.4d, resultGraph.edges(9).next().<Double>value("weight"), 0.0d);
+        assertTrue(resultGraph.edges(7).hasNext());
+        assertFalse(resultGraph.vertices(6).next().properties("name").next().property("since").isPresent());
+        assertEquals(27, resultGraph.vertices(2).next().<Integer>value("age").intValue());
+        assertEquals(3, IteratorUtils.count(marko.edges(Direction.OUT)));
+        assertEquals(3, IteratorUtils.count(marko.vertices(Direction.OUT)));
+        resultGraph.vertices().forEachRemaining(vertex ->
+                assertEquals(ranks.get(vertex.id()), vertex.<Double>value(PageRankVertexProgram.PAGE_RANK), 0.0000001d));
+        assertFalse(resultGraph.isMaterialized());
+
+        resultGraph.vertices(1).next().property(VertexProperty.Cardinality.single, "name", "okram");
+        assertTrue(resultGraph.isMaterialized());
+        assertEquals(6, IteratorUtils.count(resultGraph.vertices()));
+        assertEquals(6, IteratorUtils.count(resultGraph.edges()));
+        assertEquals("josh", resultGraph.vertices(4).next().value("name"));
+        assertEquals("okram", resultGraph.vertices(1).next().value("name"));
+        assertEquals("marko", graph.vertices(1).next().value("name"));
+    }
+
+    @Test
+    public void shouldNotMergeValuesOtherWorkersBufferedBeforeSet() throws Exception {
+        final TinkerMemory memory = new TinkerMemory(new DegreeVertexProgram(false), Collections.emptySet());
+        final Thread worker = new Thread(() -> memory.incr(DegreeVertexProgram.COUNTER, 5l));
+        worker.start();
+        worker.join();
+
+        memory.set(DegreeVertexProgram.COUNTER, 1l);
+        memory.incr(DegreeVertexProgram.COUNTER, 2l);
+        memory.completeSubRound();
+        assertEquals(3l, memory.<Long>get(DegreeVertexProgram.COUNTER).longValue());
+
+        final Thread laterWorker = new Thread(() -> memory.incr(DegreeVertexProgram.COUNTER, 5l));
+        laterWorker.start();
+        laterWorker.join();
+        memory.completeSubRound();
+        assertEquals(8l, memory.<Long>get(DegreeVertexProgram.COUNTER).longValue());
+    }
+
+    @Test
+    public void shouldMergeValuesOfWorkerThreadAcrossSubRounds() throws Exception {
+        final TinkerMemory memory = new TinkerMemory(new DegreeVertexProgram(false), Collections.emptySet());
+        final ExecutorService worker = Executors.newSingleThreadExecutor();
+        try {
+            worker.submit(() -> memory.incr(DegreeVertexProgram.COUNTER, 5l)).get();
+            memory.completeSubRound();
+            assertEquals(5l, memory.<Long>get(DegreeVertexProgram.COUNTER).longValue());
+            worker.submit(() -> memory.incr(DegreeVertexProgram.COUNTER, 2l)).get();
+            memory.completeSubRound();
+            assertEquals(7l, memory.<Long>get(DegreeVertexProgram.COUNTER).longValue());
+            memory.completeSubRound();
+            assertEquals(7l, memory.<Long>get(DegreeVertexProgram.COUNTER).longValue());
+        } finally {
+            worker.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldNotAllowZeroWorkers() {
+        TinkerFactory.createModern().compute(TinkerGraphComputer.class).workers(0);
+    }
+
+    private static Map<Object, Double> pageRank(final TinkerGraph graph, final int workers) throws Exception {
+        final ComputerResult result = graph.compute(TinkerGraphComputer.class).workers(workers)
+                .program(PageRankVertexProgram.build().create(graph)).submit().get();
+        final Map<Object, Double> ranks = new HashMap<>();
+        result.graph().vertices().forEachRemaining(vertex -> ranks.put(vertex.id(), vertex.<Double>value(PageRankVertexProgram.PAGE_RANK)));
+        return ranks;
+    }
+
+    /**
+     * Every vertex sends a message to each of its adjacent vertices with a {@link MessageScope.Global} so that the
+     * sum of the received messages is the degree of the vertex.
+     */
+    private static class DegreeVertexProgram extends StaticVertexProgram<Long> {
+
+        private static final String DEGREE = "degree";
+        private static final String COUNTER = "counter";
+
+        private final boolean combine;
+
+        private DegreeVertexProgram(final boolean combine) {
+            this.combine = combine;
+        }
+
+        @Override
+        public void setup(final Memory memory) {
+        }
+
+        @Override
+        public void execute(final Vertex vertex, final Messenger<Long> messenger, final Memory memory) {
+            if (memory.isInitialIteration())
+                messenger.sendMessage(MessageScope.Global.of(IteratorUtils.list(vertex.vertices(Direction.BOTH))), 1l);
+            else {
+                long degree = 0l;
+                final Iterator<Long> messages = messenger.receiveMessages();
+                while (messages.hasNext()) {
+                    degree = degree + messages.next();
+                }
+                vertex.property(VertexProperty.Cardinality.single, DEGREE, degree);
+            }
+        }
+
+        @Override
+        public boolean terminate(final Memory memory) {
+            return memory.getIteration() == 1;
+        }
+
+        @Override
+        public Set<String> getElementComputeKeys() {
+            return Collections.singleton(DEGREE);
+        }
+
+        @Override
+        public Set<String> getMemoryComputeKeys() {
+            return Collections.singleton(COUNTER);
+        }
+
+        @Override
+        public Optional<MessageCombiner<Long>> getMessageCombiner() {
+            return this.combine ? Optional.of((a, b) -> a + b) : Optional.empty();
+        }
+
+        @Override
+        public Set<MessageScope> getMessageScopes(final Memory memory) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public GraphComputer.ResultGraph getPreferredResultGraph() {
+            return GraphComputer.ResultGraph.NEW;
+        }
+
+        @Override
+        public GraphComputer.Persist getPreferredPersist() {
+            return GraphComputer.Persist.VERTEX_PROPERTIES;
+        }
+    }
+}
@@ -18,6 +18,9 @@
  */
 package org.apache.tinkerpop.gremlin.tinkergraph.structure;
 
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.TestHelper;
 import org.apache.tinkerpop.gremlin.process.traversal.Operator;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.Scope;
@@ -27,15 +30,25 @@ import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSo
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.__;
 import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalMetrics;
 import org.apache.tinkerpop.gremlin.structure.Edge;
+import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
+import org.apache.tinkerpop.gremlin.structure.VertexProperty;
 import org.apache.tinkerpop.gremlin.structure.io.graphml.GraphMLIo;
+import org.apache.tinkerpop.gremlin.structure.io.graphson.GraphSONReader;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
 import org.apache.tinkerpop.gremlin.util.TimeUtil;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -306,6 +319,173 @@ public class TinkerGraphTest {
         g.createIndex("", Edge.class);
     }
 
+    @Test
+    public void shouldAnswerRangeQueriesWithSortedIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "vadas", "age", 27);
+        g.addVertex("name", "josh", "age", 32l);
+        g.addVertex("name", "peter", "age", 35);
+        g.addVertex("name", "stephen", "age", 35.0d);
+        g.addVertex("name", "lop");
+
+        // the P.test() on "name" is evaluated first and so only sees the candidates the sorted index produced for "age"
+        final Set<String> seen = new HashSet<>();
+        final P<String> record = P.test((t, u) -> seen.add((String) t), null);
+        assertEquals(Arrays.asList("josh", "peter", "stephen"), sortedNames(g.traversal().V().has("name", record).has("age", P.gt(30))));
+        assertEquals(new HashSet<>(Arrays.asList("josh", "peter", "stephen")), seen);
+
+        seen.clear();
+        assertEquals(Arrays.asList("josh", "marko"), sortedNames(g.traversal().V().has("name", record).has("age", P.between(28, 35))));
+        assertEquals(new HashSet<>(Arrays.asList("marko", "josh")), seen);
+
+        assertEquals(Arrays.asList("josh", "marko", "peter", "stephen", "vadas"), sortedNames(g.traversal().V().has("age", P.lte(35l))));
+        assertEquals(Arrays.asList("josh", "marko"), sortedNames(g.traversal().V().has("age", P.inside(27, 35))));
+        assertEquals(Arrays.asList("peter", "stephen", "vadas"), sortedNames(g.traversal().V().has("age", P.outside(28, 33))));
+        assertEquals(Arrays.asList("josh", "vadas"), sortedNames(g.traversal().V().has("age", P.within(27, 32l))));
+        assertEquals(0, g.traversal().V().has("age", P.between(35, 28)).count().next().intValue());
+
+        g.traversal().V().has("name", "josh").next().property("age", 25);
+        assertEquals(Arrays.asList("josh"), sortedNames(g.traversal().V().has("age", P.lt(27))));
+        g.traversal().V().has("name", "peter").next().remove();
+        assertEquals(Arrays.asList("stephen"), sortedNames(g.traversal().V().has("age", P.gte(35))));
+    }
+
+    @Test
+    public void shouldUpgradeHashIndexToSortedIndex() {
+        final TinkerGraph g = TinkerGraph.open();
+        g.createIndex("age", Vertex.class);
+        g.addVertex("name", "marko", "age", 29);
+        g.addVertex("name", "peter", "age", 35);
+        assertEquals(Arrays.asList("marko"), sortedNames(g.traversal().V().has("age", P.within(29, 30))));
+
+        g.createIndex("age", Vertex.class, TinkerGraph.IndexType.SORTED);
+        assertEquals(1, g.getIndexedKeys(Vertex.class).size());
+        final Set<String> seen = new HashSet<>();
+        assertEquals(Arrays.asList("peter"), sortedNames(g.traversal().V().has("name", P.test((t, u) -> seen.add((String) t), null)).has("age", P.gt(30))));
+        assertEquals(Collections.singleton("peter"), seen);
+    }
+
+    @Test
+    public void shouldTraverseAndMutateWithCompactVertexStorage() {
+        final BaseConfiguration configuration = new BaseConfiguration();
+        configuration.setProperty(TinkerGraph.CONFIG_VERTEX_STORAGE, TinkerGraph.VertexStorage.COMPACT.name());
+        final TinkerGraph g = TinkerGraph.open(configuration);
+        TinkerFactory.generateModern(g);
+
+        assertEquals(Arrays.asList("josh", "lop", "vadas"), sortedNames(g.traversal().V().has("name", "marko").out()));
+        assertEquals(Arrays.asList("josh", "marko", "peter"), sortedNames(g.traversal().V().has("name", "lop").in("created")));
+        assertEquals(Arrays.asList("lop", "marko", "ripple"), sortedNames(g.traversal().V().has("name", "josh").both()));
+        assertEquals(12l, g.traversal().V().both().count().next().longValue());
+
+        final Edge edge = g.traversal().V().has("name", "marko").outE("knows").as("e").inV().has("name", "vadas").<Edge>select("e").next();
+        edge.property("weight", 0.9d);
+        assertEquals(0.9d, g.traversal().E(edge.id()).values("weight").next());
+        edge.remove();
+        assertEquals(Arrays.asList("josh", "lop"), sortedNames(g.traversal().V().has("name", "marko").out()));
+        assertEquals(0l, g.traversal().V().has("name", "vadas").bothE().count().next().longValue());
+
+        final Vertex marko = g.traversal().V().has("name", "marko").next();
+        marko.property(VertexProperty.Cardinality.list, "location", "santa fe");
+        marko.property(VertexProperty.Cardinality.list, "location", "brussels");
+        assertEquals(Arrays.asList("santa fe", "brussels"), g.traversal().V(marko.id()).values("location").toList());
+        marko.properties("location").forEachRemaining(VertexProperty::remove);
+        assertEquals(new HashSet<>(Arrays.asList("name", "age")), marko.keys());
+
+        // labels and keys are interned so every element refers to the same string
+        assertTrue(g.traversal().E().hasLabel("created").toList().stream().allMatch(e -> e.label() == g.traversal().E().hasLabel("created").next().label()));
+    }
+
+    @Test
+    public void shouldReloadSnapshotFromGraphLocation() throws Exception {
+        final File location = TestHelper.generateTempFile(TinkerGraphTest.class, "snapshot", ".tg");
+        assertTrue(location.delete());
+        final BaseConfiguration configuration = new BaseConfiguration();
+        configuration.setProperty(TinkerGraph.CONFIG_GRAPH_LOCATION, location.getAbsolutePath());
+        configuration.setProperty(TinkerGraph.CONFIG_DEFAULT_VERTEX_PROPERTY_CARDINALITY, VertexProperty.Cardinality.list.name());
+
+        final TinkerGraph graph = TinkerGraph.open(configuration);
+        assertTrue(graph.features().graph().supportsPersistence());
+        TinkerFactory.generateTheCrew(graph);
+        graph.createIndex("name", Vertex.class, TinkerGraph.IndexType.SORTED);
+        graph.createIndex("since", Edge.class);
+        graph.close();
+        assertTrue(location.exists());
+
+        final TinkerGraph reopened = TinkerGraph.open(configuration);
+        assertEquals(elementStrings(graph.vertices()), elementStrings(reopened.vertices()));
+        assertEquals(elementStrings(graph.edges()), elementStrings(reopened.edges()));
+        assertEquals(graph.variables().asMap(), reopened.variables().asMap());
+        assertEquals(Collections.singleton("name"), reopened.getIndexedKeys(Vertex.class));
+        assertTrue(reopened.vertexIndex.isSorted("name"));
+        assertEquals(Collections.singleton("since"), reopened.getIndexedKeys(Edge.class));
+        assertEquals(Arrays.asList("daniel", "marko"), sortedNames(reopened.traversal().V().has("name", P.lt("e").or(P.eq("marko")))));
+
+        // identifiers generated after a reload must not collide with those in the snapshot
+        final Vertex vertex = reopened.addVertex("name", "kuppitz");
+        assertEquals(1l, reopened.traversal().V(vertex.id()).count().next().longValue());
+        reopened.close();
+
+        final TinkerGraph reopenedAgain = TinkerGraph.open(configuration);
+        try {
+            assertEquals(1l, reopenedAgain.traversal().V().has("name", "kuppitz").count().next().longValue());
+        } finally {
+            reopenedAgain.close();
+        }
+    }
+
+    @Test
+    public void shouldReadGraphWithMultipleWorkers() throws Exception {
+        final TinkerGraph gryoSerial = TinkerGraph.open();
+        final TinkerGraph gryoParallel = TinkerGraph.open();
+        try (final InputStream stream = AbstractGremlinTest.class.getResourceAsStream("/org/apache/tinkerpop/gremlin/structure/io/gryo/grateful-dead.kryo")) {
+            GryoReader.build().create().readGraph(stream, gryoSerial);
+        }
+        try (final InputStream stream = AbstractGremlinTest.class.getResourceAsStream("/org/apache/tinkerpop/gremlin/structure/io/gryo/grateful-dead.kryo")) {
+            GryoReader.build().workers(4).create().readGraph(stream, gryoParallel);
+        }
+        assertEquals(808l, gryoParallel.traversal().V().count().next().longValue());
+        assertEquals(8049l, gryoParallel.traversal().E().count().next().longValue());
+        assertEquals(elementStrings(gryoSerial.vertices()), elementStrings(gryoParallel.vertices()));
+        assertEquals(elementStrings(gryoSerial.edges()), elementStrings(gryoParallel.edges()));
+        assertEquals(gryoSerial.traversal().V().both().both().count().next(), gryoParallel.traversal().V().both().both().count().next());
+
+        final TinkerGraph graphsonSerial = TinkerGraph.open();
+        final TinkerGraph graphsonParallel = TinkerGraph.open();
+        try (final InputStream stream = AbstractGremlinTest.class.getResourceAsStream("/org/apache/tinkerpop/gremlin/structure/io/graphson/grateful-dead.json")) {
+            GraphSONReader.build().create().readGraph(stream, graphsonSerial);
+        }
+        try (final InputStream stream = AbstractGremlinTest.class.getResourceAsStream("/org/apache/tinkerpop/gremlin/structure/io/graphson/grateful-dead.json")) {
+            GraphSONReader.build().workers(4).create().readGraph(stream, graphsonParallel);
+        }
+        assertEquals(elementStrings(graphsonSerial.vertices()), elementStrings(graphsonParallel.vertices()));
+        assertEquals(elementStrings(graphsonSerial.edges()), elementStrings(graphsonParallel.edges()));
+    }
+
+    private static Set<String> elementStrings(final Iterator<? extends Element> elements) {
+        final Set<String> strings = new HashSet<>();
+        elements.forEachRemaining(element -> {
+            final List<String> properties = new ArrayList<>();
+            element.properties().forEachRemaining(property -> {
+                final StringBuilder builder = new StringBuilder(property.toString());
+                if (property instanceof VertexProperty) {
+                    builder.append(((VertexProperty<?>) property).id());
+                    ((VertexProperty<?>) property).properties().forEachRemaining(meta -> builder.append(meta));
+                }
+                properties.add(builder.toString());
+            });
+            Collections.sort(properties);
+            strings.add(element + properties.toString());
+        });
+        return strings;
+    }
+
+    private static List<String> sortedNames(final GraphTraversal<Vertex, Vertex> traversal) {
+        return traversal.<String>values("name").order().toList();
+    }
+
     @Ignore
     @Test
     public void shouldUpdateVertexIndicesInNewGraph() {
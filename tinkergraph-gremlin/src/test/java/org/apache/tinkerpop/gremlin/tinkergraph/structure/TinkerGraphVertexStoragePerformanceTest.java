@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.tinkerpop.gremlin.tinkergraph.structure;
+
+import com.carrotsearch.junitbenchmarks.AbstractBenchmark;
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.annotation.AxisRange;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkHistoryChart;
+import com.carrotsearch.junitbenchmarks.annotation.BenchmarkMethodChart;
+import com.carrotsearch.junitbenchmarks.annotation.LabelType;
+import org.apache.commons.configuration.BaseConfiguration;
+import org.apache.tinkerpop.gremlin.AbstractGremlinTest;
+import org.apache.tinkerpop.gremlin.structure.io.gryo.GryoReader;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+
+/**
+ * Compares the heap footprint and adjacency iteration speed of the {@link TinkerGraph.VertexStorage} layouts on the
+ * Grateful Dead graph.
+ *
+ * @author agent (agent@local)
+ */
+@AxisRange(min = 0, max = 1)
+@BenchmarkMethodChart(filePrefix = "tinkergraph-vertex-storage")
+@BenchmarkHistoryChart(labelWith = LabelType.CUSTOM_KEY, maxRuns = 20, filePrefix = "hx-tinkergraph-vertex-storage")
+public class TinkerGraphVertexStoragePerformanceTest extends AbstractBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(TinkerGraphVertexStoragePerformanceTest.class);
+
+    public final static int DEFAULT_BENCHMARK_ROUNDS = 10;
+    public final static int DEFAULT_WARMUP_ROUNDS = 5;
+
+    private static TinkerGraph standard;
+    private static TinkerGraph compact;
+
+    @BeforeClass
+    public static void loadGraphs() throws Exception {
+        // load once up front so that class loading is not counted against either layout
+        loadGraph(TinkerGraph.VertexStorage.STANDARD);
+        standard = loadGraph(TinkerGraph.VertexStorage.STANDARD);
+        compact = loadGraph(TinkerGraph.VertexStorage.COMPACT);
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void outWithStandardStorage() throws Exception {
+        standard.traversal().V().out().out().out().iterate();
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void outWithCompactStorage() throws Exception {
+        compact.traversal().V().out().out().out().iterate();
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void inWithStandardStorage() throws Exception {
+        standard.traversal().V().in("followedBy").in("followedBy").in("followedBy").iterate();
+    }
+
+    @BenchmarkOptions(benchmarkRounds = DEFAULT_BENCHMARK_ROUNDS, warmupRounds = DEFAULT_WARMUP_ROUNDS, concurrency = BenchmarkOptions.CONCURRENCY_SEQUENTIAL)
+    @Test
+    public void inWithCompactStorage() throws Exception {
+        compact.traversal().V().in("followedBy").in("followedBy").in("followedBy").iterate();
+    }
+
+    private static TinkerGraph loadGraph(final TinkerGraph.VertexStorage vertexStorage) throws Exception {
+        final BaseConfiguration configuration = new BaseConfiguration();
+        configuration.setProperty(TinkerGraph.CONFIG_VERTEX_STORAGE, vertexStorage.name());
+        System.gc();
+        final long before = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        final TinkerGraph graph = TinkerGraph.open(configuration);
+        try (final InputStream stream = AbstractGremlinTest.class.getResourceAsStream("/org/apache/tinkerpop/gremlin/structure/io/gryo/grateful-dead.kryo")) {
+            GryoReader.build().create().readGraph(stream, graph);
+        }
+        System.gc();
+        final long after = Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+        logger.info("{} vertex storage uses approximately {}KB of heap", vertexStorage, (after - before) / 1024);
+        return graph;
+    }
+}